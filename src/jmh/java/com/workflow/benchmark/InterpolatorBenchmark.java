@@ -0,0 +1,84 @@
+package com.workflow.benchmark;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.interpolation.CompiledTemplate;
+import com.workflow.interpolation.FastPathStringInterpolator;
+import com.workflow.interpolation.JakartaElStringInterpolator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link JakartaElStringInterpolator#interpolate(String)} for the template shapes seen in
+ * workflow definitions: no placeholders, a single variable, several variables with property access,
+ * and an EL expression, plus evaluation of a precompiled template. The {@code fastPath} benchmarks
+ * run the lookup templates through {@link FastPathStringInterpolator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InterpolatorBenchmark {
+
+  private JakartaElStringInterpolator interpolator;
+  private CompiledTemplate compiled;
+  private FastPathStringInterpolator fastPath;
+
+  @Setup
+  public void setUp() {
+    WorkflowContext context = new WorkflowContext();
+    context.put("orderId", "ORD-1001");
+    context.put("user", Map.of("name", "Alice", "age", 30));
+    context.put("items", List.of("apple", "banana"));
+    interpolator = JakartaElStringInterpolator.forContext(context);
+    fastPath = FastPathStringInterpolator.forContext(context);
+    compiled = interpolator.compile("Order ${orderId} for ${user.name}, first item ${items[0]}");
+  }
+
+  @Benchmark
+  public String noPlaceholders() {
+    return interpolator.interpolate("https://api.example.com/orders/latest");
+  }
+
+  @Benchmark
+  public String singleVariable() {
+    return interpolator.interpolate("https://api.example.com/orders/${orderId}");
+  }
+
+  @Benchmark
+  public String propertyAccess() {
+    return interpolator.interpolate("Order ${orderId} for ${user.name}, first item ${items[0]}");
+  }
+
+  @Benchmark
+  public String expression() {
+    return interpolator.interpolate("Status: ${user.age >= 18 ? 'adult' : 'minor'}");
+  }
+
+  @Benchmark
+  public String compiledPropertyAccess() {
+    return interpolator.render(compiled);
+  }
+
+  @Benchmark
+  public String fastPathSingleVariable() {
+    return fastPath.interpolate("https://api.example.com/orders/${orderId}");
+  }
+
+  @Benchmark
+  public String fastPathPropertyAccess() {
+    return fastPath.interpolate("Order ${orderId} for ${user.name}, age ${user.age}");
+  }
+}
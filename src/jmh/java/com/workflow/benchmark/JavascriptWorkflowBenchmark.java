@@ -0,0 +1,68 @@
+package com.workflow.benchmark;
+
+import com.workflow.JavascriptWorkflow;
+import com.workflow.WorkflowResult;
+import com.workflow.context.WorkflowContext;
+import com.workflow.script.InlineScriptProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end cost of executing a {@link JavascriptWorkflow}: context creation, script evaluation
+ * and reading and writing the workflow context from JavaScript.
+ *
+ * <p>Warmup is longer than in the other suites so the GraalJS compiler has settled before
+ * measurement starts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JavascriptWorkflowBenchmark {
+
+  private JavascriptWorkflow trivial;
+  private JavascriptWorkflow contextAccess;
+
+  @Setup
+  public void setUp() {
+    trivial =
+        JavascriptWorkflow.builder()
+            .name("trivial")
+            .scriptProvider(new InlineScriptProvider("1 + 1;"))
+            .build();
+    contextAccess =
+        JavascriptWorkflow.builder()
+            .name("tax")
+            .scriptProvider(
+                new InlineScriptProvider(
+                    """
+                    var amount = ctx.get('amount');
+                    ctx.put('tax', amount * 0.15);
+                    ctx.put('vip', amount > 1000);
+                    """))
+            .build();
+  }
+
+  @Benchmark
+  public WorkflowResult trivialScript() {
+    return trivial.execute(new WorkflowContext());
+  }
+
+  @Benchmark
+  public WorkflowResult contextReadWrite() {
+    WorkflowContext context = new WorkflowContext();
+    context.put("amount", 1200);
+    return contextAccess.execute(context);
+  }
+}
@@ -0,0 +1,74 @@
+package com.workflow.benchmark;
+
+import com.workflow.ratelimit.Bucket4jRateLimiter;
+import com.workflow.ratelimit.FixedWindowRateLimiter;
+import com.workflow.ratelimit.LeakyBucketRateLimiter;
+import com.workflow.ratelimit.RateLimitStrategy;
+import com.workflow.ratelimit.Resilience4jRateLimiter;
+import com.workflow.ratelimit.SlidingWindowRateLimiter;
+import com.workflow.ratelimit.TokenBucketRateLimiter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link RateLimitStrategy#tryAcquire()} for every strategy, with eight threads
+ * sharing one limiter.
+ *
+ * <p>The limit is far above what the threads can consume in a single window, so the scores measure
+ * the limiter's own bookkeeping and lock contention rather than how often permits are refused.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RateLimiterBenchmark {
+
+  private static final int PERMITS = 100_000;
+  private static final Duration WINDOW = Duration.ofMillis(10);
+
+  @Param({
+    "FIXED_WINDOW",
+    "SLIDING_WINDOW",
+    "TOKEN_BUCKET",
+    "LEAKY_BUCKET",
+    "BUCKET4J",
+    "RESILIENCE4J"
+  })
+  private String strategy;
+
+  private RateLimitStrategy limiter;
+
+  @Setup
+  public void setUp() {
+    limiter =
+        switch (strategy) {
+          case "FIXED_WINDOW" -> new FixedWindowRateLimiter(PERMITS, WINDOW);
+          case "SLIDING_WINDOW" -> new SlidingWindowRateLimiter(PERMITS, WINDOW);
+          case "TOKEN_BUCKET" -> new TokenBucketRateLimiter(PERMITS, WINDOW);
+          case "LEAKY_BUCKET" -> new LeakyBucketRateLimiter(PERMITS, WINDOW);
+          case "BUCKET4J" -> new Bucket4jRateLimiter(PERMITS, WINDOW);
+          case "RESILIENCE4J" -> new Resilience4jRateLimiter(PERMITS, WINDOW);
+          default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+  }
+
+  @Benchmark
+  public boolean tryAcquire() {
+    return limiter.tryAcquire();
+  }
+}
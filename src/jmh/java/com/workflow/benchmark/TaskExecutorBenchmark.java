@@ -0,0 +1,76 @@
+package com.workflow.benchmark;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.policy.TimeoutPolicy;
+import com.workflow.task.TaskDescriptor;
+import com.workflow.task.executor.DefaultTaskExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-task cost of {@link DefaultTaskExecutor} for a trivial task, without a {@link TimeoutPolicy}
+ * and with each kind of timeout.
+ *
+ * <p>Without a timeout the task runs on the calling thread. With a plain timeout it is handed to
+ * another thread that the caller waits for, and with {@link TimeoutPolicy#onCallingThread(long)} it
+ * stays on the calling thread, guarded by a deadline on the shared timer. The differences to the
+ * first score are the prices of the two timeouts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskExecutorBenchmark {
+
+  private DefaultTaskExecutor executor;
+  private TaskDescriptor withoutTimeout;
+  private TaskDescriptor withTimeout;
+  private TaskDescriptor withCallingThreadTimeout;
+  private WorkflowContext context;
+
+  @Setup
+  public void setUp() {
+    executor = new DefaultTaskExecutor();
+    withoutTimeout =
+        TaskDescriptor.builder().name("no-timeout").task(ctx -> ctx.put("done", true)).build();
+    withTimeout =
+        TaskDescriptor.builder()
+            .name("timeout")
+            .task(ctx -> ctx.put("done", true))
+            .timeoutPolicy(TimeoutPolicy.ofSeconds(5))
+            .build();
+    withCallingThreadTimeout =
+        TaskDescriptor.builder()
+            .name("calling-thread-timeout")
+            .task(ctx -> ctx.put("done", true))
+            .timeoutPolicy(TimeoutPolicy.onCallingThread(5000))
+            .build();
+    context = new WorkflowContext();
+  }
+
+  @Benchmark
+  public void withoutTimeout() {
+    executor.execute(withoutTimeout, context);
+  }
+
+  @Benchmark
+  public void withTimeout() {
+    executor.execute(withTimeout, context);
+  }
+
+  @Benchmark
+  public void withCallingThreadTimeout() {
+    executor.execute(withCallingThreadTimeout, context);
+  }
+}
@@ -0,0 +1,96 @@
+package com.workflow.benchmark;
+
+import com.workflow.context.TypedKey;
+import com.workflow.context.WorkflowContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the {@link WorkflowContext} operations every workflow performs: string and typed reads
+ * and writes, copies, forks and scoped access.
+ *
+ * <p>{@code size} is the number of entries already in the context, which matters for {@code copy}
+ * and shows whether the other operations stay flat as the context grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WorkflowContextBenchmark {
+
+  private static final TypedKey<Integer> COUNTER = TypedKey.of("benchmark.counter", Integer.class);
+  private static final Integer VALUE = 42;
+
+  @Param({"16", "1024"})
+  private int size;
+
+  private WorkflowContext context;
+  private WorkflowContext scoped;
+
+  @Setup
+  public void setUp() {
+    context = new WorkflowContext();
+    for (int i = 0; i < size; i++) {
+      context.put("key" + i, i);
+    }
+    context.put("plainCounter", VALUE);
+    context.put(COUNTER, VALUE);
+    scoped = context.scope("stage");
+    scoped.put("local", VALUE);
+  }
+
+  @Benchmark
+  public Object getString() {
+    return context.get("plainCounter");
+  }
+
+  @Benchmark
+  public Integer getTypedKey() {
+    return context.get(COUNTER);
+  }
+
+  @Benchmark
+  public void putString() {
+    context.put("plainCounter", VALUE);
+  }
+
+  @Benchmark
+  public void putTypedKey() {
+    context.put(COUNTER, VALUE);
+  }
+
+  @Benchmark
+  public Object scopedGet() {
+    return scoped.get("local");
+  }
+
+  @Benchmark
+  public void scopedPut() {
+    scoped.put("local", VALUE);
+  }
+
+  @Benchmark
+  public WorkflowContext copy() {
+    return context.copy();
+  }
+
+  /** Fork plus one write and one fall-through read, as a parallel child would do. */
+  @Benchmark
+  public Object forkWriteRead() {
+    WorkflowContext fork = context.fork();
+    fork.put("plainCounter", VALUE);
+    return fork.get("key0");
+  }
+}
@@ -0,0 +1,79 @@
+package com.workflow.benchmark;
+
+import com.workflow.ParallelWorkflow;
+import com.workflow.SequentialWorkflow;
+import com.workflow.WorkflowResult;
+import com.workflow.context.WorkflowContext;
+import com.workflow.task.Task;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Engine overhead of running no-op children through {@link SequentialWorkflow} and {@link
+ * ParallelWorkflow}.
+ *
+ * <p>The children do nothing, so the scores are pure orchestration cost: result bookkeeping,
+ * listener dispatch and, for the parallel variants, scheduling and joining. Divide a score by
+ * {@code children} for the per-child overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WorkflowOverheadBenchmark {
+
+  private static final Task NO_OP = _ -> {};
+
+  @Param({"1", "10", "100"})
+  private int children;
+
+  private SequentialWorkflow sequential;
+  private ParallelWorkflow parallelShared;
+  private ParallelWorkflow parallelIsolated;
+
+  @Setup
+  public void setUp() {
+    SequentialWorkflow.SequentialWorkflowBuilder sequentialBuilder =
+        SequentialWorkflow.builder().name("sequential");
+    ParallelWorkflow.ParallelWorkflowBuilder sharedBuilder =
+        ParallelWorkflow.builder().name("parallel-shared");
+    ParallelWorkflow.ParallelWorkflowBuilder isolatedBuilder =
+        ParallelWorkflow.builder().name("parallel-isolated").shareContext(false);
+    for (int i = 0; i < children; i++) {
+      sequentialBuilder.task(NO_OP);
+      sharedBuilder.task(NO_OP);
+      isolatedBuilder.task(NO_OP);
+    }
+    sequential = sequentialBuilder.build();
+    parallelShared = sharedBuilder.build();
+    parallelIsolated = isolatedBuilder.build();
+  }
+
+  @Benchmark
+  public WorkflowResult sequential() {
+    return sequential.execute(new WorkflowContext());
+  }
+
+  @Benchmark
+  public WorkflowResult parallelShared() {
+    return parallelShared.execute(new WorkflowContext());
+  }
+
+  /** Each child runs on its own fork of the context. */
+  @Benchmark
+  public WorkflowResult parallelIsolated() {
+    return parallelIsolated.execute(new WorkflowContext());
+  }
+}
@@ -1,11 +1,18 @@
 package com.workflow;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.execution.strategy.ExecutionStrategies;
+import com.workflow.helper.FutureUtils;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * Abstract base class for workflow implementations providing common functionality such as result
@@ -91,25 +98,128 @@ public abstract class AbstractWorkflow implements Workflow {
     ExecutionContext execContext = new ExecutionContext(Instant.now());
 
     try {
-      WorkflowResult result = doExecute(context, execContext);
-      Objects.requireNonNull(result, "Workflow result must not be null");
-
-      if (result.getStatus() == WorkflowStatus.FAILED) {
-        log.error("Workflow {} failed with error: {}", getName(), result.getError());
-        context.getListeners().notifyFailure(getName(), context, result.getError());
-      } else {
-        log.info("Completed workflow: {} with status: {}", getName(), result.getStatus());
-        context.getListeners().notifySuccess(getName(), context, result);
-      }
+      return complete(context, execContext, doExecute(context, execContext), null);
+    } catch (Exception e) {
+      return complete(context, execContext, null, e);
+    }
+  }
+
+  /**
+   * Executes the workflow asynchronously with the same lifecycle handling as {@link
+   * #execute(WorkflowContext)}.
+   *
+   * <p>Start is logged and notified synchronously; completion, failure and listener notification
+   * happen when the stage returned by {@link #doExecuteAsync(WorkflowContext, ExecutionContext)}
+   * completes. Exceptional completion is converted into a FAILED {@link WorkflowResult}, so the
+   * returned stage always completes normally unless it is cancelled. Cancelling it cancels the
+   * stage returned by {@code doExecuteAsync}, with interruption, and listeners are not notified.
+   *
+   * @param context the shared execution context; must not be null
+   * @return a stage completing with the workflow result; never completes exceptionally
+   * @throws NullPointerException if context is null
+   */
+  @Override
+  public final CompletionStage<WorkflowResult> executeAsync(WorkflowContext context) {
+    Objects.requireNonNull(context, "WorkflowContext must not be null");
+    log.info("Starting workflow: {}", getName());
+    context.getListeners().notifyStart(getName(), context);
 
-      return result;
+    ExecutionContext execContext = new ExecutionContext(Instant.now());
+
+    CompletionStage<WorkflowResult> stage;
+    try {
+      stage =
+          Objects.requireNonNull(doExecuteAsync(context, execContext), "stage must not be null");
     } catch (Exception e) {
-      log.error("Workflow {} threw exception: {}", getName(), e.getMessage(), e);
-      context.getListeners().notifyFailure(getName(), context, e);
-      return execContext.failure(e);
+      stage = CompletableFuture.failedFuture(e);
+    }
+    CompletionStage<WorkflowResult> completion =
+        stage.handle(
+            (result, ex) -> completeAsync(context, execContext, result, FutureUtils.unwrap(ex)));
+    if (stage instanceof Future<?> future
+        && completion instanceof CompletableFuture<WorkflowResult> dependent) {
+      return FutureUtils.propagateCancellation(dependent, List.of(future));
+    }
+    return completion;
+  }
+
+  /**
+   * Executes the workflow as a Reactor {@link Mono} with the same lifecycle handling as {@link
+   * #execute(WorkflowContext)}.
+   *
+   * <p>Nothing runs until the returned mono is subscribed; each subscription is a new execution.
+   * Start is notified on subscription and completion when the mono returned by {@link
+   * #doExecuteReactive(WorkflowContext, ExecutionContext)} terminates. Errors are converted into a
+   * FAILED {@link WorkflowResult}, so the returned mono always emits exactly one result. Cancelling
+   * the subscription cancels the in-flight children without notifying listeners.
+   *
+   * @param context the shared execution context; must not be null
+   * @return a cold mono emitting the workflow result; never signals an error
+   * @throws NullPointerException if context is null
+   */
+  @Override
+  public final Mono<WorkflowResult> executeReactive(WorkflowContext context) {
+    Objects.requireNonNull(context, "WorkflowContext must not be null");
+    return Mono.defer(
+        () -> {
+          log.info("Starting workflow: {}", getName());
+          context.getListeners().notifyStart(getName(), context);
+
+          ExecutionContext execContext = new ExecutionContext(Instant.now());
+
+          Mono<WorkflowResult> mono;
+          try {
+            mono =
+                Objects.requireNonNull(
+                    doExecuteReactive(context, execContext), "mono must not be null");
+          } catch (Exception e) {
+            mono = Mono.error(e);
+          }
+          return mono.map(result -> complete(context, execContext, result, null))
+              .switchIfEmpty(Mono.fromSupplier(() -> complete(context, execContext, null, null)))
+              .onErrorResume(e -> Mono.just(complete(context, execContext, null, e)));
+        });
+  }
+
+  /**
+   * Completes an asynchronous execution. A listener throwing past {@link
+   * com.workflow.listener.WorkflowListeners}' guard, for example with an {@link Error}, must not
+   * complete the stage exceptionally, so the outcome is returned regardless.
+   */
+  private WorkflowResult completeAsync(
+      WorkflowContext context, ExecutionContext execContext, WorkflowResult result, Throwable ex) {
+    try {
+      return complete(context, execContext, result, ex);
+    } catch (Throwable t) {
+      log.error("Completion listeners of workflow {} failed: {}", getName(), t.getMessage(), t);
+      if (ex != null) {
+        return execContext.failure(ex);
+      }
+      return result != null ? result : execContext.failure(t);
     }
   }
 
+  private WorkflowResult complete(
+      WorkflowContext context, ExecutionContext execContext, WorkflowResult result, Throwable ex) {
+    if (ex == null && result == null) {
+      ex = new NullPointerException("Workflow result must not be null");
+    }
+    if (ex != null) {
+      log.error("Workflow {} threw exception: {}", getName(), ex.getMessage(), ex);
+      context.getListeners().notifyFailure(getName(), context, ex);
+      return execContext.failure(ex);
+    }
+
+    if (result.getStatus() == WorkflowStatus.FAILED) {
+      log.error("Workflow {} failed with error: {}", getName(), result.getError());
+      context.getListeners().notifyFailure(getName(), context, result.getError());
+    } else {
+      log.info("Completed workflow: {} with status: {}", getName(), result.getStatus());
+      context.getListeners().notifySuccess(getName(), context, result);
+    }
+    return result;
+  }
+
   /**
    * Subclasses implement this method to define their execution logic.
    *
@@ -130,6 +240,40 @@ public abstract class AbstractWorkflow implements Workflow {
   protected abstract WorkflowResult doExecute(
       WorkflowContext context, ExecutionContext execContext);
 
+  /**
+   * Subclasses may override this method to provide a natively asynchronous execution path.
+   *
+   * <p>This method is called by {@link #executeAsync(WorkflowContext)}. The default implementation
+   * runs {@link #doExecute(WorkflowContext, ExecutionContext)} on the shared {@link
+   * ExecutionStrategies#getDefault()} strategy. Container workflows override it to compose their
+   * children's stages so no thread is parked while children run.
+   *
+   * @param context the workflow context containing shared state
+   * @param execContext execution context with helper methods for building results
+   * @return a stage completing with the workflow result; must not be null
+   */
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    return ExecutionStrategies.getDefault().submit(() -> doExecute(context, execContext));
+  }
+
+  /**
+   * Subclasses may override this method to provide a Reactor-native execution path.
+   *
+   * <p>This method is called by {@link #executeReactive(WorkflowContext)}. The default
+   * implementation adapts {@link #doExecuteAsync(WorkflowContext, ExecutionContext)}, so every
+   * workflow is usable from a reactive pipeline. Container workflows override it to express their
+   * semantics with Reactor operators, letting cancellation and backpressure flow to their children.
+   *
+   * @param context the workflow context containing shared state
+   * @param execContext execution context with helper methods for building results
+   * @return a mono emitting the workflow result; must not be null
+   */
+  protected Mono<WorkflowResult> doExecuteReactive(
+      WorkflowContext context, ExecutionContext execContext) {
+    return Mono.fromCompletionStage(() -> doExecuteAsync(context, execContext));
+  }
+
   /**
    * Returns the workflow name.
    *
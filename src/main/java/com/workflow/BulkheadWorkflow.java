@@ -0,0 +1,306 @@
+package com.workflow;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.exception.BulkheadFullException;
+import com.workflow.execution.strategy.ExecutionStrategy;
+import com.workflow.helper.FutureUtils;
+import com.workflow.helper.ValidationUtils;
+import com.workflow.helper.WorkflowSupport;
+import com.workflow.policy.Bulkhead;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Workflow wrapper that caps how many executions of an inner workflow may run concurrently.
+ *
+ * <p>Each execution takes a slot from a {@link Bulkhead} before the inner workflow starts and frees
+ * it when the inner workflow finishes. Executions that find no free slot wait in the bulkhead's
+ * bounded queue and fail with a {@link BulkheadFullException} if the queue is full or the wait
+ * times out, so a slow dependency holds at most {@code maxConcurrentCalls} threads.
+ *
+ * <p><b>Isolation Variants:</b>
+ *
+ * <ul>
+ *   <li><b>Semaphore (default):</b> The inner workflow runs on the calling thread; the bulkhead
+ *       only counts executions. Cheapest, but the caller waits for the inner workflow.
+ *   <li><b>Thread Pool:</b> With {@link BulkheadWorkflowBuilder#executionStrategy(
+ *       ExecutionStrategy)}, the inner workflow runs on a dedicated strategy, typically a {@link
+ *       com.workflow.execution.strategy.ThreadPoolExecutionStrategy} with {@code
+ *       maxConcurrentCalls} threads, so the dependency gets its own threads and a caller timing out
+ *       leaves its slot held until the dedicated thread is done.
+ * </ul>
+ *
+ * <p><b>Asynchronous Execution:</b> {@link #executeAsync(WorkflowContext)} waits for a slot
+ * without parking a thread; the inner workflow is started when a slot is handed over.
+ *
+ * <p><b>Composition:</b> Place a {@link TimeoutWorkflow} outside the bulkhead to bound the wait
+ * for a slot and the execution together, and a {@link RateLimitedWorkflow} inside it so that only
+ * executions holding a slot consume permits.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * Bulkhead bulkhead = Bulkhead.builder()
+ *     .name("payments")
+ *     .maxConcurrentCalls(10)
+ *     .maxWaitingCalls(50)
+ *     .maxWaitDuration(Duration.ofMillis(200))
+ *     .build();
+ *
+ * Workflow payment = TimeoutWorkflow.builder()
+ *     .timeoutMs(5000)
+ *     .workflow(BulkheadWorkflow.builder()
+ *         .name("PaymentBulkhead")
+ *         .workflow(paymentHttpWorkflow)
+ *         .bulkhead(bulkhead)
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * @see Bulkhead
+ * @see BulkheadFullException
+ */
+@Slf4j
+public class BulkheadWorkflow extends AbstractWorkflow implements WorkflowContainer {
+  private final String name;
+  private final Workflow workflow;
+  private final Bulkhead bulkhead;
+  private final ExecutionStrategy executionStrategy;
+
+  /**
+   * Private constructor used by the Builder.
+   *
+   * @param builder the builder instance containing configuration
+   */
+  private BulkheadWorkflow(BulkheadWorkflowBuilder builder) {
+    this.name = builder.name;
+    this.workflow = builder.workflow;
+    this.bulkhead = builder.bulkhead;
+    this.executionStrategy = builder.executionStrategy;
+  }
+
+  /**
+   * Executes the inner workflow once a bulkhead slot is taken.
+   *
+   * @param context the workflow context passed to the inner workflow
+   * @param execContext execution context for building results
+   * @return the result from the inner workflow, or FAILED if the bulkhead rejected the execution
+   *     or the thread was interrupted while waiting
+   */
+  @Override
+  protected WorkflowResult doExecute(WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(workflow, "workflow must not be null");
+    try {
+      bulkhead.acquire();
+    } catch (BulkheadFullException e) {
+      log.warn("Bulkhead rejected workflow {}: {}", getName(), e.getMessage());
+      return execContext.failure(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt(); // Restore interrupt status
+      log.error("Bulkhead workflow {} was interrupted while waiting for a slot", getName());
+      return execContext.failure(e);
+    }
+
+    if (executionStrategy == null) {
+      try {
+        return workflow.execute(context);
+      } finally {
+        bulkhead.release();
+      }
+    }
+
+    CompletableFuture<WorkflowResult> future = submit(context);
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt(); // Restore interrupt status
+      FutureUtils.cancelFuture(future);
+      return execContext.failure(e);
+    } catch (ExecutionException e) {
+      return execContext.failure(e.getCause() != null ? e.getCause() : e);
+    }
+  }
+
+  /**
+   * Executes the inner workflow asynchronously once a bulkhead slot is taken. Waiting for a slot
+   * does not block a thread. Cancelling the returned stage leaves the queue while the call waits,
+   * and cancels the inner workflow once it runs; the slot is freed either way.
+   *
+   * @param context the workflow context passed to the inner workflow
+   * @param execContext execution context for building results
+   * @return a stage completing with the inner result, or FAILED if the bulkhead rejected it
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(workflow, "workflow must not be null");
+    CompletableFuture<Void> slot = bulkhead.acquireAsync();
+    CompletableFuture<CompletionStage<WorkflowResult>> started = new CompletableFuture<>();
+    // whenComplete rather than thenCompose: its action runs even if the caller cancelled, so a
+    // slot granted at that moment is never lost
+    slot.whenComplete(
+        (_, ex) -> {
+          if (ex != null) {
+            started.completeExceptionally(ex);
+          } else if (started.isDone()) {
+            bulkhead.release(); // Cancelled while the slot was being granted
+          } else {
+            try {
+              started.complete(start(context));
+            } catch (RuntimeException e) {
+              started.completeExceptionally(e);
+            }
+          }
+        });
+    return FutureUtils.propagateCancellation(FutureUtils.flatten(started), List.of(slot));
+  }
+
+  /** Starts the inner workflow in a taken slot, freeing it when the returned stage completes. */
+  private CompletableFuture<WorkflowResult> start(WorkflowContext context) {
+    if (executionStrategy != null) {
+      return submit(context);
+    }
+    CompletableFuture<WorkflowResult> stage;
+    try {
+      stage = workflow.executeAsync(context).toCompletableFuture();
+    } catch (RuntimeException e) {
+      bulkhead.release();
+      throw e;
+    }
+    stage.whenComplete((_, _) -> bulkhead.release());
+    return stage;
+  }
+
+  /**
+   * Runs the inner workflow on the dedicated strategy. The slot is freed when the inner workflow
+   * finishes, even if the returned future was cancelled earlier, or when the future is cancelled
+   * before the inner workflow started.
+   */
+  private CompletableFuture<WorkflowResult> submit(WorkflowContext context) {
+    AtomicBoolean claimed = new AtomicBoolean();
+    CompletableFuture<WorkflowResult> future;
+    try {
+      future =
+          executionStrategy.submit(
+              () -> {
+                if (!claimed.compareAndSet(false, true)) {
+                  return null; // Cancelled before it started
+                }
+                try {
+                  return workflow.execute(context);
+                } finally {
+                  bulkhead.release();
+                }
+              });
+    } catch (RuntimeException e) {
+      bulkhead.release();
+      throw e;
+    }
+    future.whenComplete(
+        (_, _) -> {
+          if (claimed.compareAndSet(false, true)) {
+            bulkhead.release();
+          }
+        });
+    return future;
+  }
+
+  /**
+   * Returns the workflow name.
+   *
+   * @return the provided name or a generated default name
+   */
+  @Override
+  public String getName() {
+    return WorkflowSupport.resolveName(name, this);
+  }
+
+  @Override
+  public String getWorkflowType() {
+    return WorkflowSupport.formatWorkflowType("Bulkhead");
+  }
+
+  @Override
+  public List<Workflow> getSubWorkflows() {
+    return workflow != null ? List.of(workflow) : List.of();
+  }
+
+  /**
+   * Creates a new builder for {@link BulkheadWorkflow}.
+   *
+   * @return a new builder instance
+   */
+  public static BulkheadWorkflowBuilder builder() {
+    return new BulkheadWorkflowBuilder();
+  }
+
+  /** Builder for {@link BulkheadWorkflow}. */
+  public static class BulkheadWorkflowBuilder {
+    private String name;
+    private Workflow workflow;
+    private Bulkhead bulkhead;
+    private ExecutionStrategy executionStrategy;
+
+    /**
+     * Sets the name of the bulkhead workflow.
+     *
+     * @param name a descriptive name for logging and debugging
+     * @return this builder
+     */
+    public BulkheadWorkflowBuilder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    /**
+     * Sets the inner workflow whose concurrent executions are capped.
+     *
+     * @param workflow the workflow to wrap; must not be null
+     * @return this builder
+     */
+    public BulkheadWorkflowBuilder workflow(Workflow workflow) {
+      this.workflow = workflow;
+      return this;
+    }
+
+    /**
+     * Sets the bulkhead; it may be shared with other workflows calling the same dependency.
+     *
+     * @param bulkhead the bulkhead; must not be null
+     * @return this builder
+     */
+    public BulkheadWorkflowBuilder bulkhead(Bulkhead bulkhead) {
+      this.bulkhead = bulkhead;
+      return this;
+    }
+
+    /**
+     * Runs the inner workflow on a dedicated execution strategy instead of the calling thread.
+     * The caller owns the strategy and closes it.
+     *
+     * @param executionStrategy the dedicated strategy, or null for semaphore isolation
+     * @return this builder
+     */
+    public BulkheadWorkflowBuilder executionStrategy(ExecutionStrategy executionStrategy) {
+      this.executionStrategy = executionStrategy;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new {@link BulkheadWorkflow}.
+     *
+     * @return a configured BulkheadWorkflow instance
+     * @throws NullPointerException if workflow or bulkhead are null
+     */
+    public BulkheadWorkflow build() {
+      ValidationUtils.requireNonNull(workflow, "workflow");
+      ValidationUtils.requireNonNull(bulkhead, "bulkhead");
+      return new BulkheadWorkflow(this);
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package com.workflow;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.exception.CircuitBreakerOpenException;
+import com.workflow.helper.FutureUtils;
+import com.workflow.helper.ValidationUtils;
+import com.workflow.helper.WorkflowSupport;
+import com.workflow.policy.CircuitBreaker;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Workflow wrapper that guards an inner workflow with a {@link CircuitBreaker}.
+ *
+ * <p>While the breaker is closed, the inner workflow runs and its outcome is recorded: a FAILED
+ * result or a thrown exception counts as a failure, and a run longer than the breaker's slow call
+ * duration as a slow call. Once the breaker opens, executions fail fast with a FAILED result
+ * carrying a {@link CircuitBreakerOpenException}, without starting the inner workflow, until the
+ * breaker lets probe calls through again.
+ *
+ * <p><b>Features:</b>
+ *
+ * <ul>
+ *   <li><b>Transparent:</b> Wraps any workflow without modification
+ *   <li><b>Fast-Fail:</b> Rejected executions return immediately and hold no thread
+ *   <li><b>Shareable:</b> One breaker may guard several workflows calling the same dependency
+ *   <li><b>Context Passthrough:</b> Passes context directly to inner workflow
+ * </ul>
+ *
+ * <p><b>Thread Safety:</b> This workflow is thread-safe; the breaker is lock-free.
+ *
+ * <p><b>Example usage - With Fallback:</b>
+ *
+ * <pre>{@code
+ * CircuitBreaker breaker = CircuitBreaker.builder()
+ *     .name("inventory")
+ *     .failureRateThreshold(50)
+ *     .waitDurationInOpenState(Duration.ofSeconds(10))
+ *     .build();
+ *
+ * Workflow inventory = FallbackWorkflow.builder()
+ *     .primary(CircuitBreakerWorkflow.builder()
+ *         .workflow(inventoryApiWorkflow)
+ *         .circuitBreaker(breaker)
+ *         .build())
+ *     .fallback(cachedInventoryWorkflow)
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Composition:</b> Wrap a {@link TimeoutWorkflow} so that hung calls are counted as failures,
+ * and place retries outside the breaker so that retries against an open breaker fail fast.
+ *
+ * @see CircuitBreaker
+ * @see CircuitBreakerOpenException
+ */
+@Slf4j
+public class CircuitBreakerWorkflow extends AbstractWorkflow implements WorkflowContainer {
+  private final String name;
+  private final Workflow workflow;
+  private final CircuitBreaker circuitBreaker;
+
+  /**
+   * Private constructor used by the Builder.
+   *
+   * @param builder the builder instance containing configuration
+   */
+  private CircuitBreakerWorkflow(CircuitBreakerWorkflowBuilder builder) {
+    this.name = builder.name;
+    this.workflow = builder.workflow;
+    this.circuitBreaker = builder.circuitBreaker;
+  }
+
+  /**
+   * Executes the inner workflow if the breaker permits it, and records the outcome.
+   *
+   * @param context the workflow context passed to the inner workflow
+   * @param execContext execution context for building results
+   * @return the result from the inner workflow, or FAILED if the breaker rejected the execution
+   */
+  @Override
+  protected WorkflowResult doExecute(WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(workflow, "workflow must not be null");
+    CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+    if (permission == null) {
+      return reject(execContext);
+    }
+
+    long start = System.nanoTime();
+    WorkflowResult result;
+    try {
+      result = workflow.execute(context);
+    } catch (Throwable e) {
+      permission.onError(System.nanoTime() - start); // Errors must not leak a probe slot
+      throw e;
+    }
+    record(permission, result, System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * Executes the inner workflow asynchronously if the breaker permits it, and records the outcome
+   * when its stage completes. A rejected execution completes immediately. Cancelling the returned
+   * stage cancels the inner stage and returns the permission without recording an outcome.
+   *
+   * @param context the workflow context passed to the inner workflow
+   * @param execContext execution context for building results
+   * @return a stage completing with the inner result, or FAILED if the breaker rejected it
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(workflow, "workflow must not be null");
+    CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+    if (permission == null) {
+      return CompletableFuture.completedFuture(reject(execContext));
+    }
+
+    long start = System.nanoTime();
+    CompletableFuture<WorkflowResult> stage;
+    try {
+      stage = workflow.executeAsync(context).toCompletableFuture();
+    } catch (Throwable e) {
+      permission.onError(System.nanoTime() - start); // Errors must not leak a probe slot
+      throw e;
+    }
+    return FutureUtils.propagateCancellation(
+        stage.whenComplete(
+            (result, ex) -> {
+              long duration = System.nanoTime() - start;
+              if (stage.isCancelled()) {
+                permission.release();
+              } else if (ex != null) {
+                permission.onError(duration);
+              } else {
+                record(permission, result, duration);
+              }
+            }),
+        List.of(stage));
+  }
+
+  /**
+   * Executes the inner workflow as a Reactor pipeline if the breaker permits it on subscription.
+   * Cancelling the subscription returns the permission without recording an outcome, and an inner
+   * mono completing empty is recorded as a failure.
+   *
+   * @param context the workflow context passed to the inner workflow
+   * @param execContext execution context for building results
+   * @return a mono emitting the inner result, or FAILED if the breaker rejected the execution
+   */
+  @Override
+  protected Mono<WorkflowResult> doExecuteReactive(
+      WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(workflow, "workflow must not be null");
+    return Mono.defer(
+        () -> {
+          CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+          if (permission == null) {
+            return Mono.just(reject(execContext));
+          }
+          long start = System.nanoTime();
+          return workflow
+              .executeReactive(context)
+              .doOnSuccess(result -> record(permission, result, System.nanoTime() - start))
+              .doOnError(_ -> permission.onError(System.nanoTime() - start))
+              .doOnCancel(permission::release);
+        });
+  }
+
+  private static void record(
+      CircuitBreaker.Permission permission, WorkflowResult result, long durationNanos) {
+    if (result == null || result.getStatus() == WorkflowStatus.FAILED) {
+      permission.onError(durationNanos);
+    } else {
+      permission.onSuccess(durationNanos);
+    }
+  }
+
+  private WorkflowResult reject(ExecutionContext execContext) {
+    log.debug(
+        "Circuit breaker {} is {}, rejecting workflow: {}",
+        circuitBreaker.getName(),
+        circuitBreaker.getState(),
+        getName());
+    return execContext.failure(
+        new CircuitBreakerOpenException(
+            "Circuit breaker " + circuitBreaker.getName() + " is open for workflow: " + getName()));
+  }
+
+  /**
+   * Returns the workflow name.
+   *
+   * @return the provided name or a generated default name
+   */
+  @Override
+  public String getName() {
+    return WorkflowSupport.resolveName(name, this);
+  }
+
+  @Override
+  public String getWorkflowType() {
+    return WorkflowSupport.formatWorkflowType("Circuit-Breaker");
+  }
+
+  @Override
+  public List<Workflow> getSubWorkflows() {
+    return workflow != null ? List.of(workflow) : List.of();
+  }
+
+  /**
+   * Creates a new builder for {@link CircuitBreakerWorkflow}.
+   *
+   * @return a new builder instance
+   */
+  public static CircuitBreakerWorkflowBuilder builder() {
+    return new CircuitBreakerWorkflowBuilder();
+  }
+
+  /** Builder for {@link CircuitBreakerWorkflow}. */
+  public static class CircuitBreakerWorkflowBuilder {
+    private String name;
+    private Workflow workflow;
+    private CircuitBreaker circuitBreaker;
+
+    /**
+     * Sets the name of the guarded workflow.
+     *
+     * @param name a descriptive name for logging and debugging
+     * @return this builder
+     */
+    public CircuitBreakerWorkflowBuilder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    /**
+     * Sets the inner workflow to be guarded by the circuit breaker.
+     *
+     * @param workflow the workflow to wrap; must not be null
+     * @return this builder
+     */
+    public CircuitBreakerWorkflowBuilder workflow(Workflow workflow) {
+      this.workflow = workflow;
+      return this;
+    }
+
+    /**
+     * Sets the circuit breaker; it may be shared with other workflows calling the same dependency.
+     *
+     * @param circuitBreaker the circuit breaker; must not be null
+     * @return this builder
+     */
+    public CircuitBreakerWorkflowBuilder circuitBreaker(CircuitBreaker circuitBreaker) {
+      this.circuitBreaker = circuitBreaker;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new {@link CircuitBreakerWorkflow}.
+     *
+     * @return a configured CircuitBreakerWorkflow instance
+     * @throws NullPointerException if workflow or circuitBreaker are null
+     */
+    public CircuitBreakerWorkflow build() {
+      ValidationUtils.requireNonNull(workflow, "workflow");
+      ValidationUtils.requireNonNull(circuitBreaker, "circuitBreaker");
+      return new CircuitBreakerWorkflow(this);
+    }
+  }
+}
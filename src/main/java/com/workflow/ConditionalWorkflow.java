@@ -6,6 +6,8 @@ import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 
@@ -96,13 +98,9 @@ public class ConditionalWorkflow extends AbstractWorkflow implements WorkflowCon
   protected WorkflowResult doExecute(WorkflowContext context, ExecutionContext execContext) {
     boolean conditionResult;
     try {
-      conditionResult = condition.test(context);
-      log.info(
-          "Condition evaluated to: {} for ConditionalWorkflow: {}", conditionResult, getName());
-    } catch (Exception e) {
-      log.error("Condition evaluation failed for ConditionalWorkflow: {}", getName(), e);
-      return execContext.failure(
-          new IllegalStateException("Condition evaluation failed: " + e.getMessage(), e));
+      conditionResult = evaluateCondition(context);
+    } catch (IllegalStateException e) {
+      return execContext.failure(e);
     }
 
     Workflow selectedBranch = conditionResult ? whenTrue : whenFalse;
@@ -115,6 +113,42 @@ public class ConditionalWorkflow extends AbstractWorkflow implements WorkflowCon
     return selectedBranch.execute(context);
   }
 
+  /**
+   * Evaluates the condition on the calling thread and returns the selected branch's {@link
+   * Workflow#executeAsync(WorkflowContext)} stage.
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    boolean conditionResult;
+    try {
+      conditionResult = evaluateCondition(context);
+    } catch (IllegalStateException e) {
+      return CompletableFuture.completedFuture(execContext.failure(e));
+    }
+
+    Workflow selectedBranch = conditionResult ? whenTrue : whenFalse;
+    if (selectedBranch == null) {
+      log.info("Selected branch is null, returning SKIPPED");
+      return CompletableFuture.completedFuture(execContext.skipped());
+    }
+
+    log.debug("Executing {} branch", conditionResult ? "true" : "false");
+    return selectedBranch.executeAsync(context);
+  }
+
+  private boolean evaluateCondition(WorkflowContext context) {
+    try {
+      boolean conditionResult = condition.test(context);
+      log.info(
+          "Condition evaluated to: {} for ConditionalWorkflow: {}", conditionResult, getName());
+      return conditionResult;
+    } catch (Exception e) {
+      log.error("Condition evaluation failed for ConditionalWorkflow: {}", getName(), e);
+      throw new IllegalStateException("Condition evaluation failed: " + e.getMessage(), e);
+    }
+  }
+
   @Override
   public String getName() {
     return WorkflowSupport.resolveName(name, this);
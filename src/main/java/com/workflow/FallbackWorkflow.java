@@ -1,10 +1,13 @@
 package com.workflow;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.helper.FutureUtils;
 import com.workflow.helper.TreeRenderer;
 import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -119,32 +122,98 @@ public class FallbackWorkflow extends AbstractWorkflow implements WorkflowContai
     return executeFallback(context, execContext);
   }
 
-  private WorkflowResult executeFallback(WorkflowContext context, ExecutionContext execContext) {
-    log.debug("Executing fallback workflow: {}", fallback.getName());
-
+  /**
+   * Runs the primary workflow asynchronously and, if it does not succeed, chains the fallback's
+   * {@link Workflow#executeAsync(WorkflowContext)} stage. No thread waits on either branch.
+   * Cancelling the returned stage cancels whichever branch is running, and a cancelled primary does
+   * not start the fallback.
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    log.debug("Executing primary workflow: {}", primary.getName());
+    CompletableFuture<WorkflowResult> primaryStage;
     try {
-      WorkflowResult fallbackResult = fallback.execute(context);
-
-      if (fallbackResult != null && fallbackResult.getStatus() == WorkflowStatus.SUCCESS) {
-        log.info("Fallback workflow succeeded");
-        return fallbackResult;
-      }
+      primaryStage = primary.executeAsync(context).toCompletableFuture();
+    } catch (Exception e) {
+      primaryStage = CompletableFuture.failedFuture(e);
+    }
 
-      // Fallback also failed
-      Throwable error =
-          fallbackResult != null && fallbackResult.getError() != null
-              ? fallbackResult.getError()
-              : new RuntimeException("Fallback workflow failed with no error details");
+    return FutureUtils.propagateCancellation(
+        FutureUtils.flatten(
+            primaryStage.handle(
+                (primaryResult, ex) -> {
+                  if (ex != null) {
+                    log.warn(
+                        "Primary workflow {} threw exception, trying fallback: {}",
+                        primary.getName(),
+                        FutureUtils.unwrap(ex).getMessage());
+                    return executeFallbackAsync(context, execContext);
+                  }
+                  if (primaryResult != null
+                      && primaryResult.getStatus() == WorkflowStatus.SUCCESS) {
+                    log.debug("Primary workflow succeeded");
+                    return CompletableFuture.completedFuture(primaryResult);
+                  }
+                  log.warn(
+                      "Primary workflow failed or returned non-success status: {}",
+                      primaryResult != null ? primaryResult.getStatus() : "null");
+                  return executeFallbackAsync(context, execContext);
+                })),
+        List.of(primaryStage));
+  }
 
-      log.error("Both primary and fallback workflows failed");
-      return execContext.failure(error);
+  private WorkflowResult executeFallback(WorkflowContext context, ExecutionContext execContext) {
+    log.debug("Executing fallback workflow: {}", fallback.getName());
 
+    try {
+      return resolveFallbackResult(fallback.execute(context), execContext);
     } catch (Exception e) {
       log.error("Fallback workflow threw exception: {}", e.getMessage(), e);
       return execContext.failure(e);
     }
   }
 
+  private CompletionStage<WorkflowResult> executeFallbackAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    log.debug("Executing fallback workflow: {}", fallback.getName());
+
+    CompletableFuture<WorkflowResult> fallbackStage;
+    try {
+      fallbackStage = fallback.executeAsync(context).toCompletableFuture();
+    } catch (Exception e) {
+      fallbackStage = CompletableFuture.failedFuture(e);
+    }
+    return FutureUtils.propagateCancellation(
+        fallbackStage.handle(
+            (fallbackResult, ex) -> {
+              if (ex != null) {
+                Throwable error = FutureUtils.unwrap(ex);
+                log.error("Fallback workflow threw exception: {}", error.getMessage(), error);
+                return execContext.failure(error);
+              }
+              return resolveFallbackResult(fallbackResult, execContext);
+            }),
+        List.of(fallbackStage));
+  }
+
+  private WorkflowResult resolveFallbackResult(
+      WorkflowResult fallbackResult, ExecutionContext execContext) {
+    if (fallbackResult != null && fallbackResult.getStatus() == WorkflowStatus.SUCCESS) {
+      log.info("Fallback workflow succeeded");
+      return fallbackResult;
+    }
+
+    // Fallback also failed
+    Throwable error =
+        fallbackResult != null && fallbackResult.getError() != null
+            ? fallbackResult.getError()
+            : new RuntimeException("Fallback workflow failed with no error details");
+
+    log.error("Both primary and fallback workflows failed");
+    return execContext.failure(error);
+  }
+
   @Override
   public String getName() {
     return WorkflowSupport.resolveName(name, this);
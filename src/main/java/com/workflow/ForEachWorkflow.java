@@ -1,16 +1,35 @@
 package com.workflow;
 
+import com.workflow.context.LayeredWorkflowContext;
+import com.workflow.context.TypedKey;
 import com.workflow.context.WorkflowContext;
+import com.workflow.execution.strategy.ExecutionStrategies;
+import com.workflow.execution.strategy.ExecutionStrategy;
 import com.workflow.helper.TreeRenderer;
 import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
+import java.lang.reflect.Array;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.util.concurrent.Queues;
 
 /**
- * Iterates over a collection from the workflow context and executes a child workflow for each item.
+ * Iterates over items from the workflow context and executes a child workflow for each item.
  *
  * <p><b>Purpose:</b> Enables batch processing patterns where the same workflow logic needs to be
  * applied to each element in a collection. Useful for processing lists of users, orders, files, or
@@ -19,14 +38,41 @@ import lombok.extern.slf4j.Slf4j;
  * <p><b>Execution Semantics:</b>
  *
  * <ul>
- *   <li><b>Collection Retrieval:</b> Retrieves the collection from context using {@code itemsKey}
- *   <li><b>Item Binding:</b> For each item, sets it in context using {@code itemVariable}
+ *   <li><b>Item Retrieval:</b> Retrieves the items from context using {@code itemsKey}
+ *   <li><b>Item Binding:</b> For each item, sets it in context using {@code itemVariable}. A
+ *       {@code null} item runs like any other, with {@code itemVariable} absent from the context
  *   <li><b>Index Binding:</b> Optionally sets the current index using {@code indexVariable}
  *   <li><b>Sequential Execution:</b> Executes the child workflow for each item in order
  *   <li><b>Fail Fast:</b> Stops iteration on first failure and returns that result
+ *   <li><b>Collect All:</b> With {@code collectAll=true}, every item runs and the failure of the
+ *       lowest failing index is returned at the end
  *   <li><b>Empty Collection:</b> Returns SUCCESS immediately if collection is null or empty
  * </ul>
  *
+ * <p><b>Item Sources:</b> Besides a {@code Collection} or array, the items may be an {@code
+ * Iterable}, {@code Iterator}, {@code Stream}, {@code Spliterator} or Reactive Streams {@link
+ * Publisher} such as a Reactor {@code Flux}. Lazy sources are pulled one item at a time as workers
+ * become free, so memory stays constant regardless of how many items flow through; a publisher is
+ * requested {@code prefetch} items ahead. Streams and publishers are closed when the iteration
+ * ends, including on fail-fast. A lazy source can only be consumed once. A {@link Path} is
+ * rejected although it is an {@code Iterable}, since it would yield its name elements.
+ *
+ * <p><b>Parallel Mode:</b> With {@code maxConcurrency > 1}, up to that many items run at once on
+ * the configured {@link ExecutionStrategy} (the shared default if none is given). Each item runs
+ * in its own {@link WorkflowContext#fork()}, so item, index and any keys the child writes never
+ * leak between items or into the parent context. A fork is not a snapshot: keys the child has not
+ * written read the parent's current value, so writes other workflows make to the parent context
+ * while the items run are visible to them. In fail-fast mode no new items are started once one has
+ * failed; items already running are allowed to finish.
+ *
+ * <p><b>Ordered Outputs:</b> When {@code outputKey} and {@code resultsKey} are set, the value each
+ * item's child workflow leaves under {@code outputKey} is gathered into a list stored in the
+ * parent context under {@code resultsKey}. The list is in item order regardless of completion
+ * order, with {@code null} for items that produced no output or did not run. Only a value written
+ * while the item ran counts: in sequential mode {@code outputKey} is removed from the context
+ * before each item, and in parallel mode it is read from the item's own fork layer, never from the
+ * parent.
+ *
  * <p><b>Thread Safety:</b> This workflow is thread-safe. The child workflow must also be
  * thread-safe.
  *
@@ -47,6 +93,20 @@ import lombok.extern.slf4j.Slf4j;
  * WorkflowResult result = forEach.execute(context);
  * }</pre>
  *
+ * <p><b>Example Usage - Parallel Enrichment:</b>
+ *
+ * <pre>{@code
+ * Workflow enrichAll = ForEachWorkflow.builder()
+ *     .itemsKey("records")
+ *     .itemVariable("record")
+ *     .workflow(enrichRecord)          // writes "enriched" into its item context
+ *     .maxConcurrency(32)
+ *     .collectAll(true)
+ *     .outputKey("enriched")
+ *     .resultsKey("enrichedRecords")  // List in the same order as "records"
+ *     .build();
+ * }</pre>
+ *
  * @see Workflow
  * @see AbstractWorkflow
  * @see RepeatWorkflow
@@ -59,19 +119,76 @@ public class ForEachWorkflow extends AbstractWorkflow implements WorkflowContain
   private final String itemVariable;
   private final String indexVariable;
   private final Workflow workflow;
+  private final int maxConcurrency;
+  private final boolean collectAll;
+  private final String outputKey;
+  private final String resultsKey;
+  private final ExecutionStrategy executionStrategy;
+  private final int prefetch;
+
+  // Keys bound or read once per item, resolved to context slots up front
+  private final TypedKey<Object> itemKey;
+  private final TypedKey<Integer> indexKey;
+  private final TypedKey<Object> outputSlot;
 
+  /**
+   * Creates a ForEachWorkflow.
+   *
+   * @param name optional workflow name
+   * @param itemsKey context key holding the items; must not be blank
+   * @param itemVariable context key the current item is bound to; must not be blank
+   * @param indexVariable optional context key the current index is bound to
+   * @param workflow child workflow executed per item; must not be null
+   * @param maxConcurrency items run at once; {@code 0} or {@code 1} (default) for sequential
+   * @param collectAll true to run every item even after a failure; false (default) to fail fast
+   * @param outputKey optional key read from each item's context after the child completes
+   * @param resultsKey optional parent context key receiving the ordered list of outputs
+   * @param executionStrategy strategy for parallel mode; the shared default when null
+   * @param prefetch items requested ahead from a {@link Publisher} source; {@code 0} (default) for
+   *     {@link Queues#SMALL_BUFFER_SIZE}
+   * @throws IllegalArgumentException if a required key is blank, maxConcurrency or prefetch is
+   *     negative, or only one of outputKey and resultsKey is set
+   */
   @Builder
   private ForEachWorkflow(
-      String name, String itemsKey, String itemVariable, String indexVariable, Workflow workflow) {
+      String name,
+      String itemsKey,
+      String itemVariable,
+      String indexVariable,
+      Workflow workflow,
+      int maxConcurrency,
+      boolean collectAll,
+      String outputKey,
+      String resultsKey,
+      ExecutionStrategy executionStrategy,
+      int prefetch) {
     ValidationUtils.requireNonBlank(itemsKey, "itemsKey");
     ValidationUtils.requireNonBlank(itemVariable, "itemVariable");
     ValidationUtils.requireNonNull(workflow, "workflow");
+    ValidationUtils.requireNonNegative(maxConcurrency, "maxConcurrency");
+    ValidationUtils.requireNonNegative(prefetch, "prefetch");
+    if ((outputKey == null) != (resultsKey == null)) {
+      throw new IllegalArgumentException("outputKey and resultsKey must be set together");
+    }
 
     this.name = name;
     this.itemsKey = itemsKey;
     this.itemVariable = itemVariable;
     this.indexVariable = indexVariable;
     this.workflow = workflow;
+    this.maxConcurrency = maxConcurrency;
+    this.collectAll = collectAll;
+    this.outputKey = outputKey;
+    this.resultsKey = resultsKey;
+    this.executionStrategy =
+        executionStrategy != null ? executionStrategy : ExecutionStrategies.getDefault();
+    this.prefetch = prefetch > 0 ? prefetch : Queues.SMALL_BUFFER_SIZE;
+    this.itemKey = TypedKey.of(itemVariable, Object.class);
+    this.indexKey =
+        indexVariable != null && !indexVariable.isBlank()
+            ? TypedKey.of(indexVariable, Integer.class)
+            : null;
+    this.outputSlot = outputKey != null ? TypedKey.of(outputKey, Object.class) : null;
   }
 
   @Override
@@ -83,52 +200,295 @@ public class ForEachWorkflow extends AbstractWorkflow implements WorkflowContain
       return execContext.success();
     }
 
-    Collection<?> items;
-    if (itemsObj instanceof Collection) {
-      items = (Collection<?>) itemsObj;
-    } else if (itemsObj.getClass().isArray()) {
-      items = List.of((Object[]) itemsObj);
-    } else {
-      log.warn("Items key '{}' is not a collection or array: {}", itemsKey, itemsObj.getClass());
-      return execContext.failure(
-          new IllegalArgumentException(
-              "Items key '" + itemsKey + "' must be a Collection or array"));
-    }
+    try (ItemSource source = ItemSource.of(itemsObj, prefetch)) {
+      if (source == null) {
+        log.warn("Items key '{}' is not an iterable source: {}", itemsKey, itemsObj.getClass());
+        return execContext.failure(
+            new IllegalArgumentException(
+                "Items key '"
+                    + itemsKey
+                    + "' must be a Collection, array, Iterable, Iterator, Stream, Spliterator"
+                    + " or Publisher"));
+      }
 
-    if (items.isEmpty()) {
-      log.debug("Items collection is empty, skipping iteration");
-      return execContext.success();
+      if (!source.iterator.hasNext()) {
+        log.debug("Items source is empty, skipping iteration");
+        return execContext.success();
+      }
+
+      log.debug("Starting iteration over {}", source.describe());
+      return maxConcurrency > 1
+          ? executeParallel(source, context, execContext)
+          : executeSequential(source, context, execContext);
     }
+  }
 
-    log.debug("Starting iteration over {} items", items.size());
+  private WorkflowResult executeSequential(
+      ItemSource source, WorkflowContext context, ExecutionContext execContext) {
+    Outputs outputs = outputKey != null ? new Outputs(source.sizeHint) : null;
+    WorkflowResult firstFailure = null;
     int index = 0;
 
-    for (Object item : items) {
-      log.debug("Processing item {} of {}: {}", index + 1, items.size(), item);
-
-      // Set the current item in context
-      context.put(itemVariable, item);
+    while (source.iterator.hasNext()) {
+      Object item = source.iterator.next();
+      log.debug("Processing item {}: {}", index + 1, item);
 
-      // Optionally set the index
-      if (indexVariable != null && !indexVariable.isBlank()) {
-        context.put(indexVariable, index);
+      // Set the current item (and optionally the index) in context, and clear the previous output
+      bind(context, item, index);
+      if (outputSlot != null) {
+        context.remove(outputSlot);
       }
 
       // Execute the child workflow
       WorkflowResult result = workflow.execute(context);
+      if (result == null) {
+        result = execContext.failure(failureOf(null, index)); // Same as the parallel path
+      }
 
       if (result.getStatus() == WorkflowStatus.FAILED) {
-        log.warn("Iteration {} failed, stopping foreach execution", index);
-        return result;
+        if (!collectAll) {
+          log.warn("Iteration {} failed, stopping foreach execution", index);
+          publishOutputs(context, outputs);
+          return result;
+        }
+        log.warn("Iteration {} failed, continuing foreach execution", index);
+        if (firstFailure == null) {
+          firstFailure = result;
+        }
+      } else if (outputs != null) {
+        outputs.set(index, context.get(outputSlot));
       }
 
       index++;
     }
 
-    log.debug("Completed iteration over all {} items", items.size());
+    publishOutputs(context, outputs);
+    if (firstFailure != null) {
+      return firstFailure;
+    }
+    log.debug("Completed iteration over all {} items", index);
+    return execContext.success();
+  }
+
+  private WorkflowResult executeParallel(
+      ItemSource source, WorkflowContext context, ExecutionContext execContext) {
+    ParallelRun run = new ParallelRun(source, context);
+    int workers =
+        source.sizeHint >= 0 ? Math.min(maxConcurrency, source.sizeHint) : maxConcurrency;
+    List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      futures.add(
+          executionStrategy.submit(
+              () -> {
+                runItems(run);
+                return null;
+              }));
+    }
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get();
+    } catch (InterruptedException e) {
+      // Stop dispatching and interrupt the in-flight items before giving up
+      run.stop();
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      log.warn("Parallel foreach was interrupted after {} items", run.claimedCount());
+      return execContext.failure(e);
+    } catch (ExecutionException e) {
+      return execContext.failure(e.getCause());
+    }
+
+    publishOutputs(context, run.outputs);
+    if (run.failure != null) {
+      log.warn("Iteration {} failed in parallel foreach execution", run.failureIndex);
+      return execContext.failure(run.failure);
+    }
+    log.debug("Completed parallel iteration over all {} items", run.claimedCount());
     return execContext.success();
   }
 
+  /** Worker loop: claims the next item until the source runs out or fail-fast stops it. */
+  private void runItems(ParallelRun run) {
+    Claim claim;
+    while ((claim = run.claim()) != null) {
+      int index = claim.index();
+      LayeredWorkflowContext itemContext = run.context.fork();
+      bind(itemContext, claim.item(), index);
+      try {
+        WorkflowResult result = workflow.execute(itemContext);
+        if (result == null || result.getStatus() == WorkflowStatus.FAILED) {
+          run.recordFailure(index, failureOf(result, index));
+        } else if (run.outputs != null) {
+          // Only the fork's own layer: an unwritten key would read the parent's value
+          run.outputs.set(
+              index, itemContext.isModified(outputKey) ? itemContext.get(outputSlot) : null);
+        }
+      } catch (Exception e) {
+        run.recordFailure(index, e);
+      }
+    }
+  }
+
+  private Throwable failureOf(WorkflowResult result, int index) {
+    if (result == null) {
+      return new IllegalStateException("Iteration " + index + " returned null result");
+    }
+    return result.getError() != null
+        ? result.getError()
+        : new IllegalStateException("Iteration " + index + " failed with no error details");
+  }
+
+  private void bind(WorkflowContext context, Object item, int index) {
+    if (item != null) {
+      context.put(itemKey, item);
+    } else {
+      context.remove(itemKey); // The context holds no nulls; a null item is bound as absent
+    }
+    if (indexKey != null) {
+      context.put(indexKey, index);
+    }
+  }
+
+  private void publishOutputs(WorkflowContext context, Outputs outputs) {
+    if (outputs != null) {
+      context.put(resultsKey, outputs.toList());
+    }
+  }
+
+  /** Shared state of one parallel execution. */
+  private final class ParallelRun {
+    private final ItemSource source;
+    private final WorkflowContext context;
+    private final Outputs outputs;
+    private int claimed;
+    private boolean stopped;
+    private Throwable failure;
+    private int failureIndex = Integer.MAX_VALUE;
+
+    private ParallelRun(ItemSource source, WorkflowContext context) {
+      this.source = source;
+      this.context = context;
+      this.outputs = outputKey != null ? new Outputs(source.sizeHint) : null;
+    }
+
+    /**
+     * Pulls the next item from the source, so at most one item per worker is materialised at a
+     * time. Returns null when the source is exhausted or dispatch has been stopped.
+     */
+    private synchronized Claim claim() {
+      if (stopped || !source.iterator.hasNext()) {
+        return null;
+      }
+      return new Claim(claimed++, source.iterator.next());
+    }
+
+    private synchronized int claimedCount() {
+      return claimed;
+    }
+
+    private synchronized void stop() {
+      stopped = true;
+    }
+
+    /** Keeps the failure with the lowest index and stops dispatch unless collecting all. */
+    private synchronized void recordFailure(int index, Throwable error) {
+      if (index < failureIndex) {
+        failureIndex = index;
+        failure = error;
+      }
+      if (!collectAll) {
+        stopped = true;
+      }
+    }
+  }
+
+  /** An item claimed by a worker together with its position in the source. */
+  private record Claim(int index, Object item) {}
+
+  /** Index-addressed output list that grows as items of an unsized source complete. */
+  private static final class Outputs {
+    private final List<Object> values;
+
+    private Outputs(int sizeHint) {
+      this.values = new ArrayList<>(Math.max(sizeHint, 0));
+    }
+
+    private synchronized void set(int index, Object value) {
+      while (values.size() <= index) {
+        values.add(null);
+      }
+      values.set(index, value);
+    }
+
+    private synchronized List<Object> toList() {
+      return Collections.unmodifiableList(new ArrayList<>(values));
+    }
+  }
+
+  /**
+   * Adapts the supported item sources to a single {@link Iterator}. Lazy sources are pulled one
+   * item at a time; streams and publishers are closed (cancelling the subscription) once the
+   * iteration ends, even if it stops early.
+   */
+  private static final class ItemSource implements AutoCloseable {
+    private final Iterator<?> iterator;
+    private final int sizeHint;
+    private final AutoCloseable onClose;
+
+    private ItemSource(Iterator<?> iterator, int sizeHint, AutoCloseable onClose) {
+      this.iterator = iterator;
+      this.sizeHint = sizeHint;
+      this.onClose = onClose;
+    }
+
+    /** Returns the source for {@code items}, or null if the type is not supported. */
+    private static ItemSource of(Object items, int prefetch) {
+      return switch (items) {
+        case Collection<?> collection ->
+            new ItemSource(collection.iterator(), collection.size(), null);
+        case Object[] array -> new ItemSource(Arrays.asList(array).iterator(), array.length, null);
+        // A path is an Iterable of its name elements, never a list of items
+        case Path _ -> null;
+        case Iterable<?> iterable -> new ItemSource(iterable.iterator(), -1, null);
+        case Iterator<?> iterator -> new ItemSource(iterator, -1, null);
+        case Stream<?> stream -> new ItemSource(stream.iterator(), -1, stream);
+        case Spliterator<?> spliterator ->
+            new ItemSource(Spliterators.iterator(spliterator), sizeOf(spliterator), null);
+        case Publisher<?> publisher -> {
+          Stream<?> stream = Flux.from(publisher).toStream(prefetch);
+          yield new ItemSource(stream.iterator(), -1, stream);
+        }
+        default -> items.getClass().isArray() ? ofPrimitiveArray(items) : null;
+      };
+    }
+
+    private static ItemSource ofPrimitiveArray(Object array) {
+      int length = Array.getLength(array);
+      return new ItemSource(
+          IntStream.range(0, length).mapToObj(i -> Array.get(array, i)).iterator(), length, null);
+    }
+
+    private static int sizeOf(Spliterator<?> spliterator) {
+      long size = spliterator.getExactSizeIfKnown();
+      return size >= 0 && size <= Integer.MAX_VALUE ? (int) size : -1;
+    }
+
+    private String describe() {
+      return sizeHint >= 0 ? sizeHint + " items" : "a streaming source";
+    }
+
+    @Override
+    public void close() {
+      if (onClose == null) {
+        return;
+      }
+      try {
+        onClose.close();
+      } catch (Exception e) {
+        log.warn("Failed to close items source: {}", e.getMessage());
+      }
+    }
+  }
+
   @Override
   public String getName() {
     return WorkflowSupport.resolveName(name, this);
@@ -0,0 +1,502 @@
+package com.workflow;
+
+import com.workflow.context.LayeredWorkflowContext;
+import com.workflow.context.WorkflowContext;
+import com.workflow.execution.strategy.ExecutionStrategies;
+import com.workflow.execution.strategy.ExecutionStrategy;
+import com.workflow.helper.FutureUtils;
+import com.workflow.helper.ValidationUtils;
+import com.workflow.helper.WorkflowSupport;
+import com.workflow.task.Task;
+import com.workflow.task.TaskDescriptor;
+import com.workflow.task.executor.DeadlineTimer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes redundant child workflows as hedged attempts: the first attempt starts immediately, and
+ * every further attempt starts only if no attempt has succeeded within the hedge delay. The first
+ * attempt to succeed wins and all others are cancelled.
+ *
+ * <p><b>Purpose:</b> Cuts tail latency when calling replicated downstreams. Most calls complete on
+ * the first attempt; only the slow tail pays for a second request, and it gets whichever answer
+ * arrives first.
+ *
+ * <p><b>Execution Semantics:</b>
+ *
+ * <ul>
+ *   <li><b>Staggering:</b> Attempt {@code n + 1} starts {@code hedgeDelay} after attempt {@code n},
+ *       unless an attempt has already succeeded. A delay of {@code 0} starts all attempts at once
+ *       (a plain race)
+ *   <li><b>Early Hedge:</b> When an attempt fails, the next one starts immediately instead of
+ *       waiting for the delay
+ *   <li><b>Winner:</b> The first attempt completing with a non-FAILED status wins; the workflow
+ *       returns SUCCESS
+ *   <li><b>Cancellation:</b> Losing attempts are cancelled. With the built-in strategies this
+ *       interrupts the thread running them
+ *   <li><b>All Failed:</b> Returns FAILED with the error of the first attempt in declaration order
+ * </ul>
+ *
+ * <p><b>Context Handling:</b> Each attempt runs against its own {@link WorkflowContext#fork()}, so
+ * losing attempts never leak partial writes. The winning attempt's writes and removals are
+ * published into the caller's context via {@link LayeredWorkflowContext#mergeBack()} before this
+ * workflow completes.
+ *
+ * <p><b>Adaptive Delay:</b> With {@link HedgedWorkflowBuilder#hedgePercentile(double)} set, the
+ * delay is taken from the latency history of recent winning attempts (for example their p95), so
+ * only requests slower than that percentile are hedged. Until enough history has been recorded the
+ * fixed {@code hedgeDelayMs} is used.
+ *
+ * <p><b>Thread Safety:</b> This workflow is thread-safe; concurrent executions share only the
+ * latency history.
+ *
+ * <p><b>Example usage - Hedged Replica Reads:</b>
+ *
+ * <pre>{@code
+ * Workflow hedged = HedgedWorkflow.builder()
+ *     .name("GetProfile")
+ *     .task(new GetHttpTask.Builder<>(client).url(primaryUrl).build())
+ *     .task(new GetHttpTask.Builder<>(client).url(replicaUrl).build())
+ *     .hedgeDelayMs(50)          // Used until enough history exists
+ *     .hedgePercentile(0.95)     // Then hedge only calls slower than the observed p95
+ *     .build();
+ * }</pre>
+ *
+ * @see ParallelWorkflow.JoinPolicy#SHUTDOWN_ON_SUCCESS
+ * @see FutureUtils#anySuccessful(List)
+ */
+@Slf4j
+public class HedgedWorkflow extends AbstractWorkflow implements WorkflowContainer {
+  /** Winning latencies required before the adaptive delay replaces the fixed one. */
+  static final int MIN_SAMPLES = 20;
+
+  private static final int HISTORY_SIZE = 128;
+
+  private final String name;
+  private final List<Workflow> workflows;
+  private final long hedgeDelayMs;
+  private final double hedgePercentile;
+  private final ExecutionStrategy executionStrategy;
+  private final LatencyHistory history = new LatencyHistory(HISTORY_SIZE);
+
+  /**
+   * Private constructor used by the Builder.
+   *
+   * @param builder the builder instance containing configuration
+   */
+  private HedgedWorkflow(HedgedWorkflowBuilder builder) {
+    this.name = builder.name;
+    this.workflows = List.copyOf(builder.workflows);
+    this.hedgeDelayMs = builder.hedgeDelayMs;
+    this.hedgePercentile = builder.hedgePercentile;
+    this.executionStrategy = builder.executionStrategy;
+  }
+
+  /**
+   * Runs the hedged attempts and waits for the first success.
+   *
+   * <p>If the calling thread is interrupted while waiting, all attempts are cancelled and FAILED
+   * is returned.
+   *
+   * @param context the workflow context; each attempt works on a fork
+   * @param execContext execution context for building results
+   * @return SUCCESS if any attempt succeeds, FAILED if all fail
+   */
+  @Override
+  protected WorkflowResult doExecute(WorkflowContext context, ExecutionContext execContext) {
+    HedgeRun run = new HedgeRun(context, currentDelayMs());
+    run.launchNext();
+    try {
+      run.outcome.get();
+      return execContext.success();
+    } catch (InterruptedException e) {
+      FutureUtils.cancelFuture(run.outcome);
+      Thread.currentThread().interrupt();
+      log.warn("HedgedWorkflow {} was interrupted, cancelled its attempts", getName());
+      return execContext.failure(e);
+    } catch (ExecutionException e) {
+      log.error("All attempts failed in HedgedWorkflow: {}", getName(), e.getCause());
+      return execContext.failure(e.getCause());
+    }
+  }
+
+  /**
+   * Runs the hedged attempts without parking the calling thread.
+   *
+   * <p>Attempts run on the configured {@link ExecutionStrategy} and the hedge delays are armed on
+   * a timer, so the returned stage completes as soon as the first attempt succeeds or the last one
+   * fails. Cancelling the returned stage cancels the launched attempts and the hedge timer, and no
+   * further attempt is started.
+   *
+   * @param context the workflow context; each attempt works on a fork
+   * @param execContext execution context for building results
+   * @return a stage completing with SUCCESS if any attempt succeeds, FAILED if all fail
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    HedgeRun run = new HedgeRun(context, currentDelayMs());
+    run.launchNext();
+    return FutureUtils.propagateCancellation(
+        run.outcome.handle(
+            (_, ex) -> {
+              if (ex == null) {
+                return execContext.success();
+              }
+              Throwable error = FutureUtils.unwrap(ex);
+              log.error("All attempts failed in HedgedWorkflow: {}", getName(), error);
+              return execContext.failure(error);
+            }),
+        List.of(run.outcome));
+  }
+
+  /**
+   * Returns the delay before the next attempt: the configured percentile of recent winning
+   * latencies once enough have been recorded, otherwise the fixed hedge delay.
+   */
+  long currentDelayMs() {
+    if (hedgePercentile > 0) {
+      long observed = history.percentile(hedgePercentile);
+      if (observed >= 0) {
+        return observed;
+      }
+    }
+    return hedgeDelayMs;
+  }
+
+  @Override
+  public String getName() {
+    return WorkflowSupport.resolveName(name, this);
+  }
+
+  @Override
+  public String getWorkflowType() {
+    return WorkflowSupport.formatWorkflowType("Hedged");
+  }
+
+  @Override
+  public List<Workflow> getSubWorkflows() {
+    return Collections.unmodifiableList(workflows);
+  }
+
+  /**
+   * Static factory method to create a new builder.
+   *
+   * @return a new HedgedWorkflowBuilder
+   */
+  public static HedgedWorkflowBuilder builder() {
+    return new HedgedWorkflowBuilder();
+  }
+
+  /**
+   * State of one execution: launched attempts, their errors and the winning outcome. Once the
+   * outcome is done, by a win, the last failure or cancellation, the remaining attempts and the
+   * hedge timer are cancelled.
+   *
+   * <p>The hedge timer is only ever cancelled outside this run's monitor: {@link
+   * DeadlineTimer.Deadline#cancel()} waits for a running expiry task, and the expiry task ({@link
+   * #launchAfter(int)}) needs the monitor. For the same reason the outcome is completed outside
+   * the monitor, since completing it runs {@link #cancelAll()}.
+   */
+  private final class HedgeRun {
+    private final WorkflowContext context;
+    private final long delayMs;
+    private final List<CompletableFuture<WorkflowResult>> attempts = new ArrayList<>();
+    private final Throwable[] errors = new Throwable[workflows.size()];
+    private final CompletableFuture<WorkflowResult> outcome = new CompletableFuture<>();
+    private DeadlineTimer.Deadline hedgeTimer;
+    private int failed;
+    private boolean settled;
+
+    private HedgeRun(WorkflowContext context, long delayMs) {
+      this.context = context;
+      this.delayMs = delayMs;
+      outcome.whenComplete((_, _) -> cancelAll());
+    }
+
+    /** Starts the next attempt, if any, and arms the hedge timer for the one after it. */
+    private void launchNext() {
+      launch(-1);
+    }
+
+    /** Hedge timer callback; a no-op if an earlier failure already started the next attempt. */
+    private void launchAfter(int index) {
+      launch(index + 1);
+    }
+
+    /**
+     * Starts attempts until one arms the hedge timer or none are left.
+     *
+     * @param expectedIndex the attempt the hedge timer fired for, or -1 to start the next one
+     */
+    private void launch(int expectedIndex) {
+      while (true) {
+        int index;
+        LayeredWorkflowContext attemptContext;
+        long startNanos = System.nanoTime();
+        CompletableFuture<WorkflowResult> attempt;
+        DeadlineTimer.Deadline staleTimer = null;
+        synchronized (this) {
+          if (settled || outcome.isDone() || attempts.size() == workflows.size()) {
+            return;
+          }
+          index = attempts.size();
+          if (expectedIndex >= 0) {
+            if (index != expectedIndex) {
+              return;
+            }
+            // The firing deadline is the current one; it must not cancel itself
+            hedgeTimer = null;
+          }
+          Workflow workflow = workflows.get(index);
+          attemptContext = context.fork();
+          log.debug("Starting attempt {} of HedgedWorkflow: {}", index + 1, getName());
+          attempt = executionStrategy.submit(() -> workflow.execute(attemptContext));
+          attempts.add(attempt);
+          if (attempts.size() < workflows.size() && delayMs > 0) {
+            staleTimer = hedgeTimer;
+            // The timer thread only submits to the strategy, so the expiry task stays short
+            hedgeTimer =
+                DeadlineTimer.shared()
+                    .schedule(() -> launchAfter(index), delayMs, TimeUnit.MILLISECONDS);
+          }
+        }
+        if (staleTimer != null) {
+          staleTimer.cancel();
+        }
+        attempt.whenComplete(
+            (result, ex) -> onComplete(index, attemptContext, startNanos, result, ex));
+        if (delayMs > 0) {
+          return;
+        }
+      }
+    }
+
+    private void onComplete(
+        int index,
+        LayeredWorkflowContext attemptContext,
+        long startNanos,
+        WorkflowResult result,
+        Throwable ex) {
+      Throwable error = ex != null ? FutureUtils.unwrap(ex) : failureOf(result);
+      Throwable lastFailure = null;
+      synchronized (this) {
+        if (settled || outcome.isDone()) {
+          return;
+        }
+        if (error == null) {
+          settled = true;
+          history.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+          attemptContext.mergeBack();
+          log.debug("Attempt {} won in HedgedWorkflow: {}", index + 1, getName());
+        } else {
+          errors[index] = error;
+          if (++failed == workflows.size()) {
+            settled = true;
+            lastFailure =
+                Arrays.stream(errors).filter(Objects::nonNull).findFirst().orElse(error);
+          }
+        }
+      }
+      if (error == null) {
+        outcome.complete(result);
+      } else if (lastFailure != null) {
+        outcome.completeExceptionally(lastFailure);
+      } else {
+        // Do not wait for the hedge delay once an attempt has failed
+        launchNext();
+      }
+    }
+
+    private void cancelAll() {
+      DeadlineTimer.Deadline timer;
+      List<CompletableFuture<WorkflowResult>> launched;
+      synchronized (this) {
+        timer = hedgeTimer;
+        hedgeTimer = null;
+        launched = List.copyOf(attempts);
+      }
+      if (timer != null) {
+        timer.cancel();
+      }
+      launched.forEach(FutureUtils::cancelFuture);
+    }
+
+    private static Throwable failureOf(WorkflowResult result) {
+      if (result == null) {
+        return new IllegalStateException("Workflow returned null result");
+      }
+      if (result.getStatus() != WorkflowStatus.FAILED) {
+        return null;
+      }
+      return result.getError() != null
+          ? result.getError()
+          : new RuntimeException("Workflow failed with no error details");
+    }
+  }
+
+  /** Fixed-size ring buffer of recent winning latencies in milliseconds. */
+  private static final class LatencyHistory {
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    private LatencyHistory(int size) {
+      this.samples = new long[size];
+    }
+
+    private synchronized void record(long latencyMs) {
+      samples[next] = latencyMs;
+      next = (next + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+    }
+
+    /** Returns the given percentile of the recorded latencies, or -1 if too few are recorded. */
+    private synchronized long percentile(double percentile) {
+      if (count < MIN_SAMPLES) {
+        return -1;
+      }
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      int rank = (int) Math.ceil(percentile * count) - 1;
+      return sorted[Math.clamp(rank, 0, count - 1)];
+    }
+  }
+
+  /** Builder for {@link HedgedWorkflow}. */
+  public static class HedgedWorkflowBuilder {
+    private String name;
+    private final List<Workflow> workflows = new ArrayList<>();
+    private long hedgeDelayMs;
+    private double hedgePercentile;
+    private ExecutionStrategy executionStrategy = ExecutionStrategies.getDefault();
+
+    /**
+     * Sets the name of the hedged workflow.
+     *
+     * @param name descriptive name for logging
+     * @return this builder
+     */
+    public HedgedWorkflowBuilder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    /**
+     * Adds an attempt. Attempts start in the order they are added.
+     *
+     * @param workflow the workflow to add
+     * @return this builder
+     */
+    public HedgedWorkflowBuilder workflow(Workflow workflow) {
+      if (workflow != null) {
+        this.workflows.add(workflow);
+      }
+      return this;
+    }
+
+    /**
+     * Adds a list of attempts.
+     *
+     * @param workflows the workflows to add
+     * @return this builder
+     */
+    public HedgedWorkflowBuilder workflows(List<? extends Workflow> workflows) {
+      if (workflows != null) {
+        this.workflows.addAll(workflows.stream().filter(Objects::nonNull).toList());
+      }
+      return this;
+    }
+
+    /**
+     * Convenience method to add a task as an attempt. The task is automatically wrapped in a
+     * {@link TaskWorkflow}.
+     *
+     * @param task the task to execute; must not be null
+     * @throws NullPointerException if task is null
+     * @return this builder
+     */
+    public HedgedWorkflowBuilder task(Task task) {
+      ValidationUtils.requireNonNull(task, "task");
+      return workflow(new TaskWorkflow(task));
+    }
+
+    /**
+     * Convenience method to add a task descriptor as an attempt. The task descriptor is wrapped in
+     * a {@link TaskWorkflow}.
+     *
+     * @param taskDescriptor the task descriptor
+     * @throws NullPointerException if taskDescriptor (or the task within it) is null
+     * @return this builder
+     */
+    public HedgedWorkflowBuilder task(TaskDescriptor taskDescriptor) {
+      ValidationUtils.requireNonNull(taskDescriptor, "taskDescriptor");
+      ValidationUtils.requireNonNull(taskDescriptor.getTask(), "task");
+      return workflow(new TaskWorkflow(taskDescriptor));
+    }
+
+    /**
+     * Sets the delay between starting consecutive attempts.
+     *
+     * @param hedgeDelayMs delay in milliseconds; {@code 0} (default) starts all attempts at once
+     * @return this builder
+     * @throws IllegalArgumentException if hedgeDelayMs is negative
+     */
+    public HedgedWorkflowBuilder hedgeDelayMs(long hedgeDelayMs) {
+      ValidationUtils.requireNonNegative(hedgeDelayMs, "hedgeDelayMs");
+      this.hedgeDelayMs = hedgeDelayMs;
+      return this;
+    }
+
+    /**
+     * Derives the hedge delay from the latency history of recent winning attempts.
+     *
+     * <p>Once enough executions have completed, the delay becomes the given percentile of their
+     * winning latencies, so only requests slower than, for example, the p95 are hedged. Until then
+     * {@link #hedgeDelayMs(long)} is used.
+     *
+     * @param hedgePercentile percentile in {@code (0, 1]}, or {@code 0} (default) to disable
+     * @return this builder
+     * @throws IllegalArgumentException if hedgePercentile is outside {@code [0, 1]}
+     */
+    public HedgedWorkflowBuilder hedgePercentile(double hedgePercentile) {
+      ValidationUtils.requireInRange(hedgePercentile, 0.0, 1.0, "hedgePercentile");
+      this.hedgePercentile = hedgePercentile;
+      return this;
+    }
+
+    /**
+     * Sets the execution strategy used to run the attempts.
+     *
+     * <p>If not provided, the shared {@link ExecutionStrategies#getDefault()} strategy is used.
+     *
+     * @param executionStrategy the strategy; must not be null
+     * @return this builder
+     */
+    public HedgedWorkflowBuilder executionStrategy(ExecutionStrategy executionStrategy) {
+      this.executionStrategy = executionStrategy;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new {@link HedgedWorkflow}.
+     *
+     * @return a configured HedgedWorkflow instance
+     * @throws NullPointerException if executionStrategy is null
+     * @throws IllegalArgumentException if no attempts were added
+     */
+    public HedgedWorkflow build() {
+      ValidationUtils.requireNonNull(executionStrategy, "executionStrategy");
+      ValidationUtils.requireNonEmpty(workflows, "workflows");
+      return new HedgedWorkflow(this);
+    }
+  }
+}
@@ -5,9 +5,15 @@ import com.workflow.helper.PolyglotMapper;
 import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
 import com.workflow.script.ScriptProvider;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import org.graalvm.polyglot.*;
 import org.graalvm.polyglot.io.IOAccess;
 
@@ -24,7 +30,8 @@ import org.graalvm.polyglot.io.IOAccess;
  *
  * <ul>
  *   <li><b>Performance:</b> Uses a shared {@link Engine} instance to enable JIT compilation and AST
- *       caching across multiple workflow instances.
+ *       caching across multiple workflow instances. The parsed {@link Source} is cached and only
+ *       rebuilt when the provider returns a different URI or content.
  *   <li><b>Security:</b> Executes scripts in a restricted sandbox. Host class lookup is disabled by
  *       default to prevent scripts from accessing {@code java.lang.System} or reflection.
  *   <li><b>Flexibility:</b> Script content is decoupled via {@link ScriptProvider}, allowing logic
@@ -74,10 +81,49 @@ import org.graalvm.polyglot.io.IOAccess;
  * result.get("discountCode");
  * }</pre>
  *
+ * <h3>Deferred Conversion:</h3>
+ *
+ * <p>Objects and arrays passed to {@code ctx.put} are normally deep-copied into Java collections
+ * immediately. With {@link JavascriptWorkflowBuilder#deferredConversion(boolean)} the copy is
+ * deferred until the script finishes: the {@code ctx} proxy keeps the JavaScript value, {@code
+ * ctx.get} hands the original object back to the script, and typed arrays are copied straight into
+ * primitive arrays instead of lists of boxed numbers. A polyglot context may only be used by the
+ * thread running the script, so these values never enter the {@link WorkflowContext} while the
+ * script runs: other threads sharing the context see the previous value until the script
+ * finishes. Then each value the script left in place is copied once, reflecting the object's state
+ * at that point, and written to the context. The copy is not avoided, only deferred: the saving
+ * comes from values the script overwrites or reads back, and a large array the script leaves in
+ * place is copied in full.
+ *
+ * <h3>Exported Function Mode:</h3>
+ *
+ * <p>By default the module body runs on every execution in a fresh polyglot {@link Context}. For
+ * high-rate, small transforms, set {@link JavascriptWorkflowBuilder#exportedFunction(String)}: the
+ * module is evaluated once per pooled context and the named export is invoked per execution with
+ * the {@code ctx} proxy as its argument. Up to {@link
+ * JavascriptWorkflowBuilder#contextPoolSize(int)} idle contexts are kept; a context is discarded if
+ * its invocation fails or the script changes. Module-level state survives between invocations on
+ * the same context, so keep per-execution state inside the function. {@link #close()} closes the
+ * idle contexts; the workflow stays usable afterwards, but each execution then closes its context
+ * instead of pooling it.
+ *
+ * <pre>{@code
+ * // scripts/tax.mjs
+ * export function apply(ctx) {
+ *     ctx.put('tax', ctx.get('amount') * 0.15);
+ * }
+ *
+ * JavascriptWorkflow workflow = JavascriptWorkflow.builder()
+ *     .scriptProvider(new FileScriptProvider(Path.of("scripts/tax.mjs")))
+ *     .exportedFunction("apply")
+ *     .build();
+ * }</pre>
+ *
  * @see ScriptProvider
  * @see AbstractWorkflow
  */
-public class JavascriptWorkflow extends AbstractWorkflow implements WorkflowContainer {
+public class JavascriptWorkflow extends AbstractWorkflow
+    implements WorkflowContainer, AutoCloseable {
   /**
    * Shared engine instance to optimize performance (JIT and AST caching) across all JavaScript
    * workflow executions.
@@ -86,10 +132,24 @@ public class JavascriptWorkflow extends AbstractWorkflow implements WorkflowCont
 
   private final String name;
   private final ScriptProvider scriptProvider;
+  private final String exportedFunction;
+  private final boolean deferredConversion;
+
+  /** Idle contexts with the module already evaluated; only used in exported function mode. */
+  private final BlockingQueue<PooledContext> contextPool;
+
+  /** Source built for the most recently loaded script. */
+  private volatile CompiledScript compiledScript;
+
+  private volatile boolean closed;
 
   private JavascriptWorkflow(JavascriptWorkflowBuilder builder) {
     this.name = builder.name;
     this.scriptProvider = builder.scriptProvider;
+    this.exportedFunction = builder.exportedFunction;
+    this.deferredConversion = builder.deferredConversion;
+    this.contextPool =
+        builder.exportedFunction != null ? new ArrayBlockingQueue<>(builder.contextPoolSize) : null;
   }
 
   /**
@@ -107,43 +167,43 @@ public class JavascriptWorkflow extends AbstractWorkflow implements WorkflowCont
    * <p>This method performs the following steps:
    *
    * <ol>
+   *   <li>Fetches script content from the {@link ScriptProvider}, reusing the cached {@link Source}
+   *       if it is unchanged.
    *   <li>Creates a lightweight, isolated graalvm polygot {@link Context}.
-   *   <li>Fetches script content from the {@link ScriptProvider}.
    *   <li>Injects the {@link WorkflowContext} into the JS global scope under the name {@code ctx}.
    *   <li>Evaluates the script and returns a success result unless an exception occurs.
    * </ol>
    *
+   * <p>In exported function mode a pooled context is borrowed instead, and the exported function is
+   * called with {@code ctx} as its argument.
+   *
    * @param context the shared workflow state
    * @param execContext internal execution helpers and timers
    * @return the result of the script execution
    */
   @Override
   protected WorkflowResult doExecute(WorkflowContext context, ExecutionContext execContext) {
-    try (Context jsContext =
-        Context.newBuilder("js")
-            .engine(SHARED_ENGINE)
-            // Allows JS to access Java objects
-            .allowHostAccess(HostAccess.ALL)
-            // Restricts JS from instantiating random Java classes
-            .allowHostClassLookup(_ -> false)
-            // Required to resolve 'import' paths
-            .allowIO(IOAccess.newBuilder().allowHostFileAccess(true).build())
-            // Enable ESM module support
-            .option("js.esm-eval-returns-exports", "true")
-            .build()) {
-
+    try {
       // Load script dynamically from the provider
-      ScriptProvider.ScriptSource scriptSource = scriptProvider.loadScript();
-      Source source =
-          // URI so the engine knows the base directory for imports
-          Source.newBuilder("js", scriptSource.uri().toURL())
-              .content(scriptSource.content()) // Use the loaded content
-              .mimeType("application/javascript+module") // Treat as ESM module
-              .build();
+      CompiledScript script = compile(scriptProvider.loadScript());
 
       // Wrap the context in a proxy that intercepts 'put' calls
-      jsContext.getBindings("js").putMember("ctx", new PolyglotContextProxy(context));
-      jsContext.eval(source);
+      Object ctx =
+          deferredConversion
+              ? new DeferredPolyglotContextProxy(context)
+              : new PolyglotContextProxy(context);
+      if (exportedFunction != null) {
+        invokeExport(script, ctx);
+      } else {
+        try (Context jsContext = newContext()) {
+          jsContext.getBindings("js").putMember("ctx", ctx);
+          try {
+            jsContext.eval(script.source());
+          } finally {
+            seal(ctx);
+          }
+        }
+      }
 
       return execContext.success();
     } catch (PolyglotException e) {
@@ -157,6 +217,90 @@ public class JavascriptWorkflow extends AbstractWorkflow implements WorkflowCont
     }
   }
 
+  private static Context newContext() {
+    return Context.newBuilder("js")
+        .engine(SHARED_ENGINE)
+        // Allows JS to access Java objects
+        .allowHostAccess(HostAccess.ALL)
+        // Restricts JS from instantiating random Java classes
+        .allowHostClassLookup(_ -> false)
+        // Required to resolve 'import' paths
+        .allowIO(IOAccess.newBuilder().allowHostFileAccess(true).build())
+        // Enable ESM module support
+        .option("js.esm-eval-returns-exports", "true")
+        .build();
+  }
+
+  /** Returns the cached source if the script is unchanged, otherwise builds a new one. */
+  private CompiledScript compile(ScriptProvider.ScriptSource scriptSource) throws IOException {
+    CompiledScript cached = compiledScript;
+    if (cached != null && cached.matches(scriptSource)) {
+      return cached;
+    }
+    Source source =
+        // URI so the engine knows the base directory for imports
+        Source.newBuilder("js", scriptSource.uri().toURL())
+            .content(scriptSource.content()) // Use the loaded content
+            .mimeType("application/javascript+module") // Treat as ESM module
+            .build();
+    CompiledScript compiled =
+        new CompiledScript(scriptSource.uri(), scriptSource.content(), source);
+    compiledScript = compiled;
+    return compiled;
+  }
+
+  private void invokeExport(CompiledScript script, Object ctx) {
+    PooledContext pooled = contextPool.poll();
+    if (pooled != null && pooled.script != script) {
+      // Evaluated from an older version of the script
+      pooled.close();
+      pooled = null;
+    }
+    if (pooled == null) {
+      pooled = new PooledContext(script, exportedFunction);
+    }
+
+    boolean reusable = false;
+    try {
+      pooled.function.execute(ctx);
+      reusable = true;
+    } finally {
+      seal(ctx);
+      // A failed invocation may have left module state half-updated
+      if (!reusable || closed || !contextPool.offer(pooled)) {
+        pooled.close();
+      } else if (closed) {
+        closePooledContexts(); // Closed while this context was being returned
+      }
+    }
+  }
+
+  /**
+   * Closes the pooled polyglot contexts. Contexts in use by running executions are closed when
+   * those executions finish. Does nothing unless an exported function is configured.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (contextPool != null) {
+      closePooledContexts();
+    }
+  }
+
+  private void closePooledContexts() {
+    PooledContext pooled;
+    while ((pooled = contextPool.poll()) != null) {
+      pooled.close();
+    }
+  }
+
+  /** Publishes deferred values as copies before the polyglot context is closed or reused. */
+  private static void seal(Object ctx) {
+    if (ctx instanceof DeferredPolyglotContextProxy deferred) {
+      deferred.seal();
+    }
+  }
+
   private static StringBuilder getErrorMsg(PolyglotException e) {
     StringBuilder errorMsg = new StringBuilder("JS Error: ").append(e.getMessage()).append("\n");
 
@@ -208,10 +352,12 @@ public class JavascriptWorkflow extends AbstractWorkflow implements WorkflowCont
   @Override
   public List<Workflow> getSubWorkflows() {
     try {
-      ScriptProvider.ScriptSource source = scriptProvider.loadScript();
+      // Rendering a tree should not reload the script once it has been executed
+      CompiledScript cached = compiledScript;
+      URI uri = cached != null ? cached.uri() : scriptProvider.loadScript().uri();
       String uriDisplay =
-          (source.uri() != null && source.uri().getPath() != null)
-              ? java.nio.file.Paths.get(source.uri().getPath()).getFileName().toString()
+          (uri != null && uri.getPath() != null)
+              ? java.nio.file.Paths.get(uri.getPath()).getFileName().toString()
               : "inline";
 
       // Use the uriDisplay directly as the name of the leaf node
@@ -242,10 +388,51 @@ public class JavascriptWorkflow extends AbstractWorkflow implements WorkflowCont
     }
   }
 
+  /** Parsed source together with the script URI and content it was built from. */
+  private record CompiledScript(URI uri, String content, Source source) {
+    boolean matches(ScriptProvider.ScriptSource scriptSource) {
+      String other = scriptSource.content();
+      return Objects.equals(uri, scriptSource.uri())
+          && (content == other
+              || (content.hashCode() == other.hashCode() && content.equals(other)));
+    }
+  }
+
+  /** A context holding one evaluation of the module and the export invoked per execution. */
+  private static final class PooledContext {
+    private final CompiledScript script;
+    private final Context context;
+    private final Value function;
+
+    PooledContext(CompiledScript script, String exportedFunction) {
+      this.script = script;
+      this.context = newContext();
+      try {
+        Value exports = context.eval(script.source());
+        Value member = exports.hasMembers() ? exports.getMember(exportedFunction) : null;
+        if (member == null || !member.canExecute()) {
+          throw new IllegalStateException(
+              "Script does not export a function named '" + exportedFunction + "'");
+        }
+        this.function = member;
+      } catch (RuntimeException e) {
+        context.close();
+        throw e;
+      }
+    }
+
+    void close() {
+      context.close();
+    }
+  }
+
   /** Fluent builder for {@link JavascriptWorkflow} instances. */
   public static class JavascriptWorkflowBuilder {
     private String name;
     private ScriptProvider scriptProvider;
+    private String exportedFunction;
+    private boolean deferredConversion;
+    private int contextPoolSize = Runtime.getRuntime().availableProcessors();
 
     public JavascriptWorkflowBuilder name(String name) {
       this.name = name;
@@ -257,14 +444,56 @@ public class JavascriptWorkflow extends AbstractWorkflow implements WorkflowCont
       return this;
     }
 
+    /**
+     * Evaluates the module once per pooled context and invokes this export on each execution,
+     * passing the {@code ctx} proxy as its only argument.
+     *
+     * @param exportedFunction name of a function exported by the script module
+     * @return this builder
+     */
+    public JavascriptWorkflowBuilder exportedFunction(String exportedFunction) {
+      this.exportedFunction = exportedFunction;
+      return this;
+    }
+
+    /**
+     * Defers copying objects and arrays written by the script until it finishes, and copies typed
+     * arrays into primitive arrays; see the class documentation for the semantics.
+     *
+     * @param deferredConversion true to defer conversion until the script finishes
+     * @return this builder
+     */
+    public JavascriptWorkflowBuilder deferredConversion(boolean deferredConversion) {
+      this.deferredConversion = deferredConversion;
+      return this;
+    }
+
+    /**
+     * Sets how many idle contexts are kept for reuse in exported function mode. Concurrent
+     * executions beyond this create extra contexts, which are closed after use.
+     *
+     * @param contextPoolSize maximum idle contexts; defaults to the number of processors
+     * @return this builder
+     * @throws IllegalArgumentException if contextPoolSize is not positive
+     */
+    public JavascriptWorkflowBuilder contextPoolSize(int contextPoolSize) {
+      ValidationUtils.requirePositive(contextPoolSize, "contextPoolSize");
+      this.contextPoolSize = contextPoolSize;
+      return this;
+    }
+
     /**
      * Validates and builds the JavascriptWorkflow.
      *
      * @return a configured JavascriptWorkflow instance
      * @throws NullPointerException if scriptProvider is null
+     * @throws IllegalArgumentException if exportedFunction is set but blank
      */
     public JavascriptWorkflow build() {
       ValidationUtils.requireNonNull(scriptProvider, "scriptProvider");
+      if (exportedFunction != null) {
+        ValidationUtils.requireNonBlank(exportedFunction, "exportedFunction");
+      }
       return new JavascriptWorkflow(this);
     }
   }
@@ -290,4 +519,45 @@ public class JavascriptWorkflow extends AbstractWorkflow implements WorkflowCont
       return delegate.get(key);
     }
   }
+
+  /**
+   * Context proxy used with {@link JavascriptWorkflowBuilder#deferredConversion(boolean)}: objects
+   * and arrays are held as views over the JavaScript value, visible only to the script, and copied
+   * into the workflow context when the script finishes.
+   */
+  public static final class DeferredPolyglotContextProxy {
+    private final WorkflowContext delegate;
+
+    /**
+     * Views written during this execution, by key. They stay here rather than in the delegate,
+     * which other threads may read while the polyglot context is in use.
+     */
+    private final Map<String, Object> views = new LinkedHashMap<>();
+
+    public DeferredPolyglotContextProxy(WorkflowContext delegate) {
+      this.delegate = delegate;
+    }
+
+    public void put(String key, Object value) {
+      Object converted = PolyglotMapper.toJavaLazy(Value.asValue(value));
+      if (PolyglotMapper.unwrap(converted) != null) {
+        views.put(key, converted);
+      } else {
+        views.remove(key);
+        delegate.put(key, converted);
+      }
+    }
+
+    public Object get(String key) {
+      // Hand views back as the original JS object instead of a Java wrapper
+      Value original = PolyglotMapper.unwrap(views.get(key));
+      return original != null ? original : delegate.get(key);
+    }
+
+    /** Copies the views left by the script into the workflow context. */
+    private void seal() {
+      views.forEach((key, view) -> delegate.put(key, PolyglotMapper.materialize(view)));
+      views.clear();
+    }
+  }
 }
@@ -1,6 +1,9 @@
 package com.workflow;
 
+import com.workflow.context.ContextMergePolicy;
+import com.workflow.context.LayeredWorkflowContext;
 import com.workflow.context.WorkflowContext;
+import com.workflow.execution.strategy.ExecutionStrategies;
 import com.workflow.execution.strategy.ExecutionStrategy;
 import com.workflow.execution.strategy.ThreadPoolExecutionStrategy;
 import com.workflow.helper.FutureUtils;
@@ -13,8 +16,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.function.IntPredicate;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Executes a list of child {@link Workflow}s in parallel using a configurable {@link
@@ -52,11 +62,16 @@ import lombok.extern.slf4j.Slf4j;
  *   </tr>
  *   <tr>
  *     <td>shareContext=false</td>
- *     <td>Each workflow gets context copy</td>
+ *     <td>Each workflow gets an O(1) copy-on-write fork</td>
  *     <td>Independent workflows, isolation needed</td>
  *   </tr>
  * </table>
  *
+ * <p>With isolated contexts, {@link ContextMergePolicy} decides whether the writes of successful
+ * children are published back into the parent context (default: discarded). Isolation applies to
+ * writes only: a fork is not a snapshot, and keys a child has not written read the parent's
+ * current value, including writes other workflows make to the parent while the children run.
+ *
  * <p><b>Fail-Fast Modes:</b>
  *
  * <table border="1">
@@ -75,8 +90,20 @@ import lombok.extern.slf4j.Slf4j;
  *     <td>Let all workflows complete</td>
  *     <td>Collect all results/errors</td>
  *   </tr>
+ *   <tr>
+ *     <td>joinPolicy=SHUTDOWN_ON_SUCCESS</td>
+ *     <td>First success wins, cancel the rest</td>
+ *     <td>Redundant calls, racing replicas</td>
+ *   </tr>
  * </table>
  *
+ * <p><b>Cancellation:</b> With the built-in thread pool and virtual thread strategies, cancelling a
+ * sibling interrupts the thread running it, so blocking I/O, sleeps and nested workflows stop
+ * instead of running to completion. If the thread running {@link #execute(WorkflowContext)} is
+ * itself interrupted, every child is cancelled the same way before FAILED is returned, so
+ * cancellation propagates down the whole tree. Children must respond to interruption for this to
+ * take effect.
+ *
  * <p><b>Thread Safety:</b> This workflow is thread-safe. The {@link WorkflowContext} is thread-safe
  * when shared. Child workflows must be thread-safe.
  *
@@ -134,7 +161,8 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Use failFast=true to save resources when any failure invalidates the entire operation
  *   <li>Use shareContext=false when workflows are truly independent to avoid contention
  *   <li>Choose execution strategy based on your workload (IO-bound vs CPU-bound)
- *   <li>Default {@link ThreadPoolExecutionStrategy} uses cached thread pool (grows as needed)
+ *   <li>Default strategy is the engine-wide shared {@link ExecutionStrategies#getDefault()}
+ *       (virtual threads), so no pool is created per workflow definition
  * </ul>
  *
  * <p><b>Error Handling:</b> If any workflow fails, the overall result is FAILED. The error from the
@@ -143,6 +171,7 @@ import lombok.extern.slf4j.Slf4j;
  *
  * @see Workflow
  * @see ExecutionStrategy
+ * @see ExecutionStrategies
  * @see ThreadPoolExecutionStrategy
  * @see SequentialWorkflow
  * @see TimeoutWorkflow
@@ -153,12 +182,22 @@ public class ParallelWorkflow extends AbstractWorkflow implements WorkflowContai
   private final List<Workflow> workflows;
 
   /**
-   * Whether to cancel all workflows when the first one fails.
+   * How the children are joined.
    *
-   * <p>Default: false (wait for all to complete)
+   * <p>Default: {@link JoinPolicy#AWAIT_ALL}
    */
+  private final JoinPolicy joinPolicy;
+
+  /** Whether to cancel all workflows when the first one fails. */
   private final boolean failFast;
 
+  /**
+   * What happens to the writes of isolated children; only used when shareContext is false.
+   *
+   * <p>Default: {@link ContextMergePolicy#DISCARD}
+   */
+  private final ContextMergePolicy mergePolicy;
+
   /**
    * Whether all workflows share the same context instance.
    *
@@ -169,18 +208,34 @@ public class ParallelWorkflow extends AbstractWorkflow implements WorkflowContai
   /**
    * The strategy used to execute workflows concurrently.
    *
-   * <p>Default: {@link ThreadPoolExecutionStrategy}
+   * <p>Default: the shared {@link ExecutionStrategies#getDefault()}
    */
   private final ExecutionStrategy executionStrategy;
 
+  /**
+   * Maximum number of children subscribed at once by {@link #executeReactive(WorkflowContext)}.
+   *
+   * <p>Default: 0 (all children at once)
+   */
+  private final int reactiveConcurrency;
+
+  /** Scheduler view of {@link #executionStrategy} used to subscribe children reactively. */
+  private final Scheduler scheduler;
+
   /** Internal constructor for the builder. */
   private ParallelWorkflow(ParallelWorkflowBuilder builder) {
     this.name = builder.name;
     this.workflows = builder.workflows;
-    this.failFast = builder.failFast;
+    this.joinPolicy = builder.joinPolicy;
+    this.failFast = builder.joinPolicy == JoinPolicy.SHUTDOWN_ON_FAILURE;
     this.shareContext = builder.shareContext;
+    this.mergePolicy = builder.mergePolicy;
     this.executionStrategy =
         Objects.requireNonNull(builder.executionStrategy, "executionStrategy must not be null");
+    this.reactiveConcurrency = builder.reactiveConcurrency;
+    ExecutionStrategy strategy = this.executionStrategy;
+    this.scheduler =
+        Schedulers.fromExecutor(command -> strategy.submit(Executors.callable(command)));
   }
 
   /**
@@ -192,8 +247,9 @@ public class ParallelWorkflow extends AbstractWorkflow implements WorkflowContai
    *   <li>Returns SUCCESS immediately if the workflow list is empty
    *   <li>Submits all workflows to the execution strategy
    *   <li>Creates context copies if shareContext=false
-   *   <li>Waits for all futures to complete using {@link FutureUtils}
-   *   <li>Returns SUCCESS if all complete successfully, FAILED otherwise
+   *   <li>Waits for the futures according to the {@link JoinPolicy} using {@link FutureUtils}
+   *   <li>Returns SUCCESS if the join succeeds, FAILED otherwise
+   *   <li>Cancels every child and returns FAILED if the calling thread is interrupted
    * </ol>
    *
    * @param context the workflow context; shared or copied based on shareContext setting
@@ -207,27 +263,192 @@ public class ParallelWorkflow extends AbstractWorkflow implements WorkflowContai
       return execContext.success();
     }
 
+    List<LayeredWorkflowContext> forks = new ArrayList<>();
     List<CompletableFuture<WorkflowResult>> futures = new ArrayList<>();
     for (Workflow workflow : workflows) {
-      WorkflowContext executionContext = shareContext ? context : context.copy();
+      WorkflowContext executionContext = childContext(context, forks);
       futures.add(executionStrategy.submit(() -> workflow.execute(executionContext)));
     }
 
-    AtomicReference<Throwable> errorRef = new AtomicReference<>(null);
-    CompletableFuture<Void> allFutures = FutureUtils.allOf(futures, failFast);
-    allFutures.whenComplete(
-        (_, ex) -> {
-          if (ex != null) {
-            errorRef.set(ex);
-          }
-        });
-    allFutures.join(); // Wait for all to complete
-
-    if (errorRef.get() != null) {
-      log.error("One or more workflows failed in ParallelWorkflow: {}", getName(), errorRef.get());
-      return execContext.failure(errorRef.get());
+    try {
+      join(futures).get(); // Wait according to the join policy
+    } catch (InterruptedException e) {
+      // Propagate cancellation down the tree before giving up
+      futures.forEach(FutureUtils::cancelFuture);
+      Thread.currentThread().interrupt();
+      log.warn("ParallelWorkflow {} was interrupted, cancelled its children", getName());
+      return execContext.failure(e);
+    } catch (ExecutionException e) {
+      log.error("One or more workflows failed in ParallelWorkflow: {}", getName(), e.getCause());
+      return execContext.failure(e.getCause());
     }
-    return execContext.success();
+    return merge(forks, i -> succeeded(futures.get(i)), execContext);
+  }
+
+  /**
+   * Executes all child workflows in parallel without parking the calling thread.
+   *
+   * <p>Each child is started on the configured {@link ExecutionStrategy} via its {@link
+   * Workflow#executeAsync(WorkflowContext)} stage, and the combined stage completes once {@link
+   * FutureUtils#allOf(List, boolean)} does. Fail-fast and context sharing behave exactly as in
+   * {@link #doExecute(WorkflowContext, ExecutionContext)}. Fail-fast cancels each losing child's
+   * own stage, and cancelling the returned stage cancels every child, so the cancellation reaches
+   * the strategy's future and interrupts a child still running on it.
+   *
+   * @param context the workflow context; shared or copied based on shareContext setting
+   * @param execContext execution context for building results
+   * @return a stage completing with SUCCESS if all workflows succeed, FAILED otherwise
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    if (workflows.isEmpty()) {
+      log.debug("No workflows to execute in ParallelWorkflow: {}", getName());
+      return CompletableFuture.completedFuture(execContext.success());
+    }
+
+    List<LayeredWorkflowContext> forks = new ArrayList<>();
+    List<CompletableFuture<WorkflowResult>> futures = new ArrayList<>();
+    for (Workflow workflow : workflows) {
+      WorkflowContext executionContext = childContext(context, forks);
+      // Flattened so that cancelling a child reaches the child's own stage, not just a copy
+      futures.add(
+          FutureUtils.flatten(
+              executionStrategy.submit(() -> workflow.executeAsync(executionContext))));
+    }
+
+    CompletableFuture<WorkflowResult> result =
+        join(futures)
+            .handle(
+                (_, ex) -> {
+                  if (ex != null) {
+                    Throwable error = FutureUtils.unwrap(ex);
+                    log.error(
+                        "One or more workflows failed in ParallelWorkflow: {}", getName(), error);
+                    return execContext.failure(error);
+                  }
+                  return merge(forks, i -> succeeded(futures.get(i)), execContext);
+                });
+    return FutureUtils.propagateCancellation(result, futures);
+  }
+
+  /** Returns the shared context, or a new fork recorded in {@code forks} when isolating. */
+  private WorkflowContext childContext(
+      WorkflowContext context, List<LayeredWorkflowContext> forks) {
+    if (shareContext) {
+      return context;
+    }
+    LayeredWorkflowContext fork = context.fork();
+    forks.add(fork);
+    return fork;
+  }
+
+  private static boolean succeeded(CompletableFuture<WorkflowResult> future) {
+    return future.isDone()
+        && !future.isCompletedExceptionally()
+        && future.join() != null
+        && future.join().getStatus() != WorkflowStatus.FAILED;
+  }
+
+  /**
+   * Applies the merge policy to the forks of the children accepted by {@code succeeded} and
+   * returns SUCCESS, or FAILED if the policy rejects the merge.
+   */
+  private WorkflowResult merge(
+      List<LayeredWorkflowContext> forks, IntPredicate succeeded, ExecutionContext execContext) {
+    if (forks.isEmpty() || mergePolicy == ContextMergePolicy.DISCARD) {
+      return execContext.success();
+    }
+    List<LayeredWorkflowContext> merged = new ArrayList<>();
+    for (int i = 0; i < forks.size(); i++) {
+      if (succeeded.test(i)) {
+        merged.add(forks.get(i));
+      }
+    }
+    try {
+      mergePolicy.merge(merged);
+      return execContext.success();
+    } catch (IllegalStateException e) {
+      log.error("Could not merge child contexts in ParallelWorkflow: {}", getName(), e);
+      return execContext.failure(e);
+    }
+  }
+
+  private CompletableFuture<?> join(List<CompletableFuture<WorkflowResult>> futures) {
+    return joinPolicy == JoinPolicy.SHUTDOWN_ON_SUCCESS
+        ? FutureUtils.anySuccessful(futures)
+        : FutureUtils.allOf(futures, failFast);
+  }
+
+  /**
+   * Executes all child workflows in parallel as a Reactor pipeline using {@link Flux#merge}.
+   *
+   * <p>Each child is subscribed on the configured {@link ExecutionStrategy}, with at most {@code
+   * reactiveConcurrency} children in flight (all of them when unset). With failFast=true the first
+   * FAILED child cancels the subscriptions of the others and of those not yet started; with
+   * SHUTDOWN_ON_SUCCESS the first successful child does. Otherwise all children run and the first
+   * failure in completion order is reported.
+   *
+   * @param context the workflow context; shared or copied based on shareContext setting
+   * @param execContext execution context for building results
+   * @return a mono emitting SUCCESS if all workflows succeed, FAILED otherwise
+   */
+  @Override
+  protected Mono<WorkflowResult> doExecuteReactive(
+      WorkflowContext context, ExecutionContext execContext) {
+    if (workflows.isEmpty()) {
+      log.debug("No workflows to execute in ParallelWorkflow: {}", getName());
+      return Mono.fromSupplier(execContext::success);
+    }
+
+    int concurrency = reactiveConcurrency > 0 ? reactiveConcurrency : workflows.size();
+    List<LayeredWorkflowContext> forks = new ArrayList<>();
+    List<WorkflowContext> contexts =
+        workflows.stream().map(_ -> childContext(context, forks)).toList();
+    WorkflowResult[] outcomes = new WorkflowResult[workflows.size()];
+    IntPredicate succeeded =
+        i -> outcomes[i] != null && outcomes[i].getStatus() != WorkflowStatus.FAILED;
+
+    Flux<WorkflowResult> results =
+        Flux.merge(
+                Flux.range(0, workflows.size())
+                    .map(
+                        i ->
+                            Mono.defer(() -> workflows.get(i).executeReactive(contexts.get(i)))
+                                .subscribeOn(scheduler)
+                                .onErrorResume(e -> Mono.just(execContext.failure(e)))
+                                .doOnNext(result -> outcomes[i] = result)),
+                concurrency);
+
+    if (joinPolicy == JoinPolicy.SHUTDOWN_ON_SUCCESS) {
+      return results
+          .takeUntil(result -> result.getStatus() != WorkflowStatus.FAILED)
+          .collectList()
+          .map(
+              list ->
+                  list.getLast().getStatus() != WorkflowStatus.FAILED
+                      ? merge(forks, succeeded, execContext)
+                      : reactiveFailure(list.getFirst(), execContext));
+    }
+
+    Flux<WorkflowResult> failures =
+        results.filter(result -> result.getStatus() == WorkflowStatus.FAILED);
+    Mono<WorkflowResult> firstFailure =
+        failFast
+            ? failures.next()
+            : failures.collectList().filter(list -> !list.isEmpty()).map(List::getFirst);
+    return firstFailure
+        .map(result -> reactiveFailure(result, execContext))
+        .switchIfEmpty(Mono.fromSupplier(() -> merge(forks, succeeded, execContext)));
+  }
+
+  private WorkflowResult reactiveFailure(WorkflowResult result, ExecutionContext execContext) {
+    Throwable error =
+        result.getError() != null
+            ? result.getError()
+            : new RuntimeException("Workflow failed with no error details");
+    log.error("One or more workflows failed in ParallelWorkflow: {}", getName(), error);
+    return execContext.failure(error);
   }
 
   /**
@@ -275,9 +496,11 @@ public class ParallelWorkflow extends AbstractWorkflow implements WorkflowContai
   public static class ParallelWorkflowBuilder {
     private String name;
     private final List<Workflow> workflows = new ArrayList<>();
-    private boolean failFast = false;
+    private JoinPolicy joinPolicy = JoinPolicy.AWAIT_ALL;
     private boolean shareContext = true;
-    private ExecutionStrategy executionStrategy = new ThreadPoolExecutionStrategy();
+    private ContextMergePolicy mergePolicy = ContextMergePolicy.DISCARD;
+    private ExecutionStrategy executionStrategy = ExecutionStrategies.getDefault();
+    private int reactiveConcurrency = 0;
 
     /**
      * Sets the name of the parallel workflow.
@@ -347,18 +570,35 @@ public class ParallelWorkflow extends AbstractWorkflow implements WorkflowContai
     /**
      * Sets whether to cancel all workflows when the first one fails.
      *
+     * <p>Shorthand for {@code joinPolicy(SHUTDOWN_ON_FAILURE)} or {@code joinPolicy(AWAIT_ALL)};
+     * the last call of either method wins.
+     *
      * @param failFast true to stop on first failure, false (default) to wait for all
      * @return this builder
      */
     public ParallelWorkflowBuilder failFast(boolean failFast) {
-      this.failFast = failFast;
+      this.joinPolicy = failFast ? JoinPolicy.SHUTDOWN_ON_FAILURE : JoinPolicy.AWAIT_ALL;
+      return this;
+    }
+
+    /**
+     * Sets how the children are joined.
+     *
+     * @param joinPolicy the join policy; {@link JoinPolicy#AWAIT_ALL} by default
+     * @return this builder
+     */
+    public ParallelWorkflowBuilder joinPolicy(JoinPolicy joinPolicy) {
+      this.joinPolicy = joinPolicy;
       return this;
     }
 
     /**
      * Sets whether all workflows share the same context instance.
      *
-     * @param shareContext true for shared context (default), false for isolated copies
+     * <p>Isolated children each get an O(1) {@link WorkflowContext#fork()} rather than a full copy.
+     * Their writes stay private, but unwritten keys read the parent's current value.
+     *
+     * @param shareContext true for shared context (default), false for isolated forks
      * @return this builder
      */
     public ParallelWorkflowBuilder shareContext(boolean shareContext) {
@@ -366,9 +606,24 @@ public class ParallelWorkflow extends AbstractWorkflow implements WorkflowContai
       return this;
     }
 
+    /**
+     * Sets what happens to the writes of isolated children when the workflow succeeds. Only the
+     * forks of children that completed successfully are merged; ignored when the context is
+     * shared.
+     *
+     * @param mergePolicy the merge policy; {@link ContextMergePolicy#DISCARD} by default
+     * @return this builder
+     */
+    public ParallelWorkflowBuilder mergePolicy(ContextMergePolicy mergePolicy) {
+      this.mergePolicy = mergePolicy;
+      return this;
+    }
+
     /**
      * Sets the strategy used to execute workflows concurrently.
      *
+     * <p>If not provided, the shared {@link ExecutionStrategies#getDefault()} is used.
+     *
      * @param executionStrategy the concurrent execution strategy
      * @return this builder
      */
@@ -377,15 +632,50 @@ public class ParallelWorkflow extends AbstractWorkflow implements WorkflowContai
       return this;
     }
 
+    /**
+     * Sets the maximum number of children subscribed at once when the workflow runs through {@link
+     * Workflow#executeReactive(WorkflowContext)}. Children beyond the limit are subscribed as
+     * earlier ones complete.
+     *
+     * @param reactiveConcurrency the concurrency limit; {@code 0} (default) for all children
+     * @return this builder
+     * @throws IllegalArgumentException if reactiveConcurrency is negative
+     */
+    public ParallelWorkflowBuilder reactiveConcurrency(int reactiveConcurrency) {
+      ValidationUtils.requireNonNegative(reactiveConcurrency, "reactiveConcurrency");
+      this.reactiveConcurrency = reactiveConcurrency;
+      return this;
+    }
+
     /**
      * Builds and returns a new {@link ParallelWorkflow}.
      *
      * @return a configured ParallelWorkflow instance
-     * @throws NullPointerException if executionStrategy is null
+     * @throws NullPointerException if executionStrategy, joinPolicy or mergePolicy is null
      */
     public ParallelWorkflow build() {
       ValidationUtils.requireNonNull(executionStrategy, "executionStrategy");
+      ValidationUtils.requireNonNull(joinPolicy, "joinPolicy");
+      ValidationUtils.requireNonNull(mergePolicy, "mergePolicy");
       return new ParallelWorkflow(this);
     }
   }
+
+  /**
+   * How a {@link ParallelWorkflow} waits for its children, modelled on structured concurrency
+   * scopes.
+   */
+  public enum JoinPolicy {
+    /** Wait for every child; FAILED if any child failed. */
+    AWAIT_ALL,
+
+    /** Cancel the remaining children as soon as one fails; FAILED with that child's error. */
+    SHUTDOWN_ON_FAILURE,
+
+    /**
+     * Cancel the remaining children as soon as one succeeds; SUCCESS unless every child failed, in
+     * which case FAILED with the first child's error.
+     */
+    SHUTDOWN_ON_SUCCESS
+  }
 }
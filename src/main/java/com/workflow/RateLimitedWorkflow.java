@@ -1,13 +1,21 @@
 package com.workflow;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.execution.strategy.ExecutionStrategies;
+import com.workflow.helper.FutureUtils;
 import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
 import com.workflow.ratelimit.RateLimitStrategy;
+import com.workflow.task.executor.DeadlineTimer;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * Workflow wrapper that applies rate limiting to the execution of an inner workflow.
@@ -143,6 +151,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Builder
 public class RateLimitedWorkflow extends AbstractWorkflow implements WorkflowContainer {
+  /**
+   * First delay between non-blocking permit attempts when the limiter cannot tell when its next
+   * permit is due; doubled on each failed attempt up to {@link #MAX_PERMIT_RETRY_MS}.
+   */
+  private static final long ASYNC_PERMIT_RETRY_MS = 5;
+
+  private static final long MAX_PERMIT_RETRY_MS = 100;
+
+  /** Shortest delay between attempts, for when another caller takes the permit that was due. */
+  private static final long MIN_PERMIT_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
   private final String name;
   private final Workflow workflow;
   private final RateLimitStrategy rateLimitStrategy;
@@ -194,6 +213,109 @@ public class RateLimitedWorkflow extends AbstractWorkflow implements WorkflowCon
     }
   }
 
+  /**
+   * Executes the inner workflow asynchronously once a permit is available.
+   *
+   * <p>Instead of blocking in {@link RateLimitStrategy#acquire()}, permits are requested with
+   * {@link RateLimitStrategy#tryAcquire()}. While the limit is exhausted, the next attempt is
+   * scheduled for when {@link RateLimitStrategy#nanosUntilNextPermit()} says a permit is due, so
+   * waiting callers wake together with blocked ones rather than polling ahead of them. Limiters
+   * that cannot tell are retried with an exponential backoff. Attempts are timed on the shared
+   * {@link DeadlineTimer} and run on the default {@link ExecutionStrategies#defaultExecutor()
+   * executor}, which also starts the inner workflow. No thread is parked while waiting, and
+   * cancelling the returned stage stops the attempts and cancels the inner workflow's stage.
+   *
+   * @param context the workflow context passed to the inner workflow
+   * @param execContext execution context for building results
+   * @return a stage completing with the result from the inner workflow
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(rateLimitStrategy, "rateLimitStrategy must not be null");
+    Objects.requireNonNull(workflow, "workflow must not be null");
+
+    log.debug("Acquiring rate limit permission for workflow: {}", getName());
+    CompletableFuture<Void> permit = new CompletableFuture<>();
+    tryAcquireAsync(permit, 0);
+    CompletableFuture<WorkflowResult> result =
+        FutureUtils.flatten(
+            permit.thenApply(
+                _ -> {
+                  log.debug("Rate limit permission acquired for workflow: {}", getName());
+                  return workflow.executeAsync(context);
+                }));
+    return FutureUtils.propagateCancellation(result, List.of(permit));
+  }
+
+  private void tryAcquireAsync(CompletableFuture<Void> permit, long attempt) {
+    if (permit.isDone()) {
+      return; // Cancelled while waiting
+    }
+    try {
+      if (rateLimitStrategy.tryAcquire()) {
+        permit.complete(null);
+      } else {
+        // The timer thread only hands off, so the inner workflow starts on the default strategy
+        DeadlineTimer.shared()
+            .schedule(
+                () ->
+                    ExecutionStrategies.defaultExecutor()
+                        .execute(() -> tryAcquireAsync(permit, attempt + 1)),
+                retryDelayNanos(attempt),
+                TimeUnit.NANOSECONDS);
+      }
+    } catch (Exception e) {
+      permit.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Returns the delay before the next permit attempt: until the limiter's next permit if it can
+   * tell, otherwise an exponential backoff from {@link #ASYNC_PERMIT_RETRY_MS}.
+   */
+  private long retryDelayNanos(long attempt) {
+    long waitNanos = rateLimitStrategy.nanosUntilNextPermit();
+    if (waitNanos >= 0) {
+      return Math.max(waitNanos, MIN_PERMIT_RETRY_NANOS);
+    }
+    long backoffMs = ASYNC_PERMIT_RETRY_MS << Math.min(attempt, 5);
+    return TimeUnit.MILLISECONDS.toNanos(Math.min(backoffMs, MAX_PERMIT_RETRY_MS));
+  }
+
+  /**
+   * Executes the wrapped workflow as a Reactor pipeline once a permit is available.
+   *
+   * <p>The permit is requested with {@link RateLimitStrategy#tryAcquire()} and retried after a
+   * {@link Mono#delay(Duration)} timed like the attempts in {@link #doExecuteAsync(WorkflowContext,
+   * ExecutionContext)}, so waiting for capacity never blocks a thread. Cancelling the subscription
+   * while waiting stops the attempts without consuming a permit.
+   *
+   * @param context the workflow context passed to the inner workflow
+   * @param execContext execution context for building results
+   * @return a mono emitting the result from the inner workflow
+   */
+  @Override
+  protected Mono<WorkflowResult> doExecuteReactive(
+      WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(rateLimitStrategy, "rateLimitStrategy must not be null");
+    Objects.requireNonNull(workflow, "workflow must not be null");
+
+    log.debug("Acquiring rate limit permission for workflow: {}", getName());
+    return Mono.fromCallable(rateLimitStrategy::tryAcquire)
+        .filter(Boolean::booleanValue)
+        .repeatWhenEmpty(
+            attempts ->
+                attempts.concatMap(
+                    attempt -> Mono.delay(Duration.ofNanos(retryDelayNanos(attempt)))))
+        .then(
+            Mono.defer(
+                () -> {
+                  log.debug("Rate limit permission acquired for workflow: {}", getName());
+                  return workflow.executeReactive(context);
+                }));
+  }
+
   /**
    * Returns the workflow name.
    *
@@ -1,5 +1,6 @@
 package com.workflow;
 
+import com.workflow.context.TypedKey;
 import com.workflow.context.WorkflowContext;
 import com.workflow.helper.TreeRenderer;
 import com.workflow.helper.ValidationUtils;
@@ -56,6 +57,7 @@ public class RepeatWorkflow extends AbstractWorkflow implements WorkflowContaine
   private final String name;
   private final int times;
   private final String indexVariable;
+  private final TypedKey<Integer> indexKey;
   private final Workflow workflow;
 
   @Builder
@@ -66,6 +68,7 @@ public class RepeatWorkflow extends AbstractWorkflow implements WorkflowContaine
     this.times = times;
     this.indexVariable =
         indexVariable != null && !indexVariable.isBlank() ? indexVariable : DEFAULT_INDEX_VARIABLE;
+    this.indexKey = TypedKey.of(this.indexVariable, Integer.class);
     this.workflow = workflow;
   }
 
@@ -82,7 +85,7 @@ public class RepeatWorkflow extends AbstractWorkflow implements WorkflowContaine
       log.debug("Executing iteration {} of {}", i + 1, times);
 
       // Set the iteration index in context
-      context.put(indexVariable, i);
+      context.put(indexKey, i);
 
       // Execute the child workflow
       WorkflowResult result = workflow.execute(context);
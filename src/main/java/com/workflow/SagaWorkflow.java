@@ -2,6 +2,7 @@ package com.workflow;
 
 import com.workflow.context.WorkflowContext;
 import com.workflow.exception.SagaCompensationException;
+import com.workflow.helper.FutureUtils;
 import com.workflow.helper.TreeRenderer;
 import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
@@ -10,6 +11,8 @@ import com.workflow.task.Task;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -169,22 +172,8 @@ public class SagaWorkflow extends AbstractWorkflow implements WorkflowContainer
       log.debug("Executing saga step: {}", step.getName());
       WorkflowResult stepResult = step.getAction().execute(context);
 
-      if (stepResult == null) {
-        String errorMsg =
-            String.format(
-                "Saga step '%s' action returned null result in SagaWorkflow '%s'",
-                step.getName(), getName());
-        log.error(errorMsg);
-        Throwable error = new IllegalStateException(errorMsg);
-        return compensateAndFail(context, execContext, completedSteps, step.getName(), error);
-      }
-
-      if (stepResult.getStatus() == WorkflowStatus.FAILED) {
-        log.error("Saga step '{}' failed, initiating compensation", step.getName());
-        Throwable error =
-            stepResult.getError() != null
-                ? stepResult.getError()
-                : new RuntimeException("Step " + step.getName() + " failed without error details");
+      Throwable error = stepError(step, stepResult);
+      if (error != null) {
         return compensateAndFail(context, execContext, completedSteps, step.getName(), error);
       }
 
@@ -197,6 +186,78 @@ public class SagaWorkflow extends AbstractWorkflow implements WorkflowContainer
     return execContext.success();
   }
 
+  /**
+   * Executes the saga asynchronously: each step's action stage is chained onto the previous one
+   * and, on failure, compensation stages are chained in reverse order. Semantics are identical to
+   * {@link #doExecute(WorkflowContext, ExecutionContext)}. Cancelling the returned stage cancels
+   * the running action and starts no further steps; compensations already under way run to the end.
+   *
+   * @param context the workflow context shared across all steps and compensations
+   * @param execContext execution context for building results
+   * @return a stage completing with SUCCESS if all steps succeed, FAILED otherwise
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    if (steps.isEmpty()) {
+      log.debug("No steps to execute in SagaWorkflow: {}", getName());
+      return CompletableFuture.completedFuture(execContext.success());
+    }
+    return executeStepAsync(0, context, execContext, new ArrayList<>());
+  }
+
+  private CompletionStage<WorkflowResult> executeStepAsync(
+      int index,
+      WorkflowContext context,
+      ExecutionContext execContext,
+      List<SagaStep> completedSteps) {
+    if (index >= steps.size()) {
+      log.info("All {} saga steps completed successfully", steps.size());
+      return CompletableFuture.completedFuture(execContext.success());
+    }
+
+    SagaStep step = steps.get(index);
+    log.debug("Executing saga step: {}", step.getName());
+    CompletableFuture<WorkflowResult> action =
+        step.getAction().executeAsync(context).toCompletableFuture();
+    return FutureUtils.propagateCancellation(
+        FutureUtils.flatten(
+            action.thenApply(
+                stepResult -> {
+                  Throwable error = stepError(step, stepResult);
+                  if (error != null) {
+                    return compensateAndFailAsync(
+                        context, execContext, completedSteps, step.getName(), error);
+                  }
+                  completedSteps.add(step);
+                  log.debug("Saga step '{}' completed successfully", step.getName());
+                  return executeStepAsync(index + 1, context, execContext, completedSteps);
+                })),
+        List.of(action));
+  }
+
+  /**
+   * Returns the error that makes a step result a failure, or {@code null} if the step succeeded.
+   */
+  private Throwable stepError(SagaStep step, WorkflowResult stepResult) {
+    if (stepResult == null) {
+      String errorMsg =
+          String.format(
+              "Saga step '%s' action returned null result in SagaWorkflow '%s'",
+              step.getName(), getName());
+      log.error(errorMsg);
+      return new IllegalStateException(errorMsg);
+    }
+
+    if (stepResult.getStatus() == WorkflowStatus.FAILED) {
+      log.error("Saga step '{}' failed, initiating compensation", step.getName());
+      return stepResult.getError() != null
+          ? stepResult.getError()
+          : new RuntimeException("Step " + step.getName() + " failed without error details");
+    }
+    return null;
+  }
+
   /**
    * Executes compensations for completed steps in reverse order.
    *
@@ -218,9 +279,7 @@ public class SagaWorkflow extends AbstractWorkflow implements WorkflowContainer
     context.put(SAGA_FAILURE_CAUSE, originalError);
     context.put(SAGA_FAILED_STEP, failedStepName);
 
-    List<Throwable> compensationErrors = new ArrayList<>();
-    int compensationsAttempted = 0;
-    int compensationsSucceeded = 0;
+    CompensationTally tally = new CompensationTally();
 
     // Compensate in reverse order
     for (int i = completedSteps.size() - 1; i >= 0; i--) {
@@ -231,56 +290,126 @@ public class SagaWorkflow extends AbstractWorkflow implements WorkflowContainer
         continue;
       }
 
-      compensationsAttempted++;
+      tally.attempted++;
       log.info("Executing compensation for saga step: {}", step.getName());
 
       try {
-        WorkflowResult compensationResult = step.getCompensation().execute(context);
-
-        if (compensationResult == null || compensationResult.getStatus() == WorkflowStatus.FAILED) {
-          Throwable compError =
-              compensationResult != null && compensationResult.getError() != null
-                  ? compensationResult.getError()
-                  : new RuntimeException(
-                      "Compensation for step '" + step.getName() + "' failed without error");
-          log.error(
-              "Compensation for step '{}' failed: {}", step.getName(), compError.getMessage());
-          compensationErrors.add(compError);
-        } else {
-          compensationsSucceeded++;
-          log.info("Compensation for step '{}' completed successfully", step.getName());
-        }
+        recordCompensation(step, step.getCompensation().execute(context), tally);
       } catch (Exception e) {
-        log.error(
-            "Compensation for step '{}' threw exception: {}", step.getName(), e.getMessage(), e);
-        compensationErrors.add(e);
+        recordCompensationException(step, e, tally);
       }
     }
 
+    return finishCompensation(context, execContext, failedStepName, originalError, tally);
+  }
+
+  private CompletionStage<WorkflowResult> compensateAndFailAsync(
+      WorkflowContext context,
+      ExecutionContext execContext,
+      List<SagaStep> completedSteps,
+      String failedStepName,
+      Throwable originalError) {
+    context.put(SAGA_FAILURE_CAUSE, originalError);
+    context.put(SAGA_FAILED_STEP, failedStepName);
+
+    CompensationTally tally = new CompensationTally();
+    return compensateAsync(completedSteps.size() - 1, completedSteps, context, tally)
+        .thenApply(
+            _ -> finishCompensation(context, execContext, failedStepName, originalError, tally));
+  }
+
+  private CompletionStage<Void> compensateAsync(
+      int index, List<SagaStep> completedSteps, WorkflowContext context, CompensationTally tally) {
+    if (index < 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    SagaStep step = completedSteps.get(index);
+    if (!step.hasCompensation()) {
+      log.debug("Saga step '{}' has no compensation, skipping", step.getName());
+      return compensateAsync(index - 1, completedSteps, context, tally);
+    }
+
+    tally.attempted++;
+    log.info("Executing compensation for saga step: {}", step.getName());
+
+    CompletionStage<WorkflowResult> compensationStage;
+    try {
+      compensationStage = step.getCompensation().executeAsync(context);
+    } catch (Exception e) {
+      compensationStage = CompletableFuture.failedFuture(e);
+    }
+    return compensationStage
+        .handle(
+            (compensationResult, ex) -> {
+              if (ex != null) {
+                recordCompensationException(step, FutureUtils.unwrap(ex), tally);
+              } else {
+                recordCompensation(step, compensationResult, tally);
+              }
+              return null;
+            })
+        .thenCompose(_ -> compensateAsync(index - 1, completedSteps, context, tally));
+  }
+
+  private void recordCompensation(
+      SagaStep step, WorkflowResult compensationResult, CompensationTally tally) {
+    if (compensationResult == null || compensationResult.getStatus() == WorkflowStatus.FAILED) {
+      Throwable compError =
+          compensationResult != null && compensationResult.getError() != null
+              ? compensationResult.getError()
+              : new RuntimeException(
+                  "Compensation for step '" + step.getName() + "' failed without error");
+      log.error("Compensation for step '{}' failed: {}", step.getName(), compError.getMessage());
+      tally.errors.add(compError);
+    } else {
+      tally.succeeded++;
+      log.info("Compensation for step '{}' completed successfully", step.getName());
+    }
+  }
+
+  private void recordCompensationException(SagaStep step, Throwable e, CompensationTally tally) {
+    log.error("Compensation for step '{}' threw exception: {}", step.getName(), e.getMessage(), e);
+    tally.errors.add(e);
+  }
+
+  private WorkflowResult finishCompensation(
+      WorkflowContext context,
+      ExecutionContext execContext,
+      String failedStepName,
+      Throwable originalError,
+      CompensationTally tally) {
     // Clean up context
     context.remove(SAGA_FAILURE_CAUSE);
     context.remove(SAGA_FAILED_STEP);
 
     log.info(
         "Saga compensation complete: {}/{} compensations succeeded",
-        compensationsSucceeded,
-        compensationsAttempted);
+        tally.succeeded,
+        tally.attempted);
 
     // Build appropriate exception
     Throwable resultError;
-    if (compensationErrors.isEmpty()) {
+    if (tally.errors.isEmpty()) {
       resultError = originalError;
     } else {
       String message =
           String.format(
               "Saga '%s' failed at step '%s' and %d of %d compensations also failed",
-              getName(), failedStepName, compensationErrors.size(), compensationsAttempted);
-      resultError = new SagaCompensationException(message, originalError, compensationErrors);
+              getName(), failedStepName, tally.errors.size(), tally.attempted);
+      resultError = new SagaCompensationException(message, originalError, tally.errors);
     }
 
     return execContext.failure(resultError);
   }
 
+  /** Mutable counters accumulated while compensating a single saga failure. */
+  private static final class CompensationTally {
+    private final List<Throwable> errors = new ArrayList<>();
+    private int attempted;
+    private int succeeded;
+  }
+
   @Override
   public String getName() {
     return WorkflowSupport.resolveName(name, this);
@@ -1,6 +1,7 @@
 package com.workflow;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.helper.FutureUtils;
 import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
 import com.workflow.task.Task;
@@ -9,7 +10,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Executes a list of child {@link Workflow}s sequentially in the order they were added.
@@ -137,25 +143,130 @@ public class SequentialWorkflow extends AbstractWorkflow implements WorkflowCont
 
     for (Workflow workflow : workflows) {
       log.debug("Executing child workflow: {}", workflow.getName());
-      WorkflowResult result = workflow.execute(context);
-
-      // Null check for safety
-      if (result == null) {
-        String errorMsg =
-            String.format(
-                "Child workflow '%s' returned null result in SequentialWorkflow '%s'",
-                workflow.getName(), getName());
-        log.error(errorMsg);
-        return execContext.failure(new IllegalStateException(errorMsg));
+      WorkflowResult failure = checkChildResult(workflow, workflow.execute(context), execContext);
+      if (failure != null) {
+        return failure;
       }
+    }
+
+    return execContext.success();
+  }
+
+  /**
+   * Executes all child workflows sequentially without blocking, chaining each child's {@link
+   * Workflow#executeAsync(WorkflowContext)} stage onto the previous one.
+   *
+   * <p>Semantics are identical to {@link #doExecute(WorkflowContext, ExecutionContext)}: the chain
+   * stops at the first FAILED or null result. Cancelling the returned stage cancels the running
+   * child and starts no further ones.
+   *
+   * @param context the workflow context shared across all child workflows
+   * @param execContext execution context for building results
+   * @return a stage completing with SUCCESS if all workflows succeed, FAILED otherwise
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    if (workflows.isEmpty()) {
+      log.debug("No workflows to execute in SequentialWorkflow: {}", getName());
+      return CompletableFuture.completedFuture(execContext.success());
+    }
+    return executeFrom(0, context, execContext);
+  }
 
-      if (result.getStatus() == WorkflowStatus.FAILED) {
-        log.error("Child workflow {} failed, stopping sequence", workflow.getName());
-        return execContext.failure(result.getError());
+  /**
+   * Runs the children from {@code index} on. Children whose stage is already complete are handled
+   * in a loop, so long runs of synchronous children do not grow the stack; only a pending child
+   * continues the sequence when it completes.
+   */
+  private CompletionStage<WorkflowResult> executeFrom(
+      int index, WorkflowContext context, ExecutionContext execContext) {
+    for (int i = index; i < workflows.size(); i++) {
+      Workflow workflow = workflows.get(i);
+      log.debug("Executing child workflow: {}", workflow.getName());
+      CompletableFuture<WorkflowResult> child =
+          workflow.executeAsync(context).toCompletableFuture();
+      if (child.isDone() && !child.isCompletedExceptionally()) {
+        WorkflowResult failure = checkChildResult(workflow, child.join(), execContext);
+        if (failure != null) {
+          return CompletableFuture.completedFuture(failure);
+        }
+        continue;
       }
+
+      int next = i + 1;
+      return FutureUtils.propagateCancellation(
+          FutureUtils.flatten(
+              child.thenApply(
+                  result -> {
+                    WorkflowResult failure = checkChildResult(workflow, result, execContext);
+                    return failure != null
+                        ? CompletableFuture.completedFuture(failure)
+                        : executeFrom(next, context, execContext);
+                  })),
+          List.of(child));
     }
+    return CompletableFuture.completedFuture(execContext.success());
+  }
 
-    return execContext.success();
+  /**
+   * Executes all child workflows sequentially as a Reactor pipeline, using {@code concatMap} so
+   * each child is subscribed only after the previous one has completed.
+   *
+   * <p>Semantics are identical to {@link #doExecute(WorkflowContext, ExecutionContext)}: the first
+   * FAILED or empty result ends the sequence and the remaining children are never subscribed.
+   *
+   * @param context the workflow context shared across all child workflows
+   * @param execContext execution context for building results
+   * @return a mono emitting SUCCESS if all workflows succeed, FAILED otherwise
+   */
+  @Override
+  protected Mono<WorkflowResult> doExecuteReactive(
+      WorkflowContext context, ExecutionContext execContext) {
+    if (workflows.isEmpty()) {
+      log.debug("No workflows to execute in SequentialWorkflow: {}", getName());
+      return Mono.fromSupplier(execContext::success);
+    }
+    return Flux.fromIterable(workflows)
+        .concatMap(
+            workflow -> {
+              log.debug("Executing child workflow: {}", workflow.getName());
+              return workflow
+                  .executeReactive(context)
+                  .map(
+                      result ->
+                          Optional.ofNullable(checkChildResult(workflow, result, execContext)))
+                  .switchIfEmpty(
+                      Mono.fromSupplier(
+                          () -> Optional.of(checkChildResult(workflow, null, execContext))));
+            })
+        .filter(Optional::isPresent)
+        .map(Optional::get)
+        .next()
+        .switchIfEmpty(Mono.fromSupplier(execContext::success));
+  }
+
+  /**
+   * Checks a child result, returning the FAILED result that ends the sequence or {@code null} to
+   * continue.
+   */
+  private WorkflowResult checkChildResult(
+      Workflow workflow, WorkflowResult result, ExecutionContext execContext) {
+    // Null check for safety
+    if (result == null) {
+      String errorMsg =
+          String.format(
+              "Child workflow '%s' returned null result in SequentialWorkflow '%s'",
+              workflow.getName(), getName());
+      log.error(errorMsg);
+      return execContext.failure(new IllegalStateException(errorMsg));
+    }
+
+    if (result.getStatus() == WorkflowStatus.FAILED) {
+      log.error("Child workflow {} failed, stopping sequence", workflow.getName());
+      return execContext.failure(result.getError());
+    }
+    return null;
   }
 
   @Override
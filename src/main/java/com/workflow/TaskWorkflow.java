@@ -1,12 +1,16 @@
 package com.workflow;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.helper.FutureUtils;
 import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
 import com.workflow.task.Task;
 import com.workflow.task.TaskDescriptor;
 import com.workflow.task.executor.DefaultTaskExecutor;
 import com.workflow.task.executor.TaskExecutor;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -147,6 +151,19 @@ public class TaskWorkflow extends AbstractWorkflow {
     return executionContext.success();
   }
 
+  /**
+   * Executes the task through {@link TaskExecutor#executeAsync(TaskDescriptor, WorkflowContext)},
+   * so non-blocking tasks such as HTTP calls do not occupy a thread while in flight.
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext executionContext) {
+    CompletableFuture<Void> task =
+        taskExecutor.executeAsync(taskDescriptor, context).toCompletableFuture();
+    return FutureUtils.propagateCancellation(
+        task.thenApply(_ -> executionContext.success()), List.of(task));
+  }
+
   @Override
   public String getName() {
     String name = taskDescriptor.getName();
@@ -2,13 +2,17 @@ package com.workflow;
 
 import com.workflow.context.WorkflowContext;
 import com.workflow.exception.TaskTimeoutException;
+import com.workflow.execution.strategy.ExecutionStrategies;
 import com.workflow.helper.FutureUtils;
 import com.workflow.helper.ValidationUtils;
 import com.workflow.helper.WorkflowSupport;
+import com.workflow.task.executor.DeadlineTimer;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.*;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * Workflow wrapper that applies a timeout to the execution of an inner workflow.
@@ -68,6 +72,15 @@ import lombok.extern.slf4j.Slf4j;
  *     .build();
  * }</pre>
  *
+ * <p><b>Threading:</b> By default the inner workflow is handed to the executor, which is the shared
+ * {@link ExecutionStrategies#defaultExecutor()} unless one is set, and the caller stops waiting at
+ * the deadline, even if the inner workflow ignores the interrupt. With {@link
+ * TimeoutWorkflowBuilder#runOnCallingThread(boolean)}, the inner workflow runs on the calling
+ * thread instead, and a deadline armed on the shared {@link DeadlineTimer} interrupts it when the
+ * timeout elapses, so a timed execution holds one thread rather than a waiting caller plus a
+ * worker. The caller then returns only once the inner workflow does: an inner workflow that
+ * ignores the interrupt is not bounded by the timeout.
+ *
  * <p><b>Interrupt Handling:</b> When a timeout occurs, this workflow attempts to interrupt the
  * execution thread. However, the inner workflow must properly handle interruption by checking
  * {@code Thread.interrupted()} or catching {@code InterruptedException}. Workflows that ignore
@@ -79,6 +92,7 @@ public class TimeoutWorkflow extends AbstractWorkflow implements WorkflowContain
   private final Workflow workflow;
   private final long timeoutMs;
   private final Executor executor;
+  private final boolean runOnCallingThread;
 
   /**
    * Private constructor used by the Builder.
@@ -90,6 +104,7 @@ public class TimeoutWorkflow extends AbstractWorkflow implements WorkflowContain
     this.workflow = builder.workflow;
     this.timeoutMs = builder.timeoutMs;
     this.executor = builder.executor;
+    this.runOnCallingThread = builder.runOnCallingThread;
   }
 
   /**
@@ -98,11 +113,10 @@ public class TimeoutWorkflow extends AbstractWorkflow implements WorkflowContain
    * <p>The implementation:
    *
    * <ol>
-   *   <li>Submits the workflow execution as a Future
-   *   <li>Waits for completion up to the specified timeout
+   *   <li>Submits the workflow to the configured executor and waits for it up to the specified
+   *       timeout, or runs it on the calling thread under a deadline if so configured
    *   <li>Returns the workflow result if completed in time
    *   <li>Interrupts execution and returns FAILED if timeout occurs
-   *   <li>Properly shuts down the executor in all cases
    * </ol>
    *
    * @param context the workflow context passed to the inner workflow
@@ -120,6 +134,10 @@ public class TimeoutWorkflow extends AbstractWorkflow implements WorkflowContain
 
     log.debug("Executing workflow: {} with timeout: {}ms", workflow.getName(), timeoutMs);
 
+    if (runOnCallingThread) {
+      return executeWithDeadline(context, execContext);
+    }
+
     CompletableFuture<WorkflowResult> future =
         CompletableFuture.supplyAsync(() -> workflow.execute(context), executor);
 
@@ -158,6 +176,140 @@ public class TimeoutWorkflow extends AbstractWorkflow implements WorkflowContain
     }
   }
 
+  /** Runs the inner workflow on the calling thread, interrupting it when the timeout elapses. */
+  private WorkflowResult executeWithDeadline(
+      WorkflowContext context, ExecutionContext execContext) {
+    try {
+      WorkflowResult result =
+          DeadlineTimer.shared()
+              .callWithTimeout(() -> workflow.execute(context), timeoutMs, TimeUnit.MILLISECONDS);
+      log.debug(
+          "Workflow: {} completed within timeout: {}ms with status: {}",
+          workflow.getName(),
+          timeoutMs,
+          result.getStatus());
+      return result;
+
+    } catch (TimeoutException e) {
+      log.error("Workflow: {} exceeded timeout of {}ms", workflow.getName(), timeoutMs);
+      return execContext.failure(
+          new TaskTimeoutException(
+              "Workflow " + workflow.getName() + " exceeded timeout of " + timeoutMs + "ms", e));
+
+    } catch (RuntimeException e) {
+      log.error(
+          "Workflow: {} threw exception during execution: {}",
+          workflow.getName(),
+          e.getMessage(),
+          e);
+      return execContext.failure(e);
+    }
+  }
+
+  /**
+   * Executes the inner workflow asynchronously with a timeout.
+   *
+   * <p>Unlike {@link #doExecute(WorkflowContext, ExecutionContext)}, no thread waits for the inner
+   * workflow: the deadline is armed with {@link CompletableFuture#orTimeout(long, TimeUnit)} on the
+   * inner workflow's {@link Workflow#executeAsync(WorkflowContext)} stage. On expiry that stage is
+   * cancelled with interruption and a FAILED result with a {@link TaskTimeoutException} is
+   * produced. For an {@link AbstractWorkflow} the cancellation passes on to the stage returned by
+   * its {@code doExecuteAsync}: the built-in containers cancel their running children, and a
+   * workflow without its own asynchronous path is interrupted on its {@link
+   * com.workflow.execution.strategy.ExecutionStrategy}. A custom stage that ignores cancellation
+   * keeps running. Cancelling the returned stage cancels the inner stage the same way.
+   *
+   * @param context the workflow context passed to the inner workflow
+   * @param execContext execution context for building results
+   * @return a stage completing with the inner result, or FAILED if the timeout elapses
+   */
+  @Override
+  protected CompletionStage<WorkflowResult> doExecuteAsync(
+      WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(workflow, "workflow must not be null");
+
+    if (timeoutMs <= 0) {
+      log.warn("Timeout is not configured (timeoutMs={}) for workflow: {}", timeoutMs, getName());
+      return workflow.executeAsync(context);
+    }
+
+    log.debug("Executing workflow: {} with timeout: {}ms", workflow.getName(), timeoutMs);
+
+    CompletableFuture<WorkflowResult> future = workflow.executeAsync(context).toCompletableFuture();
+    CompletableFuture<WorkflowResult> timed =
+        future
+            .copy()
+            .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+            .handle(
+                (result, ex) -> {
+                  if (ex == null) {
+                    log.debug(
+                        "Workflow: {} completed within timeout: {}ms with status: {}",
+                        workflow.getName(),
+                        timeoutMs,
+                        result.getStatus());
+                    return result;
+                  }
+
+                  Throwable error = FutureUtils.unwrap(ex);
+                  if (error instanceof TimeoutException) {
+                    log.error(
+                        "Workflow: {} exceeded timeout of {}ms", workflow.getName(), timeoutMs);
+                    FutureUtils.cancelFuture(future);
+                    String message =
+                        "Workflow "
+                            + workflow.getName()
+                            + " exceeded timeout of "
+                            + timeoutMs
+                            + "ms";
+                    return execContext.failure(new TaskTimeoutException(message, error));
+                  }
+
+                  log.error(
+                      "Workflow: {} threw exception during execution: {}",
+                      workflow.getName(),
+                      error.getMessage(),
+                      error);
+                  return execContext.failure(error);
+                });
+    return FutureUtils.propagateCancellation(timed, List.of(future));
+  }
+
+  /**
+   * Executes the wrapped workflow as a Reactor pipeline bounded by {@link Mono#timeout(Duration)}.
+   *
+   * <p>On expiry the subscription to the wrapped workflow is cancelled and a FAILED result with a
+   * {@link TaskTimeoutException} is emitted. The timer runs on Reactor's parallel scheduler, so no
+   * thread waits for the deadline.
+   *
+   * @param context the workflow context passed to the wrapped workflow
+   * @param execContext execution context for building results
+   * @return a mono emitting the wrapped workflow's result, or FAILED on timeout
+   */
+  @Override
+  protected Mono<WorkflowResult> doExecuteReactive(
+      WorkflowContext context, ExecutionContext execContext) {
+    Objects.requireNonNull(workflow, "workflow must not be null");
+
+    if (timeoutMs <= 0) {
+      log.warn("Timeout is not configured (timeoutMs={}) for workflow: {}", timeoutMs, getName());
+      return workflow.executeReactive(context);
+    }
+
+    log.debug("Executing workflow: {} with timeout: {}ms", workflow.getName(), timeoutMs);
+    return workflow
+        .executeReactive(context)
+        .timeout(Duration.ofMillis(timeoutMs))
+        .onErrorResume(
+            TimeoutException.class,
+            e -> {
+              log.error("Workflow: {} exceeded timeout of {}ms", workflow.getName(), timeoutMs);
+              String message =
+                  "Workflow " + workflow.getName() + " exceeded timeout of " + timeoutMs + "ms";
+              return Mono.just(execContext.failure(new TaskTimeoutException(message, e)));
+            });
+  }
+
   /**
    * Returns the workflow name.
    *
@@ -192,7 +344,8 @@ public class TimeoutWorkflow extends AbstractWorkflow implements WorkflowContain
     private String name;
     private Workflow workflow;
     private long timeoutMs;
-    private Executor executor = Executors.newCachedThreadPool();
+    private Executor executor = ExecutionStrategies.defaultExecutor();
+    private boolean runOnCallingThread;
 
     /**
      * Sets the name of the workflow wrapper.
@@ -230,7 +383,8 @@ public class TimeoutWorkflow extends AbstractWorkflow implements WorkflowContain
     /**
      * Sets the executor used to run the workflow asynchronously.
      *
-     * <p>If not provided, a default cached thread pool is used.
+     * <p>If not provided, the shared {@link ExecutionStrategies#defaultExecutor()} is used, so no
+     * pool is created per workflow. Ignored when the workflow runs on the calling thread.
      *
      * @param executor the execution service; must not be null
      * @return this builder
@@ -240,6 +394,22 @@ public class TimeoutWorkflow extends AbstractWorkflow implements WorkflowContain
       return this;
     }
 
+    /**
+     * Sets whether the workflow runs on the calling thread under a deadline on the shared {@link
+     * DeadlineTimer}, instead of on the executor.
+     *
+     * <p>This saves the worker thread, but the timeout is enforced only by interrupting the calling
+     * thread: a workflow that ignores interruption keeps the caller waiting until it finishes.
+     * Defaults to false.
+     *
+     * @param runOnCallingThread true to run the workflow on the calling thread
+     * @return this builder
+     */
+    public TimeoutWorkflowBuilder runOnCallingThread(boolean runOnCallingThread) {
+      this.runOnCallingThread = runOnCallingThread;
+      return this;
+    }
+
     /**
      * Builds and returns a new {@link TimeoutWorkflow}.
      *
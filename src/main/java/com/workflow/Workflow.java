@@ -1,7 +1,10 @@
 package com.workflow;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.execution.strategy.ExecutionStrategies;
 import com.workflow.helper.TreeRenderer;
+import java.util.concurrent.CompletionStage;
+import reactor.core.publisher.Mono;
 
 /**
  * Core abstraction representing a unit of work that can be executed with a {@link
@@ -37,6 +40,35 @@ public interface Workflow {
    */
   WorkflowResult execute(WorkflowContext context);
 
+  /**
+   * Execute the workflow asynchronously with the given {@link WorkflowContext}.
+   *
+   * <p>The default implementation runs {@link #execute(WorkflowContext)} on the shared {@link
+   * ExecutionStrategies#getDefault()} strategy so the caller is never blocked. Container workflows
+   * override this to compose their children's stages without parking any thread while they wait.
+   *
+   * @param context the shared execution context; implementations may read and write keys to it
+   * @return a stage completing with the {@link WorkflowResult} of this execution
+   */
+  default CompletionStage<WorkflowResult> executeAsync(WorkflowContext context) {
+    return ExecutionStrategies.getDefault().submit(() -> execute(context));
+  }
+
+  /**
+   * Execute the workflow as a Reactor {@link Mono} with the given {@link WorkflowContext}.
+   *
+   * <p>The returned mono is cold: nothing runs until it is subscribed, and each subscription is a
+   * new execution. The default implementation adapts {@link #executeAsync(WorkflowContext)}.
+   * Container workflows override this to map their semantics onto Reactor operators, so the whole
+   * tree composes into a single reactive pipeline.
+   *
+   * @param context the shared execution context; implementations may read and write keys to it
+   * @return a mono emitting the {@link WorkflowResult} of this execution
+   */
+  default Mono<WorkflowResult> executeReactive(WorkflowContext context) {
+    return Mono.fromCompletionStage(() -> executeAsync(context));
+  }
+
   /**
    * Human-friendly workflow name used in logs and monitoring. Implementations should return a
    * stable, informative name when possible.
@@ -17,7 +17,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -65,18 +64,13 @@ public class JavaAnnotationWorkflowProcessor extends AnnotationWorkflowProcessor
     List<Workflow> workflows = new ArrayList<>();
 
     // Validate for circular dependencies
-    validateNoDependencies(instance.getClass(), new HashSet<>());
+    validateNoDependencies(instance.getClass());
 
     // Process workflow refs first
     for (WorkflowRefMetadata metadata : workflowRefMetadata) {
       Workflow workflowRef = buildWorkflow(metadata);
-      try {
-        // Inject the built workflow back into the field
-        metadata.field().setAccessible(true);
-        metadata.field().set(instance, workflowRef);
-      } catch (IllegalAccessException e) {
-        throw new WorkflowBuildException(e.getMessage(), e);
-      }
+      // Inject the built workflow back into the field
+      injectWorkflowRef(instance, metadata, workflowRef);
     }
 
     // Process regular workflow/task elements
@@ -136,7 +130,7 @@ public class JavaAnnotationWorkflowProcessor extends AnnotationWorkflowProcessor
 
     // Build argument array with injected workflows
     Object[] args = buildMethodArguments(element.method(), workflowRefMap);
-    Object result = element.method().invoke(instance, args);
+    Object result = element.invoke(instance, args);
 
     if (result instanceof Workflow workflow) {
       return workflow;
@@ -165,7 +159,7 @@ public class JavaAnnotationWorkflowProcessor extends AnnotationWorkflowProcessor
 
     // Build argument array with injected workflows
     Object[] args = buildMethodArguments(element.method(), workflowRefMap);
-    Object result = element.method().invoke(instance, args);
+    Object result = element.invoke(instance, args);
 
     if (result instanceof Task task) {
       return task;
@@ -18,6 +18,8 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.slf4j.Logger;
 
 /**
@@ -25,8 +27,31 @@ import org.slf4j.Logger;
  *
  * <p>This class provides common functionality for processing workflow annotations, extracting
  * workflow elements, validating dependencies, and building workflows from annotated classes.
+ *
+ * <p>Class scans are done once per class and shared by all processors: the annotated methods and
+ * fields of a class, the {@link WorkflowRef} parameters of its methods and the result of its
+ * circular dependency check are cached in {@link ClassValue}s. Annotated methods and no-argument
+ * constructors are invoked through cached {@link java.lang.invoke.MethodHandle}s instead of
+ * reflection. Each processor also memoises the workflows it builds for {@link WorkflowRef} classes,
+ * so a class referenced by several workflows is built once and shared; call {@link
+ * #clearWorkflowRefCache()} to build them again.
  */
 public abstract class AnnotationWorkflowProcessor {
+  private static final ClassValue<List<WorkflowElement>> WORKFLOW_ELEMENTS =
+      classValue(AnnotationWorkflowProcessor::scanWorkflowElements);
+  private static final ClassValue<List<WorkflowRefMetadata>> WORKFLOW_REFS =
+      classValue(AnnotationWorkflowProcessor::scanWorkflowRefs);
+  private static final ClassValue<Map<Method, List<WorkflowRefMetadata>>> PARAMETER_REFS =
+      classValue(_ -> new ConcurrentHashMap<>());
+  private static final ClassValue<Boolean> ACYCLIC =
+      classValue(
+          clazz -> {
+            checkNoDependencies(clazz, new HashSet<>());
+            return Boolean.TRUE;
+          });
+
+  private final Map<Class<?>, Workflow> workflowRefCache = new ConcurrentHashMap<>();
+
   /**
    * Gets the logger for this processor.
    *
@@ -50,7 +75,7 @@ public abstract class AnnotationWorkflowProcessor {
     }
 
     try {
-      Object instance = workflowClass.getDeclaredConstructor().newInstance();
+      Object instance = MethodInvokers.newInstance(workflowClass);
       return buildWorkflow(instance, annotation);
     } catch (WorkflowCompositionException e) {
       // Re-throw composition exceptions as-is (includes CircularDependencyException)
@@ -90,17 +115,23 @@ public abstract class AnnotationWorkflowProcessor {
   protected abstract Workflow buildWorkflow(Object instance, WorkflowAnnotation annotation);
 
   /**
-   * Builds a workflow from a workflow ref annotation.
+   * Builds a workflow from a workflow ref annotation, or returns the workflow this processor
+   * already built for the referenced class.
    *
    * @param metadata the workflow ref metadata
    * @return the built workflow
    */
   protected Workflow buildWorkflow(WorkflowRefMetadata metadata) {
     Class<?> workflowClass = metadata.workflowClass();
+    Workflow cached = workflowRefCache.get(workflowClass);
+    if (cached != null) {
+      getLogger().debug("Reusing workflow ref: {}", workflowClass.getName());
+      return cached;
+    }
     getLogger().debug("Building workflow refs: {}", workflowClass.getName());
 
     try {
-      Object instance = workflowClass.getDeclaredConstructor().newInstance();
+      Object instance = MethodInvokers.newInstance(workflowClass);
       WorkflowAnnotation annotation = workflowClass.getAnnotation(WorkflowAnnotation.class);
       if (annotation == null) {
         throw new WorkflowCompositionException(
@@ -108,7 +139,7 @@ public abstract class AnnotationWorkflowProcessor {
                 + workflowClass.getName()
                 + " is not annotated with @WorkflowAnnotation");
       }
-      return buildWorkflow(instance, annotation);
+      return cacheWorkflowRef(workflowClass, buildWorkflow(instance, annotation));
     } catch (WorkflowCompositionException e) {
       // Re-throw composition exceptions as-is (includes CircularDependencyException)
       throw e;
@@ -125,22 +156,26 @@ public abstract class AnnotationWorkflowProcessor {
    * @return list of workflow ref metadata
    */
   protected List<WorkflowRefMetadata> extractWorkflowRefs(Class<?> clazz) {
-    List<WorkflowRefMetadata> workflowRefMetadata = new ArrayList<>();
+    List<WorkflowRefMetadata> workflowRefMetadata = WORKFLOW_REFS.get(clazz);
+    getLogger().debug("Extracted workflowRefMetadata workflows: {}", workflowRefMetadata);
+    return workflowRefMetadata;
+  }
 
-    for (Field field : clazz.getDeclaredFields()) {
-      WorkflowRef annotation = field.getAnnotation(WorkflowRef.class);
-      if (annotation != null) {
-        if (!field.getType().equals(Workflow.class)) {
-          throw new IllegalArgumentException(
-              "Field " + field.getName() + " annotated with @WorkflowRef must be of type Workflow");
-        }
-        WorkflowRefMetadata metadata = WorkflowRefMetadata.from(field, annotation);
-        getLogger().debug("Extracted workflowRefMetadata workflow: {}", metadata);
-        workflowRefMetadata.add(metadata);
-      }
+  /**
+   * Injects a built workflow into a field annotated with {@link WorkflowRef}.
+   *
+   * @param instance the instance that declares the field
+   * @param metadata the workflow ref metadata of the field
+   * @param workflow the workflow to inject
+   * @throws WorkflowBuildException if the field cannot be set
+   */
+  protected void injectWorkflowRef(
+      Object instance, WorkflowRefMetadata metadata, Workflow workflow) {
+    try {
+      MethodInvokers.set(metadata.field(), instance, workflow);
+    } catch (IllegalAccessException e) {
+      throw new WorkflowBuildException(e.getMessage(), e);
     }
-
-    return workflowRefMetadata;
   }
 
   /**
@@ -153,43 +188,60 @@ public abstract class AnnotationWorkflowProcessor {
   protected Map<String, Workflow> buildWorkflowRefParameterMap(Method method) {
     Map<String, Workflow> parameterMap = new HashMap<>();
 
-    for (Parameter parameter : method.getParameters()) {
-      WorkflowRef annotation = parameter.getAnnotation(WorkflowRef.class);
-      if (annotation != null) {
-        if (!Workflow.class.equals(parameter.getType())) {
-          throw new IllegalArgumentException(
-              "Parameter "
-                  + parameter.getName()
-                  + " annotated with @WorkflowRef must be of type Workflow");
-        }
-        // Build the workflow for this parameter
-        try {
-          Object refInstance = annotation.workflowClass().getDeclaredConstructor().newInstance();
-          WorkflowAnnotation refAnnotation =
-              annotation.workflowClass().getAnnotation(WorkflowAnnotation.class);
-          if (refAnnotation == null) {
-            throw new WorkflowCompositionException(
-                "@WorkflowRef parameter "
-                    + parameter.getName()
-                    + " references class "
-                    + annotation.workflowClass().getName()
-                    + " which is not annotated with @WorkflowAnnotation");
-          }
-          Workflow workflowRef = buildWorkflow(refInstance, refAnnotation);
-          parameterMap.put(parameter.getName(), workflowRef);
-          getLogger().debug("Built workflow for @WorkflowRef parameter: {}", parameter.getName());
-        } catch (WorkflowCompositionException e) {
-          throw e;
-        } catch (Exception e) {
-          throw new WorkflowBuildException(
-              "Failed to build workflow for @WorkflowRef parameter: " + parameter.getName(), e);
+    for (WorkflowRefMetadata metadata : parameterRefs(method)) {
+      String parameterName = metadata.name();
+      Class<?> workflowClass = metadata.workflowClass();
+      Workflow cached = workflowRefCache.get(workflowClass);
+      if (cached != null) {
+        parameterMap.put(parameterName, cached);
+        getLogger().debug("Reused workflow for @WorkflowRef parameter: {}", parameterName);
+        continue;
+      }
+      // Build the workflow for this parameter
+      try {
+        Object refInstance = MethodInvokers.newInstance(workflowClass);
+        WorkflowAnnotation refAnnotation = workflowClass.getAnnotation(WorkflowAnnotation.class);
+        if (refAnnotation == null) {
+          throw new WorkflowCompositionException(
+              "@WorkflowRef parameter "
+                  + parameterName
+                  + " references class "
+                  + workflowClass.getName()
+                  + " which is not annotated with @WorkflowAnnotation");
         }
+        Workflow workflowRef = buildWorkflow(refInstance, refAnnotation);
+        parameterMap.put(parameterName, cacheWorkflowRef(workflowClass, workflowRef));
+        getLogger().debug("Built workflow for @WorkflowRef parameter: {}", parameterName);
+      } catch (WorkflowCompositionException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new WorkflowBuildException(
+            "Failed to build workflow for @WorkflowRef parameter: " + parameterName, e);
       }
     }
 
     return parameterMap;
   }
 
+  /**
+   * Discards the workflows this processor built for {@link WorkflowRef} classes, so that later
+   * builds create new ones. Workflows already built keep the instances they were given.
+   */
+  public void clearWorkflowRefCache() {
+    workflowRefCache.clear();
+  }
+
+  /**
+   * Validates that there are no circular dependencies in the workflow composition. The result for
+   * a class is cached, so the check runs only until it first succeeds.
+   *
+   * @param clazz the class to validate
+   * @throws CircularDependencyException if a circular dependency is detected
+   */
+  protected void validateNoDependencies(Class<?> clazz) {
+    ACYCLIC.get(clazz);
+  }
+
   /**
    * Validates that there are no circular dependencies in the workflow composition.
    *
@@ -198,50 +250,17 @@ public abstract class AnnotationWorkflowProcessor {
    * @throws CircularDependencyException if a circular dependency is detected
    */
   protected void validateNoDependencies(Class<?> clazz, Set<Class<?>> visited) {
-    if (visited.contains(clazz)) {
-      throw new CircularDependencyException(
-          "Circular dependency detected involving class: " + clazz.getName());
-    }
-
-    visited.add(clazz);
-
-    for (Field field : clazz.getDeclaredFields()) {
-      WorkflowRef annotation = field.getAnnotation(WorkflowRef.class);
-      if (annotation != null) {
-        Class<?> workflowRefClass = annotation.workflowClass();
-        validateNoDependencies(workflowRefClass, new HashSet<>(visited));
-      }
-    }
+    checkNoDependencies(clazz, visited);
   }
 
   /**
    * Extracts all workflow and task method annotations from a class.
    *
    * @param clazz the class to extract from
-   * @return list of workflow elements
+   * @return unmodifiable list of workflow elements, sorted by order
    */
   protected List<WorkflowElement> extractWorkflowElements(Class<?> clazz) {
-    List<WorkflowElement> elements = new ArrayList<>();
-
-    for (Method method : clazz.getDeclaredMethods()) {
-      WorkflowMethod workflowMethod = method.getAnnotation(WorkflowMethod.class);
-      TaskMethod taskMethod = method.getAnnotation(TaskMethod.class);
-
-      if (workflowMethod != null) {
-        validateWorkflowMethod(method);
-        String name = workflowMethod.name().isEmpty() ? method.getName() : workflowMethod.name();
-        elements.add(
-            new WorkflowElement(
-                name, workflowMethod.order(), method, ElementType.WORKFLOW, workflowMethod));
-      } else if (taskMethod != null) {
-        validateTaskMethod(method);
-        String name = taskMethod.name().isEmpty() ? method.getName() : taskMethod.name();
-        elements.add(
-            new WorkflowElement(name, taskMethod.order(), method, ElementType.TASK, taskMethod));
-      }
-    }
-
-    elements.sort(WorkflowElement::compareTo);
+    List<WorkflowElement> elements = WORKFLOW_ELEMENTS.get(clazz);
     getLogger().debug("Extracted {} workflow elements from {}", elements.size(), clazz.getName());
     return elements;
   }
@@ -252,12 +271,7 @@ public abstract class AnnotationWorkflowProcessor {
    * @param method the method to validate
    */
   protected void validateWorkflowMethod(Method method) {
-    if (!Workflow.class.isAssignableFrom(method.getReturnType())) {
-      throw new IllegalArgumentException(
-          "Method "
-              + method.getName()
-              + " annotated with @WorkflowMethod must return a Workflow instance");
-    }
+    checkWorkflowMethod(method);
   }
 
   /**
@@ -266,10 +280,7 @@ public abstract class AnnotationWorkflowProcessor {
    * @param method the method to validate
    */
   protected void validateTaskMethod(Method method) {
-    if (!Task.class.isAssignableFrom(method.getReturnType())) {
-      throw new IllegalArgumentException(
-          "Method " + method.getName() + " annotated with @TaskMethod must return a Task instance");
-    }
+    checkTaskMethod(method);
   }
 
   /**
@@ -291,4 +302,124 @@ public abstract class AnnotationWorkflowProcessor {
     }
     return new TaskWorkflow(descriptorBuilder.build());
   }
+
+  /**
+   * Caches the workflow built for a workflow ref class, unless another build cached one first.
+   *
+   * @return the cached workflow
+   */
+  private Workflow cacheWorkflowRef(Class<?> workflowClass, Workflow workflow) {
+    Workflow previous = workflowRefCache.putIfAbsent(workflowClass, workflow);
+    return previous != null ? previous : workflow;
+  }
+
+  private static <T> ClassValue<T> classValue(Function<Class<?>, T> compute) {
+    return new ClassValue<>() {
+      @Override
+      protected T computeValue(Class<?> type) {
+        return compute.apply(type);
+      }
+    };
+  }
+
+  private static List<WorkflowElement> scanWorkflowElements(Class<?> clazz) {
+    List<WorkflowElement> elements = new ArrayList<>();
+
+    for (Method method : clazz.getDeclaredMethods()) {
+      WorkflowMethod workflowMethod = method.getAnnotation(WorkflowMethod.class);
+      TaskMethod taskMethod = method.getAnnotation(TaskMethod.class);
+
+      if (workflowMethod != null) {
+        checkWorkflowMethod(method);
+        String name = workflowMethod.name().isEmpty() ? method.getName() : workflowMethod.name();
+        elements.add(
+            new WorkflowElement(
+                name, workflowMethod.order(), method, ElementType.WORKFLOW, workflowMethod));
+      } else if (taskMethod != null) {
+        checkTaskMethod(method);
+        String name = taskMethod.name().isEmpty() ? method.getName() : taskMethod.name();
+        elements.add(
+            new WorkflowElement(name, taskMethod.order(), method, ElementType.TASK, taskMethod));
+      }
+    }
+
+    elements.sort(WorkflowElement::compareTo);
+    return List.copyOf(elements);
+  }
+
+  private static List<WorkflowRefMetadata> scanWorkflowRefs(Class<?> clazz) {
+    List<WorkflowRefMetadata> workflowRefMetadata = new ArrayList<>();
+
+    for (Field field : clazz.getDeclaredFields()) {
+      WorkflowRef annotation = field.getAnnotation(WorkflowRef.class);
+      if (annotation != null) {
+        if (!field.getType().equals(Workflow.class)) {
+          throw new IllegalArgumentException(
+              "Field " + field.getName() + " annotated with @WorkflowRef must be of type Workflow");
+        }
+        workflowRefMetadata.add(WorkflowRefMetadata.from(field, annotation));
+      }
+    }
+
+    return List.copyOf(workflowRefMetadata);
+  }
+
+  private static List<WorkflowRefMetadata> parameterRefs(Method method) {
+    Map<Method, List<WorkflowRefMetadata>> byMethod =
+        PARAMETER_REFS.get(method.getDeclaringClass());
+    List<WorkflowRefMetadata> refs = byMethod.get(method);
+    if (refs != null) {
+      return refs;
+    }
+
+    List<WorkflowRefMetadata> scanned = new ArrayList<>();
+    for (Parameter parameter : method.getParameters()) {
+      WorkflowRef annotation = parameter.getAnnotation(WorkflowRef.class);
+      if (annotation != null) {
+        if (!Workflow.class.equals(parameter.getType())) {
+          throw new IllegalArgumentException(
+              "Parameter "
+                  + parameter.getName()
+                  + " annotated with @WorkflowRef must be of type Workflow");
+        }
+        scanned.add(WorkflowRefMetadata.from(parameter, annotation));
+      }
+    }
+    refs = List.copyOf(scanned);
+    byMethod.put(method, refs);
+    return refs;
+  }
+
+  private static void checkNoDependencies(Class<?> clazz, Set<Class<?>> visited) {
+    if (visited.contains(clazz)) {
+      throw new CircularDependencyException(
+          "Circular dependency detected involving class: " + clazz.getName());
+    }
+
+    visited.add(clazz);
+
+    for (Field field : clazz.getDeclaredFields()) {
+      WorkflowRef annotation = field.getAnnotation(WorkflowRef.class);
+      if (annotation != null) {
+        Class<?> workflowRefClass = annotation.workflowClass();
+        checkNoDependencies(workflowRefClass, new HashSet<>(visited));
+      }
+    }
+  }
+
+  private static void checkWorkflowMethod(Method method) {
+    if (!Workflow.class.isAssignableFrom(method.getReturnType())) {
+      throw new IllegalArgumentException(
+          "Method "
+              + method.getName()
+              + " annotated with @WorkflowMethod must return a Workflow instance");
+    }
+  }
+
+  private static void checkTaskMethod(Method method) {
+    if (!Task.class.isAssignableFrom(method.getReturnType())) {
+      throw new IllegalArgumentException(
+          "Method " + method.getName() + " annotated with @TaskMethod must return a Task instance");
+    }
+  }
 }
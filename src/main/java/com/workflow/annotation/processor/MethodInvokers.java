@@ -0,0 +1,136 @@
+package com.workflow.annotation.processor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds annotated methods, no-argument constructors and {@link com.workflow.annotation.WorkflowRef}
+ * fields to {@link MethodHandle}s, once per member.
+ *
+ * <p>Method and constructor handles are created with this package's lookup and without suppressing
+ * access checks, so a member that {@link Method#invoke} could not call from here cannot be called
+ * through a handle either. Field setters suppress access checks, as field injection always has.
+ * Handles are cached per declaring class in a {@link ClassValue} and are released with the class.
+ */
+final class MethodInvokers {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType INVOKER_TYPE =
+      MethodType.methodType(Object.class, Object.class, Object[].class);
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<Handles> HANDLES =
+      new ClassValue<>() {
+        @Override
+        protected Handles computeValue(Class<?> type) {
+          return new Handles();
+        }
+      };
+
+  /** The handles bound for one class. */
+  private static final class Handles {
+    private final Map<Method, MethodHandle> invokers = new ConcurrentHashMap<>();
+    private final Map<Field, MethodHandle> setters = new ConcurrentHashMap<>();
+    private volatile MethodHandle constructor;
+  }
+
+  private MethodInvokers() {}
+
+  /**
+   * Invokes a method through its cached handle.
+   *
+   * @param method the method
+   * @param instance the instance to invoke the method on; ignored for static methods
+   * @param args the method arguments
+   * @return the method result, or null for a void method
+   * @throws IllegalAccessException if the method is not accessible from this package
+   * @throws InvocationTargetException if the method throws, wrapping what it threw
+   */
+  static Object invoke(Method method, Object instance, Object... args)
+      throws IllegalAccessException, InvocationTargetException {
+    Map<Method, MethodHandle> invokers = HANDLES.get(method.getDeclaringClass()).invokers;
+    MethodHandle invoker = invokers.get(method);
+    if (invoker == null) {
+      invoker = bind(method);
+      invokers.put(method, invoker);
+    }
+    try {
+      return (Object) invoker.invokeExact(instance, args);
+    } catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  /**
+   * Creates an instance of a class through its cached no-argument constructor handle.
+   *
+   * @param type the class
+   * @return the new instance
+   * @throws NoSuchMethodException if the class has no no-argument constructor
+   * @throws IllegalAccessException if the constructor is not accessible from this package
+   * @throws InvocationTargetException if the constructor throws, wrapping what it threw
+   */
+  static Object newInstance(Class<?> type)
+      throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+    Handles handles = HANDLES.get(type);
+    MethodHandle constructor = handles.constructor;
+    if (constructor == null) {
+      Constructor<?> declared = type.getDeclaredConstructor();
+      constructor = LOOKUP.unreflectConstructor(declared).asType(CONSTRUCTOR_TYPE);
+      handles.constructor = constructor;
+    }
+    try {
+      return (Object) constructor.invokeExact();
+    } catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  /**
+   * Sets a field through its cached setter handle.
+   *
+   * @param field the field
+   * @param instance the instance that declares the field; ignored for static fields
+   * @param value the value to set
+   * @throws IllegalAccessException if the field cannot be written, for example a final field of a
+   *     record
+   */
+  static void set(Field field, Object instance, Object value) throws IllegalAccessException {
+    Map<Field, MethodHandle> setters = HANDLES.get(field.getDeclaringClass()).setters;
+    MethodHandle setter = setters.get(field);
+    if (setter == null) {
+      field.setAccessible(true);
+      setter = LOOKUP.unreflectSetter(field);
+      if (Modifier.isStatic(field.getModifiers())) {
+        setter = MethodHandles.dropArguments(setter, 0, Object.class);
+      }
+      setter = setter.asType(SETTER_TYPE);
+      setters.put(field, setter);
+    }
+    try {
+      setter.invokeExact(instance, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Adapts a method handle to {@code (Object instance, Object[] args) -> Object}. */
+  private static MethodHandle bind(Method method) throws IllegalAccessException {
+    MethodHandle handle = LOOKUP.unreflect(method);
+    if (Modifier.isStatic(method.getModifiers())) {
+      handle = MethodHandles.dropArguments(handle, 0, Object.class);
+    }
+    return handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+  }
+}
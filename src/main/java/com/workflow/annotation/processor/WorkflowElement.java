@@ -8,6 +8,9 @@ import java.lang.reflect.Method;
 /**
  * Represents metadata about a workflow or task method extracted from annotations. This is used
  * during workflow construction to maintain order and metadata.
+ *
+ * <p>The method is invoked through a {@link java.lang.invoke.MethodHandle} that is bound on first
+ * use and shared by every element for the same method.
  */
 public record WorkflowElement(
     String name, int order, Method method, ElementType type, Object metadata)
@@ -23,6 +26,20 @@ public record WorkflowElement(
     return Integer.compare(this.order, other.order);
   }
 
+  /**
+   * Invokes the method with the given arguments.
+   *
+   * @param instance the instance to invoke the method on
+   * @param args the method arguments
+   * @return the method result
+   * @throws InvocationTargetException if the method throws
+   * @throws IllegalAccessException if the method is inaccessible
+   */
+  public Object invoke(Object instance, Object... args)
+      throws InvocationTargetException, IllegalAccessException {
+    return MethodInvokers.invoke(method, instance, args);
+  }
+
   /**
    * Invokes the method and returns the result as a Workflow.
    *
@@ -34,7 +51,7 @@ public record WorkflowElement(
    */
   public Workflow invokeAsWorkflow(Object instance)
       throws InvocationTargetException, IllegalAccessException {
-    Object result = method.invoke(instance);
+    Object result = invoke(instance);
     if (result instanceof Workflow workflow) {
       return workflow;
     }
@@ -53,7 +70,7 @@ public record WorkflowElement(
    */
   public Task invokeAsTask(Object instance)
       throws InvocationTargetException, IllegalAccessException {
-    Object result = method.invoke(instance);
+    Object result = invoke(instance);
     if (result instanceof Task task) {
       return task;
     }
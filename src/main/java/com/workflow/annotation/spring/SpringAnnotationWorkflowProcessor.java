@@ -15,7 +15,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -121,18 +120,13 @@ public class SpringAnnotationWorkflowProcessor extends AnnotationWorkflowProcess
     List<Workflow> workflows = new ArrayList<>();
 
     // Validate for circular dependencies
-    validateNoDependencies(instance.getClass(), new HashSet<>());
+    validateNoDependencies(instance.getClass());
 
     // Process workflow refs first
     for (WorkflowRefMetadata metadata : workflowRefMetadata) {
       Workflow workflowRef = buildWorkflow(metadata);
-      try {
-        // Inject the built workflow back into the field
-        metadata.field().setAccessible(true);
-        metadata.field().set(instance, workflowRef);
-      } catch (IllegalAccessException e) {
-        throw new WorkflowBuildException(e.getMessage(), e);
-      }
+      // Inject the built workflow back into the field
+      injectWorkflowRef(instance, metadata, workflowRef);
     }
 
     // Process regular workflow/task elements
@@ -263,7 +257,7 @@ public class SpringAnnotationWorkflowProcessor extends AnnotationWorkflowProcess
       throws InvocationTargetException, IllegalAccessException {
     Method method = element.method();
     Object[] args = resolveMethodParameters(method);
-    Object result = method.invoke(instance, args);
+    Object result = element.invoke(instance, args);
 
     if (result instanceof Workflow workflow) {
       return workflow;
@@ -276,7 +270,7 @@ public class SpringAnnotationWorkflowProcessor extends AnnotationWorkflowProcess
       throws InvocationTargetException, IllegalAccessException {
     Method method = element.method();
     Object[] args = resolveMethodParameters(method);
-    Object result = method.invoke(instance, args);
+    Object result = element.invoke(instance, args);
 
     if (result instanceof Task task) {
       return task;
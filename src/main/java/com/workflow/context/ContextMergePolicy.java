@@ -0,0 +1,79 @@
+package com.workflow.context;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decides what happens to the writes of isolated children once they have finished.
+ *
+ * <p>Container workflows that give each child a {@link WorkflowContext#fork()} (for example {@code
+ * ParallelWorkflow} with {@code shareContext=false}) apply the policy to the forks of the children
+ * that completed successfully, in declaration order.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * Workflow fanOut = ParallelWorkflow.builder()
+ *     .workflows(children)
+ *     .shareContext(false)
+ *     .mergePolicy(ContextMergePolicy.FAIL_ON_CONFLICT)
+ *     .build();
+ * }</pre>
+ *
+ * @see LayeredWorkflowContext
+ */
+public enum ContextMergePolicy {
+  /** Child writes are dropped; the parent context is left unchanged. */
+  DISCARD {
+    @Override
+    public void merge(List<LayeredWorkflowContext> forks) {
+      // Nothing to publish
+    }
+  },
+
+  /**
+   * The writes and removals of every fork are published in order, so for a key touched by several
+   * children the last one wins.
+   */
+  LAST_WRITE_WINS {
+    @Override
+    public void merge(List<LayeredWorkflowContext> forks) {
+      forks.forEach(LayeredWorkflowContext::mergeBack);
+    }
+  },
+
+  /**
+   * Like {@link #LAST_WRITE_WINS}, but if two forks leave different values (or one a value and one
+   * a removal) for the same key, nothing is published and an {@link IllegalStateException} is
+   * thrown.
+   */
+  FAIL_ON_CONFLICT {
+    @Override
+    public void merge(List<LayeredWorkflowContext> forks) {
+      Map<String, Object> seen = new HashMap<>();
+      for (LayeredWorkflowContext fork : forks) {
+        fork.layer()
+            .forEach(
+                (key, layerValue) -> {
+                  Object value = LayeredWorkflowContext.valueOf(layerValue);
+                  if (seen.containsKey(key) && !Objects.equals(seen.get(key), value)) {
+                    throw new IllegalStateException(
+                        "Conflicting writes to context key '" + key + "' from isolated children");
+                  }
+                  seen.put(key, value);
+                });
+      }
+      LAST_WRITE_WINS.merge(forks);
+    }
+  };
+
+  /**
+   * Publishes the forks' changes into their parents according to this policy.
+   *
+   * @param forks forks of the children to merge, in declaration order; must not be null
+   * @throws IllegalStateException if the policy rejects conflicting writes
+   */
+  public abstract void merge(List<LayeredWorkflowContext> forks);
+}
@@ -0,0 +1,197 @@
+package com.workflow.context;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Copy-on-write view of a parent {@link WorkflowContext}, created by {@link
+ * WorkflowContext#fork()}.
+ *
+ * <p><b>Purpose:</b> Forking a context with 10k entries for each of 200 parallel children via
+ * {@link WorkflowContext#copy()} copies two million map entries. A layered context instead costs
+ * O(1) to create: reads fall through to the parent, and only the keys the fork writes or removes
+ * are stored in its own layer.
+ *
+ * <p><b>Semantics:</b>
+ *
+ * <ul>
+ *   <li>Writes and removals go to the fork's layer and are never seen by the parent until {@link
+ *       #mergeBack()} is called
+ *   <li>A removal is recorded as a tombstone, so the key reads as absent even though the parent
+ *       still holds it
+ *   <li>Keys the fork has not touched always read the parent's current value
+ *   <li>{@link #copy()} flattens the fork into a plain, independent context
+ *   <li>Forks can be forked again; reads walk the chain of layers
+ * </ul>
+ *
+ * <p><b>Thread Safety:</b> Like {@link WorkflowContext}, the layer is backed by a concurrent map.
+ * {@link #mergeBack()} should only be called once the child using the fork has finished.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * LayeredWorkflowContext child = context.fork();   // O(1), nothing copied
+ * child.put("result", compute(child.get("input")));
+ *
+ * context.containsKey("result");   // false
+ * child.mergeBack();
+ * context.containsKey("result");   // true
+ * }</pre>
+ *
+ * @see ContextMergePolicy
+ */
+public final class LayeredWorkflowContext extends WorkflowContext {
+  /** Marker stored in the layer for keys removed by this fork. */
+  private static final Object TOMBSTONE = new Object();
+
+  private final WorkflowContext parent;
+
+  LayeredWorkflowContext(WorkflowContext parent) {
+    super(parent.getListeners());
+    this.parent = parent;
+  }
+
+  /**
+   * Returns the context this fork is layered over.
+   *
+   * @return the parent context
+   */
+  public WorkflowContext getParent() {
+    return parent;
+  }
+
+  /**
+   * Publishes this fork's writes and removals into the parent.
+   *
+   * <p>The layer is left untouched, so the fork keeps reading its own values afterwards.
+   */
+  public void mergeBack() {
+    layer()
+        .forEach(
+            (key, value) -> {
+              if (value == TOMBSTONE) {
+                parent.remove(key);
+              } else {
+                parent.put(key, value);
+              }
+            });
+  }
+
+  /**
+   * Returns whether this fork has written or removed the given key.
+   *
+   * @param key the context key
+   * @return true if the key is in this fork's own layer
+   */
+  public boolean isModified(String key) {
+    return super.lookup(key) != null;
+  }
+
+  /** Raw layer: written values, or {@link #TOMBSTONE} for removed keys. */
+  Map<String, Object> layer() {
+    return super.entries();
+  }
+
+  /** Returns the layer value of a key, or {@code null} for a removed key. */
+  static Object valueOf(Object layerValue) {
+    return layerValue == TOMBSTONE ? null : layerValue;
+  }
+
+  @Override
+  Object lookup(String key) {
+    Object value = super.lookup(key);
+    if (value == TOMBSTONE) {
+      return null;
+    }
+    return value != null ? value : parent.get(key);
+  }
+
+  @Override
+  Object delete(String key) {
+    Object previous = lookup(key);
+    super.store(key, TOMBSTONE);
+    return previous;
+  }
+
+  @Override
+  Object lookup(TypedKey<?> key) {
+    Object value = super.lookup(key);
+    if (value == TOMBSTONE) {
+      return null;
+    }
+    return value != null ? value : parent.get(key);
+  }
+
+  @Override
+  Object delete(TypedKey<?> key) {
+    Object previous = lookup(key);
+    super.store(key, TOMBSTONE);
+    return previous;
+  }
+
+  @Override
+  boolean isScopedView() {
+    return parent.isScopedView();
+  }
+
+  @Override
+  String entriesPrefix() {
+    return parent.entriesPrefix();
+  }
+
+  @Override
+  public boolean containsKey(String key) {
+    Object value = super.lookup(key);
+    return value != null ? value != TOMBSTONE : parent.containsKey(key);
+  }
+
+  /**
+   * Materialised view merging the parent's entries with this fork's layer. Over a scoped parent,
+   * whose entries carry the scope prefix while the layer does not, the layer is replayed through
+   * the scope on a copy instead.
+   */
+  @Override
+  Map<String, Object> entries() {
+    if (parent.isScopedView()) {
+      return copy().entries();
+    }
+    Map<String, Object> merged = new HashMap<>(parent.entries());
+    layer()
+        .forEach(
+            (key, value) -> {
+              if (value == TOMBSTONE) {
+                merged.remove(key);
+              } else {
+                merged.put(key, value);
+              }
+            });
+    return merged;
+  }
+
+  /**
+   * Flattens this fork into an independent context holding the parent's entries overlaid with this
+   * fork's writes and removals.
+   *
+   * @return a new context with no link to the parent
+   */
+  @Override
+  public WorkflowContext copy() {
+    WorkflowContext copy = parent.copy();
+    layer()
+        .forEach(
+            (key, value) -> {
+              if (value == TOMBSTONE) {
+                copy.remove(key);
+              } else {
+                copy.put(key, value);
+              }
+            });
+    return copy;
+  }
+
+  @Override
+  public WorkflowContext copy(Predicate<String> filter) {
+    return copy().copy(filter);
+  }
+}
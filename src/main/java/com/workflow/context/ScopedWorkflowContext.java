@@ -1,9 +1,21 @@
 package com.workflow.context;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import tools.jackson.core.type.TypeReference;
 
 public final class ScopedWorkflowContext extends WorkflowContext {
+  /**
+   * Bound on scoped typed keys, shared by every scope. Each one registers its scoped name in the
+   * process-wide {@link SlotRegistry} once; beyond the bound, typed keys fall back to their scoped
+   * string name so dynamic prefixes cannot grow the registry without limit.
+   */
+  private static final int MAX_SCOPED_KEYS = 4096;
+
+  private static final Map<ScopedKeyId, TypedKey<?>> SCOPED_KEYS = new ConcurrentHashMap<>();
+
   private final WorkflowContext delegate;
   private final String prefix;
 
@@ -18,6 +30,26 @@ public final class ScopedWorkflowContext extends WorkflowContext {
     return prefix + key;
   }
 
+  /**
+   * Returns the typed key of the scoped name, so typed access uses the delegate's slots, or {@code
+   * null} once the shared bound is reached.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> TypedKey<T> scoped(TypedKey<T> key) {
+    Objects.requireNonNull(key, "TypedKey must not be null");
+    ScopedKeyId id = new ScopedKeyId(prefix, key);
+    TypedKey<?> scopedKey = SCOPED_KEYS.get(id);
+    if (scopedKey == null) {
+      if (SCOPED_KEYS.size() >= MAX_SCOPED_KEYS) {
+        return null;
+      }
+      scopedKey = SCOPED_KEYS.computeIfAbsent(id, _ -> TypedKey.of(scoped(key.name()), key.type()));
+    }
+    return (TypedKey<T>) scopedKey;
+  }
+
+  private record ScopedKeyId(String prefix, TypedKey<?> key) {}
+
   // --- String Key Overrides ---
 
   @Override
@@ -50,26 +82,23 @@ public final class ScopedWorkflowContext extends WorkflowContext {
     return delegate.containsKey(scoped(key));
   }
 
-  // --- TypedKey Overrides (This was causing your test failure) ---
+  // --- TypedKey Overrides ---
 
   @Override
   public <T> void put(TypedKey<T> key, T value) {
-    Objects.requireNonNull(key, "TypedKey must not be null");
-    // We create a temporary namespaced string key or a new TypedKey
-    // delegation is simplest via the string put
-    delegate.put(scoped(key.name()), value);
+    Objects.requireNonNull(value, "value must not be null");
+    store(key, value);
   }
 
   @Override
   public <T> T get(TypedKey<T> key) {
-    Object value = delegate.get(scoped(key.name()));
+    Object value = lookup(key);
     return value == null ? null : key.type().cast(value);
   }
 
   @Override
   public <T> T getStrict(TypedKey<T> key) {
-    // Delegate logic but use scoped name
-    Object value = delegate.get(scoped(key.name()));
+    Object value = lookup(key);
     if (value == null) return null;
     if (!key.type().isInstance(value)) {
       throw new IllegalStateException("Key " + scoped(key.name()) + " type mismatch");
@@ -103,12 +132,50 @@ public final class ScopedWorkflowContext extends WorkflowContext {
 
   @Override
   public <T> T remove(TypedKey<T> key) {
-    Objects.requireNonNull(key, "TypedKey must not be null");
     // We must cast the result back to the type defined in the TypedKey
-    Object removedValue = delegate.remove(scoped(key.name()));
+    Object removedValue = delete(key);
     return removedValue == null ? null : key.type().cast(removedValue);
   }
 
+  // --- Storage primitives, so forks layered over a scope and nested scopes read through it ---
+
+  @Override
+  Object lookup(String key) {
+    return delegate.lookup(scoped(key));
+  }
+
+  @Override
+  void store(String key, Object value) {
+    delegate.store(scoped(key), value);
+  }
+
+  @Override
+  Object delete(String key) {
+    return delegate.delete(scoped(key));
+  }
+
+  @Override
+  Object lookup(TypedKey<?> key) {
+    TypedKey<?> scopedKey = scoped(key);
+    return scopedKey != null ? delegate.lookup(scopedKey) : delegate.lookup(scoped(key.name()));
+  }
+
+  @Override
+  void store(TypedKey<?> key, Object value) {
+    TypedKey<?> scopedKey = scoped(key);
+    if (scopedKey != null) {
+      delegate.store(scopedKey, value);
+    } else {
+      delegate.store(scoped(key.name()), value);
+    }
+  }
+
+  @Override
+  Object delete(TypedKey<?> key) {
+    TypedKey<?> scopedKey = scoped(key);
+    return scopedKey != null ? delegate.delete(scopedKey) : delegate.delete(scoped(key.name()));
+  }
+
   // --- Scoping Depth (Support for nested scopes) ---
 
   @Override
@@ -120,6 +187,22 @@ public final class ScopedWorkflowContext extends WorkflowContext {
 
   // --- Copying logic ---
 
+  @Override
+  Map<String, Object> entries() {
+    // Copies of a scoped context are scoped views over a copy of the delegate
+    return delegate.entries();
+  }
+
+  @Override
+  boolean isScopedView() {
+    return true;
+  }
+
+  @Override
+  String entriesPrefix() {
+    return delegate.entriesPrefix() + prefix;
+  }
+
   @Override
   public WorkflowContext copy() {
     // When copying a scoped context, we return a standard WorkflowContext
@@ -127,4 +210,26 @@ public final class ScopedWorkflowContext extends WorkflowContext {
     // Or we can return a scoped view of a copy. Delegation is usually safer:
     return new ScopedWorkflowContext(delegate.copy(), this.prefix);
   }
+
+  /**
+   * Copies this scope's entries that match the filter into a plain context. Keys outside the scope
+   * are skipped; the filter is tested against, and the copy keyed by, the names within the scope.
+   */
+  @Override
+  public WorkflowContext copy(Predicate<String> filter) {
+    String fullPrefix = entriesPrefix();
+    WorkflowContext newContext = new WorkflowContext();
+    delegate
+        .entries()
+        .forEach(
+            (key, value) -> {
+              if (key.startsWith(fullPrefix)) {
+                String name = key.substring(fullPrefix.length());
+                if (filter.test(name)) {
+                  newContext.store(name, value);
+                }
+              }
+            });
+    return newContext;
+  }
 }
@@ -0,0 +1,50 @@
+package com.workflow.context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Process-wide registry assigning every {@link TypedKey} name a dense integer slot.
+ *
+ * <p>Contexts store typed values in a {@link SlotTable} indexed by these slots, so {@code
+ * get(TypedKey)} is an array read instead of a string hash lookup. All keys with the same name
+ * share a slot, which keeps string and typed access to the same entry interchangeable.
+ *
+ * <p>Slots are never released. Typed keys are meant to be constants; creating them from unbounded
+ * dynamic names grows the registry for the lifetime of the process, and the slot table of any
+ * context that uses the late keys. Scoped contexts therefore register their prefixed names only up
+ * to a shared bound.
+ */
+@UtilityClass
+class SlotRegistry {
+  private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+  private static final CopyOnWriteArrayList<String> NAMES = new CopyOnWriteArrayList<>();
+
+  /** Returns the slot of {@code name}, assigning the next free one on first use. */
+  static int slotFor(String name) {
+    Integer slot = SLOTS.get(name);
+    return slot != null ? slot : assign(name);
+  }
+
+  private static synchronized int assign(String name) {
+    return SLOTS.computeIfAbsent(
+        name,
+        n -> {
+          NAMES.add(n);
+          return NAMES.size() - 1;
+        });
+  }
+
+  /** Returns the slot of {@code name}, or -1 if no typed key with that name exists. */
+  static int slotOf(String name) {
+    Integer slot = SLOTS.get(name);
+    return slot != null ? slot : -1;
+  }
+
+  /** Returns the name owning {@code slot}. */
+  static String nameOf(int slot) {
+    return NAMES.get(slot);
+  }
+}
@@ -0,0 +1,108 @@
+package com.workflow.context;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Lock-free array of context values indexed by {@link SlotRegistry} slots.
+ *
+ * <p>Reads and writes are single {@link AtomicReferenceArray} operations. A table is sized by the
+ * highest slot written to it, not by the size of the registry, so a context using a few keys stays
+ * small however many keys the process has registered. Writing a slot beyond the end grows the
+ * table: growth runs under the table's lock and marks every copied cell of the old array as {@link
+ * #MOVED}, so a racing writer fails its CAS, waits for the lock and retries on the new array
+ * instead of losing its write.
+ */
+final class SlotTable {
+  private static final Object MOVED = new Object();
+  private static final int INITIAL_LENGTH = 8;
+
+  private volatile AtomicReferenceArray<Object> values;
+
+  SlotTable() {
+    this.values = new AtomicReferenceArray<>(INITIAL_LENGTH);
+  }
+
+  /** Snapshot copy of another table, trimmed to its highest non-empty slot. */
+  SlotTable(SlotTable other) {
+    int length = other.values.length();
+    Object[] snapshot = new Object[length];
+    int used = 0;
+    for (int slot = 0; slot < length; slot++) {
+      Object value = other.get(slot);
+      if (value != null) {
+        snapshot[slot] = value;
+        used = slot + 1;
+      }
+    }
+    AtomicReferenceArray<Object> copy =
+        new AtomicReferenceArray<>(Math.max(used, INITIAL_LENGTH));
+    for (int slot = 0; slot < used; slot++) {
+      copy.set(slot, snapshot[slot]);
+    }
+    this.values = copy;
+  }
+
+  Object get(int slot) {
+    while (true) {
+      AtomicReferenceArray<Object> array = values;
+      if (slot >= array.length()) {
+        return null;
+      }
+      Object value = array.get(slot);
+      if (value != MOVED) {
+        return value;
+      }
+      awaitGrowth();
+    }
+  }
+
+  /** Sets the slot to {@code value} ({@code null} clears it) and returns the previous value. */
+  Object getAndSet(int slot, Object value) {
+    while (true) {
+      AtomicReferenceArray<Object> array = values;
+      if (slot >= array.length()) {
+        if (value == null) {
+          return null;
+        }
+        grow(slot + 1);
+        continue;
+      }
+      Object current = array.get(slot);
+      if (current == MOVED) {
+        awaitGrowth();
+      } else if (array.compareAndSet(slot, current, value)) {
+        return current;
+      }
+    }
+  }
+
+  /** Calls {@code action} for every non-empty slot. */
+  void forEach(ObjIntConsumer<Object> action) {
+    int length = values.length();
+    for (int slot = 0; slot < length; slot++) {
+      Object value = get(slot);
+      if (value != null) {
+        action.accept(value, slot);
+      }
+    }
+  }
+
+  private synchronized void grow(int minLength) {
+    AtomicReferenceArray<Object> array = values;
+    if (array.length() >= minLength) {
+      return;
+    }
+    int length = Math.max(minLength, array.length() * 2);
+    AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>(length);
+    for (int slot = 0; slot < array.length(); slot++) {
+      grown.set(slot, array.getAndSet(slot, MOVED));
+    }
+    values = grown;
+  }
+
+  /** Growth holds the lock until the new array is published. */
+  private synchronized void awaitGrowth() {
+    // Acquiring the lock is enough
+  }
+}
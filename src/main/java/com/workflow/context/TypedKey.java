@@ -15,16 +15,23 @@ import java.util.Objects;
  *
  * This ensures type safety when storing and retrieving values from the context.
  *
+ * <p><b>Performance:</b> Every key name is interned into a process-wide registry that assigns it a
+ * dense slot, and contexts store typed values in an array indexed by that slot. Accessing a value
+ * through a {@code TypedKey} therefore involves no string hashing. Declare keys as constants;
+ * slots are never released. String access to the same name reaches the same entry.
+ *
  * @param <T> the type of the value associated with this key
  */
 public final class TypedKey<T> {
 
   private final String name;
   private final Class<T> type;
+  private final int slot;
 
   private TypedKey(String name, Class<T> type) {
     this.name = Objects.requireNonNull(name);
     this.type = Objects.requireNonNull(type);
+    this.slot = SlotRegistry.slotFor(name);
   }
 
   public static <T> TypedKey<T> of(String name, Class<T> type) {
@@ -39,6 +46,11 @@ public final class TypedKey<T> {
     return type;
   }
 
+  /** Dense slot shared by every key with this name. */
+  int slot() {
+    return slot;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -1,9 +1,11 @@
 package com.workflow.context;
 
 import com.workflow.listener.WorkflowListeners;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Predicate;
 import lombok.Getter;
 import tools.jackson.core.type.TypeReference;
@@ -25,8 +27,8 @@ import tools.jackson.databind.type.TypeFactory;
  * access from multiple threads simultaneously, including parallel workflows.
  *
  * <p><b>Context Isolation:</b> By default, all child workflows/tasks share the same context
- * instance. Some workflow types (like ParallelWorkflow with shareContext=false) can create isolated
- * copies of context.
+ * instance. Some workflow types (like ParallelWorkflow with shareContext=false) give each child an
+ * isolated {@link #fork()}, a copy-on-write layer that costs O(1) regardless of the context size.
  *
  * <p><b>Key Naming Conventions:</b>
  *
@@ -132,8 +134,14 @@ import tools.jackson.databind.type.TypeFactory;
  * @see TypedKey
  */
 public class WorkflowContext {
+  private static final AtomicReferenceFieldUpdater<WorkflowContext, SlotTable> SLOTS =
+      AtomicReferenceFieldUpdater.newUpdater(WorkflowContext.class, SlotTable.class, "slots");
+
   private final Map<String, Object> context;
 
+  /** Values stored under {@link TypedKey} names, indexed by slot; created on first typed write. */
+  private volatile SlotTable slots;
+
   /**
    * Registry of listeners associated with this context.
    *
@@ -158,7 +166,7 @@ public class WorkflowContext {
   public <T> void put(String key, T value) {
     Objects.requireNonNull(key, "key must not be null");
     Objects.requireNonNull(value, "value must not be null");
-    context.put(key, value);
+    store(key, value);
   }
 
   /**
@@ -168,7 +176,7 @@ public class WorkflowContext {
    * @return the stored value or {@code null} if absent
    */
   public Object get(String key) {
-    return context.get(key);
+    return lookup(key);
   }
 
   /**
@@ -179,7 +187,8 @@ public class WorkflowContext {
    * @return the stored value or {@code defaultValue}
    */
   public Object get(String key, Object defaultValue) {
-    return context.getOrDefault(key, defaultValue);
+    Object value = lookup(key);
+    return value != null ? value : defaultValue;
   }
 
   /**
@@ -192,7 +201,7 @@ public class WorkflowContext {
    * @return the typed value or {@code null} if absent
    */
   public <T> T getTyped(String key, Class<T> type) {
-    return type.cast(context.get(key));
+    return type.cast(lookup(key));
   }
 
   /**
@@ -205,7 +214,7 @@ public class WorkflowContext {
    * @return the typed value or {@code null} if absent
    */
   public <T> T getTypedStrict(String key, Class<T> type) {
-    Object value = context.get(key);
+    Object value = lookup(key);
     if (value == null) return null;
     if (!type.isInstance(value)) {
       throw new IllegalStateException("Expected key '" + key + "' to be " + type.getName());
@@ -223,7 +232,7 @@ public class WorkflowContext {
    * @return typed value or {@code defaultValue}
    */
   public <T> T getTyped(String key, Class<T> type, T defaultValue) {
-    Object value = context.get(key);
+    Object value = lookup(key);
     return value == null ? defaultValue : type.cast(value);
   }
 
@@ -234,7 +243,7 @@ public class WorkflowContext {
    * @return {@code true} if the key exists, {@code false} otherwise
    */
   public boolean containsKey(String key) {
-    return context.containsKey(key);
+    return lookup(key) != null;
   }
 
   /**
@@ -244,7 +253,7 @@ public class WorkflowContext {
    * @return the previous value associated with the key, or {@code null} if absent
    */
   public Object remove(String key) {
-    return context.remove(key);
+    return delete(key);
   }
 
   /**
@@ -257,7 +266,7 @@ public class WorkflowContext {
    * @throws ClassCastException if the stored value is not assignable to {@code type}
    */
   public <T> T remove(String key, Class<T> type) {
-    Object value = context.remove(key);
+    Object value = delete(key);
     return value == null ? null : type.cast(value);
   }
 
@@ -270,7 +279,8 @@ public class WorkflowContext {
    */
   public <T> void put(TypedKey<T> key, T value) {
     Objects.requireNonNull(key, "TypedKey must not be null");
-    context.put(key.name(), value);
+    Objects.requireNonNull(value, "value must not be null");
+    store(key, value);
   }
 
   /**
@@ -295,7 +305,7 @@ public class WorkflowContext {
    * @return the typed value or {@code null} if absent
    */
   public <T> T get(TypedKey<T> key) {
-    Object value = context.get(key.name());
+    Object value = lookup(key);
     return value == null ? null : key.type().cast(value);
   }
 
@@ -321,7 +331,7 @@ public class WorkflowContext {
    * @return the typed value or {@code null} if absent
    */
   public <T> T getStrict(TypedKey<T> key) {
-    Object value = context.get(key.name());
+    Object value = lookup(key);
     if (value == null) return null;
     if (!key.type().isInstance(value)) {
       throw new IllegalStateException(
@@ -355,7 +365,7 @@ public class WorkflowContext {
    * @return the typed value that was removed, or {@code null} if absent
    */
   public <T> T remove(TypedKey<T> key) {
-    Object value = context.remove(key.name());
+    Object value = delete(key);
     return value == null ? null : key.type().cast(value);
   }
 
@@ -385,7 +395,7 @@ public class WorkflowContext {
    */
   @SuppressWarnings("unchecked")
   public <T> T getTyped(String key, TypeReference<T> typeRef) {
-    Object value = context.get(key);
+    Object value = lookup(key);
     if (value == null) return null;
 
     // Runtime type check using raw class from TypeReference
@@ -463,9 +473,136 @@ public class WorkflowContext {
   public WorkflowContext copy() {
     WorkflowContext newContext = new WorkflowContext(this.listeners);
     newContext.context.putAll(this.context);
+    SlotTable table = slots;
+    if (table != null) {
+      newContext.slots = new SlotTable(table);
+    }
     return newContext;
   }
 
+  /**
+   * Forks this context in O(1) as a copy-on-write {@link LayeredWorkflowContext}.
+   *
+   * <p>Unlike {@link #copy()}, no entries are copied: reads fall through to this context, and only
+   * the keys the fork writes or removes are materialised in its own layer. Use it to hand isolated
+   * contexts to many children of a large context; publish a fork's changes with {@link
+   * LayeredWorkflowContext#mergeBack()} or {@link ContextMergePolicy}.
+   *
+   * <p>Entries this context changes after the fork are visible in the fork unless the fork has
+   * written or removed the same key.
+   *
+   * @return a new fork layered over this context
+   */
+  public LayeredWorkflowContext fork() {
+    return new LayeredWorkflowContext(this);
+  }
+
+  /**
+   * Read-only view of this context's entries, including those stored under typed keys; scoped
+   * views return their delegate's.
+   */
+  Map<String, Object> entries() {
+    SlotTable table = slots;
+    if (table == null) {
+      return context;
+    }
+    Map<String, Object> entries = new HashMap<>(context);
+    // Slot values shadow map values stored before the name had a slot
+    table.forEach((value, slot) -> entries.put(SlotRegistry.nameOf(slot), value));
+    return entries;
+  }
+
+  /** Whether {@link #entries()} is keyed by delegate names rather than this view's own names. */
+  boolean isScopedView() {
+    return false;
+  }
+
+  /** Prefix {@link #entries()} puts before this view's own names; empty for a plain context. */
+  String entriesPrefix() {
+    return "";
+  }
+
+  // --- Storage primitives; layered views override these to fall through to their parent ---
+  //
+  // Typed keys live in the slot table, string keys in the map. Until a typed key has been written,
+  // a context has no slot table and string access is a plain map operation. Afterwards string
+  // access to a name owned by a TypedKey goes to its slot, which shadows a value written by name
+  // before the slot was used.
+
+  Object lookup(String key) {
+    SlotTable table = slots;
+    if (table != null) {
+      int slot = SlotRegistry.slotOf(key);
+      if (slot >= 0) {
+        Object value = table.get(slot);
+        if (value != null) {
+          return value;
+        }
+      }
+    }
+    return context.get(key);
+  }
+
+  void store(String key, Object value) {
+    SlotTable table = slots;
+    int slot = table != null ? SlotRegistry.slotOf(key) : -1;
+    if (slot >= 0) {
+      table.getAndSet(slot, value);
+      return;
+    }
+    context.put(key, value);
+    if (table == null) {
+      // A typed write may have created the slot table meanwhile; its slot would shadow the map
+      table = slots;
+      slot = table != null ? SlotRegistry.slotOf(key) : -1;
+      if (slot >= 0) {
+        table.getAndSet(slot, value);
+      }
+    }
+  }
+
+  Object delete(String key) {
+    SlotTable table = slots;
+    int slot = table != null ? SlotRegistry.slotOf(key) : -1;
+    Object previous = slot >= 0 ? table.getAndSet(slot, null) : null;
+    Object mapped = context.remove(key);
+    return previous != null ? previous : mapped;
+  }
+
+  Object lookup(TypedKey<?> key) {
+    Object value = slotValue(key.slot());
+    return value != null ? value : context.get(key.name());
+  }
+
+  void store(TypedKey<?> key, Object value) {
+    slotTable().getAndSet(key.slot(), value);
+  }
+
+  Object delete(TypedKey<?> key) {
+    Object previous = clearSlot(key.slot());
+    Object mapped = context.remove(key.name());
+    return previous != null ? previous : mapped;
+  }
+
+  private Object slotValue(int slot) {
+    SlotTable table = slots;
+    return table != null ? table.get(slot) : null;
+  }
+
+  private Object clearSlot(int slot) {
+    SlotTable table = slots;
+    return table != null ? table.getAndSet(slot, null) : null;
+  }
+
+  private SlotTable slotTable() {
+    SlotTable table = slots;
+    if (table == null) {
+      SLOTS.compareAndSet(this, null, new SlotTable());
+      table = slots;
+    }
+    return table;
+  }
+
   /**
    * Creates a copy of this context based on the predicate; stored objects are not deep-copied.
    *
@@ -474,9 +611,13 @@ public class WorkflowContext {
    */
   public WorkflowContext copy(Predicate<String> filter) {
     WorkflowContext newContext = new WorkflowContext();
-    context.entrySet().stream()
-        .filter(e -> filter.test(e.getKey()))
-        .forEach(e -> newContext.context.put(e.getKey(), e.getValue()));
+    entries()
+        .forEach(
+            (key, value) -> {
+              if (filter.test(key)) {
+                newContext.store(key, value);
+              }
+            });
     return newContext;
   }
 }
@@ -1,14 +1,18 @@
 package com.workflow.database;
 
-import com.workflow.ParallelWorkflow;
-import com.workflow.SequentialWorkflow;
 import com.workflow.Workflow;
 import com.workflow.exception.WorkflowBuildException;
+import com.workflow.helper.ValidationUtils;
 import com.workflow.registry.WorkflowRegistry;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,12 +58,66 @@ import lombok.extern.slf4j.Slf4j;
  * DatabaseWorkflowProcessor processor = new DatabaseWorkflowProcessor(dataSource, registry);
  * Workflow workflow = processor.buildWorkflow("DataPipeline");
  * }</pre>
+ *
+ * <h3>Nested Workflows and Step Policies:</h3>
+ *
+ * <p>A step whose instance_name is not registered but names another workflow in the database is
+ * built as a nested composite, to any depth; the optional step_type column forces either kind of
+ * reference (see {@link WorkflowStepMetadata.StepType}). The whole tree is loaded with one
+ * recursive query, or one query per level of nesting on databases without recursive queries (see
+ * {@link WorkflowConfigRepository}). Each nested workflow is built once however often it is
+ * referenced, and a reference cycle fails the build. Optional policy columns wrap individual
+ * steps in retries, a timeout or a rate limit (see {@link WorkflowStepPolicy}).
+ *
+ * <h3>Caching:</h3>
+ *
+ * <p>By default every {@link #buildWorkflow(String)} call loads the definition (one joined query)
+ * and builds a new composite. Processors created with {@link #builder()} can cache built workflows
+ * instead:
+ *
+ * <ul>
+ *   <li><b>TTL:</b> With {@link Builder#cacheTtl(Duration)}, a cached workflow is reloaded once it
+ *       is older than the TTL
+ *   <li><b>Version Column:</b> With {@link Builder#versionColumn(String)}, the versions of all
+ *       workflows are read with one query at most once per {@link
+ *       Builder#versionCheckInterval(Duration)}, and workflows whose version changed are reloaded.
+ *       Update the column whenever a workflow or its steps change
+ *   <li><b>Registry Changes:</b> A cached workflow is rebuilt, without a query, when any of its
+ *       step instances has been replaced in the {@link WorkflowRegistry}
+ *   <li><b>Preloading:</b> {@link #preloadAll()} loads and builds every workflow with one query,
+ *       typically at startup
+ * </ul>
+ *
+ * <pre>{@code
+ * DatabaseWorkflowProcessor processor = DatabaseWorkflowProcessor.builder()
+ *     .dataSource(dataSource)
+ *     .registry(registry)
+ *     .cacheTtl(Duration.ofMinutes(10))
+ *     .versionColumn("updated_at")
+ *     .build();
+ *
+ * processor.preloadAll();
+ * Workflow workflow = processor.buildWorkflow("DataPipeline"); // no database access
+ * }</pre>
  */
 @Slf4j
 public class DatabaseWorkflowProcessor {
+  /** Default minimum time between two reads of the version column. */
+  public static final Duration DEFAULT_VERSION_CHECK_INTERVAL = Duration.ofSeconds(5);
+
   private final WorkflowConfigRepository repository;
   private final WorkflowRegistry registry;
 
+  private final boolean cachingEnabled;
+  private final long cacheTtlNanos;
+  private final String versionColumn;
+  private final long versionCheckIntervalNanos;
+
+  private final Map<String, CachedWorkflow> cache = new ConcurrentHashMap<>();
+  private final Object versionLock = new Object();
+  private volatile Map<String, String> versions = Collections.emptyMap();
+  private volatile long nextVersionCheck = System.nanoTime();
+
   /**
    * Creates a new database workflow processor.
    *
@@ -67,8 +125,7 @@ public class DatabaseWorkflowProcessor {
    * @param registry the workflow registry for resolving workflow instances
    */
   public DatabaseWorkflowProcessor(DataSource dataSource, WorkflowRegistry registry) {
-    this.repository = new WorkflowConfigRepository(dataSource);
-    this.registry = registry;
+    this(new WorkflowConfigRepository(dataSource), registry);
   }
 
   /**
@@ -80,109 +137,190 @@ public class DatabaseWorkflowProcessor {
   public DatabaseWorkflowProcessor(WorkflowConfigRepository repository, WorkflowRegistry registry) {
     this.repository = repository;
     this.registry = registry;
+    this.cachingEnabled = false;
+    this.cacheTtlNanos = Long.MAX_VALUE;
+    this.versionColumn = null;
+    this.versionCheckIntervalNanos = 0;
+  }
+
+  private DatabaseWorkflowProcessor(Builder builder) {
+    this.repository = builder.repository;
+    this.registry = builder.registry;
+    this.cachingEnabled = builder.cacheTtl != null || builder.versionColumn != null;
+    this.cacheTtlNanos = builder.cacheTtl != null ? builder.cacheTtl.toNanos() : Long.MAX_VALUE;
+    this.versionColumn = builder.versionColumn;
+    this.versionCheckIntervalNanos = builder.versionCheckInterval.toNanos();
   }
 
   /**
-   * Builds a workflow from database configuration by workflow name.
+   * Creates a builder for a processor with optional caching.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds a workflow from database configuration by workflow name. The workflow and all
+   * workflows nested in it are loaded with one query. If caching is enabled, a cached workflow is
+   * returned while it is still current.
    *
    * @param workflowName the workflow name
    * @return the constructed Workflow
    * @throws WorkflowBuildException if the workflow cannot be built
    */
   public Workflow buildWorkflow(String workflowName) {
-    try {
+    if (!cachingEnabled) {
       log.info("Building workflow from database: {}", workflowName);
+      Map<String, WorkflowDefinition> definitions = loadTree(workflowName);
+      return new WorkflowTreeBuilder(definitions, registry).build(workflowName).workflow();
+    }
 
-      // Fetch workflow metadata
-      Optional<WorkflowMetadata> metadata = repository.getWorkflow(workflowName);
-      if (metadata.isEmpty()) {
-        throw new WorkflowBuildException(
-            "Workflow not found in database: " + workflowName, new IllegalArgumentException());
-      }
-
-      WorkflowMetadata workflowMetadata = metadata.get();
-
-      // Fetch workflow steps
-      List<WorkflowStepMetadata> steps = repository.getWorkflowSteps(workflowName);
-      if (steps.isEmpty()) {
-        throw new WorkflowBuildException(
-            "No workflow steps found for workflow: " + workflowName,
-            new IllegalArgumentException());
+    Objects.requireNonNull(workflowName, "workflowName must not be null");
+    checkVersionsIfDue();
+    long now = System.nanoTime();
+    CachedWorkflow cached = cache.get(workflowName);
+    if (cached != null && now - cached.loadedAt() < cacheTtlNanos) {
+      if (cached.built().isCurrent(registry)) {
+        log.debug("Using cached workflow: {}", workflowName);
+        return cached.workflow();
       }
+      // A step instance was replaced in the registry; the definitions themselves are still current
+      log.debug("Rebuilding cached workflow after registry change: {}", workflowName);
+      Map<String, WorkflowDefinition> definitions = cached.definitions();
+      WorkflowTreeBuilder builder = new WorkflowTreeBuilder(definitions, registry);
+      return store(workflowName, definitions, builder, cached.versions(), cached.loadedAt())
+          .workflow();
+    }
 
-      // Resolve workflow instances from registry
-      List<Workflow> workflows = resolveWorkflowInstances(steps);
-
-      // Build the composite workflow
-      Workflow compositeWorkflow =
-          buildCompositeWorkflow(workflowName, workflowMetadata, workflows);
+    log.info("Building workflow from database: {}", workflowName);
+    // Read before the load, so a change committed in between shows up as a version mismatch
+    Map<String, String> loadedVersions = versions;
+    Map<String, WorkflowDefinition> definitions = loadTree(workflowName);
+    WorkflowTreeBuilder builder = new WorkflowTreeBuilder(definitions, registry);
+    return store(workflowName, definitions, builder, loadedVersions, now).workflow();
+  }
 
-      log.info("Successfully built workflow: {} with {} steps", workflowName, workflows.size());
-      return compositeWorkflow;
+  /**
+   * Loads and builds every workflow in the database with a single query and caches the results.
+   * Nested workflows are built once and shared. Workflows that cannot be built, for example
+   * because a step instance is not registered yet, are logged and skipped; they are built on first
+   * use instead.
+   *
+   * @return the number of workflows cached
+   * @throws IllegalStateException if caching is not enabled
+   * @throws WorkflowBuildException if the workflows cannot be read from the database
+   */
+  public int preloadAll() {
+    if (!cachingEnabled) {
+      throw new IllegalStateException("Caching is not enabled for this processor");
+    }
 
+    checkVersionsIfDue();
+    Map<String, String> loadedVersions = versions;
+    Map<String, WorkflowDefinition> definitions;
+    try {
+      definitions = WorkflowTreeBuilder.byName(repository.getAllWorkflowDefinitions());
     } catch (SQLException e) {
-      throw new WorkflowBuildException(
-          "Database error while building workflow: " + workflowName, e);
+      throw new WorkflowBuildException("Database error while preloading workflows", e);
     }
+
+    long now = System.nanoTime();
+    WorkflowTreeBuilder builder = new WorkflowTreeBuilder(definitions, registry);
+    int loaded = 0;
+    for (String workflowName : definitions.keySet()) {
+      try {
+        store(workflowName, definitions, builder, loadedVersions, now);
+        loaded++;
+      } catch (WorkflowBuildException e) {
+        log.warn("Skipping preload of workflow {}: {}", workflowName, e.getMessage());
+      }
+    }
+    log.info("Preloaded {} of {} workflows from database", loaded, definitions.size());
+    return loaded;
   }
 
   /**
-   * Resolves all workflow instances from the registry based on step metadata.
+   * Removes a workflow from the cache, so the next {@link #buildWorkflow(String)} reloads it.
    *
-   * @param steps the workflow step metadata
-   * @return list of resolved workflow instances in order
-   * @throws WorkflowBuildException if any instance cannot be resolved
+   * @param workflowName the workflow name
    */
-  private List<Workflow> resolveWorkflowInstances(List<WorkflowStepMetadata> steps) {
-    List<Workflow> workflows = new ArrayList<>();
+  public void invalidate(String workflowName) {
+    cache.remove(workflowName);
+  }
 
-    for (WorkflowStepMetadata step : steps) {
-      String instanceName = step.instanceName();
-      log.debug("Resolving workflow instance: {}", instanceName);
+  /** Removes all workflows from the cache. */
+  public void invalidateAll() {
+    cache.clear();
+  }
 
-      Optional<Workflow> workflowOptional = registry.getWorkflow(instanceName);
-      if (workflowOptional.isEmpty()) {
+  /** Loads a workflow and every workflow nested in it, keyed by name. */
+  private Map<String, WorkflowDefinition> loadTree(String workflowName) {
+    try {
+      List<WorkflowDefinition> tree = repository.getWorkflowTree(workflowName);
+      if (tree.isEmpty()) {
         throw new WorkflowBuildException(
-            "Workflow instance not found in registry: " + instanceName,
-            new IllegalArgumentException());
+            "Workflow not found in database: " + workflowName, new IllegalArgumentException());
       }
-
-      workflows.add(workflowOptional.get());
+      return WorkflowTreeBuilder.byName(tree);
+    } catch (SQLException e) {
+      throw new WorkflowBuildException(
+          "Database error while building workflow: " + workflowName, e);
     }
-
-    return workflows;
   }
 
   /**
-   * Builds the composite workflow (sequential or parallel) from resolved workflow instances.
+   * Builds a workflow and caches it, tagged with the versions of all workflows in its tree.
    *
-   * @param workflowName the workflow name
-   * @param metadata the workflow metadata
-   * @param workflows the resolved workflow instances
-   * @return the composite workflow
+   * <p>The versions must have been read before the definitions. Tagged with older versions, a
+   * workflow changed in between is reloaded at the next version check; tagged with newer ones, it
+   * would be served stale until its next change.
+   */
+  private CachedWorkflow store(
+      String workflowName,
+      Map<String, WorkflowDefinition> definitions,
+      WorkflowTreeBuilder builder,
+      Map<String, String> loadedVersions,
+      long loadedAt) {
+    WorkflowTreeBuilder.Built built = builder.build(workflowName);
+    Map<String, String> treeVersions = new HashMap<>();
+    for (String name : built.definitions()) {
+      treeVersions.put(name, loadedVersions.get(name));
+    }
+    CachedWorkflow cached = new CachedWorkflow(definitions, built, treeVersions, loadedAt);
+    cache.put(workflowName, cached);
+    return cached;
+  }
+
+  /**
+   * Reads all versions and evicts workflows whose version, or the version of any workflow nested
+   * in them, changed, at most once per interval.
    */
-  private Workflow buildCompositeWorkflow(
-      String workflowName, WorkflowMetadata metadata, List<Workflow> workflows) {
-    if (metadata.isParallel()) {
-      log.debug(
-          "Creating parallel workflow: {} (failFast={}, shareContext={})",
-          workflowName,
-          metadata.failFast(),
-          metadata.shareContext());
-      return ParallelWorkflow.builder()
-          .name(workflowName)
-          .workflows(workflows)
-          .failFast(metadata.failFast())
-          .shareContext(metadata.shareContext())
-          .build();
-    } else {
-      log.debug("Creating sequential workflow: {}", workflowName);
-      return SequentialWorkflow.builder().name(workflowName).workflows(workflows).build();
+  private void checkVersionsIfDue() {
+    if (versionColumn == null || System.nanoTime() - nextVersionCheck < 0) {
+      return;
+    }
+    synchronized (versionLock) {
+      long now = System.nanoTime();
+      if (now - nextVersionCheck < 0) {
+        // Another thread checked while we waited
+        return;
+      }
+      nextVersionCheck = now + versionCheckIntervalNanos;
+      try {
+        Map<String, String> latest = repository.getWorkflowVersions(versionColumn);
+        cache.values().removeIf(cached -> !cached.isCurrentVersion(latest));
+        versions = latest;
+      } catch (SQLException e) {
+        log.warn("Could not read workflow versions; keeping cached workflows", e);
+      }
     }
   }
 
   /**
-   * Checks if a workflow exists in the database.
+   * Checks if a workflow exists in the database. The database is always asked, since a cached
+   * workflow may have been deleted since it was loaded.
    *
    * @param workflowName the workflow name
    * @return true if the workflow exists in the database
@@ -209,4 +347,130 @@ public class DatabaseWorkflowProcessor {
       return new ArrayList<>();
     }
   }
+
+  /** A built workflow with the definitions it was built from and their versions. */
+  private record CachedWorkflow(
+      Map<String, WorkflowDefinition> definitions,
+      WorkflowTreeBuilder.Built built,
+      Map<String, String> versions,
+      long loadedAt) {
+
+    Workflow workflow() {
+      return built.workflow();
+    }
+
+    /**
+     * Returns whether every workflow in the tree is still in {@code latest}, with the same version.
+     */
+    boolean isCurrentVersion(Map<String, String> latest) {
+      for (Map.Entry<String, String> version : versions.entrySet()) {
+        if (!latest.containsKey(version.getKey())
+            || !Objects.equals(latest.get(version.getKey()), version.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /** Builder for a {@link DatabaseWorkflowProcessor} with optional caching. */
+  public static class Builder {
+    private WorkflowConfigRepository repository;
+    private WorkflowRegistry registry;
+    private Duration cacheTtl;
+    private String versionColumn;
+    private Duration versionCheckInterval = DEFAULT_VERSION_CHECK_INTERVAL;
+
+    private Builder() {}
+
+    /**
+     * Reads workflow configuration from the given data source.
+     *
+     * @param dataSource the JDBC DataSource
+     * @return this builder
+     */
+    public Builder dataSource(DataSource dataSource) {
+      this.repository = new WorkflowConfigRepository(dataSource);
+      return this;
+    }
+
+    /**
+     * Reads workflow configuration through an existing repository.
+     *
+     * @param repository the workflow configuration repository
+     * @return this builder
+     */
+    public Builder repository(WorkflowConfigRepository repository) {
+      this.repository = repository;
+      return this;
+    }
+
+    /**
+     * Sets the registry used to resolve step instances.
+     *
+     * @param registry the workflow registry
+     * @return this builder
+     */
+    public Builder registry(WorkflowRegistry registry) {
+      this.registry = registry;
+      return this;
+    }
+
+    /**
+     * Enables caching, reloading each workflow once it has been cached for longer than the TTL.
+     *
+     * @param cacheTtl how long a built workflow is reused
+     * @return this builder
+     */
+    public Builder cacheTtl(Duration cacheTtl) {
+      this.cacheTtl = cacheTtl;
+      return this;
+    }
+
+    /**
+     * Enables caching with invalidation driven by a column of the workflow table, such as a
+     * version counter or an {@code updated_at} timestamp.
+     *
+     * @param versionColumn the column name
+     * @return this builder
+     */
+    public Builder versionColumn(String versionColumn) {
+      this.versionColumn = versionColumn;
+      return this;
+    }
+
+    /**
+     * Sets the minimum time between two reads of the version column. Defaults to {@link
+     * #DEFAULT_VERSION_CHECK_INTERVAL}.
+     *
+     * @param versionCheckInterval the interval
+     * @return this builder
+     */
+    public Builder versionCheckInterval(Duration versionCheckInterval) {
+      this.versionCheckInterval = versionCheckInterval;
+      return this;
+    }
+
+    /**
+     * Builds the processor.
+     *
+     * @return a new {@link DatabaseWorkflowProcessor}
+     * @throws NullPointerException if no repository, data source or registry was set
+     * @throws IllegalArgumentException if a duration is not positive or the version column is not
+     *     a plain column name
+     */
+    public DatabaseWorkflowProcessor build() {
+      ValidationUtils.requireNonNull(repository, "repository");
+      ValidationUtils.requireNonNull(registry, "registry");
+      if (cacheTtl != null && (cacheTtl.isNegative() || cacheTtl.isZero())) {
+        throw new IllegalArgumentException("cacheTtl must be positive, got: " + cacheTtl);
+      }
+      if (versionColumn != null) {
+        WorkflowConfigRepository.requireColumnName(versionColumn);
+      }
+      ValidationUtils.requireNonNull(versionCheckInterval, "versionCheckInterval");
+      ValidationUtils.requireNonNegative(versionCheckInterval.toMillis(), "versionCheckInterval");
+      return new DatabaseWorkflowProcessor(this);
+    }
+  }
 }
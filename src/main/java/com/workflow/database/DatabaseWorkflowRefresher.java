@@ -0,0 +1,455 @@
+package com.workflow.database;
+
+import com.workflow.Workflow;
+import com.workflow.exception.WorkflowBuildException;
+import com.workflow.helper.ValidationUtils;
+import com.workflow.registry.WorkflowRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the workflows defined in the database published in a {@link WorkflowRegistry}, rebuilding
+ * and swapping each workflow when its rows change.
+ *
+ * <p>The refresher polls the database in the background. Executions look workflows up in the
+ * registry, which is a lock-free in-memory read, so no SQL runs on the execution path. Changed
+ * workflows are swapped in with {@link WorkflowRegistry#replace(String, Workflow)}; executions that
+ * already obtained the previous instance finish with it undisturbed.
+ *
+ * <p><b>Change Detection:</b>
+ *
+ * <ul>
+ *   <li><b>Version Column:</b> With {@link Builder#versionColumn(String)}, each poll reads only the
+ *       name and version of every workflow. It then loads the trees of the changed workflows and of
+ *       the published workflows nesting them, with one {@link
+ *       WorkflowConfigRepository#getWorkflowTree(String) tree query} each, or every definition with
+ *       one joined query when most workflows changed, as on the first refresh. Update the column (a
+ *       counter or an {@code updated_at} timestamp) whenever a workflow or its steps change
+ *   <li><b>Definition Comparison:</b> Without a version column, each poll loads every definition
+ *       with one joined query and compares it to the one last published
+ * </ul>
+ *
+ * <p>When a workflow changes, the published workflows that nest it are rebuilt as well, nested
+ * workflows first. A workflow deleted from the database is removed from the registry, unless
+ * someone else has registered a different instance under its name in the meantime. A workflow that
+ * fails to build, for example because a step instance is not registered yet, keeps its previous
+ * instance and is retried on every poll until it builds.
+ *
+ * <p><b>Thread Safety:</b> Polls never overlap; {@link #refresh()} may also be called directly, for
+ * example after a deployment that changed the tables.
+ *
+ * <p><b>Example Usage:</b>
+ *
+ * <pre>{@code
+ * WorkflowRegistry registry = new WorkflowRegistry();
+ * registry.register("ValidationWorkflow", validationWorkflow);
+ * registry.register("ProcessingWorkflow", processingWorkflow);
+ *
+ * DatabaseWorkflowRefresher refresher = DatabaseWorkflowRefresher.builder()
+ *     .dataSource(dataSource)
+ *     .registry(registry)
+ *     .versionColumn("version")
+ *     .pollInterval(Duration.ofSeconds(30))
+ *     .build();
+ * refresher.start(); // publishes all workflows, then polls
+ *
+ * Workflow pipeline = registry.getWorkflow("DataPipeline").orElseThrow();
+ * ...
+ * refresher.close();
+ * }</pre>
+ *
+ * @see DatabaseWorkflowProcessor
+ */
+@Slf4j
+public class DatabaseWorkflowRefresher implements AutoCloseable {
+  /** Default time between two polls. */
+  public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+  private final WorkflowConfigRepository repository;
+  private final WorkflowRegistry registry;
+  private final WorkflowRegistry targetRegistry;
+  private final String versionColumn;
+  private final Duration pollInterval;
+  private final ScheduledExecutorService scheduler;
+  private final boolean ownsScheduler;
+
+  /** Version, or full definition, of each published workflow. Guarded by {@code this}. */
+  private final Map<String, Object> fingerprints = new HashMap<>();
+
+  /** The instance published for each workflow. Guarded by {@code this}. */
+  private final Map<String, Workflow> published = new HashMap<>();
+
+  /** Names each published workflow was built from, other than its own. Guarded by {@code this}. */
+  private final Map<String, Set<String>> dependencies = new HashMap<>();
+
+  /** Workflows whose last build failed, retried on every refresh. Guarded by {@code this}. */
+  private final Set<String> failed = new HashSet<>();
+
+  private ScheduledFuture<?> pollTask;
+  private boolean closed;
+
+  private DatabaseWorkflowRefresher(Builder builder) {
+    this.repository = builder.repository;
+    this.registry = builder.registry;
+    this.targetRegistry =
+        builder.targetRegistry != null ? builder.targetRegistry : builder.registry;
+    this.versionColumn = builder.versionColumn;
+    this.pollInterval = builder.pollInterval;
+    this.ownsScheduler = builder.scheduler == null;
+    this.scheduler =
+        ownsScheduler
+            ? Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("workflow-db-refresher").daemon().factory())
+            : builder.scheduler;
+  }
+
+  /**
+   * Creates a builder for a refresher.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Publishes all workflows with an initial {@link #refresh()}, then polls in the background.
+   *
+   * @throws IllegalStateException if the refresher was already started or closed
+   * @throws WorkflowBuildException if the initial refresh cannot read the database
+   */
+  public synchronized void start() {
+    if (closed || pollTask != null) {
+      throw new IllegalStateException("Refresher has already been started or closed");
+    }
+    refresh();
+    long intervalNanos = pollInterval.toNanos();
+    pollTask =
+        scheduler.scheduleWithFixedDelay(
+            this::poll, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    log.info("Polling workflow definitions every {}", pollInterval);
+  }
+
+  /**
+   * Checks the database once and publishes every workflow that was added, changed or deleted since
+   * the previous refresh.
+   *
+   * @return the number of workflows published or removed
+   * @throws WorkflowBuildException if the database cannot be read
+   */
+  public synchronized int refresh() {
+    try {
+      return versionColumn != null ? refreshByVersion() : refreshByDefinition();
+    } catch (SQLException e) {
+      throw new WorkflowBuildException("Database error while refreshing workflows", e);
+    }
+  }
+
+  /** Stops polling and, if the refresher created its own scheduler, shuts it down. */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (pollTask != null) {
+      pollTask.cancel(false);
+    }
+    if (ownsScheduler) {
+      scheduler.shutdown();
+    }
+  }
+
+  private void poll() {
+    try {
+      int changed = refresh();
+      if (changed > 0) {
+        log.info("Refreshed {} workflows from database", changed);
+      }
+    } catch (RuntimeException e) {
+      // An exception would cancel the scheduled task; keep the current workflows and retry
+      log.warn("Could not refresh workflows from database; keeping current workflows", e);
+    }
+  }
+
+  private int refreshByVersion() throws SQLException {
+    Map<String, String> versions = repository.getWorkflowVersions(versionColumn);
+    Set<String> changed = new HashSet<>(failed);
+    for (Map.Entry<String, String> entry : versions.entrySet()) {
+      String name = entry.getKey();
+      if (!fingerprints.containsKey(name)
+          || !Objects.equals(fingerprints.get(name), entry.getValue())) {
+        changed.add(name);
+      }
+    }
+
+    int count = removeMissing(versions.keySet(), changed);
+    if (changed.isEmpty()) {
+      return count;
+    }
+    Set<String> affected = withDependents(changed);
+    Map<String, WorkflowDefinition> definitions =
+        affected.size() * 2 > versions.size()
+            ? WorkflowTreeBuilder.byName(repository.getAllWorkflowDefinitions())
+            : loadTrees(affected, versions.keySet());
+    return count + publishAffected(definitions, affected, versions::get);
+  }
+
+  /**
+   * Loads the trees of the given workflows that still exist, skipping workflows already loaded as
+   * part of an earlier tree.
+   */
+  private Map<String, WorkflowDefinition> loadTrees(Set<String> names, Set<String> existing)
+      throws SQLException {
+    Map<String, WorkflowDefinition> definitions = new HashMap<>();
+    for (String name : names) {
+      if (existing.contains(name) && !definitions.containsKey(name)) {
+        definitions.putAll(WorkflowTreeBuilder.byName(repository.getWorkflowTree(name)));
+      }
+    }
+    return definitions;
+  }
+
+  private int refreshByDefinition() throws SQLException {
+    Map<String, WorkflowDefinition> definitions =
+        WorkflowTreeBuilder.byName(repository.getAllWorkflowDefinitions());
+    Set<String> changed = new HashSet<>(failed);
+    for (WorkflowDefinition definition : definitions.values()) {
+      if (!definition.equals(fingerprints.get(definition.name()))) {
+        changed.add(definition.name());
+      }
+    }
+
+    int count = removeMissing(definitions.keySet(), changed);
+    return count + publishAffected(definitions, withDependents(changed), definitions::get);
+  }
+
+  /** Returns the changed workflows together with every published workflow nesting one of them. */
+  private Set<String> withDependents(Set<String> changed) {
+    Set<String> affected = new HashSet<>(changed);
+    boolean grown = true;
+    while (grown) {
+      grown = false;
+      for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+        if (!affected.contains(entry.getKey())
+            && !Collections.disjoint(entry.getValue(), affected)) {
+          affected.add(entry.getKey());
+          grown = true;
+        }
+      }
+    }
+    return affected;
+  }
+
+  /**
+   * Rebuilds the affected workflows, nested workflows first so that workflows resolving them from
+   * the registry pick up the new instances. The definitions must cover the tree of every affected
+   * workflow.
+   */
+  private int publishAffected(
+      Map<String, WorkflowDefinition> definitions,
+      Set<String> affected,
+      Function<String, Object> fingerprint) {
+    List<String> order = new ArrayList<>();
+    Set<String> visited = new HashSet<>();
+    for (String name : affected) {
+      addInDependencyOrder(name, definitions, affected, visited, order);
+    }
+
+    WorkflowTreeBuilder builder = new WorkflowTreeBuilder(definitions, registry);
+    int count = 0;
+    for (String name : order) {
+      if (publish(name, builder, fingerprint.apply(name))) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static void addInDependencyOrder(
+      String name,
+      Map<String, WorkflowDefinition> definitions,
+      Set<String> affected,
+      Set<String> visited,
+      List<String> order) {
+    WorkflowDefinition definition = definitions.get(name);
+    if (definition == null || !visited.add(name)) {
+      return;
+    }
+    for (WorkflowStepMetadata step : definition.steps()) {
+      if (affected.contains(step.instanceName())) {
+        addInDependencyOrder(step.instanceName(), definitions, affected, visited, order);
+      }
+    }
+    order.add(name);
+  }
+
+  /** Builds and swaps in one workflow; on failure keeps the previous instance for a later retry. */
+  private boolean publish(String name, WorkflowTreeBuilder builder, Object fingerprint) {
+    WorkflowTreeBuilder.Built built;
+    try {
+      built = builder.build(name);
+    } catch (WorkflowBuildException e) {
+      log.warn("Could not rebuild workflow {}; keeping current instance: {}", name, e.getMessage());
+      failed.add(name);
+      return false;
+    }
+
+    Workflow workflow = built.workflow();
+    Optional<Workflow> previous = targetRegistry.replace(name, workflow);
+    Set<String> nested = new HashSet<>(built.definitions());
+    nested.addAll(built.lookups().keySet());
+    nested.remove(name);
+    fingerprints.put(name, fingerprint);
+    published.put(name, workflow);
+    dependencies.put(name, nested);
+    failed.remove(name);
+    log.debug(
+        "{} workflow from database: {}", previous.isPresent() ? "Swapped" : "Published", name);
+    return true;
+  }
+
+  /**
+   * Removes the published workflows whose rows were deleted from the database, and adds their
+   * names to {@code changed} so that workflows nesting them are rebuilt.
+   */
+  private int removeMissing(Set<String> names, Set<String> changed) {
+    failed.retainAll(names);
+    int removed = 0;
+    for (String name : new ArrayList<>(fingerprints.keySet())) {
+      if (!names.contains(name)) {
+        fingerprints.remove(name);
+        dependencies.remove(name);
+        changed.add(name);
+        Workflow workflow = published.remove(name);
+        if (workflow != null && targetRegistry.remove(name, workflow)) {
+          log.debug("Removed workflow deleted from database: {}", name);
+          removed++;
+        }
+      }
+    }
+    return removed;
+  }
+
+  /** Builder for a {@link DatabaseWorkflowRefresher}. */
+  public static class Builder {
+    private WorkflowConfigRepository repository;
+    private WorkflowRegistry registry;
+    private WorkflowRegistry targetRegistry;
+    private String versionColumn;
+    private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+    private ScheduledExecutorService scheduler;
+
+    private Builder() {}
+
+    /**
+     * Reads workflow configuration from the given data source.
+     *
+     * @param dataSource the JDBC DataSource
+     * @return this builder
+     */
+    public Builder dataSource(DataSource dataSource) {
+      this.repository = new WorkflowConfigRepository(dataSource);
+      return this;
+    }
+
+    /**
+     * Reads workflow configuration through an existing repository.
+     *
+     * @param repository the workflow configuration repository
+     * @return this builder
+     */
+    public Builder repository(WorkflowConfigRepository repository) {
+      this.repository = repository;
+      return this;
+    }
+
+    /**
+     * Sets the registry that step instances are resolved from. Built workflows are published to
+     * the same registry unless {@link #targetRegistry(WorkflowRegistry)} is set.
+     *
+     * @param registry the registry holding the step instances
+     * @return this builder
+     */
+    public Builder registry(WorkflowRegistry registry) {
+      this.registry = registry;
+      return this;
+    }
+
+    /**
+     * Publishes built workflows to a separate registry.
+     *
+     * @param targetRegistry the registry that built workflows are published to
+     * @return this builder
+     */
+    public Builder targetRegistry(WorkflowRegistry targetRegistry) {
+      this.targetRegistry = targetRegistry;
+      return this;
+    }
+
+    /**
+     * Detects changes by a column of the workflow table instead of comparing whole definitions.
+     *
+     * @param versionColumn the column holding the workflow version
+     * @return this builder
+     */
+    public Builder versionColumn(String versionColumn) {
+      this.versionColumn = versionColumn;
+      return this;
+    }
+
+    /**
+     * Sets the time between two polls. Defaults to {@link #DEFAULT_POLL_INTERVAL}.
+     *
+     * @param pollInterval the poll interval
+     * @return this builder
+     */
+    public Builder pollInterval(Duration pollInterval) {
+      this.pollInterval = pollInterval;
+      return this;
+    }
+
+    /**
+     * Polls on a shared scheduler instead of a dedicated daemon thread. The scheduler is not shut
+     * down by {@link DatabaseWorkflowRefresher#close()}.
+     *
+     * @param scheduler the scheduler to poll on
+     * @return this builder
+     */
+    public Builder scheduler(ScheduledExecutorService scheduler) {
+      this.scheduler = scheduler;
+      return this;
+    }
+
+    /**
+     * Builds the refresher. It does not poll until {@link DatabaseWorkflowRefresher#start()}.
+     *
+     * @return a new refresher
+     * @throws NullPointerException if no repository or registry was set
+     * @throws IllegalArgumentException if the version column or poll interval is invalid
+     */
+    public DatabaseWorkflowRefresher build() {
+      ValidationUtils.requireNonNull(repository, "repository");
+      ValidationUtils.requireNonNull(registry, "registry");
+      if (versionColumn != null) {
+        WorkflowConfigRepository.requireColumnName(versionColumn);
+      }
+      ValidationUtils.requireNonNull(pollInterval, "pollInterval");
+      ValidationUtils.requirePositive(pollInterval.toMillis(), "pollInterval");
+      return new DatabaseWorkflowRefresher(this);
+    }
+  }
+}
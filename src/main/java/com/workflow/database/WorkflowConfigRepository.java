@@ -3,10 +3,21 @@ package com.workflow.database;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -37,6 +48,18 @@ import lombok.extern.slf4j.Slf4j;
  * );
  * }</pre>
  *
+ * <p>The workflow_steps table may also have any of these optional columns, read by the definition
+ * queries; see {@link WorkflowStepMetadata.StepType} and {@link WorkflowStepPolicy}. The repository
+ * looks up which of them exist once, on its first definition query:
+ *
+ * <pre>{@code
+ * step_type VARCHAR(16),          -- AUTO (default), INSTANCE or WORKFLOW
+ * max_retries INT,
+ * retry_delay_ms BIGINT,
+ * timeout_ms BIGINT,
+ * rate_limit_per_second INT
+ * }</pre>
+ *
  * <p>Usage example:
  *
  * <pre>{@code
@@ -44,7 +67,21 @@ import lombok.extern.slf4j.Slf4j;
  * WorkflowConfigRepository repository = new WorkflowConfigRepository(dataSource);
  * Optional<WorkflowMetadata> metadata = repository.getWorkflow("MyWorkflow");
  * List<WorkflowStepMetadata> steps = repository.getWorkflowSteps("MyWorkflow");
+ *
+ * // Workflow and steps in one round trip
+ * Optional<WorkflowDefinition> definition = repository.getWorkflowDefinition("MyWorkflow");
+ *
+ * // Workflow and all nested workflows in one round trip
+ * List<WorkflowDefinition> tree = repository.getWorkflowTree("MyWorkflow");
  * }</pre>
+ *
+ * <p><b>Recursive Queries:</b> {@link #getWorkflowTree(String)} uses a {@code WITH RECURSIVE}
+ * query, which H2, PostgreSQL, SQLite, MySQL 8 and MariaDB 10.2 support. SQL Server, Oracle and
+ * older MySQL versions do not. There the first tree query fails, and the repository falls back to
+ * loading the tree one level of nesting at a time, with one joined query per level, for the rest
+ * of its life. To skip the failing attempt, create the repository with {@link
+ * #WorkflowConfigRepository(javax.sql.DataSource, boolean)} and {@code recursiveQueries} set to
+ * false.
  */
 @Slf4j
 public class WorkflowConfigRepository {
@@ -55,16 +92,68 @@ public class WorkflowConfigRepository {
   public static final String SHARE_CONTEXT = "share_context";
   public static final String INSTANCE_NAME = "instance_name";
   public static final String ORDER_INDEX = "order_index";
+  public static final String STEP_NAME = "step_name";
+  public static final String STEP_DESCRIPTION = "step_description";
+  public static final String STEP_TYPE = "step_type";
+  public static final String MAX_RETRIES = "max_retries";
+  public static final String RETRY_DELAY_MS = "retry_delay_ms";
+  public static final String TIMEOUT_MS = "timeout_ms";
+  public static final String RATE_LIMIT_PER_SECOND = "rate_limit_per_second";
+
+  /** Columns every definition query selects, followed by those optional columns that exist. */
+  private static final String DEFINITION_COLUMNS =
+      "SELECT w.name, w.description, w.is_parallel, w.fail_fast, w.share_context, "
+          + "ws.name AS step_name, ws.description AS step_description, "
+          + "ws.instance_name, ws.order_index";
+
+  /** Number of columns in {@link #DEFINITION_COLUMNS}. */
+  private static final int FIXED_DEFINITION_COLUMNS = 9;
+
+  /** Optional workflow_steps columns, in the order they are appended to a definition query. */
+  private static final List<String> OPTIONAL_STEP_COLUMNS =
+      List.of(STEP_TYPE, MAX_RETRIES, RETRY_DELAY_MS, TIMEOUT_MS, RATE_LIMIT_PER_SECOND);
+
+  /** Workflows joined with their steps; workflows without steps yield one row of null steps. */
+  private static final String DEFINITION_FROM =
+      " FROM workflow w LEFT JOIN workflow_steps ws ON ws.workflow_id = w.id ";
+
+  /** Names of a workflow and of every database workflow its steps reference, transitively. */
+  private static final String TREE_NAMES =
+      "WITH RECURSIVE workflow_tree(name) AS ("
+          + "SELECT name FROM workflow WHERE name = ? "
+          + "UNION "
+          + "SELECT child.name FROM workflow_tree t "
+          + "JOIN workflow parent ON parent.name = t.name "
+          + "JOIN workflow_steps s ON s.workflow_id = parent.id "
+          + "JOIN workflow child ON child.name = s.instance_name"
+          + ") ";
+
+  private static final Pattern COLUMN_NAME = Pattern.compile("[A-Za-z_]\\w*");
 
   private final javax.sql.DataSource dataSource;
+  private volatile boolean recursiveQueries;
+  private volatile String definitionQuery;
 
   /**
-   * Creates a new repository with a JDBC DataSource.
+   * Creates a new repository with a JDBC DataSource. Workflow trees are loaded with a recursive
+   * query while the database accepts it.
    *
    * @param dataSource the JDBC DataSource to use
    */
   public WorkflowConfigRepository(javax.sql.DataSource dataSource) {
+    this(dataSource, true);
+  }
+
+  /**
+   * Creates a new repository with a JDBC DataSource, choosing how workflow trees are loaded.
+   *
+   * @param dataSource the JDBC DataSource to use
+   * @param recursiveQueries whether to load workflow trees with a {@code WITH RECURSIVE} query;
+   *     false loads them one level of nesting at a time, for databases without recursive queries
+   */
+  public WorkflowConfigRepository(javax.sql.DataSource dataSource, boolean recursiveQueries) {
     this.dataSource = dataSource;
+    this.recursiveQueries = recursiveQueries;
   }
 
   /**
@@ -165,6 +254,206 @@ public class WorkflowConfigRepository {
     return workflows;
   }
 
+  /**
+   * Fetches a workflow and its steps with a single joined query.
+   *
+   * @param workflowName the workflow name
+   * @return Optional containing the workflow definition if the workflow exists
+   * @throws SQLException if database access fails
+   */
+  public Optional<WorkflowDefinition> getWorkflowDefinition(String workflowName)
+      throws SQLException {
+    try (Connection conn = dataSource.getConnection();
+        PreparedStatement stmt =
+            conn.prepareStatement(
+                definitionQuery(conn) + "WHERE w.name = ? ORDER BY ws.order_index ASC")) {
+      stmt.setString(1, workflowName);
+
+      try (ResultSet rs = stmt.executeQuery()) {
+        List<WorkflowDefinition> definitions = readDefinitions(rs);
+        log.debug("Fetched definition of workflow: {}", workflowName);
+        return definitions.stream().findFirst();
+      }
+    }
+  }
+
+  /**
+   * Fetches a workflow together with every workflow its steps reference, directly or through other
+   * workflows, with a single recursive query. Steps that reference a registered instance rather
+   * than a database workflow end the recursion. Reference cycles do not prevent the query from
+   * completing; they are reported when the workflow is built.
+   *
+   * <p>If the database rejects the recursive query, or recursive queries were turned off, the
+   * tree is loaded with one query per level of nesting instead.
+   *
+   * @param workflowName the name of the root workflow
+   * @return the definitions of the root workflow and all workflows it references, ordered by name;
+   *     empty if the root workflow does not exist
+   * @throws SQLException if database access fails
+   */
+  public List<WorkflowDefinition> getWorkflowTree(String workflowName) throws SQLException {
+    if (!recursiveQueries) {
+      return getWorkflowTreeByLevel(workflowName);
+    }
+
+    List<WorkflowDefinition> definitions = null;
+    SQLException recursiveFailure = null;
+    try (Connection conn = dataSource.getConnection()) {
+      String query =
+          TREE_NAMES
+              + definitionQuery(conn)
+              + "WHERE w.name IN (SELECT name FROM workflow_tree) "
+              + "ORDER BY w.name ASC, ws.order_index ASC";
+      try (PreparedStatement stmt = conn.prepareStatement(query)) {
+        stmt.setString(1, workflowName);
+
+        try (ResultSet rs = stmt.executeQuery()) {
+          definitions = readDefinitions(rs);
+        }
+      } catch (SQLException e) {
+        recursiveFailure = e;
+      }
+    }
+    if (recursiveFailure != null) {
+      return fallBackToTreeByLevel(workflowName, recursiveFailure);
+    }
+    log.debug("Fetched {} definitions for workflow: {}", definitions.size(), workflowName);
+    return definitions;
+  }
+
+  /**
+   * Loads a tree level by level after the recursive query was rejected as a syntax error or an
+   * unsupported feature, and keeps doing so if that works. Any other failure, such as a lost
+   * connection or a lock timeout, says nothing about recursive query support and is rethrown.
+   */
+  private List<WorkflowDefinition> fallBackToTreeByLevel(String workflowName, SQLException cause)
+      throws SQLException {
+    if (!rejectsRecursiveQueries(cause)) {
+      throw cause;
+    }
+    List<WorkflowDefinition> definitions;
+    try {
+      definitions = getWorkflowTreeByLevel(workflowName);
+    } catch (SQLException e) {
+      cause.addSuppressed(e);
+      throw cause;
+    }
+    recursiveQueries = false;
+    log.warn(
+        "Recursive workflow tree query failed; loading workflow trees level by level: {}",
+        cause.getMessage());
+    return definitions;
+  }
+
+  /**
+   * Returns whether the failure means the database does not accept the recursive query: SQLState
+   * class 42 (syntax error or access rule violation), class 0A (feature not supported), or a
+   * {@link SQLFeatureNotSupportedException}.
+   */
+  private static boolean rejectsRecursiveQueries(SQLException failure) {
+    if (failure instanceof SQLFeatureNotSupportedException) {
+      return true;
+    }
+    String state = failure.getSQLState();
+    return state != null && (state.startsWith("42") || state.startsWith("0A"));
+  }
+
+  /**
+   * Loads a tree without a recursive query: the root first, then all workflows named by the steps
+   * of the previous level, until a level names no workflow that was not queried yet.
+   */
+  private List<WorkflowDefinition> getWorkflowTreeByLevel(String workflowName)
+      throws SQLException {
+    Map<String, WorkflowDefinition> tree = new TreeMap<>();
+    Set<String> queried = new HashSet<>();
+    Set<String> level = Set.of(workflowName);
+
+    try (Connection conn = dataSource.getConnection()) {
+      while (!level.isEmpty()) {
+        queried.addAll(level);
+        Set<String> next = new LinkedHashSet<>();
+        for (WorkflowDefinition definition : getWorkflowDefinitions(conn, level)) {
+          tree.put(definition.name(), definition);
+          for (WorkflowStepMetadata step : definition.steps()) {
+            if (!queried.contains(step.instanceName())) {
+              next.add(step.instanceName());
+            }
+          }
+        }
+        level = next;
+      }
+    }
+
+    log.debug("Fetched {} definitions level by level for workflow: {}", tree.size(), workflowName);
+    return new ArrayList<>(tree.values());
+  }
+
+  /** Fetches the workflows with the given names and their steps with a single joined query. */
+  private List<WorkflowDefinition> getWorkflowDefinitions(
+      Connection conn, Set<String> workflowNames) throws SQLException {
+    String query =
+        definitionQuery(conn)
+            + "WHERE w.name IN ("
+            + String.join(", ", Collections.nCopies(workflowNames.size(), "?"))
+            + ") ORDER BY w.name ASC, ws.order_index ASC";
+
+    try (PreparedStatement stmt = conn.prepareStatement(query)) {
+      int index = 1;
+      for (String workflowName : workflowNames) {
+        stmt.setString(index++, workflowName);
+      }
+
+      try (ResultSet rs = stmt.executeQuery()) {
+        return readDefinitions(rs);
+      }
+    }
+  }
+
+  /**
+   * Fetches every workflow with its steps with a single joined query, for example to preload a
+   * cache at startup.
+   *
+   * @return list of all workflow definitions ordered by name
+   * @throws SQLException if database access fails
+   */
+  public List<WorkflowDefinition> getAllWorkflowDefinitions() throws SQLException {
+    try (Connection conn = dataSource.getConnection();
+        PreparedStatement stmt =
+            conn.prepareStatement(
+                definitionQuery(conn) + "ORDER BY w.name ASC, ws.order_index ASC");
+        ResultSet rs = stmt.executeQuery()) {
+      List<WorkflowDefinition> definitions = readDefinitions(rs);
+      log.debug("Fetched {} workflow definitions", definitions.size());
+      return definitions;
+    }
+  }
+
+  /**
+   * Fetches the value of a version column, such as a version counter or an {@code updated_at}
+   * timestamp, for every workflow. Comparing the result between calls reveals which workflows
+   * changed.
+   *
+   * @param versionColumn the column of the workflow table holding the version
+   * @return map from workflow name to the version rendered as a string
+   * @throws IllegalArgumentException if versionColumn is not a plain column name
+   * @throws SQLException if database access fails
+   */
+  public Map<String, String> getWorkflowVersions(String versionColumn) throws SQLException {
+    String query = "SELECT name, " + requireColumnName(versionColumn) + " FROM workflow";
+    Map<String, String> versions = new HashMap<>();
+
+    try (Connection conn = dataSource.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(query);
+        ResultSet rs = stmt.executeQuery()) {
+      while (rs.next()) {
+        versions.put(rs.getString(1), rs.getString(2));
+      }
+    }
+
+    log.debug("Fetched versions of {} workflows", versions.size());
+    return versions;
+  }
+
   /**
    * Checks if a workflow exists in the database.
    *
@@ -173,6 +462,149 @@ public class WorkflowConfigRepository {
    * @throws SQLException if database access fails
    */
   public boolean workflowExists(String workflowName) throws SQLException {
-    return getWorkflow(workflowName).isPresent();
+    String query = "SELECT 1 FROM workflow WHERE name = ?";
+
+    try (Connection conn = dataSource.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(query)) {
+      stmt.setString(1, workflowName);
+
+      try (ResultSet rs = stmt.executeQuery()) {
+        return rs.next();
+      }
+    }
+  }
+
+  /**
+   * Validates that a name can be safely inlined into SQL as a column name.
+   *
+   * @param column the column name
+   * @return the column name
+   * @throws IllegalArgumentException if the name is null or not a plain identifier
+   */
+  static String requireColumnName(String column) {
+    if (column == null || !COLUMN_NAME.matcher(column).matches()) {
+      throw new IllegalArgumentException("Invalid column name: " + column);
+    }
+    return column;
+  }
+
+  /**
+   * Returns the select and join shared by the definition queries, listing the fixed columns and
+   * the optional step columns the workflow_steps table has. The optional columns are looked up
+   * with an empty query on first use and remembered for the life of the repository.
+   */
+  private String definitionQuery(Connection conn) throws SQLException {
+    String query = definitionQuery;
+    if (query != null) {
+      return query;
+    }
+    Set<String> stepColumns = new HashSet<>();
+    try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM workflow_steps WHERE 1 = 0");
+        ResultSet rs = stmt.executeQuery()) {
+      ResultSetMetaData metaData = rs.getMetaData();
+      for (int i = 1; i <= metaData.getColumnCount(); i++) {
+        stepColumns.add(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT));
+      }
+    }
+    StringBuilder select = new StringBuilder(DEFINITION_COLUMNS);
+    for (String column : OPTIONAL_STEP_COLUMNS) {
+      if (stepColumns.contains(column)) {
+        select.append(", ws.").append(column);
+      }
+    }
+    query = select.append(DEFINITION_FROM).toString();
+    definitionQuery = query;
+    return query;
+  }
+
+  /** Groups rows of a definition query result, ordered by workflow, into definitions. */
+  private static List<WorkflowDefinition> readDefinitions(ResultSet rs) throws SQLException {
+    OptionalStepColumns optional = OptionalStepColumns.of(rs.getMetaData());
+    List<WorkflowDefinition> definitions = new ArrayList<>();
+    WorkflowMetadata metadata = null;
+    List<WorkflowStepMetadata> steps = new ArrayList<>();
+
+    while (rs.next()) {
+      String name = rs.getString(NAME);
+      if (metadata == null || !metadata.name().equals(name)) {
+        if (metadata != null) {
+          definitions.add(new WorkflowDefinition(metadata, steps));
+          steps = new ArrayList<>();
+        }
+        metadata =
+            WorkflowMetadata.of(
+                name,
+                rs.getString(DESCRIPTION),
+                rs.getBoolean(IS_PARALLEL),
+                rs.getBoolean(FAIL_FAST),
+                rs.getBoolean(SHARE_CONTEXT));
+      }
+
+      String instanceName = rs.getString(INSTANCE_NAME);
+      if (instanceName != null) {
+        String stepName = rs.getString(STEP_NAME);
+        steps.add(
+            new WorkflowStepMetadata(
+                stepName,
+                rs.getString(STEP_DESCRIPTION),
+                instanceName,
+                rs.getInt(ORDER_INDEX),
+                optional.stepType(rs, stepName),
+                optional.policy(rs, stepName)));
+      }
+    }
+
+    if (metadata != null) {
+      definitions.add(new WorkflowDefinition(metadata, steps));
+    }
+    return definitions;
+  }
+
+  /**
+   * Positions of the optional step type and policy columns in a definition query result; zero for
+   * columns the workflow_steps table does not have.
+   */
+  private record OptionalStepColumns(
+      int stepType, int maxRetries, int retryDelayMs, int timeoutMs, int rateLimitPerSecond) {
+
+    static OptionalStepColumns of(ResultSetMetaData metaData) throws SQLException {
+      Map<String, Integer> positions = new HashMap<>();
+      for (int i = metaData.getColumnCount(); i > FIXED_DEFINITION_COLUMNS; i--) {
+        positions.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+      }
+      return new OptionalStepColumns(
+          positions.getOrDefault(STEP_TYPE, 0),
+          positions.getOrDefault(MAX_RETRIES, 0),
+          positions.getOrDefault(RETRY_DELAY_MS, 0),
+          positions.getOrDefault(TIMEOUT_MS, 0),
+          positions.getOrDefault(RATE_LIMIT_PER_SECOND, 0));
+    }
+
+    WorkflowStepMetadata.StepType stepType(ResultSet rs, String stepName) throws SQLException {
+      String value = stepType > 0 ? rs.getString(stepType) : null;
+      if (value == null || value.isBlank()) {
+        return WorkflowStepMetadata.StepType.AUTO;
+      }
+      try {
+        return WorkflowStepMetadata.StepType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException _) {
+        throw new SQLException("Invalid step_type '" + value + "' for step: " + stepName);
+      }
+    }
+
+    WorkflowStepPolicy policy(ResultSet rs, String stepName) throws SQLException {
+      if (maxRetries == 0 && retryDelayMs == 0 && timeoutMs == 0 && rateLimitPerSecond == 0) {
+        return WorkflowStepPolicy.NONE;
+      }
+      try {
+        return new WorkflowStepPolicy(
+            maxRetries > 0 ? rs.getInt(maxRetries) : 0,
+            retryDelayMs > 0 ? rs.getLong(retryDelayMs) : 0,
+            timeoutMs > 0 ? rs.getLong(timeoutMs) : 0,
+            rateLimitPerSecond > 0 ? rs.getInt(rateLimitPerSecond) : 0);
+      } catch (IllegalArgumentException e) {
+        throw new SQLException("Invalid policy for step " + stepName + ": " + e.getMessage(), e);
+      }
+    }
   }
 }
@@ -0,0 +1,31 @@
+package com.workflow.database;
+
+import java.util.List;
+
+/**
+ * A workflow together with its steps, loaded from the workflow and workflow_steps tables in a
+ * single query.
+ *
+ * @param metadata the workflow metadata
+ * @param steps the workflow steps in execution order; empty if the workflow has none
+ */
+public record WorkflowDefinition(WorkflowMetadata metadata, List<WorkflowStepMetadata> steps) {
+  /**
+   * Creates a workflow definition.
+   *
+   * @param metadata the workflow metadata
+   * @param steps the workflow steps in execution order; copied defensively
+   */
+  public WorkflowDefinition {
+    steps = List.copyOf(steps);
+  }
+
+  /**
+   * Returns the workflow name.
+   *
+   * @return the name from the workflow metadata
+   */
+  public String name() {
+    return metadata.name();
+  }
+}
@@ -4,16 +4,65 @@ package com.workflow.database;
  * Metadata about a workflow step read from the database. Represents a row from the workflow_steps
  * table.
  *
- * <p>This record holds step-level configuration pointing to a registered workflow instance via the
- * instance_name column.
+ * <p>This record holds step-level configuration pointing to a registered workflow instance, or to
+ * another workflow defined in the database, via the instance_name column.
  *
  * @param name the step name
  * @param description the step description
- * @param instanceName the name of the registered workflow instance
+ * @param instanceName the name of the registered workflow instance or database workflow
  * @param orderIndex the execution order (lower numbers execute first)
+ * @param type what instanceName refers to
+ * @param policy the retry, timeout and rate limit settings of the step
  */
 public record WorkflowStepMetadata(
-    String name, String description, String instanceName, int orderIndex) {
+    String name,
+    String description,
+    String instanceName,
+    int orderIndex,
+    StepType type,
+    WorkflowStepPolicy policy) {
+
+  /** What the instance_name of a step refers to, read from the optional step_type column. */
+  public enum StepType {
+    /** A registered workflow instance if there is one, otherwise a workflow in the database. */
+    AUTO,
+
+    /** A workflow instance registered in the {@link com.workflow.registry.WorkflowRegistry}. */
+    INSTANCE,
+
+    /** Another workflow defined in the database, built as a nested composite. */
+    WORKFLOW
+  }
+
+  /**
+   * Creates workflow step metadata, defaulting a null type to {@link StepType#AUTO} and a null
+   * policy to {@link WorkflowStepPolicy#NONE}.
+   *
+   * @param name the step name
+   * @param description the step description
+   * @param instanceName the name of the registered workflow instance or database workflow
+   * @param orderIndex the execution order (lower numbers execute first)
+   * @param type what instanceName refers to
+   * @param policy the retry, timeout and rate limit settings of the step
+   */
+  public WorkflowStepMetadata {
+    type = type != null ? type : StepType.AUTO;
+    policy = policy != null ? policy : WorkflowStepPolicy.NONE;
+  }
+
+  /**
+   * Creates workflow step metadata for a step without a type or policy.
+   *
+   * @param name the step name
+   * @param description the step description
+   * @param instanceName the name of the registered workflow instance or database workflow
+   * @param orderIndex the execution order (lower numbers execute first)
+   */
+  public WorkflowStepMetadata(
+      String name, String description, String instanceName, int orderIndex) {
+    this(name, description, instanceName, orderIndex, StepType.AUTO, WorkflowStepPolicy.NONE);
+  }
+
   /**
    * Creates workflow step metadata from database values.
    *
@@ -0,0 +1,56 @@
+package com.workflow.database;
+
+import com.workflow.helper.ValidationUtils;
+
+/**
+ * Execution settings of a workflow step read from the optional policy columns of the
+ * workflow_steps table. A value of zero means the setting is not used.
+ *
+ * <p>When a step is built, the settings wrap the step's workflow as follows, from the inside out:
+ *
+ * <ul>
+ *   <li><b>Retries:</b> a {@link com.workflow.TaskWorkflow} whose {@link
+ *       com.workflow.task.TaskDescriptor} retries a failed step up to {@code maxRetries} times,
+ *       waiting {@code retryDelayMs} between attempts
+ *   <li><b>Timeout:</b> a {@link com.workflow.TimeoutWorkflow} limiting the step, including its
+ *       retries, to {@code timeoutMs}
+ *   <li><b>Rate Limit:</b> a {@link com.workflow.RateLimitedWorkflow} allowing the step to start
+ *       at most {@code rateLimitPerSecond} times per second
+ * </ul>
+ *
+ * @param maxRetries the number of retries after a failed attempt
+ * @param retryDelayMs the delay between attempts in milliseconds
+ * @param timeoutMs the maximum duration of the step in milliseconds
+ * @param rateLimitPerSecond the maximum number of step executions per second
+ */
+public record WorkflowStepPolicy(
+    int maxRetries, long retryDelayMs, long timeoutMs, int rateLimitPerSecond) {
+
+  /** A policy that uses none of the settings. */
+  public static final WorkflowStepPolicy NONE = new WorkflowStepPolicy(0, 0, 0, 0);
+
+  /**
+   * Creates a step policy.
+   *
+   * @param maxRetries the number of retries after a failed attempt
+   * @param retryDelayMs the delay between attempts in milliseconds
+   * @param timeoutMs the maximum duration of the step in milliseconds
+   * @param rateLimitPerSecond the maximum number of step executions per second
+   * @throws IllegalArgumentException if any value is negative
+   */
+  public WorkflowStepPolicy {
+    ValidationUtils.requireNonNegative(maxRetries, "maxRetries");
+    ValidationUtils.requireNonNegative(retryDelayMs, "retryDelayMs");
+    ValidationUtils.requireNonNegative(timeoutMs, "timeoutMs");
+    ValidationUtils.requireNonNegative(rateLimitPerSecond, "rateLimitPerSecond");
+  }
+
+  /**
+   * Returns whether none of the settings is used.
+   *
+   * @return true if the step runs without retries, timeout or rate limit
+   */
+  public boolean isNone() {
+    return maxRetries == 0 && timeoutMs == 0 && rateLimitPerSecond == 0;
+  }
+}
@@ -0,0 +1,254 @@
+package com.workflow.database;
+
+import com.workflow.ParallelWorkflow;
+import com.workflow.RateLimitedWorkflow;
+import com.workflow.SequentialWorkflow;
+import com.workflow.TaskWorkflow;
+import com.workflow.TimeoutWorkflow;
+import com.workflow.Workflow;
+import com.workflow.WorkflowResult;
+import com.workflow.WorkflowStatus;
+import com.workflow.context.WorkflowContext;
+import com.workflow.database.WorkflowStepMetadata.StepType;
+import com.workflow.exception.TaskExecutionException;
+import com.workflow.exception.WorkflowBuildException;
+import com.workflow.policy.RetryPolicy;
+import com.workflow.ratelimit.TokenBucketRateLimiter;
+import com.workflow.registry.WorkflowRegistry;
+import com.workflow.task.TaskDescriptor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds composite workflows from database definitions whose steps may reference registered
+ * instances or other database workflows.
+ *
+ * <p>Each database workflow is built at most once per builder, so a sub-workflow referenced by
+ * several steps, or by several roots, is shared. A reference cycle fails the build with a {@link
+ * WorkflowBuildException} naming the cycle. Not thread-safe; use one builder per build.
+ */
+@Slf4j
+final class WorkflowTreeBuilder {
+  private final Map<String, WorkflowDefinition> definitions;
+  private final WorkflowRegistry registry;
+  private final Map<String, Built> built = new HashMap<>();
+  private final Set<String> path = new LinkedHashSet<>();
+
+  /**
+   * A built workflow with what it was built from.
+   *
+   * @param workflow the built composite
+   * @param definitions the names of the database workflows in the tree, including the root
+   * @param lookups every registry lookup made for the tree, mapped to the instance found, or to
+   *     {@code null} if the name was not registered
+   */
+  record Built(Workflow workflow, Set<String> definitions, Map<String, Workflow> lookups) {
+
+    /** Returns whether every registry lookup would still find the same instance. */
+    boolean isCurrent(WorkflowRegistry registry) {
+      for (Map.Entry<String, Workflow> lookup : lookups.entrySet()) {
+        if (registry.getWorkflow(lookup.getKey()).orElse(null) != lookup.getValue()) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  WorkflowTreeBuilder(Map<String, WorkflowDefinition> definitions, WorkflowRegistry registry) {
+    this.definitions = definitions;
+    this.registry = registry;
+  }
+
+  /**
+   * Indexes definitions by workflow name.
+   *
+   * @param definitions the definitions
+   * @return the definitions keyed by name
+   */
+  static Map<String, WorkflowDefinition> byName(List<WorkflowDefinition> definitions) {
+    Map<String, WorkflowDefinition> byName = new HashMap<>();
+    for (WorkflowDefinition definition : definitions) {
+      byName.put(definition.name(), definition);
+    }
+    return byName;
+  }
+
+  /**
+   * Builds a database workflow and everything it references.
+   *
+   * @param workflowName the workflow name
+   * @return the built workflow
+   * @throws WorkflowBuildException if the workflow or a referenced workflow cannot be built
+   */
+  Built build(String workflowName) {
+    Built cached = built.get(workflowName);
+    if (cached != null) {
+      return cached;
+    }
+    if (!path.add(workflowName)) {
+      List<String> cycle = new ArrayList<>(path);
+      cycle = cycle.subList(cycle.indexOf(workflowName), cycle.size());
+      throw new WorkflowBuildException(
+          "Cycle detected in workflow definitions: "
+              + String.join(" -> ", cycle)
+              + " -> "
+              + workflowName);
+    }
+    try {
+      Built result = buildDefinition(definition(workflowName));
+      built.put(workflowName, result);
+      return result;
+    } finally {
+      path.remove(workflowName);
+    }
+  }
+
+  private WorkflowDefinition definition(String workflowName) {
+    WorkflowDefinition definition = definitions.get(workflowName);
+    if (definition == null) {
+      throw new WorkflowBuildException(
+          "Workflow not found in database: " + workflowName, new IllegalArgumentException());
+    }
+    return definition;
+  }
+
+  private Built buildDefinition(WorkflowDefinition definition) {
+    String workflowName = definition.name();
+    List<WorkflowStepMetadata> steps = definition.steps();
+    if (steps.isEmpty()) {
+      throw new WorkflowBuildException(
+          "No workflow steps found for workflow: " + workflowName, new IllegalArgumentException());
+    }
+
+    Set<String> treeDefinitions = new HashSet<>();
+    treeDefinitions.add(workflowName);
+    Map<String, Workflow> lookups = new HashMap<>();
+    List<Workflow> workflows = new ArrayList<>(steps.size());
+    for (WorkflowStepMetadata step : steps) {
+      Workflow workflow = resolveStep(step, treeDefinitions, lookups);
+      workflows.add(applyPolicy(step, workflow));
+    }
+
+    Workflow composite = buildCompositeWorkflow(workflowName, definition.metadata(), workflows);
+    log.info("Successfully built workflow: {} with {} steps", workflowName, workflows.size());
+    return new Built(
+        composite,
+        Collections.unmodifiableSet(treeDefinitions),
+        Collections.unmodifiableMap(lookups));
+  }
+
+  /** Resolves a step from the registry or, for nested workflows, by building it. */
+  private Workflow resolveStep(
+      WorkflowStepMetadata step, Set<String> treeDefinitions, Map<String, Workflow> lookups) {
+    String instanceName = step.instanceName();
+    log.debug("Resolving workflow instance: {}", instanceName);
+
+    if (step.type() != StepType.WORKFLOW) {
+      Optional<Workflow> instance = registry.getWorkflow(instanceName);
+      lookups.put(instanceName, instance.orElse(null));
+      if (instance.isPresent()) {
+        return instance.get();
+      }
+      if (step.type() == StepType.INSTANCE || !definitions.containsKey(instanceName)) {
+        throw new WorkflowBuildException(
+            "Workflow instance not found in registry: " + instanceName,
+            new IllegalArgumentException());
+      }
+    }
+
+    Built nested = build(instanceName);
+    treeDefinitions.addAll(nested.definitions());
+    lookups.putAll(nested.lookups());
+    return nested.workflow();
+  }
+
+  /** Wraps a step in retry, timeout and rate limit workflows, from the inside out. */
+  private static Workflow applyPolicy(WorkflowStepMetadata step, Workflow workflow) {
+    WorkflowStepPolicy policy = step.policy();
+    if (policy.isNone()) {
+      return workflow;
+    }
+
+    Workflow wrapped = workflow;
+    if (policy.maxRetries() > 0) {
+      RetryPolicy.BackoffStrategy backoff =
+          policy.retryDelayMs() > 0
+              ? RetryPolicy.BackoffStrategy.constant(policy.retryDelayMs())
+              : RetryPolicy.BackoffStrategy.NO_BACKOFF;
+      Workflow attempt = wrapped;
+      wrapped =
+          new TaskWorkflow(
+              TaskDescriptor.builder()
+                  .name(step.name())
+                  .task(context -> runAttempt(attempt, context))
+                  .retryPolicy(
+                      RetryPolicy.limitedRetriesWithBackoff(policy.maxRetries(), backoff))
+                  .build());
+    }
+    if (policy.timeoutMs() > 0) {
+      wrapped =
+          TimeoutWorkflow.builder()
+              .name(step.name())
+              .workflow(wrapped)
+              .timeoutMs(policy.timeoutMs())
+              .build();
+    }
+    if (policy.rateLimitPerSecond() > 0) {
+      wrapped =
+          RateLimitedWorkflow.builder()
+              .name(step.name())
+              .workflow(wrapped)
+              .rateLimitStrategy(
+                  new TokenBucketRateLimiter(policy.rateLimitPerSecond(), Duration.ofSeconds(1)))
+              .build();
+    }
+    return wrapped;
+  }
+
+  /** Runs one attempt of a retried step, turning a failed result into a retryable exception. */
+  private static void runAttempt(Workflow workflow, WorkflowContext context) {
+    WorkflowResult result = workflow.execute(context);
+    if (result.getStatus() == WorkflowStatus.FAILED) {
+      throw new TaskExecutionException(
+          "Workflow step failed: " + workflow.getName(), result.getError());
+    }
+  }
+
+  /**
+   * Builds the composite workflow (sequential or parallel) from resolved workflow instances.
+   *
+   * @param workflowName the workflow name
+   * @param metadata the workflow metadata
+   * @param workflows the resolved workflow instances
+   * @return the composite workflow
+   */
+  private static Workflow buildCompositeWorkflow(
+      String workflowName, WorkflowMetadata metadata, List<Workflow> workflows) {
+    if (metadata.isParallel()) {
+      log.debug(
+          "Creating parallel workflow: {} (failFast={}, shareContext={})",
+          workflowName,
+          metadata.failFast(),
+          metadata.shareContext());
+      return ParallelWorkflow.builder()
+          .name(workflowName)
+          .workflows(workflows)
+          .failFast(metadata.failFast())
+          .shareContext(metadata.shareContext())
+          .build();
+    } else {
+      log.debug("Creating sequential workflow: {}", workflowName);
+      return SequentialWorkflow.builder().name(workflowName).workflows(workflows).build();
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.workflow.exception;
+
+/**
+ * Exception signalling that a call was rejected because its bulkhead has no free slot.
+ *
+ * <p><b>When Thrown:</b> Raised by {@link com.workflow.policy.Bulkhead} when all concurrent call
+ * slots are taken and the wait queue is full, or when a queued call did not get a slot within the
+ * maximum wait duration. {@link com.workflow.BulkheadWorkflow} reports it as the error of a FAILED
+ * result without starting the guarded workflow.
+ *
+ * @see com.workflow.policy.Bulkhead
+ * @see TaskExecutionException
+ */
+public class BulkheadFullException extends TaskExecutionException {
+  /**
+   * Create an exception with a message.
+   *
+   * @param message the error message
+   */
+  public BulkheadFullException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,30 @@
+package com.workflow.exception;
+
+/**
+ * Exception signalling that a call was rejected because its circuit breaker is open.
+ *
+ * <p><b>When Thrown:</b> Raised by {@link com.workflow.task.executor.DefaultTaskExecutor} for a
+ * task whose {@link com.workflow.policy.CircuitBreaker} does not permit the call, and reported as
+ * the error of a FAILED result by {@link com.workflow.CircuitBreakerWorkflow}. The guarded task or
+ * workflow is not started.
+ *
+ * <p><b>Recovery Strategies:</b>
+ *
+ * <ul>
+ *   <li>Serve a cached or default result through a {@link com.workflow.FallbackWorkflow}
+ *   <li>Retry later; the breaker lets probe calls through after its wait duration
+ * </ul>
+ *
+ * @see com.workflow.policy.CircuitBreaker
+ * @see TaskExecutionException
+ */
+public class CircuitBreakerOpenException extends TaskExecutionException {
+  /**
+   * Create an exception with a message.
+   *
+   * @param message the error message
+   */
+  public CircuitBreakerOpenException(String message) {
+    super(message);
+  }
+}
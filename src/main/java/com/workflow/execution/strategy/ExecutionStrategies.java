@@ -0,0 +1,94 @@
+package com.workflow.execution.strategy;
+
+import com.workflow.helper.ValidationUtils;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Holder for the engine-wide default {@link ExecutionStrategy}.
+ *
+ * <p>Workflow builders that need concurrency ({@link com.workflow.ParallelWorkflow}, {@link
+ * com.workflow.TimeoutWorkflow}) use this shared default unless a strategy or executor is supplied
+ * explicitly. This avoids creating one thread pool per workflow definition, which in processes with
+ * hundreds of definitions leads to hundreds of idle pools and unbounded thread growth under bursts.
+ *
+ * <p><b>Default Strategy:</b> A {@link VirtualThreadExecutionStrategy} created lazily on first use.
+ * Its concurrency cap is read from the {@value #MAX_CONCURRENCY_PROPERTY} system property ({@code
+ * 0} or absent means unbounded).
+ *
+ * <p><b>Lifecycle:</b> The shared default lives for the lifetime of the process. Workflows never
+ * close it. Applications that replace it via {@link #setDefault(ExecutionStrategy)} own the
+ * previous instance and may close it once in-flight work has drained.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * // At application startup: cap all parallel fan-out at 10k concurrent children
+ * ExecutionStrategies.setDefault(new VirtualThreadExecutionStrategy(10_000));
+ *
+ * // Every builder now shares the same strategy
+ * Workflow fanOut = ParallelWorkflow.builder().workflows(children).build();
+ * }</pre>
+ *
+ * @see VirtualThreadExecutionStrategy
+ * @see ExecutionStrategy
+ */
+@UtilityClass
+public class ExecutionStrategies {
+
+  /** System property holding the concurrency cap of the lazily created default strategy. */
+  public static final String MAX_CONCURRENCY_PROPERTY = "workflow.execution.maxConcurrency";
+
+  private static volatile ExecutionStrategy defaultStrategy;
+
+  private static final Executor DEFAULT_EXECUTOR =
+      command -> getDefault().submit(Executors.callable(command));
+
+  /**
+   * Returns the shared default strategy, creating it on first access.
+   *
+   * @return the engine-wide default execution strategy; never null
+   */
+  public static ExecutionStrategy getDefault() {
+    ExecutionStrategy strategy = defaultStrategy;
+    if (strategy == null) {
+      synchronized (ExecutionStrategies.class) {
+        strategy = defaultStrategy;
+        if (strategy == null) {
+          strategy =
+              new VirtualThreadExecutionStrategy(Integer.getInteger(MAX_CONCURRENCY_PROPERTY, 0));
+          defaultStrategy = strategy;
+        }
+      }
+    }
+    return strategy;
+  }
+
+  /**
+   * Replaces the shared default strategy.
+   *
+   * <p>Only builders created after this call pick up the new strategy. The previous strategy is not
+   * closed.
+   *
+   * @param strategy the new default strategy; must not be null
+   * @throws NullPointerException if strategy is null
+   */
+  public static void setDefault(ExecutionStrategy strategy) {
+    ValidationUtils.requireNonNull(strategy, "strategy");
+    synchronized (ExecutionStrategies.class) {
+      defaultStrategy = strategy;
+    }
+  }
+
+  /**
+   * Returns an {@link Executor} view of the shared default strategy, for components that accept a
+   * plain executor. Each command is dispatched to whichever strategy is the default at the time of
+   * execution.
+   *
+   * @return an executor backed by the default strategy; never null
+   */
+  public static Executor defaultExecutor() {
+    return DEFAULT_EXECUTOR;
+  }
+}
@@ -0,0 +1,103 @@
+package com.workflow.execution.strategy;
+
+import com.workflow.helper.ValidationUtils;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link CompletableFuture} that runs a {@link Callable} and interrupts the running thread when
+ * cancelled.
+ *
+ * <p><b>Purpose:</b> A plain {@code CompletableFuture} ignores {@code mayInterruptIfRunning}, so
+ * {@code cancel(true)} only marks it done while the callable keeps running and holding threads,
+ * connections and sockets. Strategies return this future instead, so fail-fast cancellation in
+ * {@link com.workflow.ParallelWorkflow} (and anything else using {@link
+ * com.workflow.helper.FutureUtils#cancelFuture}) genuinely stops the losing children.
+ *
+ * <p><b>Execution:</b> Submit the future itself as the {@link Runnable} to an executor. If it is
+ * cancelled before it starts, the callable never runs. An interrupt delivered by {@link
+ * #cancel(boolean)} is cleared when the callable returns, so it never leaks into the next task run
+ * by a pooled thread. Anything the callable throws, errors included, completes the future
+ * exceptionally.
+ *
+ * <p><b>Dependent Stages:</b> Stages created from this future ({@code thenApply}, {@code copy()},
+ * ...) are plain {@code CompletableFuture}s; cancelling them does not interrupt the callable.
+ *
+ * <p><b>Example Usage - Custom Strategy:</b>
+ *
+ * <pre>{@code
+ * public <T> CompletableFuture<T> submit(Callable<T> task) {
+ *     InterruptibleFuture<T> future = new InterruptibleFuture<>(task);
+ *     executor.execute(future);
+ *     return future;
+ * }
+ * }</pre>
+ *
+ * @param <T> the result type
+ * @see ExecutionStrategy
+ */
+public final class InterruptibleFuture<T> extends CompletableFuture<T> implements Runnable {
+  private final Callable<T> task;
+
+  /** Thread currently running the callable; guarded by {@code this}. */
+  private Thread runner;
+
+  /**
+   * Create a future for the given callable. The callable runs when {@link #run()} is invoked.
+   *
+   * @param task the callable to run; must not be null
+   * @throws NullPointerException if task is null
+   */
+  public InterruptibleFuture(Callable<T> task) {
+    ValidationUtils.requireNonNull(task, "task");
+    this.task = task;
+  }
+
+  @Override
+  public void run() {
+    synchronized (this) {
+      if (isDone()) {
+        return;
+      }
+      runner = Thread.currentThread();
+    }
+    try {
+      complete(task.call());
+    } catch (Throwable e) {
+      completeExceptionally(e);
+    } finally {
+      synchronized (this) {
+        runner = null;
+      }
+      if (isCancelled()) {
+        // Swallow the interrupt sent by cancel() so it does not hit an unrelated task
+        Thread.interrupted();
+      }
+    }
+  }
+
+  /**
+   * Cancels this future and, if {@code mayInterruptIfRunning} is true and the callable is running,
+   * interrupts the thread running it.
+   *
+   * @param mayInterruptIfRunning whether the running thread should be interrupted
+   * @return true if this future is now cancelled
+   */
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    boolean cancelled = super.cancel(mayInterruptIfRunning);
+    if (cancelled && mayInterruptIfRunning) {
+      synchronized (this) {
+        if (runner != null) {
+          runner.interrupt();
+        }
+      }
+    }
+    return cancelled;
+  }
+
+  @Override
+  public <U> CompletableFuture<U> newIncompleteFuture() {
+    return new CompletableFuture<>();
+  }
+}
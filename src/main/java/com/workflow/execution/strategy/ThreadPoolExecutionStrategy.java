@@ -29,6 +29,9 @@ import java.util.concurrent.Callable;
  *   <li>CompletableFuture is returned immediately
  * </ol>
  *
+ * <p><b>Cancellation:</b> Returned futures are {@link InterruptibleFuture}s; {@code cancel(true)}
+ * interrupts the pool thread running the task.
+ *
  * <p><b>Thread Safety:</b> This strategy is thread-safe. Can submit tasks from multiple threads
  * concurrently.
  *
@@ -147,17 +150,9 @@ public final class ThreadPoolExecutionStrategy implements ExecutionStrategy {
 
   @Override
   public <T> CompletableFuture<T> submit(Callable<T> task) {
-    CompletableFuture<T> cf = new CompletableFuture<>();
-    executor.submit(
-        () -> {
-          try {
-            T r = task.call();
-            cf.complete(r);
-          } catch (Exception t) {
-            cf.completeExceptionally(t);
-          }
-        });
-    return cf;
+    InterruptibleFuture<T> future = new InterruptibleFuture<>(task);
+    executor.execute(future);
+    return future;
   }
 
   @Override
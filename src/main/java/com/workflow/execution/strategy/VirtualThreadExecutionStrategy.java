@@ -0,0 +1,134 @@
+package com.workflow.execution.strategy;
+
+import com.workflow.helper.ValidationUtils;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Execution strategy that runs every submitted callable on its own virtual thread.
+ *
+ * <p><b>Purpose:</b> Provides massive concurrency for blocking I/O (HTTP, JDBC, file access)
+ * without the cost of platform threads. Virtual threads are cheap to create and park, so there is
+ * no pool to size and no idle threads to keep alive between bursts.
+ *
+ * <p><b>Concurrency Cap:</b> An optional {@code maxConcurrency} limits how many callables may run
+ * at the same time. Excess submissions are not rejected; their virtual threads simply wait for a
+ * permit, so the submitting thread never blocks. A cap of {@code 0} (the default) means unbounded.
+ *
+ * <p><b>Nested Fan-Out:</b> The cap bounds leaf work only. A callable that submits to the same
+ * strategy is a container (a nested {@code ParallelWorkflow} or {@code ForEachWorkflow}) that will
+ * wait for its children, so it gives its permit up on its first submission and does not take it
+ * back: once its children finish, it runs on without a permit. Otherwise containers holding every
+ * permit would wait forever on children that need one. Leaf callables never exceed {@code
+ * maxConcurrency}, but containers come on top, so the total number of running callables can.
+ *
+ * <p><b>Cancellation:</b> Returned futures are {@link InterruptibleFuture}s; {@code cancel(true)}
+ * interrupts the virtual thread, whether it is running the callable or still waiting for a permit.
+ *
+ * <p><b>Thread Safety:</b> This strategy is thread-safe. Can submit tasks concurrently from
+ * multiple threads.
+ *
+ * <p><b>Resource Management:</b> The strategy should be {@link #close()}d when done. Closing waits
+ * for already submitted callables to finish.
+ *
+ * <p><b>Example Usage - Unbounded:</b>
+ *
+ * <pre>{@code
+ * ExecutionStrategy strategy = new VirtualThreadExecutionStrategy();
+ *
+ * ParallelWorkflow workflow = ParallelWorkflow.builder()
+ *     .workflows(httpCalls)              // thousands of blocking HTTP children
+ *     .executionStrategy(strategy)
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Example Usage - Protecting a Downstream:</b>
+ *
+ * <pre>{@code
+ * // At most 200 JDBC children in flight, regardless of fan-out width
+ * ExecutionStrategy strategy = new VirtualThreadExecutionStrategy(200);
+ * }</pre>
+ *
+ * @see ExecutionStrategies
+ * @see ThreadPoolExecutionStrategy
+ * @see ExecutionStrategy
+ */
+public final class VirtualThreadExecutionStrategy implements ExecutionStrategy {
+  private final ExecutorService executor;
+  private final Semaphore permits;
+  private final int maxConcurrency;
+  private final ThreadLocal<boolean[]> heldPermit = new ThreadLocal<>();
+
+  /** Create an unbounded VirtualThreadExecutionStrategy. */
+  public VirtualThreadExecutionStrategy() {
+    this(0);
+  }
+
+  /**
+   * Create a VirtualThreadExecutionStrategy with a concurrency cap.
+   *
+   * @param maxConcurrency maximum number of leaf callables running at once; {@code 0} for
+   *     unbounded
+   * @throws IllegalArgumentException if maxConcurrency is negative
+   */
+  public VirtualThreadExecutionStrategy(int maxConcurrency) {
+    ValidationUtils.requireNonNegative(maxConcurrency, "maxConcurrency");
+    this.maxConcurrency = maxConcurrency;
+    this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    this.executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("workflow-vt-", 0).factory());
+  }
+
+  /**
+   * Returns the configured concurrency cap.
+   *
+   * @return the maximum number of concurrently running callables, or {@code 0} if unbounded
+   */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> submit(Callable<T> task) {
+    InterruptibleFuture<T> future;
+    if (permits == null) {
+      future = new InterruptibleFuture<>(task);
+    } else {
+      yieldHeldPermit();
+      future =
+          new InterruptibleFuture<>(
+              () -> {
+                permits.acquire();
+                boolean[] held = {true};
+                heldPermit.set(held);
+                try {
+                  return task.call();
+                } finally {
+                  heldPermit.remove();
+                  if (held[0]) {
+                    permits.release();
+                  }
+                }
+              });
+    }
+    executor.execute(future);
+    return future;
+  }
+
+  /** Releases the permit of the calling callable, which is fanning out to children. */
+  private void yieldHeldPermit() {
+    boolean[] held = heldPermit.get();
+    if (held != null && held[0]) {
+      held[0] = false;
+      permits.release();
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.close();
+  }
+}
@@ -5,8 +5,11 @@ import com.workflow.WorkflowStatus;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -169,7 +172,7 @@ public class FutureUtils {
             return; // Already completed due to fail-fast
           }
           if (ex != null) {
-            combined.completeExceptionally(unwrapCompletionException(ex));
+            combined.completeExceptionally(unwrap(ex));
             return;
           }
 
@@ -182,6 +185,127 @@ public class FutureUtils {
     return combined;
   }
 
+  /**
+   * Returns a future that completes with the first successful result among {@code futures}
+   * (shutdown-on-success semantics).
+   *
+   * <p>A result counts as successful unless its status is {@link WorkflowStatus#FAILED} or its
+   * future completed exceptionally. As soon as one succeeds, all other futures are cancelled with
+   * interruption. If every future fails, the returned future completes exceptionally with the first
+   * error in list order.
+   *
+   * @param futures list of futures to race (maybe null or empty)
+   * @return a future completing with the winning result, or with {@code null} if the list is null
+   *     or empty; never null
+   */
+  public static CompletableFuture<WorkflowResult> anySuccessful(
+      List<CompletableFuture<WorkflowResult>> futures) {
+    if (futures == null || futures.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletableFuture<WorkflowResult> winner = new CompletableFuture<>();
+    AtomicInteger remainingFailures = new AtomicInteger(futures.size());
+    for (CompletableFuture<WorkflowResult> future : futures) {
+      future.whenComplete(
+          (result, ex) -> {
+            if (getThrowable(result, ex) == null) {
+              if (winner.complete(result)) {
+                cancelFuturesExcept(futures, future);
+              }
+            } else if (remainingFailures.decrementAndGet() == 0) {
+              winner.completeExceptionally(firstFailure(futures));
+            }
+          });
+    }
+    return winner;
+  }
+
+  /**
+   * Makes cancelling {@code dependent} also cancel {@code sources}, with interruption.
+   *
+   * <p>Stages derived from a future ({@code thenApply}, {@code handle}, {@code copy()}, ...) do not
+   * pass cancellation back to it, so cancelling the derived stage leaves the original work running.
+   * Use this where a derived stage is handed out in place of the futures doing the work.
+   *
+   * @param dependent the stage handed to callers
+   * @param sources the futures doing the work; null elements are ignored
+   * @param <T> the result type
+   * @return {@code dependent}
+   */
+  public static <T> CompletableFuture<T> propagateCancellation(
+      CompletableFuture<T> dependent, List<? extends Future<?>> sources) {
+    dependent.whenComplete(
+        (_, _) -> {
+          if (dependent.isCancelled()) {
+            sources.forEach(FutureUtils::cancelFuture);
+          }
+        });
+    return dependent;
+  }
+
+  /**
+   * Flattens a future of a stage like {@code thenCompose(Function.identity())}, but cancelling the
+   * returned future cancels the outer future and, once it has produced it, the inner stage.
+   *
+   * @param outer a future producing the stage to follow
+   * @param <T> the result type
+   * @return a future completing like the inner stage; never null
+   */
+  public static <T> CompletableFuture<T> flatten(
+      CompletableFuture<? extends CompletionStage<T>> outer) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicReference<CompletableFuture<T>> inner = new AtomicReference<>();
+    outer.whenComplete(
+        (stage, ex) -> {
+          if (ex != null) {
+            result.completeExceptionally(unwrap(ex));
+            return;
+          }
+          if (stage == null) {
+            result.complete(null);
+            return;
+          }
+          CompletableFuture<T> innerFuture = stage.toCompletableFuture();
+          inner.set(innerFuture);
+          if (result.isCancelled()) {
+            cancelFuture(innerFuture); // Cancelled before the inner stage existed
+            return;
+          }
+          innerFuture.whenComplete(
+              (value, error) -> {
+                if (error != null) {
+                  result.completeExceptionally(unwrap(error));
+                } else {
+                  result.complete(value);
+                }
+              });
+        });
+    result.whenComplete(
+        (_, _) -> {
+          if (result.isCancelled()) {
+            cancelFuture(outer);
+            cancelFuture(inner.get());
+          }
+        });
+    return result;
+  }
+
+  private static Throwable firstFailure(List<CompletableFuture<WorkflowResult>> futures) {
+    for (CompletableFuture<WorkflowResult> future : futures) {
+      Throwable error;
+      try {
+        error = getThrowable(future.getNow(null), null);
+      } catch (Exception e) {
+        error = unwrap(e);
+      }
+      if (error != null) {
+        return error;
+      }
+    }
+    return new IllegalStateException("All futures failed with no error details");
+  }
+
   private static Throwable getFirstError(List<CompletableFuture<WorkflowResult>> futures) {
     for (CompletableFuture<WorkflowResult> future : futures) {
       try {
@@ -204,7 +328,7 @@ public class FutureUtils {
     }
     if (cause != null) {
       // Prefer underlying cause if wrapped
-      combined.completeExceptionally(unwrapCompletionException(cause));
+      combined.completeExceptionally(unwrap(cause));
     } else {
       combined.complete(null);
     }
@@ -234,7 +358,16 @@ public class FutureUtils {
         });
   }
 
-  private static Throwable unwrapCompletionException(Throwable t) {
+  /**
+   * Unwraps a {@link CompletionException} to expose the underlying cause.
+   *
+   * <p>Dependent stages of a {@link CompletableFuture} receive failures wrapped in a {@link
+   * CompletionException}; this returns the original error instead.
+   *
+   * @param t the throwable to unwrap; may be {@code null}
+   * @return the underlying cause, {@code t} itself if it is not wrapped, or {@code null}
+   */
+  public static Throwable unwrap(Throwable t) {
     if (t instanceof CompletionException && t.getCause() != null) {
       return t.getCause();
     }
@@ -1,9 +1,15 @@
 package com.workflow.helper;
 
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.experimental.UtilityClass;
 import org.graalvm.polyglot.Value;
 
@@ -101,6 +107,22 @@ import org.graalvm.polyglot.Value;
  *   <li>Conversion happens once, avoiding repeated context access
  * </ul>
  *
+ * <h3>Lazy Conversion:</h3>
+ *
+ * <p>{@link #toJavaLazy(Value)} avoids the upfront copy: JavaScript objects and arrays become
+ * read-only {@code Map}/{@code List} views that convert members on access, and typed arrays become
+ * primitive arrays ({@code Int8/16/32Array}, {@code Uint8/16Array} to {@code int[]}, {@code
+ * Uint32Array} and {@code BigInt64Array} to {@code long[]}, {@code Float32/64Array} to {@code
+ * double[]}) instead of lists of boxed numbers. Views are only valid while their context is open,
+ * and only on the thread using that context, so keep them out of state other threads can read;
+ * {@link #materialize(Object)} detaches one into plain Java collections before it escapes.
+ *
+ * <pre>{@code
+ * Object rows = PolyglotMapper.toJavaLazy(jsRows);      // no copy yet
+ * Value original = PolyglotMapper.unwrap(rows);          // the JS array, for handing back to JS
+ * Object detached = PolyglotMapper.materialize(rows);    // deep copy, safe after close
+ * }</pre>
+ *
  * @see Value
  * @see com.workflow.JavascriptWorkflow
  * @see com.workflow.JavascriptWorkflow.PolyglotContextProxy
@@ -119,14 +141,73 @@ public class PolyglotMapper {
    *     List&lt;Object&gt;, or Map&lt;String, Object&gt;
    */
   public static Object toJava(Value value) {
+    return convert(value, false);
+  }
+
+  /**
+   * Converts a Polyglot {@link Value} without copying JavaScript objects and arrays.
+   *
+   * <p>Objects and arrays are returned as read-only views whose members are converted (lazily) on
+   * each access; typed arrays are copied into primitive arrays. Views must not be used after the
+   * owning context is closed, nor from another thread while it is in use; use {@link
+   * #materialize(Object)} to detach them first.
+   *
+   * @param value the GraalVM Polyglot value to convert
+   * @return the converted value: null, a primitive wrapper, String, a primitive array, or a
+   *     List/Map view
+   */
+  public static Object toJavaLazy(Value value) {
+    if (value == null || value.isNull()) return null;
+
+    if (value.isHostObject()) return value.asHostObject();
+
+    if (value.hasArrayElements()) {
+      Object primitives = toPrimitiveArray(value);
+      return primitives != null ? primitives : new ListView(value);
+    }
+
+    if (value.hasMembers()) return new MapView(value);
+
+    return toScalar(value);
+  }
+
+  /**
+   * Detaches a value returned by {@link #toJavaLazy(Value)} into plain Java collections, keeping
+   * typed arrays as primitive arrays. Anything that is not a view is returned unchanged.
+   *
+   * @param value a possibly lazy value
+   * @return a value that remains valid after the context is closed
+   */
+  public static Object materialize(Object value) {
+    return value instanceof PolyglotView view ? convert(view.value(), true) : value;
+  }
+
+  /**
+   * Returns the Polyglot value behind a view returned by {@link #toJavaLazy(Value)}.
+   *
+   * @param value a possibly lazy value
+   * @return the underlying value, or {@code null} if {@code value} is not a view
+   */
+  public static Value unwrap(Object value) {
+    return value instanceof PolyglotView view ? view.value() : null;
+  }
+
+  private static Object convert(Value value, boolean primitiveArrays) {
     if (value == null || value.isNull()) return null;
 
     if (value.isHostObject()) return value.asHostObject();
 
-    if (value.hasArrayElements()) return toList(value);
+    if (value.hasArrayElements()) {
+      Object primitives = primitiveArrays ? toPrimitiveArray(value) : null;
+      return primitives != null ? primitives : toList(value, primitiveArrays);
+    }
 
-    if (value.hasMembers()) return toMap(value);
+    if (value.hasMembers()) return toMap(value, primitiveArrays);
 
+    return toScalar(value);
+  }
+
+  private static Object toScalar(Value value) {
     if (value.isString()) return value.asString();
 
     if (value.isBoolean()) return value.asBoolean();
@@ -136,18 +217,18 @@ public class PolyglotMapper {
     return value.as(Object.class);
   }
 
-  private static Map<String, Object> toMap(Value value) {
+  private static Map<String, Object> toMap(Value value, boolean primitiveArrays) {
     Map<String, Object> map = new LinkedHashMap<>();
     for (String key : value.getMemberKeys()) {
-      map.put(key, toJava(value.getMember(key)));
+      map.put(key, convert(value.getMember(key), primitiveArrays));
     }
     return map;
   }
 
-  private static List<Object> toList(Value value) {
+  private static List<Object> toList(Value value, boolean primitiveArrays) {
     List<Object> list = new ArrayList<>();
     for (int i = 0; i < value.getArraySize(); i++) {
-      list.add(toJava(value.getArrayElement(i)));
+      list.add(convert(value.getArrayElement(i), primitiveArrays));
     }
     return list;
   }
@@ -157,4 +238,125 @@ public class PolyglotMapper {
     if (value.fitsInLong()) return value.asLong();
     return value.asDouble();
   }
+
+  /** Copies a JavaScript typed array into a primitive array; {@code null} for other arrays. */
+  private static Object toPrimitiveArray(Value value) {
+    Value meta = value.getMetaObject();
+    if (meta == null) {
+      return null;
+    }
+    int size = (int) value.getArraySize();
+    return switch (meta.getMetaSimpleName()) {
+      case "Int8Array",
+          "Uint8Array",
+          "Uint8ClampedArray",
+          "Int16Array",
+          "Uint16Array",
+          "Int32Array" -> {
+        int[] ints = new int[size];
+        for (int i = 0; i < size; i++) {
+          ints[i] = value.getArrayElement(i).asInt();
+        }
+        yield ints;
+      }
+      case "Uint32Array", "BigInt64Array" -> {
+        long[] longs = new long[size];
+        for (int i = 0; i < size; i++) {
+          longs[i] = value.getArrayElement(i).asLong();
+        }
+        yield longs;
+      }
+      case "Float32Array", "Float64Array" -> {
+        double[] doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+          doubles[i] = value.getArrayElement(i).asDouble();
+        }
+        yield doubles;
+      }
+      default -> null;
+    };
+  }
+
+  /** A collection backed by a live Polyglot value. */
+  private sealed interface PolyglotView permits ListView, MapView {
+    Value value();
+  }
+
+  /** Read-only list over a JavaScript array; elements are converted on access. */
+  private static final class ListView extends AbstractList<Object> implements PolyglotView {
+    private final Value array;
+
+    ListView(Value array) {
+      this.array = array;
+    }
+
+    @Override
+    public Value value() {
+      return array;
+    }
+
+    @Override
+    public Object get(int index) {
+      Objects.checkIndex(index, size());
+      return toJavaLazy(array.getArrayElement(index));
+    }
+
+    @Override
+    public int size() {
+      return (int) array.getArraySize();
+    }
+  }
+
+  /** Read-only map over a JavaScript object; members are converted on access. */
+  private static final class MapView extends AbstractMap<String, Object> implements PolyglotView {
+    private final Value object;
+
+    MapView(Value object) {
+      this.object = object;
+    }
+
+    @Override
+    public Value value() {
+      return object;
+    }
+
+    @Override
+    public Object get(Object key) {
+      return key instanceof String name && object.hasMember(name)
+          ? toJavaLazy(object.getMember(name))
+          : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof String name && object.hasMember(name);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+          Iterator<String> keys = object.getMemberKeys().iterator();
+          return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+              return keys.hasNext();
+            }
+
+            @Override
+            public Entry<String, Object> next() {
+              String key = keys.next();
+              return new SimpleImmutableEntry<>(key, toJavaLazy(object.getMember(key)));
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return object.getMemberKeys().size();
+        }
+      };
+    }
+  }
 }
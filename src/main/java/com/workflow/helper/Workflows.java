@@ -1,11 +1,14 @@
 package com.workflow.helper;
 
 import com.workflow.*;
+import com.workflow.BulkheadWorkflow.BulkheadWorkflowBuilder;
 import com.workflow.ChaosWorkflow.ChaosWorkflowBuilder;
+import com.workflow.CircuitBreakerWorkflow.CircuitBreakerWorkflowBuilder;
 import com.workflow.ConditionalWorkflow.ConditionalWorkflowBuilder;
 import com.workflow.DynamicBranchingWorkflow.DynamicBranchingWorkflowBuilder;
 import com.workflow.FallbackWorkflow.FallbackWorkflowBuilder;
 import com.workflow.ForEachWorkflow.ForEachWorkflowBuilder;
+import com.workflow.HedgedWorkflow.HedgedWorkflowBuilder;
 import com.workflow.ParallelWorkflow.ParallelWorkflowBuilder;
 import com.workflow.RateLimitedWorkflow.RateLimitedWorkflowBuilder;
 import com.workflow.RepeatWorkflow.RepeatWorkflowBuilder;
@@ -121,6 +124,39 @@ public class Workflows {
     return TimeoutWorkflow.builder().name(name);
   }
 
+  /**
+   * Creates a builder for a {@link BulkheadWorkflow}, which caps how many executions of a workflow
+   * run concurrently.
+   *
+   * @param name The unique name of the bulkhead workflow.
+   * @return A new {@link BulkheadWorkflowBuilder} instance.
+   */
+  public static BulkheadWorkflowBuilder bulkhead(String name) {
+    return BulkheadWorkflow.builder().name(name);
+  }
+
+  /**
+   * Creates a builder for a {@link CircuitBreakerWorkflow}, which fails fast while the downstream
+   * it guards keeps failing.
+   *
+   * @param name The unique name of the circuit breaker workflow.
+   * @return A new {@link CircuitBreakerWorkflowBuilder} instance.
+   */
+  public static CircuitBreakerWorkflowBuilder circuitBreaker(String name) {
+    return CircuitBreakerWorkflow.builder().name(name);
+  }
+
+  /**
+   * Creates a builder for a {@link HedgedWorkflow}, which starts redundant attempts after a delay
+   * and keeps the first successful one.
+   *
+   * @param name The unique name of the hedged workflow.
+   * @return A new {@link HedgedWorkflowBuilder} instance.
+   */
+  public static HedgedWorkflowBuilder hedged(String name) {
+    return HedgedWorkflow.builder().name(name);
+  }
+
   /**
    * Creates a builder for a {@link SagaWorkflow}, which implements the saga pattern with
    * compensating actions for distributed transactions.
@@ -0,0 +1,57 @@
+package com.workflow.interpolation;
+
+import jakarta.el.ValueExpression;
+import lombok.Getter;
+
+/**
+ * A template parsed once by {@link JakartaElStringInterpolator#compile(String)} and evaluated many
+ * times with {@link JakartaElStringInterpolator#render(CompiledTemplate)}.
+ *
+ * <p>A compiled template holds no variable values: names are resolved when it is evaluated, so the
+ * same instance can be evaluated by any interpolator, against any variables or workflow context,
+ * from any thread.
+ *
+ * <p><b>Example Usage:</b>
+ *
+ * <pre>{@code
+ * CompiledTemplate url = interpolator.compile("https://api.example.com/orders/${orderId}");
+ *
+ * for (WorkflowContext context : contexts) {
+ *   String resolved = JakartaElStringInterpolator.forContext(context).render(url);
+ * }
+ * }</pre>
+ *
+ * @see JakartaElStringInterpolator
+ */
+public final class CompiledTemplate {
+
+  /** The original template text. */
+  @Getter private final String template;
+
+  /** The parsed expression, or {@code null} if the template has no placeholders. */
+  private final ValueExpression expression;
+
+  CompiledTemplate(String template, ValueExpression expression) {
+    this.template = template;
+    this.expression = expression;
+  }
+
+  /**
+   * Returns whether the template contains placeholders. A template without placeholders always
+   * evaluates to itself.
+   *
+   * @return {@code true} if the template has at least one unescaped placeholder
+   */
+  public boolean hasPlaceholders() {
+    return expression != null;
+  }
+
+  ValueExpression expression() {
+    return expression;
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+}
@@ -0,0 +1,456 @@
+package com.workflow.interpolation;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.interpolation.exception.InterpolationException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+
+/**
+ * A {@link StringInterpolator} that resolves plain {@code ${name}} and {@code ${a.b.c}} lookups
+ * directly, and hands every other template to a {@link JakartaElStringInterpolator}.
+ *
+ * <p>Most templates in workflow definitions are simple lookups such as {@code /orders/${orderId}}
+ * or {@code Hello ${user.name}}. For these, this interpolator skips the Jakarta EL machinery: each
+ * template is split once into literal text and property paths, and each path is resolved against
+ * the variables and the {@link WorkflowContext} with cached accessors. Resolving a template does
+ * not allocate beyond the output string.
+ *
+ * <p><b>Fast Path:</b> A template takes the fast path when every placeholder is a dot-separated
+ * path of identifiers and the template contains no backslash escapes. Each step of a path is
+ * resolved as follows:
+ *
+ * <ul>
+ *   <li>The first name is looked up in the variables, then in the workflow context
+ *   <li>On a {@link Map}, the next name is a key
+ *   <li>On any other object, the next name is a JavaBean property read through its public {@code
+ *       getX()} or {@code isX()} method
+ * </ul>
+ *
+ * <p><b>Delegation:</b> Operators, method calls, indexing, escapes and anything the fast path
+ * cannot resolve (a missing bean property, a list or record base, an unresolved name in strict
+ * mode) are evaluated by the delegate, so results and errors are always the same as with {@link
+ * JakartaElStringInterpolator}.
+ *
+ * <p><b>Example Usage:</b>
+ *
+ * <pre>{@code
+ * FastPathStringInterpolator interpolator = FastPathStringInterpolator.forContext(context);
+ *
+ * interpolator.interpolate("/orders/${orderId}");          // fast path
+ * interpolator.interpolate("Hello ${user.name}");          // fast path
+ * interpolator.interpolate("Total: ${price * quantity}");  // delegated to Jakarta EL
+ * }</pre>
+ *
+ * @see JakartaElStringInterpolator
+ */
+public class FastPathStringInterpolator implements StringInterpolator {
+
+  /** Maximum number of parsed templates kept in the shared cache. */
+  public static final int MAX_CACHED_TEMPLATES = 1024;
+
+  /** Words reserved by the EL grammar, which cannot be plain identifiers. */
+  private static final Set<String> RESERVED_WORDS =
+      Set.of("and or not eq ne lt gt le ge true false null instanceof empty div mod".split(" "));
+
+  /** Marker for a lookup the fast path cannot answer. */
+  private static final Object UNRESOLVED = new Object();
+
+  /** Accessor cached for properties a class does not expose as a public getter. */
+  private static final MethodHandle NO_GETTER =
+      MethodHandles.dropArguments(
+          MethodHandles.constant(Object.class, UNRESOLVED), 0, Object.class);
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /** Parsed templates shared by all instances; the least recently used are evicted first. */
+  private static final TemplateCache<Template> TEMPLATE_CACHE =
+      new TemplateCache<>(MAX_CACHED_TEMPLATES);
+
+  /** Getter handles by class and property name. */
+  private static final ClassValue<Map<String, MethodHandle>> GETTERS =
+      new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private final Map<String, Object> variables;
+  private final WorkflowContext workflowContext;
+  @Getter private final boolean strictByDefault;
+  private final JakartaElStringInterpolator delegate;
+
+  private FastPathStringInterpolator(
+      Map<String, Object> variables, WorkflowContext workflowContext, boolean strictByDefault) {
+    this.variables = new HashMap<>(variables);
+    this.workflowContext = workflowContext;
+    this.strictByDefault = strictByDefault;
+    JakartaElStringInterpolator.Builder builder =
+        JakartaElStringInterpolator.builder().variables(variables).strict(strictByDefault);
+    if (workflowContext != null) {
+      builder.workflowContext(workflowContext);
+    }
+    this.delegate = builder.build();
+  }
+
+  @Override
+  public String interpolate(String input) {
+    return interpolate(input, strictByDefault);
+  }
+
+  @Override
+  public String interpolate(String input, boolean strict) {
+    if (input == null || input.isBlank()) {
+      return input;
+    }
+
+    // Plain strings such as request bodies must not crowd templates out of the shared cache
+    if (!containsPlaceholders(input)) {
+      return input;
+    }
+
+    Template template = TEMPLATE_CACHE.get(input, Template::parse);
+
+    if (template == Template.REQUIRES_EL) {
+      return delegate.interpolate(input, strict);
+    }
+    String[][] paths = template.paths;
+    if (paths.length == 0) {
+      return input;
+    }
+    if (template.isSingleLookup()) {
+      Object value = resolve(paths[0]);
+      if (value == UNRESOLVED) {
+        return delegate.interpolate(input, strict);
+      }
+      return value != null ? String.valueOf(value) : "";
+    }
+
+    StringBuilder result = new StringBuilder(input.length() + 16 * paths.length);
+    for (int i = 0; i < paths.length; i++) {
+      result.append(template.literals[i]);
+      Object value = resolve(paths[i]);
+      if (value == UNRESOLVED) {
+        return delegate.interpolate(input, strict);
+      }
+      appendCoerced(result, value);
+    }
+    return result.append(template.literals[paths.length]).toString();
+  }
+
+  @Override
+  public boolean containsPlaceholders(String input) {
+    return delegate.containsPlaceholders(input);
+  }
+
+  /**
+   * Returns whether a template is resolved without Jakarta EL. Whether a lookup succeeds is only
+   * known at resolution time, so a template reported here may still be delegated.
+   *
+   * @param input the template to check
+   * @return {@code true} if every placeholder in the template is a simple property path
+   */
+  public boolean isFastPath(String input) {
+    return input != null && Template.parse(input) != Template.REQUIRES_EL;
+  }
+
+  private Object resolve(String[] path) {
+    Object value = resolveRoot(path[0], path.length == 1);
+    for (int i = 1; i < path.length; i++) {
+      if (value == null || value == UNRESOLVED) {
+        return value;
+      }
+      value = property(value, path[i]);
+    }
+    return value;
+  }
+
+  private Object resolveRoot(String name, boolean leaf) {
+    Object value = variables.getOrDefault(name, UNRESOLVED);
+    if (value != UNRESOLVED) {
+      return value;
+    }
+    if (workflowContext != null) {
+      value = workflowContext.get(name);
+      if (value != null) {
+        return value;
+      }
+    }
+    // Outside strict mode the EL fallback resolver renders a missing name as an empty string
+    return leaf && !strictByDefault ? "" : UNRESOLVED;
+  }
+
+  private static Object property(Object base, String name) {
+    try {
+      if (base instanceof Map<?, ?> map) {
+        return map.get(name);
+      }
+      if (base instanceof List<?>
+          || base instanceof ResourceBundle
+          || base instanceof Optional<?>
+          || base.getClass().isArray()
+          || base.getClass().isRecord()) {
+        // Resolved by dedicated EL resolvers with their own rules
+        return UNRESOLVED;
+      }
+      Map<String, MethodHandle> getters = GETTERS.get(base.getClass());
+      MethodHandle getter = getters.get(name);
+      if (getter == null) {
+        getter = findGetter(base.getClass(), name);
+        getters.put(name, getter);
+      }
+      return (Object) getter.invokeExact(base);
+    } catch (Throwable _) {
+      // Let the delegate evaluate it and report the error
+      return UNRESOLVED;
+    }
+  }
+
+  private static MethodHandle findGetter(Class<?> type, String name) {
+    String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    // The reverse of Introspector.decapitalize must give back the name, e.g. getURL is "URL"
+    if (!decapitalize(suffix).equals(name)) {
+      return NO_GETTER;
+    }
+    Method method = publicMethod(type, "get" + suffix);
+    if (method == null) {
+      method = publicMethod(type, "is" + suffix);
+      if (method != null && method.getReturnType() != boolean.class) {
+        method = null;
+      }
+    }
+    if (method == null || method.getReturnType() == void.class) {
+      return NO_GETTER;
+    }
+    try {
+      return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+    } catch (IllegalAccessException _) {
+      return NO_GETTER;
+    }
+  }
+
+  private static Method publicMethod(Class<?> type, String name) {
+    try {
+      Method method = type.getMethod(name);
+      return Modifier.isStatic(method.getModifiers()) ? null : method;
+    } catch (NoSuchMethodException _) {
+      return null;
+    }
+  }
+
+  private static String decapitalize(String name) {
+    if (name.length() > 1
+        && Character.isUpperCase(name.charAt(0))
+        && Character.isUpperCase(name.charAt(1))) {
+      return name;
+    }
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  /** Appends a value the way EL coerces it to a string inside a composite template. */
+  private static void appendCoerced(StringBuilder result, Object value) {
+    switch (value) {
+      case null -> {
+        // null renders as an empty string
+      }
+      case String string -> result.append(string);
+      case Integer number -> result.append(number.intValue());
+      case Long number -> result.append(number.longValue());
+      case Enum<?> constant -> result.append(constant.name());
+      default -> result.append(value);
+    }
+  }
+
+  /**
+   * Creates a new builder for configuring a {@link FastPathStringInterpolator}.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Creates a new interpolator with the given variables.
+   *
+   * @param variables the variables to use for resolution
+   * @return a new interpolator instance
+   */
+  public static FastPathStringInterpolator forVariables(Map<String, Object> variables) {
+    return builder().variables(variables).build();
+  }
+
+  /**
+   * Creates a new interpolator using the given workflow context as the source of variables.
+   *
+   * @param context the workflow context
+   * @return a new interpolator instance
+   */
+  public static FastPathStringInterpolator forContext(WorkflowContext context) {
+    return builder().workflowContext(context).build();
+  }
+
+  /**
+   * Creates a new interpolator using the given workflow context and additional variables.
+   *
+   * @param context the workflow context
+   * @param additionalVariables additional variables, which take precedence over the context
+   * @return a new interpolator instance
+   */
+  public static FastPathStringInterpolator forContextAndVariables(
+      WorkflowContext context, Map<String, Object> additionalVariables) {
+    return builder().workflowContext(context).variables(additionalVariables).build();
+  }
+
+  /** Builder for {@link FastPathStringInterpolator}. */
+  public static class Builder {
+    private final Map<String, Object> variables = new HashMap<>();
+    private WorkflowContext workflowContext;
+    private boolean strictByDefault = false;
+
+    private Builder() {}
+
+    /**
+     * Sets all variables for the interpolator, replacing any existing variables.
+     *
+     * @param variables the variables map
+     * @return this builder
+     */
+    public Builder variables(Map<String, Object> variables) {
+      Objects.requireNonNull(variables, "variables must not be null");
+      this.variables.clear();
+      this.variables.putAll(variables);
+      return this;
+    }
+
+    /**
+     * Adds a single variable to the interpolator.
+     *
+     * @param name the variable name
+     * @param value the variable value
+     * @return this builder
+     */
+    public Builder variable(String name, Object value) {
+      Objects.requireNonNull(name, "name must not be null");
+      this.variables.put(name, value);
+      return this;
+    }
+
+    /**
+     * Sets the workflow context for variable resolution.
+     *
+     * @param context the workflow context
+     * @return this builder
+     */
+    public Builder workflowContext(WorkflowContext context) {
+      this.workflowContext = Objects.requireNonNull(context, "context must not be null");
+      return this;
+    }
+
+    /**
+     * Sets whether strict mode is enabled by default. In strict mode, unresolved expressions will
+     * throw an {@link InterpolationException}.
+     *
+     * @param strict true to enable strict mode by default
+     * @return this builder
+     */
+    public Builder strict(boolean strict) {
+      this.strictByDefault = strict;
+      return this;
+    }
+
+    /**
+     * Builds the interpolator.
+     *
+     * @return a new {@link FastPathStringInterpolator} instance
+     */
+    public FastPathStringInterpolator build() {
+      return new FastPathStringInterpolator(variables, workflowContext, strictByDefault);
+    }
+  }
+
+  /**
+   * A template split into literal text and property paths: {@code literals[i]} precedes {@code
+   * paths[i]}, and the last literal follows the last path.
+   */
+  private static final class Template {
+    /** Marker for templates that need full EL evaluation. */
+    static final Template REQUIRES_EL = new Template(null, null);
+
+    final String[] literals;
+    final String[][] paths;
+
+    Template(String[] literals, String[][] paths) {
+      this.literals = literals;
+      this.paths = paths;
+    }
+
+    boolean isSingleLookup() {
+      return paths.length == 1 && literals[0].isEmpty() && literals[1].isEmpty();
+    }
+
+    static Template parse(String template) {
+      int open = template.indexOf("${");
+      if (open < 0) {
+        return new Template(new String[] {template}, new String[0][]);
+      }
+      if (template.indexOf('\\') >= 0) {
+        // Escapes follow EL rules
+        return REQUIRES_EL;
+      }
+
+      List<String> literals = new ArrayList<>();
+      List<String[]> paths = new ArrayList<>();
+      int start = 0;
+      while (open >= 0) {
+        int close = template.indexOf('}', open + 2);
+        String[] path = close < 0 ? null : parsePath(template.substring(open + 2, close));
+        if (path == null) {
+          return REQUIRES_EL;
+        }
+        literals.add(template.substring(start, open));
+        paths.add(path);
+        start = close + 1;
+        open = template.indexOf("${", start);
+      }
+      literals.add(template.substring(start));
+      return new Template(literals.toArray(String[]::new), paths.toArray(String[][]::new));
+    }
+
+    /** Splits {@code a.b.c} into its names, or returns {@code null} if it is not a plain path. */
+    private static String[] parsePath(String expression) {
+      String[] names = expression.split("\\.", -1);
+      for (String name : names) {
+        if (!isIdentifier(name) || RESERVED_WORDS.contains(name)) {
+          return null;
+        }
+      }
+      return names;
+    }
+
+    private static boolean isIdentifier(String name) {
+      if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+        return false;
+      }
+      for (int i = 1; i < name.length(); i++) {
+        if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
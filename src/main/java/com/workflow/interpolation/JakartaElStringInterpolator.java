@@ -54,6 +54,13 @@ import lombok.Getter;
  * interpolator.interpolate("First item: ${items[0]}"); // "First item: apple"
  * }</pre>
  *
+ * <p><b>Performance:</b> Parsed templates are kept in a cache of about {@value
+ * #MAX_CACHED_TEMPLATES} entries shared by all interpolators, so repeated interpolation of the same
+ * template does no parsing. The cache takes no lock on a hit and evicts the least recently used
+ * templates approximately. Each interpolator builds its resolver chain once; an evaluation only
+ * wraps it in a short-lived EL context, since EL contexts are not thread-safe. Templates known up
+ * front can be parsed explicitly with {@link #compile(String)}.
+ *
  * @see StringInterpolator
  * @see jakarta.el.ExpressionFactory
  */
@@ -62,6 +69,16 @@ public class JakartaElStringInterpolator implements StringInterpolator {
   /** Pattern to check if a string contains any placeholders */
   private static final Pattern HAS_PLACEHOLDER_PATTERN = Pattern.compile("(?<!\\\\)\\$\\{");
 
+  /** Pattern matching unescaped deferred {@code #{} markers, which are kept literal */
+  private static final Pattern DEFERRED_PATTERN = Pattern.compile("(?<!\\\\)#\\{");
+
+  /** Maximum number of parsed templates kept in the shared cache. */
+  public static final int MAX_CACHED_TEMPLATES = 1024;
+
+  /** Parsed templates shared by all interpolators; the least recently used are evicted first. */
+  private static final TemplateCache<CompiledTemplate> TEMPLATE_CACHE =
+      new TemplateCache<>(MAX_CACHED_TEMPLATES);
+
   private static final ExpressionFactory EXPRESSION_FACTORY = ELManager.getExpressionFactory();
 
   private static final String CONTEXT_MUST_NOT_BE_NULL = "context must not be null";
@@ -70,11 +87,18 @@ public class JakartaElStringInterpolator implements StringInterpolator {
   private final WorkflowContext workflowContext;
   @Getter private final boolean strictByDefault;
 
+  /**
+   * Holds this interpolator's resolver chain. It is never evaluated against directly; each
+   * evaluation wraps it in a fresh context, so bean property caches are shared across calls.
+   */
+  private final StandardELContext rootContext;
+
   private JakartaElStringInterpolator(
       Map<String, Object> variables, WorkflowContext workflowContext, boolean strictByDefault) {
     this.variables = variables != null ? new HashMap<>(variables) : new HashMap<>();
     this.workflowContext = workflowContext;
     this.strictByDefault = strictByDefault;
+    this.rootContext = createRootContext();
   }
 
   @Override
@@ -88,37 +112,113 @@ public class JakartaElStringInterpolator implements StringInterpolator {
       return input;
     }
 
+    // Plain strings such as request bodies must not crowd templates out of the shared cache
     if (!containsPlaceholders(input)) {
       return input;
     }
 
-    ELContext elContext = createELContext();
+    CompiledTemplate template;
+    try {
+      template = compileCached(input);
+    } catch (ELException e) {
+      if (strict) {
+        throw new InterpolationException(
+            "Error evaluating EL expression" + e.getMessage(), input, e);
+      }
+      return input;
+    }
+    return render(template, strict);
+  }
+
+  /**
+   * Evaluates a compiled template using the default strict mode.
+   *
+   * @param template the template returned by {@link #compile(String)}
+   * @return the interpolated string
+   * @throws InterpolationException if strict mode is enabled and evaluation fails
+   */
+  public String render(CompiledTemplate template) {
+    return render(template, strictByDefault);
+  }
+
+  /**
+   * Evaluates a compiled template against this interpolator's variables and workflow context.
+   *
+   * @param template the template returned by {@link #compile(String)}
+   * @param strict if {@code true}, throw an exception when evaluation fails; otherwise the template
+   *     text is returned unchanged
+   * @return the interpolated string
+   * @throws InterpolationException if strict mode is enabled and evaluation fails
+   */
+  public String render(CompiledTemplate template, boolean strict) {
+    Objects.requireNonNull(template, "template must not be null");
+    if (!template.hasPlaceholders()) {
+      return template.getTemplate();
+    }
+
     try {
-      return evaluateExpression(input, elContext);
+      Object value = template.expression().getValue(newELContext());
+      return value != null ? String.valueOf(value) : "";
     } catch (PropertyNotFoundException e) {
       if (strict) {
         throw new InterpolationException(
-            "Unable to resolve EL expression" + e.getMessage(), input, e);
+            "Unable to resolve EL expression" + e.getMessage(), template.getTemplate(), e);
       }
     } catch (Exception e) {
       if (strict) {
         throw new InterpolationException(
-            "Error evaluating EL expression" + e.getMessage(), input, e);
+            "Error evaluating EL expression" + e.getMessage(), template.getTemplate(), e);
       }
     }
-    return input;
+    return template.getTemplate();
+  }
+
+  /**
+   * Parses a template once so it can be evaluated repeatedly without parsing. The result does not
+   * depend on this interpolator's variables and may be evaluated by any interpolator.
+   *
+   * @param template the template text
+   * @return the compiled template
+   * @throws NullPointerException if template is null
+   * @throws InterpolationException if the template is not a valid EL expression
+   */
+  public CompiledTemplate compile(String template) {
+    Objects.requireNonNull(template, "template must not be null");
+    try {
+      return compileCached(template);
+    } catch (ELException e) {
+      throw new InterpolationException("Invalid EL template: " + e.getMessage(), template, e);
+    }
+  }
+
+  private CompiledTemplate compileCached(String template) {
+    return TEMPLATE_CACHE.get(template, this::parse);
+  }
+
+  private CompiledTemplate parse(String template) {
+    if (!containsPlaceholders(template)) {
+      return new CompiledTemplate(template, null);
+    }
+    String elExpression = DEFERRED_PATTERN.matcher(template).replaceAll("\\\\#{");
+    // Variables are supplied by a resolver rather than the variable mapper, so nothing from this
+    // context is captured into the expression and it can be shared across interpolators
+    ValueExpression valueExpression =
+        EXPRESSION_FACTORY.createValueExpression(newELContext(), elExpression, Object.class);
+    return new CompiledTemplate(template, valueExpression);
   }
 
-  private ELContext createELContext() {
+  /** Returns a context for one parse or evaluation, backed by the shared resolver chain. */
+  private ELContext newELContext() {
+    return new StandardELContext(rootContext);
+  }
+
+  private StandardELContext createRootContext() {
     StandardELContext context = new StandardELContext(EXPRESSION_FACTORY);
+    context.putContext(ExpressionFactory.class, EXPRESSION_FACTORY);
 
-    // Add variables from the map to the EL context
-    for (Map.Entry<String, Object> entry : variables.entrySet()) {
-      context
-          .getVariableMapper()
-          .setVariable(
-              entry.getKey(),
-              EXPRESSION_FACTORY.createValueExpression(entry.getValue(), Object.class));
+    // Variables take precedence over the workflow context
+    if (!variables.isEmpty()) {
+      context.addELResolver(new VariablesELResolver(variables));
     }
 
     // Add a custom resolver for WorkflowContext if present
@@ -131,17 +231,11 @@ public class JakartaElStringInterpolator implements StringInterpolator {
       context.addELResolver(new FallbackLiteralResolver());
     }
 
+    // Build the resolver chain now, so concurrent evaluations only ever read it
+    context.getELResolver();
     return context;
   }
 
-  private String evaluateExpression(String expression, ELContext context) {
-    String elExpression = expression.replaceAll("(?<!\\\\)#\\{", "\\\\#{");
-    ValueExpression valueExpression =
-        EXPRESSION_FACTORY.createValueExpression(context, elExpression, Object.class);
-    Object value = valueExpression.getValue(context);
-    return value != null ? String.valueOf(value) : "";
-  }
-
   @Override
   public boolean containsPlaceholders(String input) {
     if (input == null || input.isEmpty()) {
@@ -285,6 +379,53 @@ public class JakartaElStringInterpolator implements StringInterpolator {
     }
   }
 
+  /**
+   * ELResolver that resolves top-level names from the interpolator's variables.
+   *
+   * <p>Resolving variables here instead of through the EL variable mapper keeps parsed expressions
+   * free of variable values.
+   */
+  private static class VariablesELResolver extends ELResolver {
+    private final Map<String, Object> variables;
+
+    VariablesELResolver(Map<String, Object> variables) {
+      this.variables = variables;
+    }
+
+    @Override
+    public Object getValue(ELContext context, Object base, Object property) {
+      if (base == null && property instanceof String key && variables.containsKey(key)) {
+        context.setPropertyResolved(true);
+        return variables.get(key);
+      }
+      return null;
+    }
+
+    @Override
+    public Class<?> getType(ELContext context, Object base, Object property) {
+      if (base == null && property instanceof String key && variables.containsKey(key)) {
+        context.setPropertyResolved(true);
+        return Object.class;
+      }
+      return null;
+    }
+
+    @Override
+    public void setValue(ELContext context, Object base, Object property, Object value) {
+      throw new PropertyNotWritableException("Interpolator variables are read-only");
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context, Object base, Object property) {
+      return true;
+    }
+
+    @Override
+    public Class<?> getCommonPropertyType(ELContext context, Object base) {
+      return String.class;
+    }
+  }
+
   /**
    * Custom ELResolver that resolves properties from a WorkflowContext.
    *
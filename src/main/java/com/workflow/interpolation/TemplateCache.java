@@ -0,0 +1,89 @@
+package com.workflow.interpolation;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed templates, shared by all threads without a global lock.
+ *
+ * <p>Entries live in a {@link ConcurrentHashMap}, so hits never block each other. Each entry
+ * remembers the cache's clock at its last hit, and the clock only advances when a template is
+ * added. Once the cache holds more than its maximum, one thread evicts the least recently used
+ * quarter by that stamp while the others carry on, so eviction is approximate: the cache may
+ * briefly exceed its maximum, and entries hit within the same clock value are treated as equally
+ * old.
+ *
+ * @param <V> the parsed template type
+ */
+final class TemplateCache<V> {
+
+  private final int maxSize;
+  private final ConcurrentHashMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  TemplateCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the cached template, parsing and caching it on a miss. Parsing runs outside any lock;
+   * a concurrent miss on the same template just parses it twice and keeps the first result.
+   *
+   * @param template the template text
+   * @param parser parses the template; exceptions propagate and nothing is cached
+   * @return the parsed template
+   */
+  V get(String template, Function<String, V> parser) {
+    Entry<V> entry = entries.get(template);
+    if (entry != null) {
+      long now = clock.get();
+      if (entry.lastUsed != now) {
+        entry.lastUsed = now; // Racy on purpose; a lost stamp only makes eviction less exact
+      }
+      return entry.value;
+    }
+
+    V parsed = parser.apply(template);
+    Entry<V> existing = entries.putIfAbsent(template, new Entry<>(parsed, clock.incrementAndGet()));
+    if (existing != null) {
+      return existing.value;
+    }
+    if (entries.size() > maxSize) {
+      evict();
+    }
+    return parsed;
+  }
+
+  /** Removes the least recently used entries until the cache is down to three quarters full. */
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return; // Another thread is already evicting
+    }
+    try {
+      long[] stamps = entries.values().stream().mapToLong(e -> e.lastUsed).toArray();
+      int excess = stamps.length - maxSize * 3 / 4;
+      if (excess <= 0) {
+        return;
+      }
+      Arrays.sort(stamps);
+      long cutoff = stamps[excess - 1];
+      entries.values().removeIf(e -> e.lastUsed <= cutoff);
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  private static final class Entry<V> {
+    private final V value;
+    private volatile long lastUsed;
+
+    private Entry(V value, long lastUsed) {
+      this.value = value;
+      this.lastUsed = lastUsed;
+    }
+  }
+}
@@ -0,0 +1,350 @@
+package com.workflow.policy;
+
+import com.workflow.exception.BulkheadFullException;
+import com.workflow.execution.strategy.ExecutionStrategies;
+import com.workflow.helper.ValidationUtils;
+import com.workflow.task.executor.DeadlineTimer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+
+/**
+ * Bulkhead that caps how many calls to a dependency may be in flight at once.
+ *
+ * <p>Unlike a rate limiter, which bounds how often calls start, a bulkhead bounds how many run
+ * concurrently, so a slow dependency cannot absorb every thread of a shared pool: once {@code
+ * maxConcurrentCalls} calls are in flight, further calls wait in a bounded FIFO queue of {@code
+ * maxWaitingCalls} for at most {@code maxWaitDuration}, and are rejected with a {@link
+ * BulkheadFullException} if the queue is full or the wait times out.
+ *
+ * <p><b>Usage Protocol:</b> Acquire a slot with {@link #tryAcquire()}, {@link #acquire()} or {@link
+ * #acquireAsync()} and call {@link #release()} exactly once when the call has finished.
+ *
+ * <p><b>Non-Blocking Waits:</b> {@link #acquireAsync()} queues a future instead of parking a
+ * thread. A released slot is handed directly to the oldest waiting call, which completes its
+ * future on the releasing thread. Wait timeouts are timed on the shared {@link DeadlineTimer} and
+ * complete on the default {@link ExecutionStrategies#defaultExecutor() executor}.
+ *
+ * <p><b>Metrics:</b> {@link #getAvailableSlots()}, {@link #getWaitingCalls()} and {@link
+ * #getRejectedCalls()} expose the current load and the number of rejections.
+ *
+ * <p><b>Thread Safety:</b> This implementation is thread-safe using a lock that is held only to
+ * update the slot count and the queue.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * // At most 10 payment calls in flight, 20 more may wait up to 500ms
+ * Bulkhead bulkhead = Bulkhead.builder()
+ *     .name("payments")
+ *     .maxConcurrentCalls(10)
+ *     .maxWaitingCalls(20)
+ *     .maxWaitDuration(Duration.ofMillis(500))
+ *     .build();
+ *
+ * Workflow isolated = BulkheadWorkflow.builder()
+ *     .workflow(paymentWorkflow)
+ *     .bulkhead(bulkhead)
+ *     .build();
+ * }</pre>
+ *
+ * @see com.workflow.BulkheadWorkflow
+ * @see BulkheadFullException
+ */
+public final class Bulkhead {
+
+  /** The name used in rejection errors. */
+  @Getter private final String name;
+
+  /** The maximum number of calls in flight. */
+  @Getter private final int maxConcurrentCalls;
+
+  private final int maxWaitingCalls;
+  private final long maxWaitMillis;
+  private final Lock lock = new ReentrantLock();
+  private final Queue<CompletableFuture<Boolean>> waiters = new ArrayDeque<>();
+  private final LongAdder rejectedCalls = new LongAdder();
+  private int availableSlots;
+
+  private Bulkhead(BulkheadBuilder builder) {
+    this.name = builder.name;
+    this.maxConcurrentCalls = builder.maxConcurrentCalls;
+    this.maxWaitingCalls = builder.maxWaitingCalls;
+    this.maxWaitMillis = builder.maxWaitDuration.toMillis();
+    this.availableSlots = builder.maxConcurrentCalls;
+  }
+
+  /**
+   * Takes a slot if one is free and no call is waiting, without queueing. A call that is not
+   * granted a slot is counted as rejected.
+   *
+   * @return true if a slot was taken, false otherwise
+   */
+  public boolean tryAcquire() {
+    lock.lock();
+    try {
+      if (availableSlots > 0 && waiters.isEmpty()) {
+        availableSlots--;
+        return true;
+      }
+    } finally {
+      lock.unlock();
+    }
+    rejectedCalls.increment();
+    return false;
+  }
+
+  /**
+   * Takes a slot, waiting in the queue if none is free.
+   *
+   * @throws BulkheadFullException if the queue is full or no slot was freed within the maximum
+   *     wait duration
+   * @throws InterruptedException if the thread is interrupted while waiting; the call leaves the
+   *     queue and holds no slot
+   */
+  public void acquire() throws InterruptedException {
+    CompletableFuture<Boolean> slot = enqueue();
+    try {
+      if (!slot.get()) {
+        throw timedOut();
+      }
+    } catch (InterruptedException e) {
+      if (!slot.cancel(false) && Boolean.TRUE.equals(slot.getNow(false))) {
+        // The slot was granted while this thread was being interrupted
+        release();
+      }
+      throw e;
+    } catch (ExecutionException e) {
+      throw (BulkheadFullException) e.getCause();
+    }
+  }
+
+  /**
+   * Takes a slot without blocking, queueing the call if none is free. Cancelling the returned
+   * future leaves the queue, or frees the slot if it had already been granted.
+   *
+   * @return a future completing when a slot was taken, or exceptionally with a {@link
+   *     BulkheadFullException} if the queue is full or the wait timed out
+   */
+  public CompletableFuture<Void> acquireAsync() {
+    CompletableFuture<Boolean> waiter = enqueue();
+    CompletableFuture<Void> slot =
+        waiter.thenApply(
+            granted -> {
+              if (!granted) {
+                throw timedOut();
+              }
+              return null;
+            });
+    slot.whenComplete(
+        (_, _) -> {
+          if (slot.isCancelled()
+              && !waiter.cancel(false)
+              && Boolean.TRUE.equals(waiter.getNow(false))) {
+            release(); // The slot was granted, but nobody will use it
+          }
+        });
+    return slot;
+  }
+
+  /** Frees a slot, handing it to the oldest waiting call if there is one. */
+  public void release() {
+    while (true) {
+      CompletableFuture<Boolean> next;
+      lock.lock();
+      try {
+        next = waiters.poll();
+        if (next == null) {
+          availableSlots = Math.min(maxConcurrentCalls, availableSlots + 1);
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      // Completed outside the lock since the waiter's continuation runs on this thread
+      if (next.complete(true)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of free slots.
+   *
+   * @return the free slots
+   */
+  public int getAvailableSlots() {
+    lock.lock();
+    try {
+      return availableSlots;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of calls waiting for a slot.
+   *
+   * @return the waiting calls
+   */
+  public int getWaitingCalls() {
+    lock.lock();
+    try {
+      return waiters.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of calls rejected since the bulkhead was created.
+   *
+   * @return the rejected calls
+   */
+  public long getRejectedCalls() {
+    return rejectedCalls.sum();
+  }
+
+  /**
+   * Returns a future completing with true once a slot is taken, or with false if the wait timed
+   * out. Fails immediately if the queue is full.
+   */
+  private CompletableFuture<Boolean> enqueue() {
+    CompletableFuture<Boolean> waiter;
+    lock.lock();
+    try {
+      if (availableSlots > 0 && waiters.isEmpty()) {
+        availableSlots--;
+        return CompletableFuture.completedFuture(true);
+      }
+      if (waiters.size() >= maxWaitingCalls) {
+        rejectedCalls.increment();
+        return CompletableFuture.failedFuture(
+            new BulkheadFullException(
+                "Bulkhead " + name + " is full (" + maxConcurrentCalls + " concurrent calls)"));
+      }
+      waiter = new CompletableFuture<>();
+      waiters.add(waiter);
+    } finally {
+      lock.unlock();
+    }
+
+    // The timer thread only hands off, so the rejected caller resumes on the default strategy
+    DeadlineTimer.Deadline timeout =
+        DeadlineTimer.shared()
+            .schedule(
+                () -> ExecutionStrategies.defaultExecutor().execute(() -> waiter.complete(false)),
+                maxWaitMillis,
+                TimeUnit.MILLISECONDS);
+    waiter.whenComplete(
+        (granted, ex) -> {
+          timeout.cancel();
+          if (ex != null || !granted) {
+            if (ex == null) {
+              rejectedCalls.increment();
+            }
+            lock.lock();
+            try {
+              waiters.remove(waiter);
+            } finally {
+              lock.unlock();
+            }
+          }
+        });
+    return waiter;
+  }
+
+  private BulkheadFullException timedOut() {
+    return new BulkheadFullException(
+        "Bulkhead " + name + " had no free slot within " + maxWaitMillis + "ms");
+  }
+
+  /**
+   * Creates a new builder for {@link Bulkhead}.
+   *
+   * @return a new builder instance
+   */
+  public static BulkheadBuilder builder() {
+    return new BulkheadBuilder();
+  }
+
+  /**
+   * Builder for {@link Bulkhead}.
+   *
+   * <p>Defaults: 25 concurrent calls, no waiting calls, 1 second maximum wait.
+   */
+  public static class BulkheadBuilder {
+    private String name = "Bulkhead";
+    private int maxConcurrentCalls = 25;
+    private int maxWaitingCalls = 0;
+    private Duration maxWaitDuration = Duration.ofSeconds(1);
+
+    /**
+     * Sets the name used in rejection errors.
+     *
+     * @param name the bulkhead name
+     * @return this builder
+     */
+    public BulkheadBuilder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of calls in flight.
+     *
+     * @param maxConcurrentCalls at least 1
+     * @return this builder
+     */
+    public BulkheadBuilder maxConcurrentCalls(int maxConcurrentCalls) {
+      this.maxConcurrentCalls = maxConcurrentCalls;
+      return this;
+    }
+
+    /**
+     * Sets how many calls may wait for a slot; further calls are rejected immediately.
+     *
+     * @param maxWaitingCalls at least 0
+     * @return this builder
+     */
+    public BulkheadBuilder maxWaitingCalls(int maxWaitingCalls) {
+      this.maxWaitingCalls = maxWaitingCalls;
+      return this;
+    }
+
+    /**
+     * Sets how long a call waits for a slot before it is rejected.
+     *
+     * @param maxWaitDuration a non-negative duration
+     * @return this builder
+     */
+    public BulkheadBuilder maxWaitDuration(Duration maxWaitDuration) {
+      this.maxWaitDuration = maxWaitDuration;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new {@link Bulkhead}.
+     *
+     * @return a configured Bulkhead instance
+     * @throws NullPointerException if name or maxWaitDuration is null
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public Bulkhead build() {
+      ValidationUtils.requireNonNull(name, "name");
+      ValidationUtils.requirePositive(maxConcurrentCalls, "maxConcurrentCalls");
+      ValidationUtils.requireNonNegative(maxWaitingCalls, "maxWaitingCalls");
+      ValidationUtils.requireNonNegative(
+          ValidationUtils.requireNonNull(maxWaitDuration, "maxWaitDuration").toMillis(),
+          "maxWaitDuration");
+      return new Bulkhead(this);
+    }
+  }
+}
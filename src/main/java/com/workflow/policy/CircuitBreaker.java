@@ -0,0 +1,533 @@
+package com.workflow.policy;
+
+import com.workflow.helper.ValidationUtils;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker that stops calls to a failing dependency and fails them fast instead.
+ *
+ * <p><b>States:</b>
+ *
+ * <ul>
+ *   <li><b>CLOSED:</b> Calls are permitted. Outcomes are counted over a sliding time window; once
+ *       the window holds at least {@code minimumNumberOfCalls} calls and the failure rate or the
+ *       slow call rate reaches its threshold, the breaker opens
+ *   <li><b>OPEN:</b> Calls are rejected without being started. After {@code
+ *       waitDurationInOpenState} the next call attempt moves the breaker to half-open
+ *   <li><b>HALF_OPEN:</b> {@code permittedCallsInHalfOpenState} probe calls are permitted and the
+ *       rest rejected. Once all probes completed, the breaker closes with an empty window if both
+ *       rates are below their thresholds, and opens again otherwise. Probes still outstanding after
+ *       {@code maxWaitDurationInHalfOpenState} count as failed: the next call attempt opens the
+ *       breaker again, so a hung probe cannot hold it half-open
+ * </ul>
+ *
+ * <p><b>Usage Protocol:</b> Call {@link #tryAcquirePermission()} before a call and skip the call if
+ * it returns null. Otherwise report the outcome on the returned {@link Permission} with {@link
+ * Permission#onSuccess(long)} or {@link Permission#onError(long)}, or call {@link
+ * Permission#release()} if the call was abandoned without an outcome. A permission belongs to the
+ * state it was granted in: outcomes of calls that were admitted before the last state change are
+ * ignored, so they cannot count towards the probes of a later half-open phase. {@link
+ * com.workflow.CircuitBreakerWorkflow} and {@link com.workflow.task.executor.DefaultTaskExecutor}
+ * follow this protocol.
+ *
+ * <p><b>Thread Safety:</b> This implementation is lock-free. The state is swapped with
+ * compare-and-set, and the sliding window is divided into ten buckets of {@link LongAdder}s, so
+ * concurrent calls recording outcomes do not contend on a shared counter. Bucket rollover may lose
+ * an outcome recorded concurrently, which is acceptable for rate tracking. The rates are evaluated
+ * when a failed or slow call is recorded, since only those can raise them.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * CircuitBreaker breaker = CircuitBreaker.builder()
+ *     .name("payments")
+ *     .failureRateThreshold(50)                      // open at 50% failures
+ *     .slowCallRateThreshold(80)                     // or at 80% slow calls
+ *     .slowCallDuration(Duration.ofSeconds(2))
+ *     .slidingWindow(Duration.ofSeconds(30))
+ *     .minimumNumberOfCalls(20)
+ *     .waitDurationInOpenState(Duration.ofSeconds(10))
+ *     .permittedCallsInHalfOpenState(3)
+ *     .build();
+ *
+ * Workflow guarded = CircuitBreakerWorkflow.builder()
+ *     .workflow(paymentWorkflow)
+ *     .circuitBreaker(breaker)
+ *     .build();
+ * }</pre>
+ *
+ * @see com.workflow.CircuitBreakerWorkflow
+ * @see com.workflow.task.TaskDescriptor
+ * @see com.workflow.exception.CircuitBreakerOpenException
+ */
+@Slf4j
+public final class CircuitBreaker {
+  private static final int BUCKETS = 10;
+
+  /** The state of a circuit breaker. */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  /** The name used in log messages and rejection errors. */
+  @Getter private final String name;
+
+  private final double failureRateThreshold;
+  private final double slowCallRateThreshold;
+  private final long slowCallDurationNanos;
+  private final int minimumNumberOfCalls;
+  private final long waitDurationInOpenStateNanos;
+  private final int permittedCallsInHalfOpenState;
+  private final long maxWaitDurationInHalfOpenStateNanos;
+  private final long bucketNanos;
+  private final LongSupplier nanoTime;
+  private final AtomicReference<Phase> phase;
+  private final LongAdder notPermittedCalls = new LongAdder();
+
+  private CircuitBreaker(CircuitBreakerBuilder builder) {
+    this.name = builder.name;
+    this.failureRateThreshold = builder.failureRateThreshold;
+    this.slowCallRateThreshold = builder.slowCallRateThreshold;
+    this.slowCallDurationNanos = builder.slowCallDuration.toNanos();
+    this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+    this.waitDurationInOpenStateNanos = builder.waitDurationInOpenState.toNanos();
+    this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+    this.maxWaitDurationInHalfOpenStateNanos = builder.maxWaitDurationInHalfOpenState.toNanos();
+    this.bucketNanos = Math.max(1, builder.slidingWindow.toNanos() / BUCKETS);
+    this.nanoTime = builder.nanoTime;
+    this.phase = new AtomicReference<>(new Closed());
+  }
+
+  /**
+   * Asks whether a call may be made, moving an open breaker to half-open once its wait duration
+   * has elapsed, and a half-open breaker whose probes overran {@code
+   * maxWaitDurationInHalfOpenState} back to open.
+   *
+   * @return the permission to report the call's outcome on, or null if the call must be rejected
+   */
+  public Permission tryAcquirePermission() {
+    while (true) {
+      Phase current = phase.get();
+      switch (current) {
+        case Closed _ -> {
+          return new Permission(current);
+        }
+        case HalfOpen halfOpen -> {
+          if (halfOpen.tryAcquire()) {
+            return new Permission(current);
+          }
+          long elapsed = nanoTime.getAsLong() - halfOpen.startedAtNanos;
+          if (elapsed < maxWaitDurationInHalfOpenStateNanos) {
+            notPermittedCalls.increment();
+            return null;
+          }
+          open(current, "probe calls did not complete in time");
+        }
+        case Open open -> {
+          if (nanoTime.getAsLong() - open.openedAtNanos < waitDurationInOpenStateNanos) {
+            notPermittedCalls.increment();
+            return null;
+          }
+          transition(current, new HalfOpen(permittedCallsInHalfOpenState, nanoTime.getAsLong()));
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the current state. An open breaker whose wait duration has elapsed reports OPEN until
+   * the next call attempt moves it to half-open.
+   *
+   * @return the current state
+   */
+  public State getState() {
+    return switch (phase.get()) {
+      case Closed _ -> State.CLOSED;
+      case Open _ -> State.OPEN;
+      case HalfOpen _ -> State.HALF_OPEN;
+    };
+  }
+
+  /**
+   * Returns the number of calls rejected since the breaker was created.
+   *
+   * @return the rejected call count
+   */
+  public long getNotPermittedCalls() {
+    return notPermittedCalls.sum();
+  }
+
+  private void record(Phase current, boolean failed, long durationNanos) {
+    if (phase.get() != current) {
+      return; // Admitted before the last state change
+    }
+    boolean slow = durationNanos >= slowCallDurationNanos;
+    switch (current) {
+      case Closed closed -> {
+        long epoch = currentEpoch();
+        Bucket bucket = closed.bucket(epoch);
+        bucket.calls.increment();
+        if (failed) {
+          bucket.failures.increment();
+        }
+        if (slow) {
+          bucket.slowCalls.increment();
+        }
+        if ((failed || slow) && closed.exceedsThresholds(epoch)) {
+          open(current, "failure or slow call rate threshold reached");
+        }
+      }
+      case HalfOpen halfOpen -> {
+        if (failed) {
+          halfOpen.failures.incrementAndGet();
+        }
+        if (slow) {
+          halfOpen.slowCalls.incrementAndGet();
+        }
+        if (halfOpen.completed.incrementAndGet() == permittedCallsInHalfOpenState) {
+          if (exceeds(
+              permittedCallsInHalfOpenState, halfOpen.failures.get(), halfOpen.slowCalls.get())) {
+            open(current, "probe calls failed");
+          } else if (transition(current, new Closed())) {
+            log.info("Circuit breaker {} closed after successful probe calls", name);
+          }
+        }
+      }
+      case Open _ -> {
+        // Permissions are never granted while open
+      }
+    }
+  }
+
+  private void open(Phase current, String reason) {
+    if (transition(current, new Open(nanoTime.getAsLong()))) {
+      log.warn(
+          "Circuit breaker {} opened ({}), rejecting calls for {}ms",
+          name,
+          reason,
+          Duration.ofNanos(waitDurationInOpenStateNanos).toMillis());
+    }
+  }
+
+  private boolean transition(Phase from, Phase to) {
+    boolean changed = phase.compareAndSet(from, to);
+    if (changed) {
+      log.debug("Circuit breaker {} changed state to {}", name, getState());
+    }
+    return changed;
+  }
+
+  private boolean exceeds(long calls, long failures, long slowCalls) {
+    return failures * 100.0 >= failureRateThreshold * calls
+        || slowCalls * 100.0 >= slowCallRateThreshold * calls;
+  }
+
+  private long currentEpoch() {
+    return Math.floorDiv(nanoTime.getAsLong(), bucketNanos);
+  }
+
+  /**
+   * Permission to make one call, granted by {@link #tryAcquirePermission()}. Report exactly one
+   * outcome, or release it; further reports are ignored, as are reports made after the breaker left
+   * the state the permission was granted in.
+   */
+  public final class Permission {
+    private final Phase grantedIn;
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    private Permission(Phase grantedIn) {
+      this.grantedIn = grantedIn;
+    }
+
+    /**
+     * Records a successful call.
+     *
+     * @param durationNanos how long the call took, in nanoseconds
+     */
+    public void onSuccess(long durationNanos) {
+      if (reported.compareAndSet(false, true)) {
+        record(grantedIn, false, durationNanos);
+      }
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param durationNanos how long the call took, in nanoseconds
+     */
+    public void onError(long durationNanos) {
+      if (reported.compareAndSet(false, true)) {
+        record(grantedIn, true, durationNanos);
+      }
+    }
+
+    /**
+     * Returns the permission of a call that was abandoned without an outcome, for example because
+     * it was cancelled before it started.
+     */
+    public void release() {
+      if (reported.compareAndSet(false, true)
+          && grantedIn instanceof HalfOpen halfOpen
+          && phase.get() == halfOpen) {
+        halfOpen.permits.incrementAndGet();
+      }
+    }
+  }
+
+  /** A state together with the data it tracks; replaced as a whole on every transition. */
+  private sealed interface Phase permits Closed, Open, HalfOpen {}
+
+  /** Counts outcomes over the sliding window. */
+  private final class Closed implements Phase {
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+
+    /** Returns the epoch's bucket, replacing the bucket of an older epoch in its slot. */
+    private Bucket bucket(long epoch) {
+      int slot = Math.floorMod(epoch, BUCKETS);
+      while (true) {
+        Bucket bucket = buckets.get(slot);
+        if (bucket != null && bucket.epoch >= epoch) {
+          // A bucket of a later epoch means this thread read the clock before another one
+          return bucket;
+        }
+        Bucket fresh = new Bucket(epoch);
+        if (buckets.compareAndSet(slot, bucket, fresh)) {
+          return fresh;
+        }
+      }
+    }
+
+    private boolean exceedsThresholds(long epoch) {
+      long calls = 0;
+      long failures = 0;
+      long slowCalls = 0;
+      for (int slot = 0; slot < BUCKETS; slot++) {
+        Bucket bucket = buckets.get(slot);
+        if (bucket != null && epoch - bucket.epoch < BUCKETS) {
+          calls += bucket.calls.sum();
+          failures += bucket.failures.sum();
+          slowCalls += bucket.slowCalls.sum();
+        }
+      }
+      return calls >= minimumNumberOfCalls && exceeds(calls, failures, slowCalls);
+    }
+  }
+
+  /** Outcome counters for one tenth of the sliding window. */
+  private static final class Bucket {
+    private final long epoch;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+
+    private Bucket(long epoch) {
+      this.epoch = epoch;
+    }
+  }
+
+  /** Rejects calls until the wait duration has elapsed. */
+  private record Open(long openedAtNanos) implements Phase {}
+
+  /** Permits a fixed number of probe calls and counts their outcomes. */
+  private static final class HalfOpen implements Phase {
+    private final long startedAtNanos;
+    private final AtomicInteger permits;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    private HalfOpen(int permits, long startedAtNanos) {
+      this.startedAtNanos = startedAtNanos;
+      this.permits = new AtomicInteger(permits);
+    }
+
+    private boolean tryAcquire() {
+      int available;
+      do {
+        available = permits.get();
+        if (available <= 0) {
+          return false;
+        }
+      } while (!permits.compareAndSet(available, available - 1));
+      return true;
+    }
+  }
+
+  /**
+   * Creates a new builder for {@link CircuitBreaker}.
+   *
+   * @return a new builder instance
+   */
+  public static CircuitBreakerBuilder builder() {
+    return new CircuitBreakerBuilder();
+  }
+
+  /**
+   * Builder for {@link CircuitBreaker}.
+   *
+   * <p>Defaults: failure rate threshold 50%, slow call rate threshold 100%, slow call duration 60
+   * seconds, sliding window 60 seconds, minimum number of calls 10, wait duration in open state 30
+   * seconds, 5 permitted calls in half-open state, max wait duration in half-open state 60 seconds.
+   */
+  public static class CircuitBreakerBuilder {
+    private String name = "CircuitBreaker";
+    private double failureRateThreshold = 50;
+    private double slowCallRateThreshold = 100;
+    private Duration slowCallDuration = Duration.ofSeconds(60);
+    private Duration slidingWindow = Duration.ofSeconds(60);
+    private int minimumNumberOfCalls = 10;
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    private int permittedCallsInHalfOpenState = 5;
+    private Duration maxWaitDurationInHalfOpenState = Duration.ofSeconds(60);
+    private LongSupplier nanoTime = System::nanoTime;
+
+    /**
+     * Sets the name used in log messages and rejection errors.
+     *
+     * @param name the breaker name
+     * @return this builder
+     */
+    public CircuitBreakerBuilder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    /**
+     * Sets the failure rate, in percent, at which the breaker opens.
+     *
+     * @param failureRateThreshold a percentage between 1 and 100
+     * @return this builder
+     */
+    public CircuitBreakerBuilder failureRateThreshold(double failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the slow call rate, in percent, at which the breaker opens.
+     *
+     * @param slowCallRateThreshold a percentage between 1 and 100
+     * @return this builder
+     */
+    public CircuitBreakerBuilder slowCallRateThreshold(double slowCallRateThreshold) {
+      this.slowCallRateThreshold = slowCallRateThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the duration from which a call counts as slow.
+     *
+     * @param slowCallDuration a positive duration
+     * @return this builder
+     */
+    public CircuitBreakerBuilder slowCallDuration(Duration slowCallDuration) {
+      this.slowCallDuration = slowCallDuration;
+      return this;
+    }
+
+    /**
+     * Sets the length of the sliding window over which closed-state outcomes are counted.
+     *
+     * @param slidingWindow a positive duration
+     * @return this builder
+     */
+    public CircuitBreakerBuilder slidingWindow(Duration slidingWindow) {
+      this.slidingWindow = slidingWindow;
+      return this;
+    }
+
+    /**
+     * Sets how many calls the window must hold before the rates are evaluated.
+     *
+     * @param minimumNumberOfCalls at least 1
+     * @return this builder
+     */
+    public CircuitBreakerBuilder minimumNumberOfCalls(int minimumNumberOfCalls) {
+      this.minimumNumberOfCalls = minimumNumberOfCalls;
+      return this;
+    }
+
+    /**
+     * Sets how long an open breaker rejects calls before letting probes through.
+     *
+     * @param waitDurationInOpenState a positive duration
+     * @return this builder
+     */
+    public CircuitBreakerBuilder waitDurationInOpenState(Duration waitDurationInOpenState) {
+      this.waitDurationInOpenState = waitDurationInOpenState;
+      return this;
+    }
+
+    /**
+     * Sets how many probe calls a half-open breaker permits.
+     *
+     * @param permittedCallsInHalfOpenState at least 1
+     * @return this builder
+     */
+    public CircuitBreakerBuilder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+      this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+      return this;
+    }
+
+    /**
+     * Sets how long a half-open breaker waits for its probe calls to complete before it opens
+     * again.
+     *
+     * @param maxWaitDurationInHalfOpenState a positive duration
+     * @return this builder
+     */
+    public CircuitBreakerBuilder maxWaitDurationInHalfOpenState(
+        Duration maxWaitDurationInHalfOpenState) {
+      this.maxWaitDurationInHalfOpenState = maxWaitDurationInHalfOpenState;
+      return this;
+    }
+
+    /** Sets the clock; for tests. */
+    CircuitBreakerBuilder nanoTime(LongSupplier nanoTime) {
+      this.nanoTime = nanoTime;
+      return this;
+    }
+
+    /**
+     * Builds and returns a new {@link CircuitBreaker}.
+     *
+     * @return a configured CircuitBreaker instance
+     * @throws NullPointerException if a duration or the name is null
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public CircuitBreaker build() {
+      ValidationUtils.requireNonNull(name, "name");
+      ValidationUtils.requireInRange(failureRateThreshold, 1, 100, "failureRateThreshold");
+      ValidationUtils.requireInRange(slowCallRateThreshold, 1, 100, "slowCallRateThreshold");
+      ValidationUtils.requirePositive(
+          ValidationUtils.requireNonNull(slowCallDuration, "slowCallDuration").toNanos(),
+          "slowCallDuration");
+      ValidationUtils.requirePositive(
+          ValidationUtils.requireNonNull(slidingWindow, "slidingWindow").toNanos(),
+          "slidingWindow");
+      ValidationUtils.requirePositive(minimumNumberOfCalls, "minimumNumberOfCalls");
+      ValidationUtils.requirePositive(
+          ValidationUtils.requireNonNull(waitDurationInOpenState, "waitDurationInOpenState")
+              .toNanos(),
+          "waitDurationInOpenState");
+      ValidationUtils.requirePositive(
+          permittedCallsInHalfOpenState, "permittedCallsInHalfOpenState");
+      ValidationUtils.requirePositive(
+          ValidationUtils.requireNonNull(
+                  maxWaitDurationInHalfOpenState, "maxWaitDurationInHalfOpenState")
+              .toNanos(),
+          "maxWaitDurationInHalfOpenState");
+      return new CircuitBreaker(this);
+    }
+  }
+}
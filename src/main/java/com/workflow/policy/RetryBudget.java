@@ -0,0 +1,82 @@
+package com.workflow.policy;
+
+import java.time.Duration;
+
+/**
+ * Caps how many retries may be made against a downstream dependency, relative to how many calls to
+ * it succeed.
+ *
+ * <p>A {@link RetryPolicy} decides per call whether a failure is worth retrying. During an outage
+ * every in-flight call retries independently, multiplying the load on the failing dependency by the
+ * number of attempts. A retry budget is shared by all calls to one dependency and denies retries
+ * once they exceed a fraction of the recent successful calls, so retries help with sporadic
+ * failures but stop when nearly everything fails.
+ *
+ * <p>Executors call {@link #recordSuccess()} when a call succeeds and {@link #tryAcquireRetry()}
+ * before each re-attempt the retry policy approved. A denied retry fails the call with the last
+ * failure, as if the retry policy had given up.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * // Retries may add at most 10% to the successful calls of the last 10 seconds,
+ * // plus 5 retries per second so rarely called tasks can still retry
+ * RetryBudget budget = RetryBudget.ratio(0.1, 5, Duration.ofSeconds(10));
+ *
+ * TaskExecutor executor = DefaultTaskExecutor.withRetryBudgets(RetryBudgets.shared(budget));
+ * }</pre>
+ *
+ * @see RetryBudgets
+ * @see SlidingWindowRetryBudget
+ * @see com.workflow.task.executor.DefaultTaskExecutor
+ */
+public interface RetryBudget {
+  /** Records a successful call, which earns a fraction of a retry. */
+  void recordSuccess();
+
+  /**
+   * Withdraws one retry from the budget if it has one available.
+   *
+   * @return true if the retry may be made, false if the budget is exhausted
+   */
+  boolean tryAcquireRetry();
+
+  /**
+   * Returns the number of retries the budget would currently allow.
+   *
+   * @return the available retries; {@link Integer#MAX_VALUE} for an unlimited budget
+   */
+  int availableRetries();
+
+  /** A budget that allows every retry. */
+  RetryBudget UNLIMITED =
+      new RetryBudget() {
+        @Override
+        public void recordSuccess() {
+          // Nothing to track
+        }
+
+        @Override
+        public boolean tryAcquireRetry() {
+          return true;
+        }
+
+        @Override
+        public int availableRetries() {
+          return Integer.MAX_VALUE;
+        }
+      };
+
+  /**
+   * Create a budget allowing retries up to a ratio of the successful calls over a sliding window.
+   *
+   * @param retryRatio retries allowed per successful call, e.g. 0.1 for 10%; between 0 and 1000
+   * @param minRetriesPerSecond retries allowed regardless of successes; must not be negative
+   * @param window the length of the sliding window; must be positive
+   * @return a {@link SlidingWindowRetryBudget}
+   * @throws IllegalArgumentException if an argument is out of range
+   */
+  static RetryBudget ratio(double retryRatio, int minRetriesPerSecond, Duration window) {
+    return new SlidingWindowRetryBudget(retryRatio, minRetriesPerSecond, window);
+  }
+}
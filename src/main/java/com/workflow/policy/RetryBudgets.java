@@ -0,0 +1,87 @@
+package com.workflow.policy;
+
+import com.workflow.helper.ValidationUtils;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Looks up the {@link RetryBudget} for a downstream dependency by name.
+ *
+ * <p>{@link com.workflow.task.executor.DefaultTaskExecutor} keys budgets by the task name from the
+ * {@link com.workflow.task.TaskDescriptor}, or by the fully qualified task class name when the
+ * descriptor has no name, so tasks calling the same dependency should share a name to share a
+ * budget.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * // One budget per task name, created on first use
+ * RetryBudgets budgets =
+ *     RetryBudgets.perName(() -> RetryBudget.ratio(0.1, 5, Duration.ofSeconds(10)));
+ *
+ * TaskExecutor executor = DefaultTaskExecutor.withRetryBudgets(budgets);
+ * }</pre>
+ *
+ * @see RetryBudget
+ */
+public final class RetryBudgets {
+  private static final RetryBudgets UNLIMITED = shared(RetryBudget.UNLIMITED);
+
+  private final Supplier<? extends RetryBudget> factory;
+  private final Map<String, RetryBudget> budgets;
+
+  private RetryBudgets(Supplier<? extends RetryBudget> factory, boolean perName) {
+    this.factory = factory;
+    this.budgets = perName ? new ConcurrentHashMap<>() : null;
+  }
+
+  /**
+   * Returns budgets that allow every retry.
+   *
+   * @return unlimited budgets
+   */
+  public static RetryBudgets unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * Create budgets that return the same budget for every name.
+   *
+   * @param budget the budget shared by all tasks; must not be null
+   * @return budgets returning {@code budget}
+   * @throws NullPointerException if budget is null
+   */
+  public static RetryBudgets shared(RetryBudget budget) {
+    ValidationUtils.requireNonNull(budget, "budget");
+    return new RetryBudgets(() -> budget, false);
+  }
+
+  /**
+   * Create budgets that hold a separate budget per name, created by the factory on first use.
+   *
+   * @param factory creates the budget for a new name; must not be null or return null
+   * @return per-name budgets
+   * @throws NullPointerException if factory is null
+   */
+  public static RetryBudgets perName(Supplier<? extends RetryBudget> factory) {
+    ValidationUtils.requireNonNull(factory, "factory");
+    return new RetryBudgets(factory, true);
+  }
+
+  /**
+   * Returns the budget for a name.
+   *
+   * @param name the downstream or task name; must not be null
+   * @return the budget for the name; never null
+   * @throws NullPointerException if name is null, or the factory returned null
+   */
+  public RetryBudget budgetFor(String name) {
+    ValidationUtils.requireNonNull(name, "name");
+    if (budgets == null) {
+      return factory.get();
+    }
+    return budgets.computeIfAbsent(
+        name, _ -> ValidationUtils.requireNonNull(factory.get(), "retry budget"));
+  }
+}
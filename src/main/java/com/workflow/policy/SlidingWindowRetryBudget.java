@@ -0,0 +1,148 @@
+package com.workflow.policy;
+
+import com.workflow.helper.ValidationUtils;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Retry budget that allows retries up to a ratio of the successful calls over a sliding window.
+ *
+ * <p>The window is divided into ten buckets counting successes and retries; a bucket is cleared
+ * when the window slides past it, so the budget forgets old traffic in steps of a tenth of the
+ * window. A retry is allowed while
+ *
+ * <pre>
+ * retries in window &lt; minRetriesPerSecond * windowSeconds + retryRatio * successes in window
+ * </pre>
+ *
+ * <p>Like a token bucket, each success deposits {@code retryRatio} tokens and each retry withdraws
+ * one, but tokens expire with the window instead of accumulating up to a capacity. The reserve of
+ * {@code minRetriesPerSecond} keeps rarely called tasks retryable.
+ *
+ * <p><b>Thread Safety:</b> This implementation is thread-safe. Each bucket counts on striped
+ * {@link LongAdder}s, so recording a success never blocks; only retry acquisitions take a lock, to
+ * check and spend the budget atomically.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * // 20% retries over the last minute, at least 1 retry per second
+ * RetryBudget budget = new SlidingWindowRetryBudget(0.2, 1, Duration.ofMinutes(1));
+ * }</pre>
+ *
+ * @see RetryBudget
+ * @see RetryBudgets
+ */
+public final class SlidingWindowRetryBudget implements RetryBudget {
+  private static final int BUCKETS = 10;
+
+  private final double retryRatio;
+  private final double reserve;
+  private final long bucketNanos;
+  private final LongSupplier nanoTime;
+  private final long originNanos;
+  private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+  private final Lock retryLock = new ReentrantLock();
+
+  /**
+   * Creates a retry budget.
+   *
+   * @param retryRatio retries allowed per successful call, e.g. 0.1 for 10%; between 0 and 1000
+   * @param minRetriesPerSecond retries allowed regardless of successes; must not be negative
+   * @param window the length of the sliding window; must be positive
+   * @throws IllegalArgumentException if an argument is out of range
+   */
+  public SlidingWindowRetryBudget(double retryRatio, int minRetriesPerSecond, Duration window) {
+    this(retryRatio, minRetriesPerSecond, window, System::nanoTime);
+  }
+
+  SlidingWindowRetryBudget(
+      double retryRatio, int minRetriesPerSecond, Duration window, LongSupplier nanoTime) {
+    ValidationUtils.requireInRange(retryRatio, 0, 1000, "retryRatio");
+    ValidationUtils.requireNonNegative(minRetriesPerSecond, "minRetriesPerSecond");
+    ValidationUtils.requireNonNull(window, "window");
+    ValidationUtils.require(
+        !window.isNegative() && !window.isZero(), "window must be positive, got: " + window);
+
+    this.retryRatio = retryRatio;
+    this.reserve = minRetriesPerSecond * (window.toNanos() / 1_000_000_000.0);
+    this.bucketNanos = Math.max(1, window.toNanos() / BUCKETS);
+    this.nanoTime = nanoTime;
+    this.originNanos = nanoTime.getAsLong();
+  }
+
+  @Override
+  public void recordSuccess() {
+    bucket(currentEpoch()).successes.increment();
+  }
+
+  @Override
+  public boolean tryAcquireRetry() {
+    // Concurrent successes only add to the budget, so retries alone need to be serialised
+    retryLock.lock();
+    try {
+      long epoch = currentEpoch();
+      if (available(epoch) < 1) {
+        return false;
+      }
+      bucket(epoch).retries.increment();
+      return true;
+    } finally {
+      retryLock.unlock();
+    }
+  }
+
+  @Override
+  public int availableRetries() {
+    return (int) Math.min(Integer.MAX_VALUE, Math.max(0, Math.floor(available(currentEpoch()))));
+  }
+
+  private long currentEpoch() {
+    return (nanoTime.getAsLong() - originNanos) / bucketNanos;
+  }
+
+  /** Returns the epoch's bucket, replacing the bucket of an older epoch in its slot. */
+  private Bucket bucket(long epoch) {
+    int slot = (int) (epoch % BUCKETS);
+    while (true) {
+      Bucket bucket = buckets.get(slot);
+      if (bucket != null && bucket.epoch >= epoch) {
+        // A bucket of a later epoch means this thread read the clock before another one
+        return bucket;
+      }
+      Bucket fresh = new Bucket(epoch);
+      if (buckets.compareAndSet(slot, bucket, fresh)) {
+        return fresh;
+      }
+    }
+  }
+
+  /** Returns the retries the window allows, ignoring buckets the window has slid past. */
+  private double available(long epoch) {
+    long windowSuccesses = 0;
+    long windowRetries = 0;
+    for (int slot = 0; slot < BUCKETS; slot++) {
+      Bucket bucket = buckets.get(slot);
+      if (bucket != null && epoch - bucket.epoch < BUCKETS) {
+        windowSuccesses += bucket.successes.sum();
+        windowRetries += bucket.retries.sum();
+      }
+    }
+    return reserve + retryRatio * windowSuccesses - windowRetries;
+  }
+
+  /** Success and retry counters for one tenth of the window. */
+  private static final class Bucket {
+    private final long epoch;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    private Bucket(long epoch) {
+      this.epoch = epoch;
+    }
+  }
+}
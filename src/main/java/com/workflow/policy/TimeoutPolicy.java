@@ -17,6 +17,9 @@ import java.time.Duration;
  * TimeoutPolicy twoMinutes = TimeoutPolicy.ofMinutes(2);
  * TimeoutPolicy customMillis = TimeoutPolicy.ofMillis(5000);
  *
+ * // Interrupt the calling thread instead of handing the work to another thread
+ * TimeoutPolicy interruptible = TimeoutPolicy.onCallingThread(5000);
+ *
  * // Check timeout value
  * long timeout = fiveSeconds.timeoutMs(); // returns 5000
  *
@@ -48,6 +51,17 @@ public interface TimeoutPolicy {
     return Duration.ofMillis(timeoutMs());
   }
 
+  /**
+   * Whether the timed work runs on the calling thread, which is interrupted when the timeout
+   * elapses, instead of on another thread the caller stops waiting for. This saves a thread per
+   * timed call, but work that ignores interruption is then not bounded by the timeout.
+   *
+   * @return true to run on the calling thread; false by default
+   */
+  default boolean runsOnCallingThread() {
+    return false;
+  }
+
   /** A convenience constant representing no timeout. */
   TimeoutPolicy NONE = () -> 0;
 
@@ -61,6 +75,28 @@ public interface TimeoutPolicy {
     return () -> millis;
   }
 
+  /**
+   * Create a timeout policy whose work runs on the calling thread and is interrupted when the
+   * timeout elapses. Only suitable for work that responds to interruption.
+   *
+   * @param millis timeout duration in milliseconds; a value &lt;= 0 indicates no timeout
+   * @return a {@link TimeoutPolicy} returning the given timeout
+   * @see #runsOnCallingThread()
+   */
+  static TimeoutPolicy onCallingThread(long millis) {
+    return new TimeoutPolicy() {
+      @Override
+      public long timeoutMs() {
+        return millis;
+      }
+
+      @Override
+      public boolean runsOnCallingThread() {
+        return true;
+      }
+    };
+  }
+
   /**
    * Create a timeout policy with the specified duration in seconds.
    *
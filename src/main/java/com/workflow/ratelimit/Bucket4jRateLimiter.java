@@ -254,6 +254,11 @@ public class Bucket4jRateLimiter implements RateLimitStrategy {
     return (int) bucket.getAvailableTokens();
   }
 
+  @Override
+  public long nanosUntilNextPermit() {
+    return bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill();
+  }
+
   @Override
   public void reset() {
     // Bucket4j doesn't provide a direct reset method
@@ -179,6 +179,14 @@ public class FixedWindowRateLimiter implements RateLimitStrategy {
     return Math.max(0, maxRequests - windowState.count);
   }
 
+  @Override
+  public long nanosUntilNextPermit() {
+    long now = System.nanoTime();
+    WindowState windowState = state.get();
+    long nanosUntilNextWindow = windowState.windowStartNanos + windowSizeNanos - now;
+    return nanosUntilNextWindow <= 0 || windowState.count < maxRequests ? 0 : nanosUntilNextWindow;
+  }
+
   @Override
   public void reset() {
     state.set(new WindowState(System.nanoTime(), 0));
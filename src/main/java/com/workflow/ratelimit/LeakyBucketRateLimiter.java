@@ -238,6 +238,17 @@ public class LeakyBucketRateLimiter implements RateLimitStrategy {
     }
   }
 
+  @Override
+  public long nanosUntilNextPermit() {
+    lock.lock();
+    try {
+      leak();
+      return water + 1.0 <= capacity ? 0 : getSleepTimeNanos(getWaterToLeak());
+    } finally {
+      lock.unlock();
+    }
+  }
+
   @Override
   public void reset() {
     lock.lock();
@@ -88,6 +88,18 @@ public interface RateLimitStrategy {
     return -1; // Not all implementations can provide this
   }
 
+  /**
+   * Returns how long until {@link #tryAcquire()} is expected to succeed, so non-blocking callers
+   * can schedule their next attempt instead of polling. This is a snapshot; another caller may take
+   * the permit first.
+   *
+   * @return nanoseconds until the next permit, {@code 0} if one is available now, or -1 if not
+   *     supported by implementation
+   */
+  default long nanosUntilNextPermit() {
+    return -1; // Not all implementations can provide this
+  }
+
   /**
    * Resets the rate limiter state. This is useful for testing or when starting a new rate limit
    * period.
@@ -202,6 +202,23 @@ public class SlidingWindowRateLimiter implements RateLimitStrategy {
     }
   }
 
+  @Override
+  public long nanosUntilNextPermit() {
+    long now = System.nanoTime();
+    long oldestAllowedTimestamp = now - windowSizeNanos;
+
+    lock.lock();
+    try {
+      removeExpired(oldestAllowedTimestamp);
+      if (requestTimestamps.size() < maxRequests) {
+        return 0;
+      }
+      return getSleepTimeNanos(oldestAllowedTimestamp, 0, now);
+    } finally {
+      lock.unlock();
+    }
+  }
+
   @Override
   public void reset() {
     lock.lock();
@@ -214,6 +214,17 @@ public class TokenBucketRateLimiter implements RateLimitStrategy {
     }
   }
 
+  @Override
+  public long nanosUntilNextPermit() {
+    lock.lock();
+    try {
+      refill();
+      return tokens >= 1.0 ? 0 : (long) Math.ceil((1.0 - tokens) / tokensPerNano);
+    } finally {
+      lock.unlock();
+    }
+  }
+
   @Override
   public void reset() {
     lock.lock();
@@ -1,9 +1,10 @@
 package com.workflow.registry;
 
 import com.workflow.Workflow;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +13,11 @@ import lombok.extern.slf4j.Slf4j;
  * Registry for managing workflow instances and their metadata. This registry maintains a cache of
  * built workflows to avoid redundant construction and provides lookup mechanisms.
  *
- * <p>Thread-safe implementation that supports concurrent access and workflow discovery.
+ * <p>Thread-safe implementation that supports concurrent access and workflow discovery. Lookups are
+ * lock-free: the registered workflows are held in an immutable snapshot published through a
+ * volatile field, and every change installs a new snapshot. Changes are serialized among
+ * themselves, so bulk registration and replacement are atomic, and readers see either the whole
+ * change or none of it.
  *
  * <p>Example usage:
  *
@@ -20,12 +25,14 @@ import lombok.extern.slf4j.Slf4j;
  * WorkflowRegistry registry = new WorkflowRegistry();
  * registry.register("DataProcessing", dataProcessingWorkflow);
  * Optional<Workflow> workflow = registry.getWorkflow("DataProcessing");
+ *
+ * // Hot-swap a new definition; executions already running keep the old instance
+ * registry.replace("DataProcessing", updatedWorkflow);
  * }</pre>
  */
 @Slf4j
 public class WorkflowRegistry {
-  private final Map<String, Workflow> workflowCache = new HashMap<>();
-  private final Set<String> registeredWorkflows = new HashSet<>();
+  private volatile Map<String, Workflow> workflows = Collections.emptyMap();
 
   /** Creates a new empty workflow registry. */
   public WorkflowRegistry() {
@@ -40,22 +47,115 @@ public class WorkflowRegistry {
    * @throws IllegalArgumentException if a workflow with the same name is already registered
    */
   public synchronized void register(String name, Workflow workflow) {
-    if (workflowCache.containsKey(name)) {
+    if (workflows.containsKey(name)) {
       throw new IllegalArgumentException("Workflow with name '" + name + "' is already registered");
     }
-    workflowCache.put(name, workflow);
-    registeredWorkflows.add(name);
+    Map<String, Workflow> updated = new HashMap<>(workflows);
+    updated.put(name, workflow);
+    publish(updated);
     log.debug("Registered workflow: {}", name);
   }
 
+  /**
+   * Registers several workflows at once. Either all of them are registered or, if any name is
+   * already taken, none are.
+   *
+   * @param workflowsByName the workflows to register, keyed by name
+   * @throws IllegalArgumentException if any of the names is already registered
+   */
+  public synchronized void registerAll(Map<String, ? extends Workflow> workflowsByName) {
+    Objects.requireNonNull(workflowsByName, "workflowsByName must not be null");
+    for (String name : workflowsByName.keySet()) {
+      if (workflows.containsKey(name)) {
+        throw new IllegalArgumentException(
+            "Workflow with name '" + name + "' is already registered");
+      }
+    }
+    Map<String, Workflow> updated = new HashMap<>(workflows);
+    updated.putAll(workflowsByName);
+    publish(updated);
+    log.debug("Registered workflows: {}", workflowsByName.keySet());
+  }
+
+  /**
+   * Registers a workflow, replacing any workflow already registered under the same name.
+   * Executions that already obtained the previous instance are not affected.
+   *
+   * @param name the workflow name
+   * @param workflow the new workflow instance
+   * @return the previously registered workflow, if any
+   */
+  public synchronized Optional<Workflow> replace(String name, Workflow workflow) {
+    Map<String, Workflow> updated = new HashMap<>(workflows);
+    Workflow previous = updated.put(name, workflow);
+    publish(updated);
+    log.debug("Replaced workflow: {}", name);
+    return Optional.ofNullable(previous);
+  }
+
+  /**
+   * Replaces a workflow only if the registered instance is still {@code expected}. Use this to
+   * hot-swap a definition without overwriting a concurrent update made by someone else.
+   *
+   * @param name the workflow name
+   * @param expected the instance expected to be registered, compared by identity
+   * @param replacement the new workflow instance
+   * @return true if the workflow was replaced
+   */
+  public synchronized boolean replace(String name, Workflow expected, Workflow replacement) {
+    if (!workflows.containsKey(name) || workflows.get(name) != expected) {
+      return false;
+    }
+    Map<String, Workflow> updated = new HashMap<>(workflows);
+    updated.put(name, replacement);
+    publish(updated);
+    log.debug("Replaced workflow: {}", name);
+    return true;
+  }
+
+  /**
+   * Removes a workflow from the registry.
+   *
+   * @param name the workflow name
+   * @return the removed workflow, if any
+   */
+  public synchronized Optional<Workflow> remove(String name) {
+    if (!workflows.containsKey(name)) {
+      return Optional.empty();
+    }
+    Map<String, Workflow> updated = new HashMap<>(workflows);
+    Workflow removed = updated.remove(name);
+    publish(updated);
+    log.debug("Removed workflow: {}", name);
+    return Optional.ofNullable(removed);
+  }
+
+  /**
+   * Removes a workflow only if the registered instance is still {@code expected}.
+   *
+   * @param name the workflow name
+   * @param expected the instance expected to be registered, compared by identity
+   * @return true if the workflow was removed
+   */
+  public synchronized boolean remove(String name, Workflow expected) {
+    if (!workflows.containsKey(name) || workflows.get(name) != expected) {
+      return false;
+    }
+    Map<String, Workflow> updated = new HashMap<>(workflows);
+    updated.remove(name);
+    publish(updated);
+    log.debug("Removed workflow: {}", name);
+    return true;
+  }
+
   /**
    * Retrieves a registered workflow by name.
    *
    * @param name the workflow name
    * @return an Optional containing the workflow if found, empty otherwise
    */
-  public synchronized Optional<Workflow> getWorkflow(String name) {
-    return Optional.ofNullable(workflowCache.get(name));
+  public Optional<Workflow> getWorkflow(String name) {
+    return Optional.ofNullable(workflows.get(name));
   }
 
   /**
@@ -64,7 +164,30 @@ public class WorkflowRegistry {
    * @param name the workflow name
    * @return true if the workflow is registered
    */
-  public synchronized boolean isRegistered(String name) {
-    return registeredWorkflows.contains(name);
+  public boolean isRegistered(String name) {
+    return workflows.containsKey(name);
+  }
+
+  /**
+   * Returns the names of all registered workflows at the time of the call.
+   *
+   * @return an unmodifiable set of workflow names
+   */
+  public Set<String> getWorkflowNames() {
+    return workflows.keySet();
+  }
+
+  /**
+   * Returns a consistent, unmodifiable view of all registered workflows at the time of the call.
+   * Later changes to the registry are not reflected in it.
+   *
+   * @return the registered workflows keyed by name
+   */
+  public Map<String, Workflow> snapshot() {
+    return workflows;
+  }
+
+  private void publish(Map<String, Workflow> updated) {
+    workflows = Collections.unmodifiableMap(updated);
   }
 }
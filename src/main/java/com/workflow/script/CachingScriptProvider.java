@@ -0,0 +1,250 @@
+package com.workflow.script;
+
+import com.workflow.exception.ScriptLoadException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator that keeps a script in memory and only reloads it from its delegate when the backing
+ * file changes.
+ *
+ * <p>{@link FileScriptProvider} and {@link ClasspathScriptProvider} read the whole script on every
+ * call. Wrapping them in this provider turns the per-execution disk read into a cheap modification
+ * check, performed at most once per {@code checkInterval}.
+ *
+ * <h3>Features:</h3>
+ *
+ * <ul>
+ *   <li><b>Change Detection:</b> When the loaded script's URI is a {@code file:} URI of an existing
+ *       file, its modification time and size are polled; any difference triggers a reload
+ *   <li><b>Stable Instances:</b> While the content is unchanged the same {@link ScriptSource}
+ *       instance is returned, even if the file was touched or rewritten with identical content
+ *   <li><b>Versioning:</b> {@link #getVersion()} increases and {@link #getContentHash()} changes
+ *       only when the content actually changes, so downstream caches can invalidate precisely
+ *   <li><b>Non-File Sources:</b> Inline, JAR and custom sources are loaded once and kept until
+ *       {@link #invalidate()} is called
+ * </ul>
+ *
+ * <p>Modification time polling is used rather than a {@link java.nio.file.WatchService}: it needs
+ * no background thread and behaves the same on local and network file systems.
+ *
+ * <p><b>Thread Safety:</b> This provider is thread-safe. Reloads are serialized; concurrent callers
+ * see either the previous or the new script, never a partial one. The file is checked before it is
+ * read, and an {@link #invalidate()} that races a reload forces another one, so neither a write nor
+ * an invalidation during a read is lost. When the delegate is not a {@link FileScriptProvider}, the
+ * backing file is only known after the first read, so a file-backed script is read twice on its
+ * first load.
+ *
+ * <h3>Usage Examples:</h3>
+ *
+ * <pre>{@code
+ * // Check the file at most once per second (the default)
+ * ScriptProvider provider =
+ *     new CachingScriptProvider(new FileScriptProvider(Path.of("scripts/pricing.js")));
+ *
+ * JavascriptWorkflow workflow = JavascriptWorkflow.builder()
+ *     .name("PricingLogic")
+ *     .scriptProvider(provider)
+ *     .build();
+ * }</pre>
+ *
+ * <pre>{@code
+ * // Check on every call: still one stat instead of a full read
+ * ScriptProvider provider = new CachingScriptProvider(fileProvider, Duration.ZERO);
+ * }</pre>
+ *
+ * @see FileScriptProvider
+ * @see ClasspathScriptProvider
+ */
+public final class CachingScriptProvider implements ScriptProvider {
+  /** Default minimum time between modification checks of the backing file. */
+  public static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(1);
+
+  private final ScriptProvider delegate;
+  private final long checkIntervalNanos;
+
+  private volatile Snapshot snapshot;
+  private volatile long nextCheckAt;
+
+  /** Bumped by {@link #invalidate()}; a snapshot loaded under an older generation is stale. */
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Creates a caching provider that checks for changes at most once per {@link
+   * #DEFAULT_CHECK_INTERVAL}.
+   *
+   * @param delegate the provider to load the script from
+   * @throws NullPointerException if delegate is null
+   */
+  public CachingScriptProvider(ScriptProvider delegate) {
+    this(delegate, DEFAULT_CHECK_INTERVAL);
+  }
+
+  /**
+   * Creates a caching provider.
+   *
+   * @param delegate the provider to load the script from
+   * @param checkInterval minimum time between modification checks; {@link Duration#ZERO} checks on
+   *     every call
+   * @throws NullPointerException if delegate or checkInterval is null
+   * @throws IllegalArgumentException if checkInterval is negative
+   */
+  public CachingScriptProvider(ScriptProvider delegate, Duration checkInterval) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    Objects.requireNonNull(checkInterval, "checkInterval must not be null");
+    if (checkInterval.isNegative()) {
+      throw new IllegalArgumentException("checkInterval must not be negative");
+    }
+    this.checkIntervalNanos = checkInterval.toNanos();
+  }
+
+  @Override
+  public ScriptSource loadScript() throws ScriptLoadException {
+    Snapshot current = snapshot;
+    if (current != null && isFresh(current, System.nanoTime())) {
+      return current.source();
+    }
+    return refresh();
+  }
+
+  /**
+   * Returns the version of the cached script: {@code 0} before the first load, then increased by
+   * one each time a reload yields different content.
+   *
+   * @return the current version
+   */
+  public long getVersion() {
+    Snapshot current = snapshot;
+    return current != null ? current.version() : 0;
+  }
+
+  /**
+   * Returns the SHA-256 hash of the cached script content as lowercase hex.
+   *
+   * @return the content hash, or {@code null} before the first load
+   */
+  public String getContentHash() {
+    Snapshot current = snapshot;
+    return current != null ? current.hash() : null;
+  }
+
+  /** Forces the next {@link #loadScript()} to reload from the delegate. */
+  public void invalidate() {
+    generation.incrementAndGet();
+  }
+
+  private boolean isFresh(Snapshot current, long now) {
+    return current.generation() == generation.get()
+        && (current.file() == null || now - nextCheckAt < 0);
+  }
+
+  private synchronized ScriptSource refresh() throws ScriptLoadException {
+    Snapshot current = snapshot;
+    if (current != null && isFresh(current, System.nanoTime())) {
+      // Another caller refreshed while we waited for the lock
+      return current.source();
+    }
+
+    // Read the generation and stat the file before reading the script, so an invalidation or a
+    // write racing the read is caught by the next check
+    long loadGeneration = generation.get();
+    if (current == null) {
+      return firstLoad(loadGeneration);
+    }
+    FileStamp stamp = FileStamp.of(current.file());
+    if (current.generation() == loadGeneration && current.stamp().equals(stamp)) {
+      nextCheckAt = System.nanoTime() + checkIntervalNanos;
+      return current.source();
+    }
+    return publish(current, delegate.loadScript(), current.file(), stamp, loadGeneration);
+  }
+
+  private ScriptSource firstLoad(long loadGeneration) throws ScriptLoadException {
+    Path file =
+        delegate instanceof FileScriptProvider(Path filePath)
+            ? watchedFile(filePath.toUri())
+            : null;
+    FileStamp stamp = FileStamp.of(file);
+    ScriptSource loaded = delegate.loadScript();
+    if (file == null && (file = watchedFile(loaded.uri())) != null) {
+      // The file is only known once read; stat it and read again so the stamp predates the content
+      stamp = FileStamp.of(file);
+      loaded = delegate.loadScript();
+    }
+    return publish(null, loaded, file, stamp, loadGeneration);
+  }
+
+  private ScriptSource publish(
+      Snapshot current, ScriptSource loaded, Path file, FileStamp stamp, long loadGeneration) {
+    String hash = hash(loaded.content());
+    Snapshot next =
+        current != null && current.hash().equals(hash)
+            ? new Snapshot(current.source(), hash, current.version(), file, stamp, loadGeneration)
+            : new Snapshot(
+                loaded,
+                hash,
+                current != null ? current.version() + 1 : 1,
+                file,
+                stamp,
+                loadGeneration);
+    snapshot = next;
+    nextCheckAt = System.nanoTime() + checkIntervalNanos;
+    return next.source();
+  }
+
+  /** Returns the local file behind a script URI, or {@code null} if there is nothing to watch. */
+  private static Path watchedFile(URI uri) {
+    if (uri == null || !"file".equals(uri.getScheme())) {
+      return null;
+    }
+    try {
+      Path path = Path.of(uri);
+      return Files.isRegularFile(path) ? path : null;
+    } catch (IllegalArgumentException _) {
+      return null;
+    }
+  }
+
+  private static String hash(String content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private record Snapshot(
+      ScriptSource source,
+      String hash,
+      long version,
+      Path file,
+      FileStamp stamp,
+      long generation) {}
+
+  /** Modification time and size of a file; both {@code null} if it cannot be read. */
+  private record FileStamp(FileTime modified, Long size) {
+    static FileStamp of(Path file) {
+      if (file == null) {
+        return new FileStamp(null, null);
+      }
+      try {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileStamp(attributes.lastModifiedTime(), attributes.size());
+      } catch (IOException _) {
+        return new FileStamp(null, null);
+      }
+    }
+  }
+}
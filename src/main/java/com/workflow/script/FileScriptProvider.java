@@ -19,7 +19,8 @@ import java.nio.file.Path;
  *   <li><b>Hot Reloading:</b> Script changes are picked up on next execution
  *   <li><b>Simple Integration:</b> Works with any file-based deployment strategy
  *   <li><b>Version Control Friendly:</b> Scripts can be version controlled alongside code
- *   <li><b>No Caching:</b> Each execution reads from disk (consider wrapping for caching)
+ *   <li><b>No Caching:</b> Each execution reads from disk (wrap in a {@link
+ *       CachingScriptProvider} to reload only on change)
  * </ul>
  *
  * <h3>Usage Examples:</h3>
@@ -5,6 +5,7 @@ import static com.workflow.helper.ResponseMappers.defaultTypedResponseMapper;
 
 import com.workflow.context.WorkflowContext;
 import com.workflow.exception.TaskExecutionException;
+import com.workflow.helper.FutureUtils;
 import com.workflow.helper.HttpTaskBodyHelper;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -13,8 +14,10 @@ import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -67,7 +70,7 @@ import java.util.function.Function;
  * @see com.workflow.helper.HttpResponseWrapper
  * @see com.workflow.helper.ResponseMappers
  */
-public abstract class AbstractHttpTask<T> extends AbstractTask {
+public abstract class AbstractHttpTask<T> extends AbstractTask implements AsyncTask {
   public static final String ACCEPT = "Accept";
   public static final String CONTENT_TYPE = "Content-Type";
 
@@ -111,6 +114,52 @@ public abstract class AbstractHttpTask<T> extends AbstractTask {
 
   @Override
   protected void doExecute(WorkflowContext context) throws TaskExecutionException {
+    HttpRequest request = buildRequest(context);
+    try {
+      handleResponse(httpClient.send(request, HttpResponse.BodyHandlers.ofString()), context);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TaskExecutionException("HTTP request failed: " + e.getMessage(), e);
+    } catch (Exception e) {
+      throw toTaskExecutionException(e);
+    }
+  }
+
+  /**
+   * Sends the request with {@link HttpClient#sendAsync} so no thread waits for the response.
+   * Request building, response mapping and error wrapping are identical to {@link
+   * #execute(WorkflowContext)}.
+   *
+   * @param context the workflow context
+   * @return a future completing once the mapped response has been stored in the context;
+   *     cancelling it cancels the exchange
+   */
+  @Override
+  public CompletableFuture<Void> executeAsync(WorkflowContext context) {
+    return runAsync(
+        context,
+        ctx -> {
+          CompletableFuture<HttpResponse<String>> exchange =
+              httpClient.sendAsync(buildRequest(ctx), HttpResponse.BodyHandlers.ofString());
+          // Cancelling the mapped stage must reach the exchange so the request is aborted
+          return FutureUtils.propagateCancellation(
+              exchange.handle(
+                  (response, ex) -> {
+                    if (ex != null) {
+                      throw toTaskExecutionException(FutureUtils.unwrap(ex));
+                    }
+                    try {
+                      handleResponse(response, ctx);
+                    } catch (Exception e) {
+                      throw toTaskExecutionException(e);
+                    }
+                    return null;
+                  }),
+              List.of(exchange));
+        });
+  }
+
+  private HttpRequest buildRequest(WorkflowContext context) {
     String resolvedUrl = resolveUrl(context);
     if (resolvedUrl == null || resolvedUrl.isBlank()) {
       throw new TaskExecutionException("No URL provided for HTTP task");
@@ -133,25 +182,28 @@ public abstract class AbstractHttpTask<T> extends AbstractTask {
       if (requestCustomizer != null) {
         requestCustomizer.accept(reqBuilder, context);
       }
-      HttpRequest request = reqBuilder.build();
-      HttpResponse<String> response =
-          httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-      T mapped = responseMapper.apply(response);
-      if (mapped != null) {
-        context.put(getResponseContextKey(), mapped);
-      }
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new TaskExecutionException("HTTP request failed: " + e.getMessage(), e);
-    } catch (TaskExecutionException e) {
-      throw e; // propagate as is
+      return reqBuilder.build();
     } catch (Exception e) {
-      if (e.getCause() instanceof TaskExecutionException taskExecutionException) {
-        throw taskExecutionException;
-      }
-      // Otherwise wrap into TaskExecutionException for consistent handling
-      throw new TaskExecutionException("HTTP request failed: " + e.getMessage(), e);
+      throw toTaskExecutionException(e);
+    }
+  }
+
+  private void handleResponse(HttpResponse<String> response, WorkflowContext context) {
+    T mapped = responseMapper.apply(response);
+    if (mapped != null) {
+      context.put(getResponseContextKey(), mapped);
+    }
+  }
+
+  private static TaskExecutionException toTaskExecutionException(Throwable e) {
+    if (e instanceof TaskExecutionException taskExecutionException) {
+      return taskExecutionException; // propagate as is
+    }
+    if (e.getCause() instanceof TaskExecutionException taskExecutionException) {
+      return taskExecutionException;
     }
+    // Otherwise wrap into TaskExecutionException for consistent handling
+    return new TaskExecutionException("HTTP request failed: " + e.getMessage(), e);
   }
 
   /**
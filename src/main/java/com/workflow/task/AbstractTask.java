@@ -3,8 +3,12 @@ package com.workflow.task;
 import com.workflow.context.WorkflowContext;
 import com.workflow.exception.TaskExecutionException;
 import com.workflow.exception.TaskValidationException;
+import com.workflow.helper.FutureUtils;
 import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -80,6 +84,48 @@ public abstract class AbstractTask implements Task {
     }
   }
 
+  /**
+   * Asynchronous counterpart of {@link #execute(WorkflowContext)} for subclasses implementing
+   * {@link AsyncTask}.
+   *
+   * <p>Validates required keys and calls {@link #beforeExecute(WorkflowContext)} on the calling
+   * thread, then runs {@code body}. {@link #afterExecute(WorkflowContext)} runs when the stage
+   * returned by the body completes, and failures are wrapped exactly as in {@link
+   * #execute(WorkflowContext)}.
+   *
+   * @param context the workflow context
+   * @param body the asynchronous task logic
+   * @return a stage completing when the body has finished; completes exceptionally with a {@link
+   *     TaskExecutionException} on failure. Cancelling it cancels the stage returned by the body
+   */
+  protected final CompletableFuture<Void> runAsync(
+      WorkflowContext context, Function<WorkflowContext, ? extends CompletionStage<Void>> body) {
+    Objects.requireNonNull(context, "WorkflowContext must not be null");
+
+    CompletableFuture<Void> stage;
+    try {
+      validateRequiredKeys(context);
+      beforeExecute(context);
+      stage = body.apply(context).toCompletableFuture();
+    } catch (Exception e) {
+      stage = CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<Void> result =
+        stage.handle(
+            (_, ex) -> {
+              afterExecute(context);
+              if (ex == null) {
+                return null;
+              }
+              Throwable error = FutureUtils.unwrap(ex);
+              if (error instanceof TaskExecutionException taskExecutionException) {
+                throw taskExecutionException;
+              }
+              throw new TaskExecutionException("Task failed: " + error.getMessage(), error);
+            });
+    return FutureUtils.propagateCancellation(result, List.of(stage));
+  }
+
   private void validateRequiredKeys(WorkflowContext context) {
     List<String> missingKeys = new ArrayList<>();
     for (String key : getRequiredKeys()) {
@@ -0,0 +1,29 @@
+package com.workflow.task;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.exception.TaskExecutionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link Task} that can also run without blocking the calling thread.
+ *
+ * <p>Tasks backed by a non-blocking client (for example {@link AbstractHttpTask}, which uses
+ * {@link java.net.http.HttpClient#sendAsync}) implement this interface so that asynchronous and
+ * reactive workflow execution can compose them directly instead of parking a thread on {@link
+ * #execute(WorkflowContext)}.
+ *
+ * <p>Both methods must have the same observable effect on the {@link WorkflowContext}.
+ *
+ * @see com.workflow.task.executor.TaskExecutor#executeAsync
+ */
+public interface AsyncTask extends Task {
+
+  /**
+   * Execute the task asynchronously.
+   *
+   * @param context the workflow context
+   * @return a stage completing when the task has finished; completes exceptionally with a {@link
+   *     TaskExecutionException} if the task fails
+   */
+  CompletionStage<Void> executeAsync(WorkflowContext context);
+}
@@ -1,5 +1,6 @@
 package com.workflow.task;
 
+import com.workflow.policy.CircuitBreaker;
 import com.workflow.policy.RetryPolicy;
 import com.workflow.policy.TimeoutPolicy;
 import lombok.Builder;
@@ -43,4 +44,10 @@ public class TaskDescriptor {
    * TimeoutPolicy#NONE}.
    */
   @Builder.Default TimeoutPolicy timeoutPolicy = TimeoutPolicy.NONE;
+
+  /**
+   * Optional circuit breaker guarding the task execution as a whole, including its retries. When
+   * omitted the task is not guarded.
+   */
+  CircuitBreaker circuitBreaker;
 }
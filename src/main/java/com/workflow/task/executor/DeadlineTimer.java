@@ -0,0 +1,306 @@
+package com.workflow.task.executor;
+
+import com.workflow.helper.ValidationUtils;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashed-wheel timer for cheap, cancellable deadlines.
+ *
+ * <p><b>Purpose:</b> Bounding a blocking call by handing it to another thread and waiting for it
+ * with a timeout costs two threads per call. {@link #callWithTimeout(Supplier, long, TimeUnit)}
+ * instead runs the work on the calling thread and arms a deadline that interrupts it on expiry, so
+ * a timed call costs one thread plus a queue entry on this timer.
+ *
+ * <p><b>Timer Wheel:</b> Deadlines are hashed into a ring of buckets by their expiry tick. One
+ * daemon thread advances the ring every tick and fires the due deadlines of the current bucket;
+ * deadlines further away than one revolution wait for the number of rounds left. Scheduling and
+ * cancelling are O(1) and lock-free, and a deadline cancelled before its first tick never reaches
+ * the wheel, which is the common case for timeouts. Deadlines fire up to one tick late.
+ *
+ * <p><b>Expiry Tasks:</b> Expiry tasks run on the timer thread and must be short, such as
+ * interrupting a thread or completing a future. {@link Deadline#cancel()} waits for a running
+ * expiry task, so an expiry task must never wait for a lock that a canceller may hold.
+ *
+ * <p><b>Shared Timer:</b> {@link #shared()} ticks every 10ms on a single daemon thread created on
+ * first use, and serves the whole process.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * try {
+ *   String body =
+ *       DeadlineTimer.shared().callWithTimeout(() -> client.get(url), 2, TimeUnit.SECONDS);
+ * } catch (TimeoutException e) {
+ *   // The call was interrupted after 2 seconds
+ * }
+ * }</pre>
+ *
+ * @see com.workflow.TimeoutWorkflow
+ * @see DefaultTaskExecutor
+ */
+@Slf4j
+public final class DeadlineTimer implements AutoCloseable {
+
+  private final long tickNanos;
+  private final int mask;
+  private final List<Queue<Deadline>> wheel;
+  private final Queue<Deadline> added = new ConcurrentLinkedQueue<>();
+  private final long startNanos = System.nanoTime();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final Thread worker;
+  private volatile boolean closed;
+
+  /**
+   * Creates a timer. Its thread is started with the first deadline.
+   *
+   * @param tickDuration how often the wheel advances; the precision of the deadlines
+   * @param ticksPerWheel the number of buckets, rounded up to a power of two
+   * @throws NullPointerException if tickDuration is null
+   * @throws IllegalArgumentException if tickDuration is shorter than 1ms or ticksPerWheel is not
+   *     positive
+   */
+  public DeadlineTimer(Duration tickDuration, int ticksPerWheel) {
+    ValidationUtils.requireNonNull(tickDuration, "tickDuration");
+    ValidationUtils.requirePositive(tickDuration.toMillis(), "tickDuration");
+    ValidationUtils.requirePositive(ticksPerWheel, "ticksPerWheel");
+    int buckets = Integer.highestOneBit(ticksPerWheel);
+    if (buckets < ticksPerWheel) {
+      buckets <<= 1;
+    }
+    this.tickNanos = tickDuration.toNanos();
+    this.mask = buckets - 1;
+    this.wheel = new ArrayList<>(buckets);
+    for (int i = 0; i < buckets; i++) {
+      wheel.add(new ArrayDeque<>());
+    }
+    this.worker =
+        Thread.ofPlatform().daemon().name("workflow-deadline-timer").unstarted(this::run);
+  }
+
+  /**
+   * Returns the process-wide timer, ticking every 10ms on a single daemon thread.
+   *
+   * @return the shared timer; never null
+   */
+  public static DeadlineTimer shared() {
+    return SharedHolder.INSTANCE;
+  }
+
+  /**
+   * Arms a deadline that runs a task on the timer thread once the delay has elapsed, unless the
+   * deadline is cancelled first.
+   *
+   * @param task the expiry task; must be short
+   * @param delay the delay
+   * @param unit the unit of the delay
+   * @return the deadline, for cancellation
+   * @throws RejectedExecutionException if the timer was closed
+   */
+  public Deadline schedule(Runnable task, long delay, TimeUnit unit) {
+    ValidationUtils.requireNonNull(task, "task");
+    ValidationUtils.requireNonNull(unit, "unit");
+    if (closed) {
+      throw new RejectedExecutionException("Deadline timer is closed");
+    }
+    if (!started.get() && started.compareAndSet(false, true)) {
+      worker.start();
+    }
+    Deadline deadline = new Deadline(task, System.nanoTime() + Math.max(0, unit.toNanos(delay)));
+    added.add(deadline);
+    return deadline;
+  }
+
+  /**
+   * Runs work on the calling thread, interrupting the thread if the work is still running when the
+   * timeout elapses. The interrupt is cleared before this method returns, so it does not leak to
+   * the caller.
+   *
+   * @param work the work; should respond to interruption
+   * @param timeout the timeout
+   * @param unit the unit of the timeout
+   * @param <T> the result type
+   * @return the result of the work if it finished in time
+   * @throws TimeoutException if the timeout elapsed before the work finished; an exception thrown
+   *     by the interrupted work is added as suppressed
+   */
+  public <T> T callWithTimeout(Supplier<T> work, long timeout, TimeUnit unit)
+      throws TimeoutException {
+    Thread caller = Thread.currentThread();
+    boolean wasInterrupted = caller.isInterrupted();
+    Deadline deadline = schedule(caller::interrupt, timeout, unit);
+    T result;
+    try {
+      result = work.get();
+    } catch (Throwable t) {
+      if (expired(deadline, wasInterrupted)) {
+        TimeoutException timeoutException = timedOut(timeout, unit);
+        timeoutException.addSuppressed(t);
+        throw timeoutException;
+      }
+      throw t;
+    }
+    if (expired(deadline, wasInterrupted)) {
+      throw timedOut(timeout, unit);
+    }
+    return result;
+  }
+
+  /** Stops the timer thread. Pending deadlines never fire. */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(worker);
+  }
+
+  /**
+   * Cancels a deadline armed by {@link #callWithTimeout(Supplier, long, TimeUnit)}, and clears its
+   * interrupt if it fired.
+   */
+  private static boolean expired(Deadline deadline, boolean wasInterrupted) {
+    if (deadline.cancel()) {
+      return false;
+    }
+    Thread.interrupted();
+    if (wasInterrupted) {
+      Thread.currentThread().interrupt(); // Restore the interrupt that was not ours
+    }
+    return true;
+  }
+
+  private static TimeoutException timedOut(long timeout, TimeUnit unit) {
+    return new TimeoutException("Timed out after " + unit.toMillis(timeout) + "ms");
+  }
+
+  private void run() {
+    long tick = 0;
+    while (!closed) {
+      long tickEnd = startNanos + (tick + 1) * tickNanos;
+      long remaining;
+      while ((remaining = tickEnd - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(this, remaining);
+        if (closed) {
+          return;
+        }
+      }
+      transferAdded(tick);
+      expire(wheel.get((int) (tick & mask)));
+      tick++;
+    }
+  }
+
+  /** Moves newly armed deadlines into the bucket of the tick they expire in. */
+  private void transferAdded(long currentTick) {
+    Deadline deadline;
+    while ((deadline = added.poll()) != null) {
+      if (deadline.state.get() != Deadline.PENDING) {
+        continue; // Cancelled before reaching the wheel
+      }
+      long elapsed = deadline.expiresAtNanos - startNanos;
+      long tick = Math.max(currentTick, (elapsed + tickNanos - 1) / tickNanos - 1);
+      deadline.remainingRounds = (tick - currentTick) / wheel.size();
+      wheel.get((int) (tick & mask)).add(deadline);
+    }
+  }
+
+  private static void expire(Queue<Deadline> bucket) {
+    for (int i = bucket.size(); i > 0; i--) {
+      Deadline deadline = bucket.poll();
+      if (deadline.state.get() != Deadline.PENDING) {
+        continue;
+      }
+      if (deadline.remainingRounds > 0) {
+        deadline.remainingRounds--;
+        bucket.add(deadline);
+      } else {
+        deadline.expire();
+      }
+    }
+  }
+
+  /** A deadline armed on a {@link DeadlineTimer}. */
+  public static final class Deadline {
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRING = 2;
+    private static final int EXPIRED = 3;
+
+    private final Runnable task;
+    private final long expiresAtNanos;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private long remainingRounds; // Only accessed by the timer thread
+    private volatile Thread expiringThread;
+
+    private Deadline(Runnable task, long expiresAtNanos) {
+      this.task = task;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Cancels the deadline. If the expiry task is running, waits until it has finished, so the
+     * caller can undo its effect.
+     *
+     * <p><b>This call can block: callers must never hold a lock that the expiry task needs.</b>
+     * The wait spins on the caller's thread while the task runs on the timer thread, so a task
+     * blocked on a lock held by the caller hangs both, and with them every other deadline of this
+     * timer. Called from the expiry task itself, it returns false without waiting.
+     *
+     * @return true if the expiry task will never run, false if it has run or is running on the
+     *     calling thread
+     */
+    public boolean cancel() {
+      if (state.compareAndSet(PENDING, CANCELLED)) {
+        return true;
+      }
+      if (Thread.currentThread() == expiringThread) {
+        return false;
+      }
+      while (state.get() == EXPIRING) {
+        Thread.onSpinWait();
+      }
+      return state.get() == CANCELLED;
+    }
+
+    /**
+     * Returns whether the deadline has fired.
+     *
+     * @return true once the expiry task has started
+     */
+    public boolean isExpired() {
+      return state.get() >= EXPIRING;
+    }
+
+    private void expire() {
+      if (!state.compareAndSet(PENDING, EXPIRING)) {
+        return;
+      }
+      expiringThread = Thread.currentThread();
+      try {
+        task.run();
+      } catch (Throwable t) {
+        // Never let a task kill the timer thread, which serves every deadline in the process
+        log.warn("Deadline expiry task failed: {}", t.getMessage(), t);
+      } finally {
+        state.set(EXPIRED);
+        expiringThread = null;
+      }
+    }
+  }
+
+  /** Lazily creates the shared timer on first use. */
+  private static final class SharedHolder {
+    private static final DeadlineTimer INSTANCE = new DeadlineTimer(Duration.ofMillis(10), 512);
+  }
+}
@@ -3,14 +3,26 @@ package com.workflow.task.executor;
 import static com.workflow.helper.FutureUtils.cancelFuture;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.exception.CircuitBreakerOpenException;
 import com.workflow.exception.TaskExecutionException;
 import com.workflow.exception.TaskTimeoutException;
+import com.workflow.execution.strategy.ExecutionStrategies;
+import com.workflow.helper.FutureUtils;
+import com.workflow.policy.CircuitBreaker;
+import com.workflow.policy.RetryBudget;
+import com.workflow.policy.RetryBudgets;
 import com.workflow.policy.RetryPolicy;
 import com.workflow.policy.TimeoutPolicy;
+import com.workflow.sleeper.Sleeper;
+import com.workflow.sleeper.ThreadSleepingSleeper;
+import com.workflow.task.AsyncTask;
 import com.workflow.task.Task;
 import com.workflow.task.TaskDescriptor;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.*;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -24,8 +36,10 @@ import lombok.extern.slf4j.Slf4j;
  * <ol>
  *   <li>Validate taskDescriptor and context are non-null
  *   <li>Extract task, retry policy, and timeout policy from descriptor
- *   <li>If timeout is configured and > 0, wrap task execution with timeout
- *   <li>Execute with retry loop (see below)
+ *   <li>If timeout is configured and &gt; 0, run the attempts asynchronously (see below) and wait
+ *       for them with a timeout, or run them on the calling thread under a deadline if the
+ *       timeout policy {@link TimeoutPolicy#runsOnCallingThread() runs on the calling thread}
+ *   <li>Otherwise execute with a retry loop on the calling thread
  *   <li>Return on success or throw on failure
  * </ol>
  *
@@ -35,20 +49,46 @@ import lombok.extern.slf4j.Slf4j;
  *   <li><b>Attempt 1:</b> Task executes immediately
  *   <li><b>On Failure:</b> Check RetryPolicy.shouldRetry(attempt, exception)
  *   <li><b>If Retry Approved:</b> Compute backoff delay from RetryPolicy.BackoffStrategy
- *   <li><b>Sleep:</b> Block thread for the computed backoff duration
+ *   <li><b>Wait:</b> On the calling thread, the thread waits through the {@link Sleeper};
+ *       otherwise a {@link RetryScheduler} timer schedules the next attempt and no thread waits
  *   <li><b>Retry:</b> Execute task again at next attempt
  *   <li><b>No More Retries:</b> Throw the exception
  * </ul>
  *
+ * <p><b>Retry Budgets:</b> Retries can additionally be capped by a {@link RetryBudget} per
+ * downstream, looked up from the {@link RetryBudgets} by the descriptor name, or the task class
+ * name if the descriptor has none. Successful attempts are recorded in the budget, and each retry
+ * the policy approves must be granted by the budget; a denied retry fails the task with the last
+ * exception. This keeps an outage of a dependency from multiplying its load by the number of
+ * attempts. By default budgets are unlimited.
+ *
+ * <p><b>Circuit Breaker:</b> A {@link CircuitBreaker} set on the descriptor guards the execution
+ * as a whole: while it is open, the task is not started and {@link CircuitBreakerOpenException} is
+ * thrown, or the returned stage fails with it. Otherwise the outcome after all retries, and its
+ * duration, are recorded in the breaker.
+ *
  * <p><b>Timeout Mechanism:</b>
  *
  * <ul>
  *   <li>Timeout is applied to entire retry loop (not per-attempt)
- *   <li>Uses CompletableFuture.orTimeout(millis, TimeUnit) for implementation
- *   <li>Times out with TaskTimeoutException if exceeded
- *   <li>Allows partial retry attempts within timeout window
+ *   <li>Uses CompletableFuture.orTimeout(millis, TimeUnit) for implementation, so the caller stops
+ *       waiting at the deadline even if the task ignores interruption
+ *   <li>With {@link TimeoutPolicy#onCallingThread(long)}, a deadline on the shared {@link
+ *       DeadlineTimer} interrupts the calling thread instead, so no second thread is needed; a
+ *       task that ignores the interrupt is then not bounded by the timeout
+ *   <li>Times out with TaskTimeoutException if exceeded, and no further attempt is started
+ *   <li>Allows partial retry attempts within timeout window; on the calling thread, a retry whose
+ *       backoff would end after the timeout is not waited for, and TaskTimeoutException is thrown
+ *       at once
  * </ul>
  *
+ * <p><b>Asynchronous Execution:</b> {@link #executeAsync(TaskDescriptor, WorkflowContext)} runs an
+ * {@link AsyncTask} without a retry policy natively, applying the timeout with {@link
+ * CompletableFuture#orTimeout(long, TimeUnit)}, so no thread waits for it. Other tasks run their
+ * attempts on the executor, or the shared default execution strategy if none was given, with
+ * re-attempts scheduled by the {@link RetryScheduler}; an {@link AsyncTask} with a retry policy is
+ * retried natively the same way. Backoff delays therefore never hold a thread.
+ *
  * <p><b>Thread Safety:</b> This executor is thread-safe. Multiple threads can invoke execute()
  * concurrently.
  *
@@ -139,14 +179,70 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class DefaultTaskExecutor implements TaskExecutor {
 
-  private ExecutorService executor;
+  private final Executor executor;
+  private final RetryScheduler retryScheduler;
+  private final Sleeper sleeper;
+  private final RetryBudgets retryBudgets;
 
   public DefaultTaskExecutor() {
-    // default constructor
+    this(ExecutionStrategies.defaultExecutor(), RetryBudgets.unlimited());
+  }
+
+  private DefaultTaskExecutor(Executor executor, RetryBudgets retryBudgets) {
+    this.executor = executor;
+    this.retryScheduler = RetryScheduler.shared();
+    this.sleeper = new ThreadSleepingSleeper();
+    this.retryBudgets = Objects.requireNonNull(retryBudgets, "retryBudgets must not be null");
   }
 
   public DefaultTaskExecutor(ExecutorService executor) {
+    this(executor, RetryScheduler.shared(), new ThreadSleepingSleeper());
+  }
+
+  /**
+   * Creates an executor with explicit collaborators.
+   *
+   * @param executor runs task attempts when a timeout is configured or the task runs
+   *     asynchronously
+   * @param retryScheduler schedules re-attempts of asynchronously executed tasks
+   * @param sleeper waits between attempts of tasks executed on the calling thread
+   * @throws NullPointerException if any argument is null
+   */
+  public DefaultTaskExecutor(
+      ExecutorService executor, RetryScheduler retryScheduler, Sleeper sleeper) {
+    this(executor, retryScheduler, sleeper, RetryBudgets.unlimited());
+  }
+
+  /**
+   * Creates an executor with explicit collaborators and retry budgets.
+   *
+   * @param executor runs task attempts when a timeout is configured or the task runs
+   *     asynchronously
+   * @param retryScheduler schedules re-attempts of asynchronously executed tasks
+   * @param sleeper waits between attempts of tasks executed on the calling thread
+   * @param retryBudgets the budgets consulted before each retry, keyed by task name
+   * @throws NullPointerException if any argument is null
+   */
+  public DefaultTaskExecutor(
+      ExecutorService executor,
+      RetryScheduler retryScheduler,
+      Sleeper sleeper,
+      RetryBudgets retryBudgets) {
     this.executor = Objects.requireNonNull(executor, "executor must not be null");
+    this.retryScheduler = Objects.requireNonNull(retryScheduler, "retryScheduler must not be null");
+    this.sleeper = Objects.requireNonNull(sleeper, "sleeper must not be null");
+    this.retryBudgets = Objects.requireNonNull(retryBudgets, "retryBudgets must not be null");
+  }
+
+  /**
+   * Creates an executor on the default collaborators whose retries are capped by retry budgets.
+   *
+   * @param retryBudgets the budgets consulted before each retry, keyed by task name
+   * @return a new executor
+   * @throws NullPointerException if retryBudgets is null
+   */
+  public static DefaultTaskExecutor withRetryBudgets(RetryBudgets retryBudgets) {
+    return new DefaultTaskExecutor(ExecutionStrategies.defaultExecutor(), retryBudgets);
   }
 
   @Override
@@ -160,28 +256,39 @@ public final class DefaultTaskExecutor implements TaskExecutor {
       throw new TaskExecutionException("Task in TaskDescriptor must not be null");
     }
 
-    CompletableFuture<Void> completableFuture = null;
+    CircuitBreaker circuitBreaker = taskDescriptor.getCircuitBreaker();
+    if (circuitBreaker == null) {
+      executeUnguarded(taskDescriptor, workflowContext);
+      return;
+    }
+    CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+    if (permission == null) {
+      throw rejection(circuitBreaker, task);
+    }
+    long start = System.nanoTime();
     try {
-      TimeoutPolicy timeout =
-          taskDescriptor.getTimeoutPolicy() == null
-              ? TimeoutPolicy.NONE
-              : taskDescriptor.getTimeoutPolicy();
-
-      if (timeout == TimeoutPolicy.NONE || timeout.timeoutMs() <= 0) {
-        executeWithRetry(taskDescriptor, workflowContext);
-        return;
-      }
+      executeUnguarded(taskDescriptor, workflowContext);
+    } catch (Throwable e) {
+      permission.onError(System.nanoTime() - start); // Errors must not leak a probe slot
+      throw e;
+    }
+    permission.onSuccess(System.nanoTime() - start);
+  }
 
-      if (executor != null) {
-        completableFuture =
-            CompletableFuture.runAsync(
-                    () -> executeWithRetry(taskDescriptor, workflowContext), executor)
-                .orTimeout(timeout.timeoutMs(), TimeUnit.MILLISECONDS);
-      } else {
-        completableFuture =
-            CompletableFuture.runAsync(() -> executeWithRetry(taskDescriptor, workflowContext))
-                .orTimeout(timeout.timeoutMs(), TimeUnit.MILLISECONDS);
-      }
+  private void executeUnguarded(TaskDescriptor taskDescriptor, WorkflowContext workflowContext) {
+    TimeoutPolicy timeout = taskDescriptor.getTimeoutPolicy();
+    if (!hasTimeout(timeout)) {
+      executeWithRetry(taskDescriptor, workflowContext, 0);
+      return;
+    }
+    if (timeout.runsOnCallingThread() && !(taskDescriptor.getTask() instanceof AsyncTask)) {
+      executeWithDeadline(taskDescriptor, workflowContext, timeout.timeoutMs());
+      return;
+    }
+
+    CompletableFuture<Void> completableFuture = null;
+    try {
+      completableFuture = executeWithRetryAsync(taskDescriptor, workflowContext, timeout);
       completableFuture.get();
     } catch (InterruptedException e) {
       // The thread calling this utility was interrupted
@@ -193,34 +300,196 @@ public final class DefaultTaskExecutor implements TaskExecutor {
     }
   }
 
+  /**
+   * Runs the retry loop on the calling thread, interrupting it when the timeout elapses instead of
+   * handing the task to another thread and waiting for it.
+   */
+  private void executeWithDeadline(
+      TaskDescriptor taskDescriptor, WorkflowContext workflowContext, long timeoutMs) {
+    try {
+      DeadlineTimer.shared()
+          .callWithTimeout(
+              () -> {
+                executeWithRetry(
+                    taskDescriptor, workflowContext, TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+                return null;
+              },
+              timeoutMs,
+              TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      log.error(
+          "Task {} exceeded timeout of {}ms",
+          taskDescriptor.getTask().getClass().getSimpleName(),
+          timeoutMs);
+      throw new TaskTimeoutException(e);
+    }
+  }
+
+  @Override
+  public CompletionStage<Void> executeAsync(
+      TaskDescriptor taskDescriptor, WorkflowContext workflowContext) {
+    Objects.requireNonNull(taskDescriptor, "TaskDescriptor must not be null");
+    Objects.requireNonNull(workflowContext, "WorkflowContext must not be null");
+
+    Task task = taskDescriptor.getTask();
+    if (task == null) {
+      return CompletableFuture.failedFuture(
+          new TaskExecutionException("Task in TaskDescriptor must not be null"));
+    }
+
+    CircuitBreaker circuitBreaker = taskDescriptor.getCircuitBreaker();
+    if (circuitBreaker == null) {
+      return executeUnguardedAsync(taskDescriptor, workflowContext);
+    }
+    CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+    if (permission == null) {
+      return CompletableFuture.failedFuture(rejection(circuitBreaker, task));
+    }
+    long start = System.nanoTime();
+    CompletableFuture<Void> future = executeUnguardedAsync(taskDescriptor, workflowContext);
+    return FutureUtils.propagateCancellation(
+        future.whenComplete(
+            (_, ex) -> {
+              if (future.isCancelled()) {
+                permission.release();
+              } else if (ex != null) {
+                permission.onError(System.nanoTime() - start);
+              } else {
+                permission.onSuccess(System.nanoTime() - start);
+              }
+            }),
+        List.of(future));
+  }
+
+  private CompletableFuture<Void> executeUnguardedAsync(
+      TaskDescriptor taskDescriptor, WorkflowContext workflowContext) {
+    Task task = taskDescriptor.getTask();
+    TimeoutPolicy timeout = taskDescriptor.getTimeoutPolicy();
+    if (!(task instanceof AsyncTask asyncTask)
+        || getRetryPolicy(taskDescriptor) != RetryPolicy.NONE) {
+      CompletableFuture<Void> retrying =
+          executeWithRetryAsync(taskDescriptor, workflowContext, timeout);
+      return FutureUtils.propagateCancellation(
+          retrying.handle(
+              (_, ex) -> {
+                if (ex != null) {
+                  throw toTaskExecutionException(FutureUtils.unwrap(ex));
+                }
+                return null;
+              }),
+          List.of(retrying));
+    }
+
+    CompletableFuture<Void> future;
+    try {
+      future = asyncTask.executeAsync(workflowContext).toCompletableFuture();
+    } catch (Exception e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+
+    if (hasTimeout(timeout)) {
+      CompletableFuture<Void> inner = future;
+      future = inner.copy().orTimeout(timeout.timeoutMs(), TimeUnit.MILLISECONDS);
+      future.whenComplete((_, _) -> cancelFuture(inner));
+    }
+    RetryBudget budget = getRetryBudget(taskDescriptor);
+    return FutureUtils.propagateCancellation(
+        future.handle(
+            (_, ex) -> {
+              if (ex != null) {
+                throw toTaskExecutionException(FutureUtils.unwrap(ex));
+              }
+              budget.recordSuccess();
+              return null;
+            }),
+        List.of(future));
+  }
+
+  private static CircuitBreakerOpenException rejection(CircuitBreaker circuitBreaker, Task task) {
+    String taskName = task.getClass().getSimpleName();
+    log.debug(
+        "Circuit breaker {} is {}, rejecting task {}",
+        circuitBreaker.getName(),
+        circuitBreaker.getState(),
+        taskName);
+    return new CircuitBreakerOpenException(
+        "Circuit breaker " + circuitBreaker.getName() + " is open for task: " + taskName);
+  }
+
   private static TaskExecutionException extractExecutionException(ExecutionException e) {
-    Throwable cause = e.getCause();
+    return toTaskExecutionException(e.getCause() != null ? e.getCause() : e);
+  }
+
+  private static TaskExecutionException toTaskExecutionException(Throwable cause) {
     if (cause instanceof TimeoutException timeoutException) {
       return new TaskTimeoutException(timeoutException);
     }
     if (cause instanceof TaskExecutionException taskExecutionException) {
       return taskExecutionException;
     }
-    return new TaskExecutionException(cause != null ? cause : e);
+    return new TaskExecutionException("Task failed: " + cause.getMessage(), cause);
+  }
+
+  private static boolean hasTimeout(TimeoutPolicy timeout) {
+    return timeout != null && timeout != TimeoutPolicy.NONE && timeout.timeoutMs() > 0;
   }
 
-  private void executeWithRetry(TaskDescriptor taskDescriptor, WorkflowContext workflowContext) {
+  /**
+   * Runs the task's attempts on the executor, scheduling re-attempts on the retry scheduler, and
+   * times the whole retry loop out if a timeout is given. Fails with the last attempt's exception.
+   */
+  private CompletableFuture<Void> executeWithRetryAsync(
+      TaskDescriptor taskDescriptor, WorkflowContext workflowContext, TimeoutPolicy timeout) {
+    Task task = taskDescriptor.getTask();
+    Supplier<CompletableFuture<Void>> attempt =
+        task instanceof AsyncTask asyncTask
+            ? () -> asyncTask.executeAsync(workflowContext).toCompletableFuture()
+            : () -> CompletableFuture.runAsync(() -> task.execute(workflowContext), executor);
+
+    CompletableFuture<Void> future =
+        retryScheduler.execute(
+            task.getClass().getSimpleName(),
+            attempt,
+            getRetryPolicy(taskDescriptor),
+            getRetryBudget(taskDescriptor));
+    if (hasTimeout(timeout)) {
+      future.orTimeout(timeout.timeoutMs(), TimeUnit.MILLISECONDS);
+    }
+    return future;
+  }
+
+  /**
+   * Runs the task's attempts on the calling thread. With a positive timeout, a retry whose backoff
+   * would end after the timeout fails with {@link TaskTimeoutException} instead of waiting.
+   */
+  private void executeWithRetry(
+      TaskDescriptor taskDescriptor, WorkflowContext workflowContext, long timeoutNanos) {
     RetryPolicy retry = getRetryPolicy(taskDescriptor);
+    RetryBudget budget = getRetryBudget(taskDescriptor);
 
     Task task = taskDescriptor.getTask();
+    long start = System.nanoTime();
     int attempt = 0;
 
     while (true) {
       attempt++;
       try {
         task.execute(workflowContext);
+        budget.recordSuccess();
         logSuccess(attempt, task);
         return; // Success!
       } catch (Exception e) {
-        if (retry.shouldRetry(attempt, e)) {
-          RetryPolicy.BackoffStrategy backoffStrategy = getBackoffStrategy(retry);
-          long delay = backoffStrategy.computeDelayMs(attempt);
-
+        boolean retrying = retry.shouldRetry(attempt, e);
+        long delay = retrying ? getBackoffStrategy(retry).computeDelayMs(attempt) : 0;
+        if (retrying && timeoutNanos > 0) {
+          long remainingNanos = timeoutNanos - (System.nanoTime() - start);
+          if (TimeUnit.MILLISECONDS.toNanos(delay) >= remainingNanos) {
+            logFailure(attempt, task);
+            throw new TaskTimeoutException(
+                "Task " + task.getClass().getSimpleName() + " cannot retry within its timeout", e);
+          }
+        }
+        if (retrying && acquireRetry(budget, attempt, task)) {
           log.warn(
               "Task {} failed on attempt #{}, retrying after {}ms: {}",
               task.getClass().getSimpleName(),
@@ -228,7 +497,7 @@ public final class DefaultTaskExecutor implements TaskExecutor {
               delay,
               e.getMessage());
 
-          sleep(delay);
+          sleep(sleeper, delay);
         } else {
           // No more retries
           logFailure(attempt, task);
@@ -258,17 +527,38 @@ public final class DefaultTaskExecutor implements TaskExecutor {
         : taskDescriptor.getRetryPolicy();
   }
 
+  private RetryBudget getRetryBudget(TaskDescriptor taskDescriptor) {
+    String name = taskDescriptor.getName();
+    return retryBudgets.budgetFor(
+        name != null ? name : taskDescriptor.getTask().getClass().getName());
+  }
+
+  private static boolean acquireRetry(RetryBudget budget, int attempt, Task task) {
+    if (budget.tryAcquireRetry()) {
+      return true;
+    }
+    log.warn(
+        "Retry budget exhausted, task {} failed on attempt #{}",
+        task.getClass().getSimpleName(),
+        attempt);
+    return false;
+  }
+
   private static RetryPolicy.BackoffStrategy getBackoffStrategy(RetryPolicy retry) {
     return retry.backoff() != null ? retry.backoff() : RetryPolicy.BackoffStrategy.NO_BACKOFF;
   }
 
   static void sleep(long delayMs) {
+    sleep(new ThreadSleepingSleeper(), delayMs);
+  }
+
+  private static void sleep(Sleeper sleeper, long delayMs) {
     if (delayMs <= 0) {
       return;
     }
 
     try {
-      TimeUnit.MILLISECONDS.sleep(delayMs);
+      sleeper.sleep(Duration.ofMillis(delayMs));
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new TaskExecutionException("Sleep interrupted during retry backoff", e);
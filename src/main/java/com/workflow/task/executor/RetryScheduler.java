@@ -0,0 +1,250 @@
+package com.workflow.task.executor;
+
+import com.workflow.helper.FutureUtils;
+import com.workflow.helper.ValidationUtils;
+import com.workflow.policy.RetryBudget;
+import com.workflow.policy.RetryPolicy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Retries an asynchronous operation without blocking a thread between attempts.
+ *
+ * <p><b>Purpose:</b> A blocking retry loop sleeps the executing thread for the whole backoff, so
+ * under a downstream brownout every retrying task holds a thread (or a pool slot) doing nothing.
+ * This scheduler instead arms a timer on a {@link ScheduledExecutorService} for each backoff and
+ * starts the next attempt when it fires.
+ *
+ * <p><b>Retry Mechanism:</b>
+ *
+ * <ul>
+ *   <li><b>Attempt 1:</b> Started immediately on the calling thread
+ *   <li><b>On Failure:</b> Check {@link RetryPolicy#shouldRetry(int, Exception)}
+ *   <li><b>If Retry Approved:</b> Compute the delay from {@link RetryPolicy.BackoffStrategy} and
+ *       schedule the next attempt; the attempt is started by the scheduler thread
+ *   <li><b>No More Retries:</b> Complete the returned future with the last failure
+ * </ul>
+ *
+ * <p>An attempt is a {@link Supplier} returning a stage, so it decides where its work runs: an
+ * {@link com.workflow.task.AsyncTask} runs natively, a blocking task is submitted to an executor.
+ * Starting an attempt must not block, since the scheduler thread is shared.
+ *
+ * <p><b>Retry Budget:</b> An optional {@link RetryBudget} is told about each successful attempt
+ * and asked for a retry before each re-attempt the policy approved. A denied retry completes the
+ * returned future with the last failure.
+ *
+ * <p><b>Cancellation:</b> Completing the returned future early, for example through {@link
+ * CompletableFuture#orTimeout(long, TimeUnit)} or {@link CompletableFuture#cancel(boolean)},
+ * cancels the pending timer, and no further attempt is started. The stage of an in-flight attempt
+ * is cancelled too, but that does not interrupt work it has already started; the attempt runs to
+ * completion and its outcome is ignored.
+ *
+ * <p><b>Failures:</b> If the retry policy, its backoff strategy or the retry budget throws, the
+ * returned future completes exceptionally with that exception.
+ *
+ * <p><b>Shared Scheduler:</b> {@link #shared()} uses a single daemon thread created on first use.
+ * It only fires timers and starts attempts, so one thread serves the whole process.
+ *
+ * <p><b>Example usage:</b>
+ *
+ * <pre>{@code
+ * CompletableFuture<Void> result =
+ *     RetryScheduler.shared()
+ *         .execute(
+ *             "payment",
+ *             () -> CompletableFuture.runAsync(() -> payment.execute(context), executor),
+ *             RetryPolicy.exponentialBackoff(5, 200));
+ * }</pre>
+ *
+ * @see RetryPolicy
+ * @see DefaultTaskExecutor
+ */
+@Slf4j
+public final class RetryScheduler {
+
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Creates a retry scheduler firing its timers on the given scheduler. The caller owns the
+   * scheduler and shuts it down.
+   *
+   * @param scheduler the scheduler for backoff timers; must not be null
+   * @throws NullPointerException if scheduler is null
+   */
+  public RetryScheduler(ScheduledExecutorService scheduler) {
+    this.scheduler = ValidationUtils.requireNonNull(scheduler, "scheduler");
+  }
+
+  /**
+   * Returns the process-wide retry scheduler, backed by a single daemon timer thread.
+   *
+   * @return the shared retry scheduler; never null
+   */
+  public static RetryScheduler shared() {
+    return SharedHolder.INSTANCE;
+  }
+
+  /**
+   * Runs an operation, retrying failed attempts according to a retry policy.
+   *
+   * @param name the operation name, used in log messages
+   * @param attempt starts one attempt and returns a stage completing with its outcome; must not
+   *     block
+   * @param retryPolicy decides whether and after which delay a failed attempt is retried; {@link
+   *     RetryPolicy#NONE} runs a single attempt
+   * @param <T> the result type
+   * @return a future completing with the result of the first successful attempt, or exceptionally
+   *     with the unwrapped failure of the last attempt
+   */
+  public <T> CompletableFuture<T> execute(
+      String name, Supplier<? extends CompletionStage<T>> attempt, RetryPolicy retryPolicy) {
+    return execute(name, attempt, retryPolicy, RetryBudget.UNLIMITED);
+  }
+
+  /**
+   * Runs an operation, retrying failed attempts according to a retry policy while a retry budget
+   * allows.
+   *
+   * @param name the operation name, used in log messages
+   * @param attempt starts one attempt and returns a stage completing with its outcome; must not
+   *     block
+   * @param retryPolicy decides whether and after which delay a failed attempt is retried
+   * @param retryBudget records successful attempts and caps the retries; {@link
+   *     RetryBudget#UNLIMITED} leaves the decision to the policy
+   * @param <T> the result type
+   * @return a future completing with the result of the first successful attempt, or exceptionally
+   *     with the unwrapped failure of the last attempt
+   */
+  public <T> CompletableFuture<T> execute(
+      String name,
+      Supplier<? extends CompletionStage<T>> attempt,
+      RetryPolicy retryPolicy,
+      RetryBudget retryBudget) {
+    ValidationUtils.requireNonNull(attempt, "attempt");
+    ValidationUtils.requireNonNull(retryPolicy, "retryPolicy");
+    ValidationUtils.requireNonNull(retryBudget, "retryBudget");
+    Retry<T> retry = new Retry<>(name, attempt, retryPolicy, retryBudget);
+    retry.start(1);
+    return retry.result;
+  }
+
+  /** The state of one retried operation. */
+  private final class Retry<T> {
+    private final String name;
+    private final Supplier<? extends CompletionStage<T>> attempt;
+    private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final AtomicReference<Future<?>> pending = new AtomicReference<>();
+
+    private Retry(
+        String name,
+        Supplier<? extends CompletionStage<T>> attempt,
+        RetryPolicy retryPolicy,
+        RetryBudget retryBudget) {
+      this.name = name;
+      this.attempt = attempt;
+      this.retryPolicy = retryPolicy;
+      this.retryBudget = retryBudget;
+      result.whenComplete((_, _) -> FutureUtils.cancelFuture(pending.get()));
+    }
+
+    private void start(int attemptNumber) {
+      if (result.isDone()) {
+        return;
+      }
+      CompletableFuture<T> current;
+      try {
+        current = attempt.get().toCompletableFuture();
+      } catch (Exception e) {
+        current = CompletableFuture.failedFuture(e);
+      }
+      track(current);
+      current.whenComplete((value, error) -> onAttemptComplete(attemptNumber, value, error));
+    }
+
+    private void onAttemptComplete(int attemptNumber, T value, Throwable error) {
+      try {
+        handleAttemptComplete(attemptNumber, value, error);
+      } catch (Throwable t) {
+        // A throwing policy or budget must not leave the result pending forever
+        Throwable cause = error != null ? FutureUtils.unwrap(error) : null;
+        if (cause != null && cause != t) {
+          t.addSuppressed(cause);
+        }
+        result.completeExceptionally(t);
+      }
+    }
+
+    private void handleAttemptComplete(int attemptNumber, T value, Throwable error) {
+      if (error == null) {
+        retryBudget.recordSuccess();
+        if (result.complete(value) && attemptNumber > 1) {
+          log.info("Task {} succeeded on attempt #{}", name, attemptNumber);
+        }
+        return;
+      }
+
+      Throwable cause = FutureUtils.unwrap(error);
+      if (result.isDone()) {
+        return;
+      }
+      if (!(cause instanceof Exception exception)
+          || !retryPolicy.shouldRetry(attemptNumber, exception)) {
+        if (attemptNumber > 1) {
+          log.error("Task {} failed after {} attempts", name, attemptNumber);
+        }
+        result.completeExceptionally(cause);
+        return;
+      }
+      if (!retryBudget.tryAcquireRetry()) {
+        log.warn("Retry budget exhausted, task {} failed on attempt #{}", name, attemptNumber);
+        result.completeExceptionally(cause);
+        return;
+      }
+
+      long delay = Math.max(0, backoff().computeDelayMs(attemptNumber));
+      log.warn(
+          "Task {} failed on attempt #{}, retrying after {}ms: {}",
+          name,
+          attemptNumber,
+          delay,
+          cause.getMessage());
+      try {
+        track(scheduler.schedule(() -> start(attemptNumber + 1), delay, TimeUnit.MILLISECONDS));
+      } catch (RuntimeException e) {
+        // Scheduler shut down or saturated
+        e.addSuppressed(cause);
+        result.completeExceptionally(e);
+      }
+    }
+
+    /** Remembers the future to cancel if the result completes first. */
+    private void track(Future<?> future) {
+      pending.set(future);
+      if (result.isDone()) {
+        FutureUtils.cancelFuture(future);
+      }
+    }
+
+    private RetryPolicy.BackoffStrategy backoff() {
+      RetryPolicy.BackoffStrategy backoff = retryPolicy.backoff();
+      return backoff != null ? backoff : RetryPolicy.BackoffStrategy.NO_BACKOFF;
+    }
+  }
+
+  /** Lazily creates the shared scheduler on first use. */
+  private static final class SharedHolder {
+    private static final RetryScheduler INSTANCE =
+        new RetryScheduler(
+            Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("workflow-retry-scheduler").factory()));
+  }
+}
@@ -2,7 +2,9 @@ package com.workflow.task.executor;
 
 import com.workflow.context.WorkflowContext;
 import com.workflow.exception.TaskExecutionException;
+import com.workflow.execution.strategy.ExecutionStrategies;
 import com.workflow.task.TaskDescriptor;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Responsible for executing a task within a workflow context.
@@ -29,4 +31,25 @@ public interface TaskExecutor {
    */
   void execute(TaskDescriptor taskDescriptor, WorkflowContext workflowContext)
       throws TaskExecutionException;
+
+  /**
+   * Execute the provided task asynchronously within the given workflow context.
+   *
+   * <p>The default implementation runs {@link #execute(TaskDescriptor, WorkflowContext)} on the
+   * shared {@link ExecutionStrategies#getDefault()} strategy.
+   *
+   * @param taskDescriptor task descriptor
+   * @param workflowContext workflow context
+   * @return a stage completing when the task has finished; completes exceptionally with a {@link
+   *     TaskExecutionException} if the task fails
+   */
+  default CompletionStage<Void> executeAsync(
+      TaskDescriptor taskDescriptor, WorkflowContext workflowContext) {
+    return ExecutionStrategies.getDefault()
+        .submit(
+            () -> {
+              execute(taskDescriptor, workflowContext);
+              return null;
+            });
+  }
 }
@@ -4,8 +4,12 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.listener.WorkflowListener;
 import com.workflow.test.WorkflowTestUtils;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -274,4 +278,137 @@ class AbstractWorkflowTest {
       }
     }
   }
+
+  @Test
+  void executeAsync_successfulWorkflow_completesWithSuccess() throws Exception {
+    TestWorkflow workflow = new TestWorkflow("async-success");
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowResult result =
+        workflow.executeAsync(context).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+  }
+
+  @Test
+  void executeAsync_throwingWorkflow_completesNormallyWithFailureAndNotifiesListeners()
+      throws Exception {
+    RuntimeException boom = new RuntimeException("async boom");
+    TestWorkflow workflow = new TestWorkflow("async-throw", false, true, boom);
+    WorkflowContext context = WorkflowTestUtils.createContext();
+    AtomicReference<Throwable> notified = new AtomicReference<>();
+    context
+        .getListeners()
+        .register(
+            new WorkflowListener() {
+              @Override
+              public void onStart(String name, WorkflowContext ctx) {
+                // no-op
+              }
+
+              @Override
+              public void onSuccess(String name, WorkflowContext ctx, WorkflowResult result) {
+                // no-op
+              }
+
+              @Override
+              public void onFailure(String name, WorkflowContext ctx, Throwable error) {
+                notified.set(error);
+              }
+            });
+
+    WorkflowResult result =
+        workflow.executeAsync(context).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(boom, result.getError());
+    assertSame(boom, notified.get());
+  }
+
+  @Test
+  void executeAsync_listenerThrowsError_stillCompletesNormally() throws Exception {
+    TestWorkflow workflow = new TestWorkflow("async-listener-error");
+    WorkflowContext context = WorkflowTestUtils.createContext();
+    context
+        .getListeners()
+        .register(
+            new WorkflowListener() {
+              @Override
+              public void onStart(String name, WorkflowContext ctx) {
+                // no-op
+              }
+
+              @Override
+              public void onSuccess(String name, WorkflowContext ctx, WorkflowResult result) {
+                throw new AssertionError("listener bug");
+              }
+
+              @Override
+              public void onFailure(String name, WorkflowContext ctx, Throwable error) {
+                // no-op
+              }
+            });
+
+    WorkflowResult result =
+        workflow.executeAsync(context).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+  }
+
+  @Test
+  void executeAsync_nullContext_throwsNullPointerException() {
+    TestWorkflow workflow = new TestWorkflow("async-null");
+    assertThrows(NullPointerException.class, () -> workflow.executeAsync(null));
+  }
+
+  @Test
+  void executeReactive_isColdAndRunsOncePerSubscription() {
+    AtomicInteger starts = new AtomicInteger();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+    context
+        .getListeners()
+        .register(
+            new WorkflowListener() {
+              @Override
+              public void onStart(String name, WorkflowContext ctx) {
+                starts.incrementAndGet();
+              }
+
+              @Override
+              public void onSuccess(String name, WorkflowContext ctx, WorkflowResult result) {
+                // no-op
+              }
+
+              @Override
+              public void onFailure(String name, WorkflowContext ctx, Throwable error) {
+                // no-op
+              }
+            });
+    TestWorkflow workflow = new TestWorkflow("reactive-cold");
+
+    var mono = workflow.executeReactive(context);
+    assertEquals(0, starts.get());
+
+    WorkflowTestUtils.assertSuccess(mono.block(Duration.ofSeconds(1)));
+    WorkflowTestUtils.assertSuccess(mono.block(Duration.ofSeconds(1)));
+    assertEquals(2, starts.get());
+  }
+
+  @Test
+  void executeReactive_throwingWorkflow_emitsFailureInsteadOfError() {
+    RuntimeException boom = new RuntimeException("reactive boom");
+    TestWorkflow workflow = new TestWorkflow("reactive-throw", false, true, boom);
+
+    WorkflowResult result =
+        workflow.executeReactive(WorkflowTestUtils.createContext()).block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(boom, result.getError());
+  }
+
+  @Test
+  void executeReactive_nullContext_throwsNullPointerException() {
+    TestWorkflow workflow = new TestWorkflow("reactive-null");
+    assertThrows(NullPointerException.class, () -> workflow.executeReactive(null));
+  }
 }
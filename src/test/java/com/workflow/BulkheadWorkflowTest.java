@@ -0,0 +1,214 @@
+package com.workflow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.exception.BulkheadFullException;
+import com.workflow.execution.strategy.ThreadPoolExecutionStrategy;
+import com.workflow.helper.Workflows;
+import com.workflow.policy.Bulkhead;
+import com.workflow.test.WorkflowTestUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BulkheadWorkflowTest {
+
+  private final CountDownLatch proceed = new CountDownLatch(1);
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger maxRunning = new AtomicInteger();
+
+  private final Workflow blocking =
+      new AbstractWorkflow() {
+        @Override
+        protected WorkflowResult doExecute(WorkflowContext context, ExecutionContext execContext) {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            proceed.await(5, TimeUnit.SECONDS);
+            return execContext.success();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return execContext.failure(e);
+          } finally {
+            running.decrementAndGet();
+          }
+        }
+      };
+
+  private static Bulkhead bulkhead(int maxWaitingCalls) {
+    return Bulkhead.builder()
+        .name("inventory")
+        .maxConcurrentCalls(2)
+        .maxWaitingCalls(maxWaitingCalls)
+        .maxWaitDuration(Duration.ofSeconds(5))
+        .build();
+  }
+
+  private static void awaitRunning(AtomicInteger counter, int expected)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (counter.get() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(expected, counter.get());
+  }
+
+  @Test
+  void execute_capsConcurrentExecutions() throws Exception {
+    Bulkhead bulkhead = bulkhead(5);
+    Workflow guarded = BulkheadWorkflow.builder().workflow(blocking).bulkhead(bulkhead).build();
+
+    List<CompletableFuture<WorkflowResult>> results =
+        IntStream.range(0, 5)
+            .mapToObj(
+                _ -> CompletableFuture.supplyAsync(() -> guarded.execute(new WorkflowContext())))
+            .toList();
+    awaitRunning(running, 2);
+    Thread.sleep(50);
+    proceed.countDown();
+
+    for (CompletableFuture<WorkflowResult> result : results) {
+      WorkflowTestUtils.assertSuccess(result.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(2, maxRunning.get());
+    assertEquals(2, bulkhead.getAvailableSlots());
+  }
+
+  @Test
+  void execute_bulkheadFull_failsWithoutRunningInnerWorkflow() throws Exception {
+    Bulkhead bulkhead = bulkhead(0);
+    Workflow guarded = BulkheadWorkflow.builder().workflow(blocking).bulkhead(bulkhead).build();
+    CompletableFuture<WorkflowResult> first =
+        CompletableFuture.supplyAsync(() -> guarded.execute(new WorkflowContext()));
+    CompletableFuture<WorkflowResult> second =
+        CompletableFuture.supplyAsync(() -> guarded.execute(new WorkflowContext()));
+    awaitRunning(running, 2);
+
+    WorkflowResult rejected = guarded.execute(new WorkflowContext());
+    proceed.countDown();
+
+    assertEquals(WorkflowStatus.FAILED, rejected.getStatus());
+    assertInstanceOf(BulkheadFullException.class, rejected.getError());
+    assertEquals(1, bulkhead.getRejectedCalls());
+    WorkflowTestUtils.assertSuccess(first.get(5, TimeUnit.SECONDS));
+    WorkflowTestUtils.assertSuccess(second.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void execute_failingWorkflow_releasesSlot() {
+    Bulkhead bulkhead = bulkhead(0);
+    Workflow guarded =
+        BulkheadWorkflow.builder()
+            .workflow(WorkflowTestUtils.mockThrowingWorkflow(new IllegalStateException("boom")))
+            .bulkhead(bulkhead)
+            .build();
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(WorkflowStatus.FAILED, guarded.execute(new WorkflowContext()).getStatus());
+    }
+
+    assertEquals(2, bulkhead.getAvailableSlots());
+    assertEquals(0, bulkhead.getRejectedCalls());
+  }
+
+  @Test
+  void execute_threadPoolIsolation_runsOnDedicatedThreads() throws Exception {
+    Bulkhead bulkhead = bulkhead(0);
+    AtomicInteger callerThreadRuns = new AtomicInteger();
+    Thread caller = Thread.currentThread();
+    Workflow inner =
+        new AbstractWorkflow() {
+          @Override
+          protected WorkflowResult doExecute(
+              WorkflowContext context, ExecutionContext execContext) {
+            if (Thread.currentThread() == caller) {
+              callerThreadRuns.incrementAndGet();
+            }
+            return execContext.success();
+          }
+        };
+
+    try (ThreadPoolExecutionStrategy strategy = new ThreadPoolExecutionStrategy(2)) {
+      Workflow guarded =
+          Workflows.bulkhead("Isolated")
+              .workflow(inner)
+              .bulkhead(bulkhead)
+              .executionStrategy(strategy)
+              .build();
+
+      WorkflowTestUtils.assertSuccess(guarded.execute(new WorkflowContext()));
+    }
+
+    assertEquals(0, callerThreadRuns.get());
+    assertEquals(2, bulkhead.getAvailableSlots());
+  }
+
+  @Test
+  void executeAsync_queuedExecutionStartsWhenSlotFrees() throws Exception {
+    Bulkhead bulkhead = bulkhead(1);
+    Workflow guarded = BulkheadWorkflow.builder().workflow(blocking).bulkhead(bulkhead).build();
+
+    CompletableFuture<WorkflowResult> first =
+        guarded.executeAsync(new WorkflowContext()).toCompletableFuture();
+    CompletableFuture<WorkflowResult> second =
+        guarded.executeAsync(new WorkflowContext()).toCompletableFuture();
+    awaitRunning(running, 2);
+    CompletableFuture<WorkflowResult> third =
+        guarded.executeAsync(new WorkflowContext()).toCompletableFuture();
+    WorkflowResult rejected =
+        guarded.executeAsync(new WorkflowContext()).toCompletableFuture().join();
+
+    assertEquals(1, bulkhead.getWaitingCalls());
+    assertInstanceOf(BulkheadFullException.class, rejected.getError());
+
+    proceed.countDown();
+    WorkflowTestUtils.assertSuccess(first.get(5, TimeUnit.SECONDS));
+    WorkflowTestUtils.assertSuccess(second.get(5, TimeUnit.SECONDS));
+    WorkflowTestUtils.assertSuccess(third.get(5, TimeUnit.SECONDS));
+    assertEquals(2, maxRunning.get());
+  }
+
+  @Test
+  void builder_requiresWorkflowAndBulkhead() {
+    Bulkhead bulkhead = bulkhead(0);
+
+    assertThrows(
+        NullPointerException.class, () -> BulkheadWorkflow.builder().bulkhead(bulkhead).build());
+    assertThrows(
+        NullPointerException.class, () -> BulkheadWorkflow.builder().workflow(blocking).build());
+    BulkheadWorkflow guarded =
+        BulkheadWorkflow.builder().workflow(blocking).bulkhead(bulkhead).build();
+    assertEquals(List.of(blocking), guarded.getSubWorkflows());
+  }
+
+  @Test
+  void executeAsync_cancelledWhileQueued_freesQueueAndSlots() throws Exception {
+    Bulkhead bulkhead = bulkhead(1);
+    Workflow guarded = BulkheadWorkflow.builder().workflow(blocking).bulkhead(bulkhead).build();
+
+    CompletableFuture<WorkflowResult> first =
+        guarded.executeAsync(new WorkflowContext()).toCompletableFuture();
+    CompletableFuture<WorkflowResult> second =
+        guarded.executeAsync(new WorkflowContext()).toCompletableFuture();
+    awaitRunning(running, 2);
+    CompletableFuture<WorkflowResult> queued =
+        guarded.executeAsync(new WorkflowContext()).toCompletableFuture();
+    assertEquals(1, bulkhead.getWaitingCalls());
+
+    queued.cancel(true);
+
+    assertEquals(0, bulkhead.getWaitingCalls());
+    assertThrows(CancellationException.class, queued::join);
+    proceed.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+    assertEquals(2, maxRunning.get());
+    assertEquals(2, bulkhead.getAvailableSlots());
+  }
+}
@@ -0,0 +1,217 @@
+package com.workflow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.exception.CircuitBreakerOpenException;
+import com.workflow.helper.Workflows;
+import com.workflow.policy.CircuitBreaker;
+import com.workflow.test.WorkflowTestUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class CircuitBreakerWorkflowTest {
+
+  private final AtomicInteger executions = new AtomicInteger();
+  private final AtomicBoolean failing = new AtomicBoolean(true);
+
+  private final Workflow inner =
+      new AbstractWorkflow() {
+        @Override
+        protected WorkflowResult doExecute(WorkflowContext context, ExecutionContext execContext) {
+          executions.incrementAndGet();
+          return failing.get()
+              ? execContext.failure(new IllegalStateException("down"))
+              : execContext.success();
+        }
+      };
+
+  private static CircuitBreaker breaker(Duration waitDuration) {
+    return CircuitBreaker.builder()
+        .name("inventory")
+        .minimumNumberOfCalls(3)
+        .waitDurationInOpenState(waitDuration)
+        .permittedCallsInHalfOpenState(1)
+        .build();
+  }
+
+  @Test
+  void execute_breakerOpens_failsFastWithoutRunningInnerWorkflow() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+    Workflow guarded =
+        CircuitBreakerWorkflow.builder().workflow(inner).circuitBreaker(breaker).build();
+    WorkflowContext context = new WorkflowContext();
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(WorkflowStatus.FAILED, guarded.execute(context).getStatus());
+    }
+    WorkflowResult rejected = guarded.execute(context);
+
+    assertEquals(WorkflowStatus.FAILED, rejected.getStatus());
+    assertInstanceOf(CircuitBreakerOpenException.class, rejected.getError());
+    assertEquals(3, executions.get());
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  void execute_afterWaitDuration_successfulProbeCloses() throws InterruptedException {
+    CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+    Workflow guarded =
+        CircuitBreakerWorkflow.builder().workflow(inner).circuitBreaker(breaker).build();
+    WorkflowContext context = new WorkflowContext();
+    for (int i = 0; i < 3; i++) {
+      guarded.execute(context);
+    }
+
+    failing.set(false);
+    Thread.sleep(100);
+
+    WorkflowTestUtils.assertSuccess(guarded.execute(context));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    assertEquals(4, executions.get());
+  }
+
+  @Test
+  void execute_throwingWorkflow_countsAsFailure() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+    Workflow guarded =
+        CircuitBreakerWorkflow.builder()
+            .workflow(WorkflowTestUtils.mockThrowingWorkflow(new IllegalStateException("boom")))
+            .circuitBreaker(breaker)
+            .build();
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(WorkflowStatus.FAILED, guarded.execute(new WorkflowContext()).getStatus());
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  void executeAsync_breakerOpen_completesImmediately() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+    Workflow guarded =
+        CircuitBreakerWorkflow.builder().workflow(inner).circuitBreaker(breaker).build();
+    for (int i = 0; i < 3; i++) {
+      guarded.executeAsync(new WorkflowContext()).toCompletableFuture().join();
+    }
+
+    WorkflowResult rejected =
+        guarded.executeAsync(new WorkflowContext()).toCompletableFuture().getNow(null);
+
+    assertNotNull(rejected);
+    assertInstanceOf(CircuitBreakerOpenException.class, rejected.getError());
+    assertEquals(3, executions.get());
+  }
+
+  @Test
+  void executeReactive_breakerOpen_rejects() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+    Workflow guarded =
+        Workflows.circuitBreaker("Guarded").workflow(inner).circuitBreaker(breaker).build();
+    for (int i = 0; i < 3; i++) {
+      guarded.executeReactive(new WorkflowContext()).block();
+    }
+
+    WorkflowResult rejected = guarded.executeReactive(new WorkflowContext()).block();
+
+    assertNotNull(rejected);
+    assertInstanceOf(CircuitBreakerOpenException.class, rejected.getError());
+    assertEquals(3, executions.get());
+  }
+
+  @Test
+  void builder_requiresWorkflowAndCircuitBreaker() {
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+    assertThrows(
+        NullPointerException.class,
+        () -> CircuitBreakerWorkflow.builder().circuitBreaker(breaker).build());
+    assertThrows(
+        NullPointerException.class, () -> CircuitBreakerWorkflow.builder().workflow(inner).build());
+    CircuitBreakerWorkflow guarded =
+        CircuitBreakerWorkflow.builder().workflow(inner).circuitBreaker(breaker).build();
+    assertEquals(List.of(inner), guarded.getSubWorkflows());
+  }
+
+  @Test
+  void execute_probeThrowingError_releasesHalfOpenSlot() throws InterruptedException {
+    AtomicBoolean erroring = new AtomicBoolean();
+    Workflow flaky =
+        new AbstractWorkflow() {
+          @Override
+          protected WorkflowResult doExecute(
+              WorkflowContext context, ExecutionContext execContext) {
+            if (erroring.get()) {
+              throw new StackOverflowError("probe");
+            }
+            return inner.execute(context);
+          }
+        };
+    CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+    Workflow guarded =
+        CircuitBreakerWorkflow.builder().workflow(flaky).circuitBreaker(breaker).build();
+    WorkflowContext context = new WorkflowContext();
+    for (int i = 0; i < 3; i++) {
+      guarded.execute(context);
+    }
+
+    Thread.sleep(100);
+    erroring.set(true);
+    assertThrows(StackOverflowError.class, () -> guarded.execute(context));
+
+    erroring.set(false);
+    failing.set(false);
+    Thread.sleep(100);
+
+    WorkflowTestUtils.assertSuccess(guarded.execute(context));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void executeReactive_emptyInnerMono_countsAsFailure() {
+    Workflow empty = mock(Workflow.class);
+    when(empty.executeReactive(any(WorkflowContext.class))).thenReturn(Mono.empty());
+    CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+    Workflow guarded =
+        CircuitBreakerWorkflow.builder().workflow(empty).circuitBreaker(breaker).build();
+
+    for (int i = 0; i < 3; i++) {
+      guarded.executeReactive(new WorkflowContext()).block();
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  void executeAsync_cancelledProbe_returnsHalfOpenSlot() throws InterruptedException {
+    CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+    Workflow guarded =
+        CircuitBreakerWorkflow.builder().workflow(inner).circuitBreaker(breaker).build();
+    WorkflowContext context = new WorkflowContext();
+    for (int i = 0; i < 3; i++) {
+      guarded.execute(context);
+    }
+    CompletableFuture<WorkflowResult> pending = new CompletableFuture<>();
+    Workflow stalled = mock(Workflow.class);
+    when(stalled.executeAsync(any(WorkflowContext.class))).thenReturn(pending);
+    Workflow stalledGuarded =
+        CircuitBreakerWorkflow.builder().workflow(stalled).circuitBreaker(breaker).build();
+
+    Thread.sleep(100);
+    stalledGuarded.executeAsync(context).toCompletableFuture().cancel(true);
+
+    assertTrue(pending.isCancelled());
+    failing.set(false);
+    WorkflowTestUtils.assertSuccess(guarded.execute(context));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+}
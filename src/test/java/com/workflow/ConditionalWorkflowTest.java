@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.workflow.context.WorkflowContext;
 import com.workflow.helper.Workflows;
 import com.workflow.test.WorkflowTestUtils;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 
@@ -218,4 +219,21 @@ class ConditionalWorkflowTest {
     java.util.List<Workflow> subWorkflows = wf.getSubWorkflows();
     assertEquals(1, subWorkflows.size());
   }
+
+  @Test
+  void executeAsync_runsSelectedBranch() throws Exception {
+    WorkflowContext context = WorkflowTestUtils.createContext();
+    ConditionalWorkflow workflow =
+        Workflows.conditional("async-conditional")
+            .condition(_ -> false)
+            .whenTrue(new TaskWorkflow(WorkflowTestUtils.taskThatSets("branch", "true")))
+            .whenFalse(new TaskWorkflow(WorkflowTestUtils.taskThatSets("branch", "false")))
+            .build();
+
+    WorkflowResult result =
+        workflow.executeAsync(context).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals("false", context.get("branch"));
+  }
 }
@@ -4,7 +4,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.workflow.context.WorkflowContext;
 import com.workflow.helper.Workflows;
+import com.workflow.sleeper.ThreadSleepingSleeper;
 import com.workflow.test.WorkflowTestUtils;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -360,4 +366,41 @@ class FallbackWorkflowTest {
     assertNotNull(result.getError());
     assertSame(fallbackError, result.getError());
   }
+
+  @Test
+  void executeAsync_primaryFails_runsFallback() throws Exception {
+    WorkflowContext context = WorkflowTestUtils.createContext();
+    FallbackWorkflow workflow =
+        Workflows.fallback("async-fallback")
+            .primary(new TaskWorkflow(WorkflowTestUtils.taskThatThrows(new RuntimeException("x"))))
+            .fallback(new TaskWorkflow(WorkflowTestUtils.taskThatSets("fallback", true)))
+            .build();
+
+    WorkflowResult result =
+        workflow.executeAsync(context).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(true, context.get("fallback"));
+  }
+
+  @Test
+  void executeAsync_cancelled_interruptsPrimaryWithoutRunningFallback() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicInteger fallbackRuns = new AtomicInteger();
+    FallbackWorkflow wf =
+        FallbackWorkflow.builder()
+            .name("cancel")
+            .primary(WorkflowTestUtils.workflowThatSleepsUntilInterrupted(interrupted))
+            .fallback(new TaskWorkflow(_ -> fallbackRuns.incrementAndGet()))
+            .build();
+
+    CompletableFuture<WorkflowResult> future =
+        wf.executeAsync(WorkflowTestUtils.createContext()).toCompletableFuture();
+    new ThreadSleepingSleeper().sleep(Duration.ofMillis(100));
+    future.cancel(true);
+
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS), "primary was not interrupted");
+    new ThreadSleepingSleeper().sleep(Duration.ofMillis(100));
+    assertEquals(0, fallbackRuns.get());
+  }
 }
@@ -4,10 +4,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.test.WorkflowTestUtils;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 class ForEachWorkflowTest {
 
@@ -130,6 +140,21 @@ class ForEachWorkflowTest {
     assertInstanceOf(IllegalArgumentException.class, result.getError());
   }
 
+  @Test
+  @DisplayName("Should reject a Path instead of iterating over its name elements")
+  void execute_PathIsNotAnItemSource() {
+    // Arrange
+    context.put("items", Path.of("orders", "2024", "batch.csv"));
+
+    // Act
+    WorkflowResult result = builder.build().execute(context);
+
+    // Assert
+    assertEquals(WorkflowStatus.FAILED, result.getStatus());
+    assertInstanceOf(IllegalArgumentException.class, result.getError());
+    verify(childWorkflow, never()).execute(any());
+  }
+
   @Test
   @DisplayName("Should throw exception during construction if required fields are blank")
   void constructor_Validation() {
@@ -143,4 +168,335 @@ class ForEachWorkflowTest {
 
     assertThrows(IllegalArgumentException.class, blankKeyBuilder::build);
   }
+
+  @Test
+  @DisplayName("Should run items in parallel within maxConcurrency and keep outputs in item order")
+  void execute_ParallelOrderedOutputs() {
+    List<Integer> data = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      data.add(i);
+    }
+    context.put("items", data);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+
+    Workflow square =
+        new TaskWorkflow(
+            ctx -> {
+              maxObserved.accumulateAndGet(running.incrementAndGet(), Math::max);
+              try {
+                Thread.sleep(2);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              int value = ctx.getTyped("current", Integer.class);
+              ctx.put("squared", value * value);
+              running.decrementAndGet();
+            });
+
+    WorkflowResult result =
+        builder
+            .workflow(square)
+            .maxConcurrency(4)
+            .outputKey("squared")
+            .resultsKey("squares")
+            .build()
+            .execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertTrue(maxObserved.get() <= 4, "observed " + maxObserved.get() + " concurrent items");
+    List<?> squares = context.getTyped("squares", List.class);
+    assertEquals(50, squares.size());
+    for (int i = 0; i < 50; i++) {
+      assertEquals(i * i, squares.get(i));
+    }
+    // Items run in isolated copies, so nothing leaks into the parent context
+    assertFalse(context.containsKey("current"));
+    assertFalse(context.containsKey("squared"));
+  }
+
+  @Test
+  @DisplayName("Should stop dispatching new items after a failure in parallel fail-fast mode")
+  void execute_ParallelFailFast() {
+    List<Integer> data = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      data.add(i);
+    }
+    context.put("items", data);
+    RuntimeException boom = new RuntimeException("Boom");
+    AtomicInteger executed = new AtomicInteger();
+
+    Workflow failOnFirst =
+        new TaskWorkflow(
+            ctx -> {
+              executed.incrementAndGet();
+              if (ctx.getTyped("current", Integer.class) == 0) {
+                throw boom;
+              }
+            });
+
+    WorkflowResult result =
+        builder.workflow(failOnFirst).maxConcurrency(2).build().execute(context);
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(boom, result.getError().getCause());
+    assertTrue(executed.get() < 100, "executed " + executed.get() + " items");
+  }
+
+  @Test
+  @DisplayName("Should run every item and report the lowest failing index when collecting all")
+  void execute_ParallelCollectAll() {
+    List<Integer> data = List.of(0, 1, 2, 3, 4, 5, 6, 7);
+    context.put("items", data);
+    List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+
+    Workflow failOdd =
+        new TaskWorkflow(
+            ctx -> {
+              int value = ctx.getTyped("current", Integer.class);
+              seen.add(value);
+              if (value % 2 == 1) {
+                throw new IllegalStateException("odd " + value);
+              }
+              ctx.put("out", value);
+            });
+
+    WorkflowResult result =
+        builder
+            .workflow(failOdd)
+            .maxConcurrency(3)
+            .collectAll(true)
+            .outputKey("out")
+            .resultsKey("outs")
+            .build()
+            .execute(context);
+
+    WorkflowTestUtils.assertFailed(result);
+    assertEquals("odd 1", result.getError().getCause().getMessage());
+    assertEquals(8, seen.size());
+    assertEquals(Arrays.asList(0, null, 2, null, 4, null, 6, null), context.get("outs"));
+  }
+
+  @Test
+  @DisplayName("Should continue after failures sequentially when collecting all")
+  void execute_SequentialCollectAll() {
+    context.put("items", List.of("A", "B", "C"));
+    WorkflowResult successRes = WorkflowResult.builder().status(WorkflowStatus.SUCCESS).build();
+    WorkflowResult failRes =
+        WorkflowResult.builder()
+            .status(WorkflowStatus.FAILED)
+            .error(new RuntimeException("Boom"))
+            .build();
+    when(childWorkflow.execute(context)).thenReturn(failRes).thenReturn(successRes);
+
+    WorkflowResult result = builder.collectAll(true).build().execute(context);
+
+    assertEquals(WorkflowStatus.FAILED, result.getStatus());
+    assertEquals("Boom", result.getError().getMessage());
+    verify(childWorkflow, times(3)).execute(context);
+  }
+
+  @Test
+  @DisplayName("Should reject outputKey without resultsKey and negative maxConcurrency")
+  void constructor_ParallelOptionValidation() {
+    ForEachWorkflow.ForEachWorkflowBuilder onlyOutput = builder.outputKey("out");
+    assertThrows(IllegalArgumentException.class, onlyOutput::build);
+
+    ForEachWorkflow.ForEachWorkflowBuilder negative =
+        ForEachWorkflow.builder()
+            .itemsKey("items")
+            .itemVariable("current")
+            .workflow(childWorkflow)
+            .maxConcurrency(-1);
+    assertThrows(IllegalArgumentException.class, negative::build);
+  }
+
+  @Test
+  @DisplayName("Should iterate over an Iterator source")
+  void execute_IteratorSource() {
+    context.put("items", List.of("A", "B", "C").iterator());
+    when(childWorkflow.execute(any()))
+        .thenReturn(WorkflowResult.builder().status(WorkflowStatus.SUCCESS).build());
+
+    WorkflowResult result = builder.build().execute(context);
+
+    assertEquals(WorkflowStatus.SUCCESS, result.getStatus());
+    verify(childWorkflow, times(3)).execute(context);
+    assertEquals("C", context.get("current"));
+  }
+
+  @Test
+  @DisplayName("Should close a Stream source when fail-fast stops the iteration early")
+  void execute_StreamSourceClosedOnFailFast() {
+    AtomicBoolean closed = new AtomicBoolean();
+    AtomicInteger pulled = new AtomicInteger();
+    Stream<Integer> stream =
+        IntStream.range(0, 1_000).boxed().peek(_ -> pulled.incrementAndGet());
+    context.put("items", stream.onClose(() -> closed.set(true)));
+
+    WorkflowResult failRes =
+        WorkflowResult.builder()
+            .status(WorkflowStatus.FAILED)
+            .error(new RuntimeException("Boom"))
+            .build();
+    when(childWorkflow.execute(context)).thenReturn(failRes);
+
+    WorkflowResult result = builder.build().execute(context);
+
+    assertEquals(WorkflowStatus.FAILED, result.getStatus());
+    assertTrue(closed.get());
+    assertTrue(pulled.get() < 1_000, "pulled " + pulled.get() + " items");
+  }
+
+  @Test
+  @DisplayName("Should iterate over a Spliterator source and collect outputs")
+  void execute_SpliteratorSource() {
+    context.put("items", List.of(1, 2, 3).spliterator());
+    Workflow doubler =
+        new TaskWorkflow(ctx -> ctx.put("doubled", ctx.getTyped("current", Integer.class) * 2));
+
+    WorkflowResult result =
+        builder
+            .workflow(doubler)
+            .outputKey("doubled")
+            .resultsKey("results")
+            .build()
+            .execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(List.of(2, 4, 6), context.get("results"));
+  }
+
+  @Test
+  @DisplayName("Should stream a Flux source through parallel workers with bounded prefetch")
+  void execute_FluxSourceParallel() {
+    AtomicInteger requested = new AtomicInteger();
+    AtomicInteger processed = new AtomicInteger();
+    Flux<Integer> flux =
+        Flux.range(0, 200).doOnRequest(n -> requested.accumulateAndGet((int) n, Math::max));
+    context.put("items", flux);
+
+    Workflow count = new TaskWorkflow(_ -> processed.incrementAndGet());
+
+    WorkflowResult result =
+        builder.workflow(count).maxConcurrency(4).prefetch(16).build().execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(200, processed.get());
+    assertTrue(requested.get() <= 16, "requested " + requested.get() + " items at once");
+  }
+
+  @Test
+  @DisplayName("Should support primitive arrays as input items")
+  void execute_PrimitiveArraySupport() {
+    context.put("items", new int[] {1, 2, 3});
+    List<Object> seen = Collections.synchronizedList(new ArrayList<>());
+
+    WorkflowResult result =
+        builder
+            .workflow(new TaskWorkflow(ctx -> seen.add(ctx.get("current"))))
+            .build()
+            .execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(List.of(1, 2, 3), seen);
+  }
+
+  @Test
+  @DisplayName("Should treat a null child result as a failure in sequential mode")
+  void execute_NullChildResult_Fails() {
+    context.put("items", List.of("A", "B"));
+    when(childWorkflow.execute(any())).thenReturn(null);
+
+    WorkflowResult result = builder.build().execute(context);
+
+    assertEquals(WorkflowStatus.FAILED, result.getStatus());
+    assertInstanceOf(IllegalStateException.class, result.getError());
+    verify(childWorkflow, times(1)).execute(context);
+  }
+
+  @Test
+  @DisplayName("Should record null for items whose child writes no output, sequentially")
+  void execute_sequentialOutputWrittenOnlyForSomeItems_recordsNullForOthers() {
+    context.put("items", List.of(1, 2, 3, 4));
+    Workflow evenOnly =
+        new TaskWorkflow(
+            ctx -> {
+              int value = ctx.getTyped("current", Integer.class);
+              if (value % 2 == 0) {
+                ctx.put("out", value * 10);
+              }
+            });
+
+    WorkflowResult result =
+        builder.workflow(evenOnly).outputKey("out").resultsKey("outs").build().execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(Arrays.asList(null, 20, null, 40), context.get("outs"));
+  }
+
+  @Test
+  @DisplayName("Should not read the parent's output value into items that write none, in parallel")
+  void execute_parallelOutputWrittenOnlyForSomeItems_ignoresParentValue() {
+    context.put("items", List.of(1, 2, 3, 4));
+    context.put("out", "parent");
+    Workflow evenOnly =
+        new TaskWorkflow(
+            ctx -> {
+              int value = ctx.getTyped("current", Integer.class);
+              if (value % 2 == 0) {
+                ctx.put("out", value * 10);
+              }
+            });
+
+    WorkflowResult result =
+        builder
+            .workflow(evenOnly)
+            .maxConcurrency(4)
+            .outputKey("out")
+            .resultsKey("outs")
+            .build()
+            .execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(Arrays.asList(null, 20, null, 40), context.get("outs"));
+    assertEquals("parent", context.get("out"));
+  }
+
+  @Test
+  @DisplayName("Should run null array elements with the item variable absent")
+  void execute_ArrayWithNullElements_bindsNullAsAbsent() {
+    context.put("items", new String[] {"A", null, "C"});
+    Workflow echo =
+        new TaskWorkflow(ctx -> ctx.put("out", String.valueOf(ctx.containsKey("current"))));
+
+    WorkflowResult result =
+        builder.workflow(echo).outputKey("out").resultsKey("outs").build().execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(List.of("true", "false", "true"), context.get("outs"));
+  }
+
+  @Test
+  @DisplayName("Should run null elements of an Iterable in parallel with the item variable absent")
+  void execute_parallelIterableWithNullElements_bindsNullAsAbsent() {
+    Iterable<String> items = Arrays.asList(null, "B", null)::iterator;
+    context.put("items", items);
+    context.put("current", "parent");
+    Workflow echo =
+        new TaskWorkflow(ctx -> ctx.put("out", String.valueOf(ctx.get("current"))));
+
+    WorkflowResult result =
+        builder
+            .workflow(echo)
+            .maxConcurrency(3)
+            .outputKey("out")
+            .resultsKey("outs")
+            .build()
+            .execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(List.of("null", "B", "null"), context.get("outs"));
+    assertEquals("parent", context.get("current"));
+  }
 }
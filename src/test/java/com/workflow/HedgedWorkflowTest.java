@@ -0,0 +1,228 @@
+package com.workflow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.helper.Workflows;
+import com.workflow.task.Task;
+import com.workflow.task.executor.DeadlineTimer;
+import com.workflow.test.WorkflowTestUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class HedgedWorkflowTest {
+
+  private static Task sleepUntilInterrupted(CountDownLatch interrupted) {
+    return _ -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  @Test
+  void execute_firstAttemptSucceedsWithinDelay_doesNotStartHedge() {
+    AtomicInteger hedgeStarts = new AtomicInteger();
+
+    HedgedWorkflow wf =
+        HedgedWorkflow.builder()
+            .name("no-hedge")
+            .task(WorkflowTestUtils.taskThatSets("value", "primary"))
+            .task(_ -> hedgeStarts.incrementAndGet())
+            .hedgeDelayMs(1_000)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowResult result = wf.execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals("primary", context.get("value"));
+    assertEquals(0, hedgeStarts.get());
+  }
+
+  @Test
+  void execute_slowFirstAttempt_hedgeWinsAndFirstIsInterrupted() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    HedgedWorkflow wf =
+        HedgedWorkflow.builder()
+            .task(sleepUntilInterrupted(interrupted))
+            .task(WorkflowTestUtils.taskThatSets("value", "hedge"))
+            .hedgeDelayMs(20)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowResult result = wf.execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals("hedge", context.get("value"));
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void execute_failedAttempt_startsNextWithoutWaitingForDelay() throws Exception {
+    HedgedWorkflow wf =
+        HedgedWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatThrows(new RuntimeException("replica down")))
+            .task(WorkflowTestUtils.taskThatSets("value", "second"))
+            .hedgeDelayMs(10_000)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowResult result =
+        wf.executeAsync(context).toCompletableFuture().get(2, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals("second", context.get("value"));
+  }
+
+  @Test
+  void execute_allAttemptsFail_returnsFirstDeclaredError() {
+    RuntimeException first = new RuntimeException("first");
+
+    HedgedWorkflow wf =
+        HedgedWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatThrows(first))
+            .task(WorkflowTestUtils.taskThatThrows(new RuntimeException("second")))
+            .build();
+
+    WorkflowResult result = wf.execute(WorkflowTestUtils.createContext());
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(first, result.getError().getCause());
+  }
+
+  @Test
+  void execute_losingAttemptWrites_areNotPublished() {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Task slowWriter =
+        context -> {
+          context.put("loser", true);
+          sleepUntilInterrupted(interrupted).execute(context);
+        };
+
+    HedgedWorkflow wf =
+        HedgedWorkflow.builder()
+            .task(slowWriter)
+            .task(WorkflowTestUtils.taskThatSets("winner", true))
+            .hedgeDelayMs(20)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowResult result = wf.execute(context);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(Boolean.TRUE, context.get("winner"));
+    assertFalse(context.containsKey("loser"));
+  }
+
+  @Test
+  void currentDelayMs_withPercentile_adaptsOnceHistoryIsRecorded() {
+    HedgedWorkflow wf =
+        HedgedWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatSets("value", 1))
+            .task(WorkflowTestUtils.taskThatSets("value", 2))
+            .hedgeDelayMs(10_000)
+            .hedgePercentile(0.95)
+            .build();
+
+    assertEquals(10_000, wf.currentDelayMs());
+    for (int i = 0; i < HedgedWorkflow.MIN_SAMPLES; i++) {
+      WorkflowTestUtils.assertSuccess(wf.execute(WorkflowTestUtils.createContext()));
+    }
+
+    assertTrue(wf.currentDelayMs() < 10_000);
+  }
+
+  @Test
+  void getSubWorkflows_returnsAttemptsInOrder() {
+    Workflow primary = WorkflowTestUtils.mockSuccessfulWorkflow("primary");
+    Workflow replica = WorkflowTestUtils.mockSuccessfulWorkflow("replica");
+
+    HedgedWorkflow wf = Workflows.hedged("reads").workflow(primary).workflow(replica).build();
+
+    assertEquals("reads", wf.getName());
+    assertEquals(2, wf.getSubWorkflows().size());
+    assertSame(primary, wf.getSubWorkflows().getFirst());
+    assertTrue(wf.getWorkflowType().contains("Hedged"));
+  }
+
+  @Test
+  void builder_withoutWorkflows_throwsException() {
+    HedgedWorkflow.HedgedWorkflowBuilder builder = HedgedWorkflow.builder();
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  void builder_invalidDelayOrPercentile_throwsException() {
+    HedgedWorkflow.HedgedWorkflowBuilder builder = HedgedWorkflow.builder();
+    assertThrows(IllegalArgumentException.class, () -> builder.hedgeDelayMs(-1));
+    assertThrows(IllegalArgumentException.class, () -> builder.hedgePercentile(1.5));
+  }
+
+  @Test
+  void executeAsync_cancelled_cancelsAttemptsAndStopsHedging() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicInteger hedgeStarts = new AtomicInteger();
+
+    HedgedWorkflow wf =
+        HedgedWorkflow.builder()
+            .task(sleepUntilInterrupted(interrupted))
+            .task(_ -> hedgeStarts.incrementAndGet())
+            .hedgeDelayMs(100)
+            .build();
+
+    CompletableFuture<WorkflowResult> future =
+        wf.executeAsync(WorkflowTestUtils.createContext()).toCompletableFuture();
+    Thread.sleep(20);
+    future.cancel(true);
+
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS), "attempt was not interrupted");
+    Thread.sleep(200);
+    assertEquals(0, hedgeStarts.get());
+  }
+
+  @Test
+  void execute_hedgeDelayExpiresAlongsideLaunchesAndCompletions_doesNotDeadlock()
+      throws Exception {
+    // A 1ms delay makes the timer fire while failures launch attempts and the winner completes
+    Task failSoon =
+        _ -> {
+          try {
+            Thread.sleep(1);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          throw new RuntimeException("replica down");
+        };
+
+    HedgedWorkflow wf =
+        HedgedWorkflow.builder()
+            .task(failSoon)
+            .task(failSoon)
+            .task(failSoon)
+            .task(WorkflowTestUtils.taskThatSets("value", "last"))
+            .hedgeDelayMs(1)
+            .build();
+
+    for (int i = 0; i < 200; i++) {
+      WorkflowContext context = WorkflowTestUtils.createContext();
+      WorkflowResult result =
+          wf.executeAsync(context).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+      WorkflowTestUtils.assertSuccess(result);
+      assertEquals("last", context.get("value"));
+    }
+
+    // The shared timer thread must still be firing deadlines
+    CountDownLatch fired = new CountDownLatch(1);
+    DeadlineTimer.shared().schedule(fired::countDown, 1, TimeUnit.MILLISECONDS);
+    assertTrue(fired.await(1, TimeUnit.SECONDS), "deadline timer is stuck");
+  }
+}
@@ -4,12 +4,16 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.workflow.context.WorkflowContext;
 import com.workflow.exception.ScriptLoadException;
+import com.workflow.helper.PolyglotMapper;
 import com.workflow.script.FileScriptProvider;
 import com.workflow.script.InlineScriptProvider;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -505,4 +509,234 @@ class JavascriptWorkflowTest {
 
     assertFalse(result.isSuccess());
   }
+
+  @Test
+  void exportedFunction_evaluatesModuleOncePerPooledContext() {
+    String script =
+        """
+        let evaluations = 0;
+        evaluations++;
+        export function apply(ctx) {
+            ctx.put('evaluations', evaluations);
+            ctx.put('output', ctx.get('input') * 2);
+        }
+        """;
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(new InlineScriptProvider(script))
+            .exportedFunction("apply")
+            .contextPoolSize(1)
+            .build();
+
+    for (int i = 1; i <= 3; i++) {
+      WorkflowContext context = new WorkflowContext();
+      context.put("input", i);
+
+      assertTrue(workflow.execute(context).isSuccess());
+      assertEquals(i * 2, context.get("output"));
+      assertEquals(1, context.get("evaluations"));
+    }
+  }
+
+  @Test
+  void exportedFunction_scriptChange_reevaluatesModule() throws IOException {
+    Path scriptPath = tempDir.resolve("export.mjs");
+    JavascriptWorkflow workflow = createBuilder(scriptPath).exportedFunction("apply").build();
+
+    Files.writeString(scriptPath, "export function apply(ctx) { ctx.put('val', 1); }");
+    workflow.execute(workflowContext);
+    assertEquals(1, workflowContext.get("val"));
+
+    Files.writeString(scriptPath, "export function apply(ctx) { ctx.put('val', 2); }");
+    workflow.execute(workflowContext);
+    assertEquals(2, workflowContext.get("val"));
+  }
+
+  @Test
+  void exportedFunction_missingExport_returnsFailure() {
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(new InlineScriptProvider("export const value = 1;"))
+            .exportedFunction("apply")
+            .build();
+
+    WorkflowResult result = workflow.execute(workflowContext);
+
+    assertFalse(result.isSuccess());
+    assertTrue(result.getError().getMessage().contains("apply"));
+  }
+
+  @Test
+  void exportedFunction_failedInvocation_nextExecutionStillRuns() {
+    String script =
+        """
+        export function apply(ctx) {
+            if (ctx.get('fail')) { throw new Error('boom'); }
+            ctx.put('status', 'ok');
+        }
+        """;
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(new InlineScriptProvider(script))
+            .exportedFunction("apply")
+            .build();
+
+    workflowContext.put("fail", true);
+    assertFalse(workflow.execute(workflowContext).isSuccess());
+
+    workflowContext.put("fail", false);
+    assertTrue(workflow.execute(workflowContext).isSuccess());
+    assertEquals("ok", workflowContext.get("status"));
+  }
+
+  @Test
+  void builder_invalidContextPoolSize_throwsException() {
+    JavascriptWorkflow.JavascriptWorkflowBuilder builder = JavascriptWorkflow.builder();
+    assertThrows(IllegalArgumentException.class, () -> builder.contextPoolSize(0));
+  }
+
+  @Test
+  void getSubWorkflows_afterExecution_doesNotReloadScript() {
+    AtomicInteger loads = new AtomicInteger();
+    InlineScriptProvider inline = new InlineScriptProvider("ctx.put('status', 'ok');");
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(
+                () -> {
+                  loads.incrementAndGet();
+                  return inline.loadScript();
+                })
+            .build();
+
+    workflow.execute(workflowContext);
+    List<Workflow> children = workflow.getSubWorkflows();
+
+    assertEquals(1, loads.get());
+    assertEquals("SRC -> inline-script.mjs", children.getFirst().getName());
+  }
+
+  @Test
+  void deferredConversion_storesFinalStateAndReturnsOriginalObjectToScript() {
+    String script =
+        """
+        var order = { items: [1, 2] };
+        ctx.put('order', order);
+        order.items.push(3);
+        ctx.put('same', ctx.get('order') === order);
+        ctx.put('samples', new Float64Array([1.5, 2.5]));
+        ctx.put('scratch', { large: true });
+        ctx.put('scratch', 'done');
+        """;
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(new InlineScriptProvider(script))
+            .deferredConversion(true)
+            .build();
+
+    assertTrue(workflow.execute(workflowContext).isSuccess());
+
+    Map<?, ?> order = assertInstanceOf(Map.class, workflowContext.get("order"));
+    assertNull(PolyglotMapper.unwrap(order));
+    assertEquals(List.of(1, 2, 3), order.get("items"));
+    assertEquals(true, workflowContext.get("same"));
+    assertArrayEquals(new double[] {1.5, 2.5}, (double[]) workflowContext.get("samples"));
+    assertEquals("done", workflowContext.get("scratch"));
+  }
+
+  @Test
+  void deferredConversion_failedScript_stillDetachesViews() {
+    String script =
+        """
+        ctx.put('partial', { step: 1 });
+        throw new Error('boom');
+        """;
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(new InlineScriptProvider(script))
+            .deferredConversion(true)
+            .build();
+
+    assertFalse(workflow.execute(workflowContext).isSuccess());
+
+    Object partial = workflowContext.get("partial");
+    assertNull(PolyglotMapper.unwrap(partial));
+    assertEquals(Map.of("step", 1), partial);
+  }
+
+  @Test
+  void deferredConversion_withExportedFunction_detachesAfterEachInvocation() {
+    String script =
+        """
+        const cache = { hits: 0 };
+        export function apply(ctx) {
+            cache.hits++;
+            ctx.put('cache', cache);
+        }
+        """;
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(new InlineScriptProvider(script))
+            .exportedFunction("apply")
+            .deferredConversion(true)
+            .contextPoolSize(1)
+            .build();
+
+    WorkflowContext first = new WorkflowContext();
+    workflow.execute(first);
+    workflow.execute(new WorkflowContext());
+
+    // The first execution's copy is not affected by the second invocation
+    assertEquals(Map.of("hits", 1), first.get("cache"));
+  }
+
+  @Test
+  void close_discardsPooledContextsAndStopsPooling() {
+    String script =
+        """
+        let calls = 0;
+        export function apply(ctx) {
+            ctx.put('calls', ++calls);
+        }
+        """;
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(new InlineScriptProvider(script))
+            .exportedFunction("apply")
+            .contextPoolSize(1)
+            .build();
+
+    workflow.execute(workflowContext);
+    workflow.execute(workflowContext);
+    assertEquals(2, workflowContext.get("calls"));
+
+    workflow.close();
+
+    assertTrue(workflow.execute(workflowContext).isSuccess());
+    assertEquals(1, workflowContext.get("calls"));
+    assertTrue(workflow.execute(workflowContext).isSuccess());
+    assertEquals(1, workflowContext.get("calls"));
+  }
+
+  @Test
+  void deferredConversion_keepsViewsOutOfSharedContextUntilScriptFinishes() {
+    BooleanSupplier orderVisible = () -> workflowContext.containsKey("order");
+    workflowContext.put("probe", orderVisible);
+    String script =
+        """
+        ctx.put('order', { id: 7 });
+        ctx.put('visibleDuringScript', ctx.get('probe').getAsBoolean());
+        ctx.put('readBack', ctx.get('order').id);
+        """;
+    JavascriptWorkflow workflow =
+        JavascriptWorkflow.builder()
+            .scriptProvider(new InlineScriptProvider(script))
+            .deferredConversion(true)
+            .build();
+
+    assertTrue(workflow.execute(workflowContext).isSuccess());
+
+    assertEquals(false, workflowContext.get("visibleDuringScript"));
+    assertEquals(7, workflowContext.get("readBack"));
+    assertEquals(Map.of("id", 7), workflowContext.get("order"));
+  }
 }
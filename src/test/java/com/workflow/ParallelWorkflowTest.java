@@ -4,20 +4,25 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.workflow.context.ContextMergePolicy;
 import com.workflow.context.WorkflowContext;
 import com.workflow.execution.strategy.ExecutionStrategy;
+import com.workflow.execution.strategy.VirtualThreadExecutionStrategy;
 import com.workflow.helper.FutureUtils;
 import com.workflow.helper.Workflows;
 import com.workflow.listener.WorkflowListeners;
+import com.workflow.sleeper.ThreadSleepingSleeper;
 import com.workflow.task.NoOpTask;
 import com.workflow.task.Task;
 import com.workflow.task.TaskDescriptor;
 import com.workflow.test.WorkflowTestUtils;
+import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -146,12 +151,11 @@ class ParallelWorkflowTest {
   }
 
   @Test
-  void execute_shareContextFalse_eachWorkflowGetsContextCopy() {
+  void execute_shareContextFalse_eachWorkflowGetsContextFork() {
     WorkflowContext original = mock(WorkflowContext.class);
-    WorkflowContext copy1 = mock(WorkflowContext.class);
-    WorkflowContext copy2 = mock(WorkflowContext.class);
+    WorkflowContext base = WorkflowTestUtils.createContext();
 
-    when(original.copy()).thenReturn(copy1, copy2);
+    when(original.fork()).thenReturn(base.fork(), base.fork());
     when(original.getListeners()).thenReturn(new WorkflowListeners());
 
     Workflow w1 = WorkflowTestUtils.mockSuccessfulWorkflow("w1");
@@ -172,7 +176,8 @@ class ParallelWorkflowTest {
 
       wf.execute(original);
 
-      verify(original, times(2)).copy();
+      verify(original, times(2)).fork();
+      verify(original, never()).copy();
     }
   }
 
@@ -554,9 +559,8 @@ class ParallelWorkflowTest {
   @Test
   void builder_withShareContextFalse_shouldIsolateContexts() {
     WorkflowContext original = mock(WorkflowContext.class);
-    WorkflowContext copy1 = mock(WorkflowContext.class);
 
-    when(original.copy()).thenReturn(copy1);
+    when(original.fork()).thenReturn(WorkflowTestUtils.createContext().fork());
     when(original.getListeners()).thenReturn(new WorkflowListeners());
 
     Workflow w1 = WorkflowTestUtils.mockSuccessfulWorkflow("w1");
@@ -575,7 +579,7 @@ class ParallelWorkflowTest {
 
       wf.execute(original);
 
-      verify(original).copy();
+      verify(original).fork();
     }
   }
 
@@ -601,6 +605,468 @@ class ParallelWorkflowTest {
       wf.execute(original);
 
       verify(original, never()).copy();
+      verify(original, never()).fork();
+    }
+  }
+
+  @Test
+  void executeAsync_allChildrenSucceed_returnsSuccess() throws Exception {
+    WorkflowContext ctx = WorkflowTestUtils.createContext();
+
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .name("parallel-async")
+            .task(WorkflowTestUtils.taskThatSets("a", 1))
+            .task(WorkflowTestUtils.taskThatSets("b", 2))
+            .build();
+
+    WorkflowResult result = wf.executeAsync(ctx).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(1, ctx.get("a"));
+    assertEquals(2, ctx.get("b"));
+  }
+
+  @Test
+  void executeAsync_oneChildFails_returnsFailure() throws Exception {
+    RuntimeException cause = new RuntimeException("async child failed");
+
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .name("parallel-async-fail")
+            .task(WorkflowTestUtils.taskThatSets("a", 1))
+            .task(WorkflowTestUtils.taskThatThrows(cause))
+            .failFast(true)
+            .build();
+
+    WorkflowResult result =
+        wf.executeAsync(WorkflowTestUtils.createContext())
+            .toCompletableFuture()
+            .get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(cause, result.getError().getCause());
+  }
+
+  @Test
+  void executeReactive_withReactiveConcurrency_neverExceedsLimit() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+    Task tracked =
+        _ -> {
+          maxObserved.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(20);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          running.decrementAndGet();
+        };
+
+    ParallelWorkflow.ParallelWorkflowBuilder builder =
+        ParallelWorkflow.builder().name("parallel-reactive").reactiveConcurrency(2);
+    for (int i = 0; i < 8; i++) {
+      builder.task(tracked);
+    }
+
+    WorkflowResult result =
+        builder
+            .build()
+            .executeReactive(WorkflowTestUtils.createContext())
+            .block(Duration.ofSeconds(5));
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertTrue(maxObserved.get() <= 2, "observed " + maxObserved.get() + " concurrent children");
+  }
+
+  @Test
+  void executeReactive_failFast_skipsChildrenNotYetStarted() {
+    RuntimeException cause = new RuntimeException("reactive child failed");
+    AtomicInteger started = new AtomicInteger();
+
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatThrows(cause))
+            .task(_ -> started.incrementAndGet())
+            .task(_ -> started.incrementAndGet())
+            .failFast(true)
+            .reactiveConcurrency(1)
+            .build();
+
+    WorkflowResult result =
+        wf.executeReactive(WorkflowTestUtils.createContext()).block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(cause, result.getError().getCause());
+    assertEquals(0, started.get());
+  }
+
+  @Test
+  void executeReactive_withoutFailFast_runsAllChildren() {
+    RuntimeException cause = new RuntimeException("reactive child failed");
+    AtomicInteger started = new AtomicInteger();
+
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatThrows(cause))
+            .task(_ -> started.incrementAndGet())
+            .task(_ -> started.incrementAndGet())
+            .reactiveConcurrency(1)
+            .build();
+
+    WorkflowResult result =
+        wf.executeReactive(WorkflowTestUtils.createContext()).block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertFailed(result);
+    assertEquals(2, started.get());
+  }
+
+  @Test
+  void builder_negativeReactiveConcurrency_throwsException() {
+    ParallelWorkflow.ParallelWorkflowBuilder builder = ParallelWorkflow.builder();
+    assertThrows(IllegalArgumentException.class, () -> builder.reactiveConcurrency(-1));
+  }
+
+  private static Task interruptibleSleep(CountDownLatch interrupted) {
+    return _ -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  @Test
+  void execute_failFast_interruptsRunningSiblings() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    RuntimeException cause = new RuntimeException("fail fast");
+
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy()) {
+      ParallelWorkflow wf =
+          ParallelWorkflow.builder()
+              .task(interruptibleSleep(interrupted))
+              .task(WorkflowTestUtils.taskThatThrows(cause))
+              .failFast(true)
+              .executionStrategy(strategy)
+              .build();
+
+      WorkflowResult result = wf.execute(WorkflowTestUtils.createContext());
+
+      WorkflowTestUtils.assertFailed(result);
+      assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void execute_shutdownOnSuccess_returnsFirstSuccessAndInterruptsOthers() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy()) {
+      ParallelWorkflow wf =
+          ParallelWorkflow.builder()
+              .task(interruptibleSleep(interrupted))
+              .task(WorkflowTestUtils.taskThatThrows(new RuntimeException("lost")))
+              .task(WorkflowTestUtils.taskThatSets("winner", true))
+              .joinPolicy(ParallelWorkflow.JoinPolicy.SHUTDOWN_ON_SUCCESS)
+              .executionStrategy(strategy)
+              .build();
+      WorkflowContext context = WorkflowTestUtils.createContext();
+
+      WorkflowResult result = wf.execute(context);
+
+      WorkflowTestUtils.assertSuccess(result);
+      assertEquals(Boolean.TRUE, context.get("winner"));
+      assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void execute_shutdownOnSuccess_allFail_returnsFirstFailure() {
+    RuntimeException first = new RuntimeException("first");
+
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatThrows(first))
+            .task(WorkflowTestUtils.taskThatThrows(new RuntimeException("second")))
+            .joinPolicy(ParallelWorkflow.JoinPolicy.SHUTDOWN_ON_SUCCESS)
+            .build();
+
+    WorkflowResult result = wf.execute(WorkflowTestUtils.createContext());
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(first, result.getError().getCause());
+  }
+
+  @Test
+  void execute_interruptedCaller_cancelsChildrenAndFails() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicReference<WorkflowResult> result = new AtomicReference<>();
+
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy()) {
+      ParallelWorkflow wf =
+          ParallelWorkflow.builder()
+              .task(interruptibleSleep(interrupted))
+              .executionStrategy(strategy)
+              .build();
+
+      Thread caller =
+          Thread.ofVirtual().start(() -> result.set(wf.execute(WorkflowTestUtils.createContext())));
+      Thread.sleep(50);
+      caller.interrupt();
+      caller.join(1000);
+
+      WorkflowTestUtils.assertFailed(result.get());
+      assertInstanceOf(InterruptedException.class, result.get().getError());
+      assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void executeAsync_shutdownOnSuccess_completesWithSuccess() {
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatThrows(new RuntimeException("lost")))
+            .task(WorkflowTestUtils.taskThatSets("winner", true))
+            .joinPolicy(ParallelWorkflow.JoinPolicy.SHUTDOWN_ON_SUCCESS)
+            .build();
+
+    WorkflowResult result =
+        wf.executeAsync(WorkflowTestUtils.createContext()).toCompletableFuture().join();
+
+    WorkflowTestUtils.assertSuccess(result);
+  }
+
+  @Test
+  void executeReactive_shutdownOnSuccess_stopsAtFirstSuccess() {
+    AtomicInteger started = new AtomicInteger();
+
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatThrows(new RuntimeException("lost")))
+            .task(_ -> started.incrementAndGet())
+            .task(_ -> started.incrementAndGet())
+            .joinPolicy(ParallelWorkflow.JoinPolicy.SHUTDOWN_ON_SUCCESS)
+            .reactiveConcurrency(1)
+            .build();
+
+    WorkflowResult result =
+        wf.executeReactive(WorkflowTestUtils.createContext()).block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(1, started.get());
+  }
+
+  @Test
+  void executeReactive_shutdownOnSuccess_allFail_returnsFirstFailure() {
+    RuntimeException first = new RuntimeException("first");
+
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatThrows(first))
+            .task(WorkflowTestUtils.taskThatThrows(new RuntimeException("second")))
+            .joinPolicy(ParallelWorkflow.JoinPolicy.SHUTDOWN_ON_SUCCESS)
+            .reactiveConcurrency(1)
+            .build();
+
+    WorkflowResult result =
+        wf.executeReactive(WorkflowTestUtils.createContext()).block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(first, result.getError().getCause());
+  }
+
+  @Test
+  void builder_nullJoinPolicy_throwsException() {
+    ParallelWorkflow.ParallelWorkflowBuilder builder =
+        ParallelWorkflow.builder().joinPolicy(null);
+    assertThrows(NullPointerException.class, builder::build);
+  }
+
+  @Test
+  void execute_isolatedContexts_discardChildWritesByDefault() {
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatSets("a", 1))
+            .task(WorkflowTestUtils.taskThatSets("b", 2))
+            .shareContext(false)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowTestUtils.assertSuccess(wf.execute(context));
+
+    assertFalse(context.containsKey("a"));
+    assertFalse(context.containsKey("b"));
+  }
+
+  @Test
+  void execute_lastWriteWins_mergesChildWritesInDeclarationOrder() {
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatSets("shared", "first"))
+            .task(WorkflowTestUtils.taskThatSets("shared", "second"))
+            .task(ctx -> ctx.remove("stale"))
+            .shareContext(false)
+            .mergePolicy(ContextMergePolicy.LAST_WRITE_WINS)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.contextWith("stale", true);
+
+    WorkflowTestUtils.assertSuccess(wf.execute(context));
+
+    assertEquals("second", context.get("shared"));
+    assertFalse(context.containsKey("stale"));
+  }
+
+  @Test
+  void execute_failOnConflict_returnsFailureAndLeavesContextUntouched() {
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatSets("shared", "first"))
+            .task(WorkflowTestUtils.taskThatSets("shared", "second"))
+            .task(WorkflowTestUtils.taskThatSets("other", 1))
+            .shareContext(false)
+            .mergePolicy(ContextMergePolicy.FAIL_ON_CONFLICT)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowResult result = wf.execute(context);
+
+    WorkflowTestUtils.assertFailed(result);
+    assertInstanceOf(IllegalStateException.class, result.getError());
+    assertFalse(context.containsKey("shared"));
+    assertFalse(context.containsKey("other"));
+  }
+
+  @Test
+  void executeAsync_shutdownOnSuccess_mergesOnlyWinnerWrites() {
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(
+                ctx -> {
+                  ctx.put("loser", true);
+                  throw new IllegalStateException("lost");
+                })
+            .task(WorkflowTestUtils.taskThatSets("winner", true))
+            .shareContext(false)
+            .mergePolicy(ContextMergePolicy.LAST_WRITE_WINS)
+            .joinPolicy(ParallelWorkflow.JoinPolicy.SHUTDOWN_ON_SUCCESS)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowResult result = wf.executeAsync(context).toCompletableFuture().join();
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(Boolean.TRUE, context.get("winner"));
+    assertFalse(context.containsKey("loser"));
+  }
+
+  @Test
+  void executeReactive_lastWriteWins_mergesChildWrites() {
+    ParallelWorkflow wf =
+        ParallelWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatSets("a", 1))
+            .task(WorkflowTestUtils.taskThatSets("b", 2))
+            .shareContext(false)
+            .mergePolicy(ContextMergePolicy.LAST_WRITE_WINS)
+            .build();
+    WorkflowContext context = WorkflowTestUtils.createContext();
+
+    WorkflowResult result = wf.executeReactive(context).block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(1, context.get("a"));
+    assertEquals(2, context.get("b"));
+  }
+
+  @Test
+  void execute_nestedParallelWithSmallCap_completesWithinCap() throws Exception {
+    int cap = 2;
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+    Task leaf =
+        _ -> {
+          maxObserved.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(5);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          running.decrementAndGet();
+          completed.incrementAndGet();
+        };
+
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy(cap)) {
+      ParallelWorkflow.ParallelWorkflowBuilder outer =
+          ParallelWorkflow.builder().name("outer").executionStrategy(strategy);
+      for (int i = 0; i < 3; i++) {
+        outer.workflow(
+            ParallelWorkflow.builder()
+                .name("inner-" + i)
+                .task(leaf)
+                .task(leaf)
+                .task(leaf)
+                .executionStrategy(strategy)
+                .build());
+      }
+      ParallelWorkflow wf = outer.build();
+
+      // Containers holding every permit while waiting on their children used to deadlock here
+      WorkflowResult result =
+          CompletableFuture.supplyAsync(() -> wf.execute(WorkflowTestUtils.createContext()))
+              .get(5, TimeUnit.SECONDS);
+
+      WorkflowTestUtils.assertSuccess(result);
+      assertEquals(9, completed.get());
+      assertTrue(maxObserved.get() <= cap, "observed " + maxObserved.get() + " concurrent leaves");
+    }
+  }
+
+  @Test
+  void executeAsync_failFast_interruptsRunningSibling() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Task sleepThenFail =
+        ctx -> {
+          WorkflowTestUtils.taskThatSleeps(Duration.ofMillis(100)).execute(ctx);
+          throw new IllegalStateException("boom");
+        };
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy()) {
+      ParallelWorkflow wf =
+          ParallelWorkflow.builder()
+              .workflow(WorkflowTestUtils.workflowThatSleepsUntilInterrupted(interrupted))
+              .workflow(new TaskWorkflow(sleepThenFail))
+              .executionStrategy(strategy)
+              .failFast(true)
+              .build();
+
+      WorkflowResult result =
+          wf.executeAsync(WorkflowTestUtils.createContext())
+              .toCompletableFuture()
+              .get(5, TimeUnit.SECONDS);
+
+      WorkflowTestUtils.assertFailed(result);
+      assertTrue(interrupted.await(5, TimeUnit.SECONDS), "sibling was not interrupted");
+    }
+  }
+
+  @Test
+  void executeAsync_cancelled_interruptsChildren() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(2);
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy()) {
+      ParallelWorkflow wf =
+          ParallelWorkflow.builder()
+              .workflow(WorkflowTestUtils.workflowThatSleepsUntilInterrupted(interrupted))
+              .workflow(WorkflowTestUtils.workflowThatSleepsUntilInterrupted(interrupted))
+              .executionStrategy(strategy)
+              .build();
+
+      CompletableFuture<WorkflowResult> future =
+          wf.executeAsync(WorkflowTestUtils.createContext()).toCompletableFuture();
+      new ThreadSleepingSleeper().sleep(Duration.ofMillis(100));
+      future.cancel(true);
+
+      assertTrue(interrupted.await(5, TimeUnit.SECONDS), "children were not interrupted");
     }
   }
 }
@@ -7,13 +7,18 @@ import com.workflow.ratelimit.FixedWindowRateLimiter;
 import com.workflow.ratelimit.RateLimitStrategy;
 import com.workflow.ratelimit.TokenBucketRateLimiter;
 import com.workflow.sleeper.ThreadSleepingSleeper;
+import com.workflow.test.WorkflowTestUtils;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 class RateLimitedWorkflowTest {
 
@@ -439,4 +444,46 @@ class RateLimitedWorkflowTest {
     thread.interrupt(); // Interrupt the thread
     thread.join(1000); // Wait for thread to finish
   }
+
+  @Test
+  void executeAsync_waitsForPermitWithoutBlockingCaller() throws Exception {
+    AtomicInteger executionCount = new AtomicInteger(0);
+    RateLimitedWorkflow workflow =
+        RateLimitedWorkflow.builder()
+            .workflow(new TaskWorkflow(_ -> executionCount.incrementAndGet()))
+            .rateLimitStrategy(new FixedWindowRateLimiter(2, Duration.ofMillis(200)))
+            .build();
+
+    List<CompletableFuture<WorkflowResult>> futures = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      futures.add(workflow.executeAsync(WorkflowTestUtils.createContext()).toCompletableFuture());
+    }
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(2, TimeUnit.SECONDS);
+    assertEquals(4, executionCount.get());
+    for (CompletableFuture<WorkflowResult> future : futures) {
+      WorkflowTestUtils.assertSuccess(future.join());
+    }
+  }
+
+  @Test
+  void executeReactive_waitsForPermitWithoutBlocking() {
+    AtomicInteger executionCount = new AtomicInteger(0);
+    RateLimitedWorkflow workflow =
+        RateLimitedWorkflow.builder()
+            .workflow(new TaskWorkflow(_ -> executionCount.incrementAndGet()))
+            .rateLimitStrategy(new FixedWindowRateLimiter(2, Duration.ofMillis(200)))
+            .build();
+
+    List<WorkflowResult> results =
+        Flux.range(0, 4)
+            .flatMap(_ -> workflow.executeReactive(WorkflowTestUtils.createContext()))
+            .collectList()
+            .block(Duration.ofSeconds(2));
+
+    assertNotNull(results);
+    assertEquals(4, results.size());
+    assertEquals(4, executionCount.get());
+    results.forEach(WorkflowTestUtils::assertSuccess);
+  }
 }
@@ -8,7 +8,9 @@ import com.workflow.saga.SagaStep;
 import com.workflow.task.Task;
 import com.workflow.test.WorkflowTestUtils;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
@@ -512,4 +514,38 @@ class SagaWorkflowTest {
         List.of("action1", "action2", "action3", "action4-fail", "comp3", "comp2", "comp1"),
         executionOrder);
   }
+
+  @Test
+  void executeAsync_stepFails_compensatesInReverseOrder() throws Exception {
+    WorkflowContext ctx = WorkflowTestUtils.createContext();
+    List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+
+    SagaWorkflow saga =
+        SagaWorkflow.builder()
+            .name("AsyncSaga")
+            .step(
+                SagaStep.builder()
+                    .name("Step1")
+                    .action(_ -> executionOrder.add("action1"))
+                    .compensation(_ -> executionOrder.add("comp1"))
+                    .build())
+            .step(
+                SagaStep.builder()
+                    .name("Step2")
+                    .action(_ -> executionOrder.add("action2"))
+                    .compensation(_ -> executionOrder.add("comp2"))
+                    .build())
+            .step(
+                SagaStep.builder()
+                    .name("Step3")
+                    .action(WorkflowTestUtils.taskThatThrows(new RuntimeException("step3")))
+                    .build())
+            .build();
+
+    WorkflowResult result = saga.executeAsync(ctx).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertFailed(result);
+    assertEquals(List.of("action1", "action2", "comp2", "comp1"), executionOrder);
+    assertFalse(ctx.containsKey(SagaWorkflow.SAGA_FAILED_STEP));
+  }
 }
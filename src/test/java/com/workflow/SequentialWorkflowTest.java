@@ -4,11 +4,20 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.workflow.context.WorkflowContext;
 import com.workflow.helper.Workflows;
+import com.workflow.sleeper.ThreadSleepingSleeper;
 import com.workflow.task.NoOpTask;
 import com.workflow.task.Task;
 import com.workflow.task.TaskDescriptor;
 import com.workflow.test.WorkflowTestUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class SequentialWorkflowTest {
@@ -190,4 +199,151 @@ class SequentialWorkflowTest {
     assertEquals(1, subWorkflows.size());
     assertThrows(UnsupportedOperationException.class, () -> subWorkflows.add(w1));
   }
+
+  @Test
+  void executeAsync_runsChildrenInOrderAndStopsAtFirstFailure() throws Exception {
+    WorkflowContext ctx = WorkflowTestUtils.createContext();
+    List<String> order = Collections.synchronizedList(new ArrayList<>());
+    RuntimeException cause = new RuntimeException("second failed");
+
+    SequentialWorkflow wf =
+        Workflows.sequential("seq-async")
+            .task(_ -> order.add("first"))
+            .task(
+                _ -> {
+                  order.add("second");
+                  throw cause;
+                })
+            .task(_ -> order.add("third"))
+            .build();
+
+    WorkflowResult result = wf.executeAsync(ctx).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(cause, result.getError().getCause());
+    assertEquals(List.of("first", "second"), order);
+  }
+
+  @Test
+  void executeAsync_manyAlreadyCompletedChildren_doesNotOverflowTheStack() throws Exception {
+    WorkflowResult success = WorkflowResult.builder().status(WorkflowStatus.SUCCESS).build();
+    AtomicInteger runs = new AtomicInteger();
+    Workflow completed =
+        new Workflow() {
+          @Override
+          public WorkflowResult execute(WorkflowContext context) {
+            return success;
+          }
+
+          @Override
+          public CompletionStage<WorkflowResult> executeAsync(WorkflowContext context) {
+            runs.incrementAndGet();
+            return CompletableFuture.completedFuture(success);
+          }
+
+          @Override
+          public String getName() {
+            return "completed";
+          }
+        };
+    SequentialWorkflow.SequentialWorkflowBuilder builder = SequentialWorkflow.builder();
+    for (int i = 0; i < 50_000; i++) {
+      builder.workflow(completed);
+    }
+
+    WorkflowResult result =
+        builder
+            .build()
+            .executeAsync(WorkflowTestUtils.createContext())
+            .toCompletableFuture()
+            .get(5, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(50_000, runs.get());
+  }
+
+  @Test
+  void executeAsync_allChildrenSucceed_returnsSuccess() throws Exception {
+    WorkflowContext ctx = WorkflowTestUtils.createContext();
+
+    SequentialWorkflow wf =
+        Workflows.sequential("seq-async-ok")
+            .task(WorkflowTestUtils.taskThatSets("a", 1))
+            .task(WorkflowTestUtils.taskThatSets("b", 2))
+            .build();
+
+    WorkflowResult result = wf.executeAsync(ctx).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(1, ctx.get("a"));
+    assertEquals(2, ctx.get("b"));
+  }
+
+  @Test
+  void executeReactive_allChildrenSucceed_runsInOrder() {
+    WorkflowContext ctx = WorkflowTestUtils.createContext();
+    List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+    SequentialWorkflow wf =
+        SequentialWorkflow.builder()
+            .name("seq-reactive")
+            .task(_ -> order.add("first"))
+            .task(_ -> order.add("second"))
+            .task(_ -> order.add("third"))
+            .build();
+
+    WorkflowResult result = wf.executeReactive(ctx).block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(List.of("first", "second", "third"), order);
+  }
+
+  @Test
+  void executeReactive_childFails_stopsSequence() {
+    RuntimeException cause = new RuntimeException("reactive child failed");
+    AtomicInteger afterFailure = new AtomicInteger();
+
+    SequentialWorkflow wf =
+        SequentialWorkflow.builder()
+            .task(WorkflowTestUtils.taskThatSets("a", 1))
+            .task(WorkflowTestUtils.taskThatThrows(cause))
+            .task(_ -> afterFailure.incrementAndGet())
+            .build();
+
+    WorkflowResult result =
+        wf.executeReactive(WorkflowTestUtils.createContext()).block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertFailed(result);
+    assertSame(cause, result.getError().getCause());
+    assertEquals(0, afterFailure.get());
+  }
+
+  @Test
+  void executeReactive_emptyWorkflow_returnsSuccess() {
+    SequentialWorkflow wf = SequentialWorkflow.builder().build();
+
+    WorkflowTestUtils.assertSuccess(
+        wf.executeReactive(WorkflowTestUtils.createContext()).block(Duration.ofSeconds(1)));
+  }
+
+  @Test
+  void executeAsync_cancelled_interruptsRunningChildAndSkipsTheRest() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicInteger laterRuns = new AtomicInteger();
+    SequentialWorkflow wf =
+        SequentialWorkflow.builder()
+            .name("seq-cancel")
+            .workflow(WorkflowTestUtils.workflowThatSleepsUntilInterrupted(interrupted))
+            .task(_ -> laterRuns.incrementAndGet())
+            .build();
+
+    CompletableFuture<WorkflowResult> future =
+        wf.executeAsync(WorkflowTestUtils.createContext()).toCompletableFuture();
+    new ThreadSleepingSleeper().sleep(Duration.ofMillis(100));
+    future.cancel(true);
+
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS), "running child was not interrupted");
+    new ThreadSleepingSleeper().sleep(Duration.ofMillis(100));
+    assertEquals(0, laterRuns.get());
+  }
 }
@@ -9,6 +9,7 @@ import com.workflow.listener.WorkflowListeners;
 import com.workflow.task.Task;
 import com.workflow.task.TaskDescriptor;
 import com.workflow.task.executor.TaskExecutor;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 
 class TaskWorkflowTest {
@@ -185,4 +186,17 @@ class TaskWorkflowTest {
       assertTrue(true);
     }
   }
+
+  @Test
+  void executeAsync_cancelled_cancelsTaskExecution() {
+    CompletableFuture<Void> pending = new CompletableFuture<>();
+    TaskExecutor executor = mock(TaskExecutor.class);
+    TaskDescriptor descriptor = TaskDescriptor.builder().task(_ -> {}).build();
+    when(executor.executeAsync(eq(descriptor), any(WorkflowContext.class))).thenReturn(pending);
+    TaskWorkflow wf = new TaskWorkflow(descriptor, executor);
+
+    wf.executeAsync(new WorkflowContext()).toCompletableFuture().cancel(true);
+
+    assertTrue(pending.isCancelled());
+  }
 }
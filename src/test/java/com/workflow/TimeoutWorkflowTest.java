@@ -7,9 +7,13 @@ import com.workflow.context.WorkflowContext;
 import com.workflow.exception.TaskTimeoutException;
 import com.workflow.helper.Workflows;
 import com.workflow.sleeper.ThreadSleepingSleeper;
+import com.workflow.test.WorkflowTestUtils;
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -298,13 +302,161 @@ class TimeoutWorkflowTest {
   void testDefaultExecutor_isUsedWhenNotSpecified() {
     TimeoutWorkflow workflow =
         TimeoutWorkflow.builder().workflow(mockInnerWorkflow).timeoutMs(100).build();
+    AtomicReference<Thread> innerThread = new AtomicReference<>();
 
-    when(mockInnerWorkflow.execute(any())).thenReturn(mockSuccessResult);
+    when(mockInnerWorkflow.execute(any()))
+        .thenAnswer(
+            _ -> {
+              innerThread.set(Thread.currentThread());
+              return mockSuccessResult;
+            });
 
     WorkflowContext context = new WorkflowContext();
     WorkflowResult result = workflow.execute(context);
 
-    // Verify it executes successfully with default executor
+    // Verify it ran on the shared default strategy's virtual threads, not on a pool of its own
     assertNotNull(result);
+    assertTrue(innerThread.get().isVirtual());
+  }
+
+  @Test
+  void executeAsync_innerExceedsTimeout_returnsTimeoutFailure() throws Exception {
+    TimeoutWorkflow timeoutWorkflow =
+        TimeoutWorkflow.builder()
+            .workflow(new TaskWorkflow(WorkflowTestUtils.taskThatSleeps(Duration.ofMillis(500))))
+            .timeoutMs(50)
+            .build();
+
+    WorkflowResult result =
+        timeoutWorkflow
+            .executeAsync(WorkflowTestUtils.createContext())
+            .toCompletableFuture()
+            .get(1, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertFailed(result);
+    assertInstanceOf(TaskTimeoutException.class, result.getError());
+  }
+
+  @Test
+  void executeAsync_innerCompletesInTime_returnsInnerResult() throws Exception {
+    WorkflowContext context = WorkflowTestUtils.createContext();
+    TimeoutWorkflow timeoutWorkflow =
+        TimeoutWorkflow.builder()
+            .workflow(new TaskWorkflow(WorkflowTestUtils.taskThatSets("done", true)))
+            .timeoutMs(1000)
+            .build();
+
+    WorkflowResult result =
+        timeoutWorkflow.executeAsync(context).toCompletableFuture().get(2, TimeUnit.SECONDS);
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(true, context.get("done"));
+  }
+
+  @Test
+  void executeReactive_innerExceedsTimeout_returnsTimeoutFailure() {
+    TimeoutWorkflow timeoutWorkflow =
+        TimeoutWorkflow.builder()
+            .workflow(new TaskWorkflow(WorkflowTestUtils.taskThatSleeps(Duration.ofMillis(500))))
+            .timeoutMs(50)
+            .build();
+
+    WorkflowResult result =
+        timeoutWorkflow
+            .executeReactive(WorkflowTestUtils.createContext())
+            .block(Duration.ofSeconds(1));
+
+    WorkflowTestUtils.assertFailed(result);
+    assertInstanceOf(TaskTimeoutException.class, result.getError());
+  }
+
+  @Test
+  void executeReactive_innerCompletesInTime_returnsInnerResult() {
+    WorkflowContext context = WorkflowTestUtils.createContext();
+    TimeoutWorkflow timeoutWorkflow =
+        TimeoutWorkflow.builder()
+            .workflow(new TaskWorkflow(WorkflowTestUtils.taskThatSets("done", true)))
+            .timeoutMs(1000)
+            .build();
+
+    WorkflowResult result = timeoutWorkflow.executeReactive(context).block(Duration.ofSeconds(2));
+
+    WorkflowTestUtils.assertSuccess(result);
+    assertEquals(true, context.get("done"));
+  }
+
+  @Test
+  void execute_runOnCallingThread_runsInnerWorkflowOnCallingThread() {
+    AtomicReference<Thread> innerThread = new AtomicReference<>();
+    TimeoutWorkflow timeoutWorkflow =
+        TimeoutWorkflow.builder()
+            .workflow(new TaskWorkflow(_ -> innerThread.set(Thread.currentThread())))
+            .timeoutMs(1000)
+            .runOnCallingThread(true)
+            .build();
+
+    WorkflowTestUtils.assertSuccess(timeoutWorkflow.execute(WorkflowTestUtils.createContext()));
+
+    assertSame(Thread.currentThread(), innerThread.get());
+  }
+
+  @Test
+  void execute_runOnCallingThread_timeoutInterruptsInnerWorkflowWithoutLeakingInterrupt() {
+    TimeoutWorkflow timeoutWorkflow =
+        TimeoutWorkflow.builder()
+            .workflow(new TaskWorkflow(WorkflowTestUtils.taskThatSleeps(Duration.ofSeconds(5))))
+            .timeoutMs(50)
+            .runOnCallingThread(true)
+            .build();
+    long start = System.nanoTime();
+
+    WorkflowResult result = timeoutWorkflow.execute(WorkflowTestUtils.createContext());
+
+    WorkflowTestUtils.assertFailed(result);
+    assertInstanceOf(TaskTimeoutException.class, result.getError());
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void execute_byDefault_boundsInnerWorkflowThatIgnoresInterrupts() {
+    TimeoutWorkflow timeoutWorkflow =
+        TimeoutWorkflow.builder()
+            .workflow(
+                new TaskWorkflow(
+                    _ -> {
+                      long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1000);
+                      while (System.nanoTime() < end) {
+                        Thread.onSpinWait(); // Ignores interruption
+                      }
+                    }))
+            .timeoutMs(50)
+            .build();
+    long start = System.nanoTime();
+
+    WorkflowResult result = timeoutWorkflow.execute(WorkflowTestUtils.createContext());
+
+    WorkflowTestUtils.assertFailed(result);
+    assertInstanceOf(TaskTimeoutException.class, result.getError());
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 800);
+  }
+
+  @Test
+  void executeAsync_innerExceedsTimeout_interruptsInnerWorkflow() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    TimeoutWorkflow timeoutWorkflow =
+        TimeoutWorkflow.builder()
+            .workflow(WorkflowTestUtils.workflowThatSleepsUntilInterrupted(interrupted))
+            .timeoutMs(50)
+            .build();
+
+    WorkflowResult result =
+        timeoutWorkflow
+            .executeAsync(WorkflowTestUtils.createContext())
+            .toCompletableFuture()
+            .get(1, TimeUnit.SECONDS);
+
+    assertInstanceOf(TaskTimeoutException.class, result.getError());
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS), "inner workflow was not interrupted");
   }
 }
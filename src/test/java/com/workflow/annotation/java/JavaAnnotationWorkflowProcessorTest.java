@@ -570,4 +570,33 @@ class JavaAnnotationWorkflowProcessorTest {
           processor.buildWorkflow(FinalFieldWorkflow.class);
         });
   }
+
+  @Test
+  void testWorkflowRefIsBuiltOncePerProcessor() {
+    ParentWorkflowWithField first = new ParentWorkflowWithField();
+    ParentWorkflowWithField second = new ParentWorkflowWithField();
+    ParentWorkflowWithField otherProcessor = new ParentWorkflowWithField();
+    ParentWorkflowWithField afterClear = new ParentWorkflowWithField();
+
+    processor.buildWorkflow(first);
+    processor.buildWorkflow(second);
+    new JavaAnnotationWorkflowProcessor().buildWorkflow(otherProcessor);
+    processor.clearWorkflowRefCache();
+    processor.buildWorkflow(afterClear);
+
+    assertSame(first.getInjectedChildWorkflow(), second.getInjectedChildWorkflow());
+    assertNotSame(first.getInjectedChildWorkflow(), otherProcessor.getInjectedChildWorkflow());
+    assertNotSame(first.getInjectedChildWorkflow(), afterClear.getInjectedChildWorkflow());
+  }
+
+  @Test
+  void testRepeatedBuildsOfSameClass() {
+    Workflow first = processor.buildWorkflow(OrderedWorkflowDefinition.class);
+    Workflow second = processor.buildWorkflow(OrderedWorkflowDefinition.class);
+
+    // Class metadata is cached, but each build returns a new workflow
+    assertNotSame(first, second);
+    assertEquals(first.getName(), second.getName());
+    assertEquals(WorkflowStatus.SUCCESS, second.execute(new WorkflowContext()).getStatus());
+  }
 }
@@ -10,6 +10,7 @@ import com.workflow.annotation.WorkflowAnnotation;
 import com.workflow.annotation.WorkflowMethod;
 import com.workflow.annotation.WorkflowRef;
 import com.workflow.context.WorkflowContext;
+import com.workflow.exception.CircularDependencyException;
 import com.workflow.helper.WorkflowResults;
 import com.workflow.task.Task;
 import java.lang.reflect.Method;
@@ -325,4 +326,40 @@ class AnnotationWorkflowProcessorTest {
       };
     }
   }
+
+  @Test
+  void shouldCacheExtractedWorkflowElements() {
+    List<WorkflowElement> first = processor.extractWorkflowElements(WorkflowWithElements.class);
+    List<WorkflowElement> second =
+        new TestAnnotationWorkflowProcessor().extractWorkflowElements(WorkflowWithElements.class);
+
+    assertSame(first, second);
+    assertThrows(UnsupportedOperationException.class, first::clear);
+  }
+
+  @Test
+  void shouldReuseWorkflowRefParameterWorkflows() throws NoSuchMethodException {
+    Method method =
+        WorkflowWithRefParameters.class.getDeclaredMethod("methodWithRefs", Workflow.class);
+
+    Workflow first = processor.buildWorkflowRefParameterMap(method).get("arg0");
+    Workflow second = processor.buildWorkflowRefParameterMap(method).get("arg0");
+    processor.clearWorkflowRefCache();
+    Workflow afterClear = processor.buildWorkflowRefParameterMap(method).get("arg0");
+
+    assertSame(first, second);
+    assertNotSame(first, afterClear);
+  }
+
+  @Test
+  void shouldCacheCircularDependencyCheckOnlyOnSuccess() {
+    assertDoesNotThrow(() -> processor.validateNoDependencies(WorkflowWithRefs.class));
+    assertDoesNotThrow(() -> processor.validateNoDependencies(WorkflowWithRefs.class));
+    assertThrows(
+        CircularDependencyException.class,
+        () -> processor.validateNoDependencies(CircularWorkflowA.class));
+    assertThrows(
+        CircularDependencyException.class,
+        () -> processor.validateNoDependencies(CircularWorkflowA.class));
+  }
 }
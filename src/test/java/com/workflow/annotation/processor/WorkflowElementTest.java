@@ -252,5 +252,20 @@ class WorkflowElementTest {
     public Workflow throwException() {
       throw new RuntimeException("Test exception");
     }
+
+    public String greet(String greeting, int times) {
+      return greeting + " x" + times;
+    }
+  }
+
+  @Test
+  void shouldInvokeWithArguments() throws ReflectiveOperationException {
+    TestWorkflowClass instance = new TestWorkflowClass();
+    Method method = TestWorkflowClass.class.getMethod("greet", String.class, int.class);
+    WorkflowElement element =
+        new WorkflowElement("greet", 1, method, WorkflowElement.ElementType.WORKFLOW, null);
+
+    assertEquals("hello x2", element.invoke(instance, "hello", 2));
+    assertEquals("again x3", element.invoke(instance, "again", 3));
   }
 }
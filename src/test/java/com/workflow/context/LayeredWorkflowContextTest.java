@@ -0,0 +1,258 @@
+package com.workflow.context;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LayeredWorkflowContextTest {
+
+  private WorkflowContext parent;
+
+  @BeforeEach
+  void setUp() {
+    parent = new WorkflowContext();
+    parent.put("a", 1);
+    parent.put("b", 2);
+  }
+
+  @Test
+  void fork_readsFallThroughToParent() {
+    LayeredWorkflowContext fork = parent.fork();
+
+    assertEquals(1, fork.get("a"));
+    assertTrue(fork.containsKey("b"));
+    assertSame(parent, fork.getParent());
+    assertSame(parent.getListeners(), fork.getListeners());
+  }
+
+  @Test
+  void put_isVisibleInForkOnly() {
+    LayeredWorkflowContext fork = parent.fork();
+
+    fork.put("a", 10);
+    fork.put("c", 3);
+
+    assertEquals(10, fork.get("a"));
+    assertEquals(3, fork.getTyped("c", Integer.class));
+    assertEquals(1, parent.get("a"));
+    assertFalse(parent.containsKey("c"));
+    assertTrue(fork.isModified("a"));
+    assertFalse(fork.isModified("b"));
+  }
+
+  @Test
+  void remove_hidesParentEntryWithoutTouchingParent() {
+    LayeredWorkflowContext fork = parent.fork();
+
+    assertEquals(1, fork.remove("a"));
+
+    assertNull(fork.get("a"));
+    assertFalse(fork.containsKey("a"));
+    assertEquals("fallback", fork.get("a", "fallback"));
+    assertEquals(1, parent.get("a"));
+  }
+
+  @Test
+  void put_afterRemove_restoresKeyInFork() {
+    LayeredWorkflowContext fork = parent.fork();
+
+    fork.remove("a");
+    fork.put("a", 5);
+
+    assertEquals(5, fork.get("a"));
+    assertTrue(fork.containsKey("a"));
+  }
+
+  @Test
+  void parentWrites_afterFork_areVisibleForUntouchedKeys() {
+    LayeredWorkflowContext fork = parent.fork();
+    fork.put("a", 10);
+
+    parent.put("a", 100);
+    parent.put("b", 200);
+
+    assertEquals(10, fork.get("a"));
+    assertEquals(200, fork.get("b"));
+  }
+
+  @Test
+  void typedKeys_workThroughLayer() {
+    TypedKey<String> key = TypedKey.of("name", String.class);
+    parent.put(key, "parent");
+    LayeredWorkflowContext fork = parent.fork();
+
+    assertEquals("parent", fork.get(key));
+    fork.put(key, "fork");
+    assertEquals("fork", fork.get(key));
+    assertEquals("fork", fork.remove(key));
+    assertNull(fork.get(key));
+    assertEquals("parent", parent.get(key));
+  }
+
+  @Test
+  void mergeBack_publishesWritesAndRemovals() {
+    LayeredWorkflowContext fork = parent.fork();
+    fork.put("a", 10);
+    fork.put("c", 3);
+    fork.remove("b");
+
+    fork.mergeBack();
+
+    assertEquals(10, parent.get("a"));
+    assertEquals(3, parent.get("c"));
+    assertFalse(parent.containsKey("b"));
+  }
+
+  @Test
+  void copy_flattensIntoIndependentContext() {
+    LayeredWorkflowContext fork = parent.fork();
+    fork.put("c", 3);
+    fork.remove("a");
+
+    WorkflowContext copy = fork.copy();
+    parent.put("b", 200);
+
+    assertFalse(copy instanceof LayeredWorkflowContext);
+    assertFalse(copy.containsKey("a"));
+    assertEquals(2, copy.get("b"));
+    assertEquals(3, copy.get("c"));
+  }
+
+  @Test
+  void nestedFork_readsThroughChainAndMergesOneLevel() {
+    LayeredWorkflowContext child = parent.fork();
+    child.put("c", 3);
+    LayeredWorkflowContext grandChild = child.fork();
+    grandChild.put("d", 4);
+
+    assertEquals(1, grandChild.get("a"));
+    assertEquals(3, grandChild.get("c"));
+
+    grandChild.mergeBack();
+    assertEquals(4, child.get("d"));
+    assertFalse(parent.containsKey("d"));
+  }
+
+  @Test
+  void scope_onFork_writesScopedKeysIntoLayer() {
+    LayeredWorkflowContext fork = parent.fork();
+
+    fork.scope("user").put("id", 7);
+
+    assertEquals(7, fork.get("user.id"));
+    assertFalse(parent.containsKey("user.id"));
+  }
+
+  @Test
+  void fork_ofScopedContext_mergesBackIntoScope() {
+    WorkflowContext scoped = parent.scope("user");
+    LayeredWorkflowContext fork = scoped.fork();
+
+    fork.put("id", 7);
+    fork.mergeBack();
+
+    assertEquals(7, parent.get("user.id"));
+  }
+
+  @Test
+  void mergePolicy_discard_leavesParentUnchanged() {
+    LayeredWorkflowContext fork = parent.fork();
+    fork.put("c", 3);
+
+    ContextMergePolicy.DISCARD.merge(List.of(fork));
+
+    assertFalse(parent.containsKey("c"));
+  }
+
+  @Test
+  void mergePolicy_lastWriteWins_appliesInOrder() {
+    LayeredWorkflowContext first = parent.fork();
+    LayeredWorkflowContext second = parent.fork();
+    first.put("a", 10);
+    second.put("a", 20);
+
+    ContextMergePolicy.LAST_WRITE_WINS.merge(List.of(first, second));
+
+    assertEquals(20, parent.get("a"));
+  }
+
+  @Test
+  void mergePolicy_failOnConflict_rejectsDifferingValuesAndPublishesNothing() {
+    LayeredWorkflowContext first = parent.fork();
+    LayeredWorkflowContext second = parent.fork();
+    first.put("c", 3);
+    first.put("a", 10);
+    second.remove("a");
+
+    List<LayeredWorkflowContext> forks = List.of(first, second);
+    ContextMergePolicy policy = ContextMergePolicy.FAIL_ON_CONFLICT;
+    assertThrows(IllegalStateException.class, () -> policy.merge(forks));
+
+    assertEquals(1, parent.get("a"));
+    assertFalse(parent.containsKey("c"));
+  }
+
+  @Test
+  void mergePolicy_failOnConflict_acceptsEqualValues() {
+    LayeredWorkflowContext first = parent.fork();
+    LayeredWorkflowContext second = parent.fork();
+    first.put("c", "same");
+    second.put("c", "same");
+
+    ContextMergePolicy.FAIL_ON_CONFLICT.merge(List.of(first, second));
+
+    assertEquals("same", parent.get("c"));
+  }
+
+  @Test
+  void typedKeys_followLayerSemantics() {
+    TypedKey<Integer> a = TypedKey.of("a", Integer.class);
+    TypedKey<Integer> c = TypedKey.of("c", Integer.class);
+    LayeredWorkflowContext fork = parent.fork();
+
+    assertEquals(1, fork.get(a));
+    fork.put(c, 3);
+    assertEquals(1, fork.remove(a));
+
+    assertNull(fork.get(a));
+    assertFalse(fork.containsKey("a"));
+    assertTrue(fork.isModified("c"));
+    assertNull(parent.get(c));
+
+    fork.mergeBack();
+    assertEquals(3, parent.get(c));
+    assertFalse(parent.containsKey("a"));
+  }
+
+  @Test
+  void forkOfScope_readsTypedKeysThroughScope() {
+    TypedKey<String> user = TypedKey.of("user", String.class);
+    WorkflowContext scoped = parent.scope("stage");
+    scoped.put(user, "alice");
+
+    LayeredWorkflowContext fork = new LayeredWorkflowContext(scoped);
+
+    assertEquals("alice", fork.get(user));
+    assertEquals("alice", fork.getStrict(user));
+  }
+
+  @Test
+  void forkOfScope_entriesKeepScopePrefix() {
+    WorkflowContext scoped = parent.scope("user");
+    scoped.put("id", 7);
+    LayeredWorkflowContext fork = scoped.fork();
+    fork.put("name", "alice");
+    fork.remove("id");
+
+    Map<String, Object> entries = fork.entries();
+
+    assertEquals("alice", entries.get("user.name"));
+    assertFalse(entries.containsKey("user.id"));
+    assertFalse(entries.containsKey("name"));
+    assertEquals(1, entries.get("a"));
+    assertEquals(7, parent.get("user.id"));
+  }
+}
@@ -303,4 +303,66 @@ class ScopedWorkflowContextTest {
 
     assertEquals(defaultList, result);
   }
+
+  @Test
+  void typedKeys_resolveToScopedNamesInDelegate() {
+    TypedKey<Integer> count = TypedKey.of("count", Integer.class);
+    ScopedWorkflowContext scoped = new ScopedWorkflowContext(parentContext, NAMESPACE);
+
+    scoped.put(count, 1);
+    scoped.put(count, 2);
+
+    assertEquals(2, scoped.get(count));
+    assertEquals(2, parentContext.get(NAMESPACE + ".count"));
+    assertNull(parentContext.get(count));
+    assertEquals(2, scoped.remove(count));
+    assertFalse(parentContext.containsKey(NAMESPACE + ".count"));
+  }
+
+  @Test
+  void manyDistinctKeys_stayScoped() {
+    ScopedWorkflowContext scoped = new ScopedWorkflowContext(parentContext, NAMESPACE);
+
+    for (int i = 0; i < 2_000; i++) {
+      scoped.put("k" + i, i);
+    }
+
+    assertEquals(0, parentContext.get(NAMESPACE + ".k0"));
+    assertEquals(1_999, scoped.get("k1999"));
+    assertEquals(1_999, parentContext.get(NAMESPACE + ".k1999"));
+  }
+
+  @Test
+  void typedKeys_useSlotsOfTheScopedName() {
+    TypedKey<String> user = TypedKey.of("scopedTest.user", String.class);
+    WorkflowContext nested = parentContext.scope("scopedTestOuter").scope("inner");
+
+    nested.put(user, "alice");
+
+    assertEquals("alice", nested.get(user));
+    assertEquals("alice", nested.get("scopedTest.user"));
+    assertEquals("alice", parentContext.get("scopedTestOuter.inner.scopedTest.user"));
+    assertTrue(SlotRegistry.slotOf("scopedTestOuter.inner.scopedTest.user") >= 0);
+    assertEquals("alice", nested.remove(user));
+    assertFalse(parentContext.containsKey("scopedTestOuter.inner.scopedTest.user"));
+  }
+
+  @Test
+  void copyWithFilter_keepsOnlyThisScopesKeysUnprefixed() {
+    parentContext.put("root", 1);
+    parentContext.put("other.key", 2);
+    WorkflowContext scoped = parentContext.scope("outer").scope("inner");
+    scoped.put("kept", 3);
+    scoped.put("dropped", 4);
+    parentContext.put("outer.sibling", 5);
+
+    WorkflowContext copy = scoped.copy(key -> !key.equals("dropped"));
+
+    assertEquals(3, copy.get("kept"));
+    assertFalse(copy.containsKey("dropped"));
+    assertFalse(copy.containsKey("root"));
+    assertFalse(copy.containsKey("other.key"));
+    assertFalse(copy.containsKey("sibling"));
+    assertFalse(copy.containsKey("outer.inner.kept"));
+  }
 }
@@ -0,0 +1,137 @@
+package com.workflow.context;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class SlotTableTest {
+
+  @Test
+  void slotFor_sameName_returnsSameSlot() {
+    int slot = SlotRegistry.slotFor("slotTableTest.shared");
+
+    assertEquals(slot, SlotRegistry.slotFor("slotTableTest.shared"));
+    assertEquals(slot, SlotRegistry.slotOf("slotTableTest.shared"));
+    assertEquals("slotTableTest.shared", SlotRegistry.nameOf(slot));
+    assertEquals(slot, TypedKey.of("slotTableTest.shared", Integer.class).slot());
+  }
+
+  @Test
+  void slotOf_unregisteredName_returnsMinusOne() {
+    assertEquals(-1, SlotRegistry.slotOf("slotTableTest.neverRegistered"));
+  }
+
+  @Test
+  void getAndSet_returnsPreviousValueAndNullClears() {
+    SlotTable table = new SlotTable();
+    int slot = SlotRegistry.slotFor("slotTableTest.value");
+
+    assertNull(table.getAndSet(slot, "first"));
+    assertEquals("first", table.getAndSet(slot, "second"));
+    assertEquals("second", table.getAndSet(slot, null));
+    assertNull(table.get(slot));
+  }
+
+  @Test
+  void getAndSet_slotRegisteredAfterCreation_growsTable() {
+    SlotTable table = new SlotTable();
+    int existing = SlotRegistry.slotFor("slotTableTest.beforeGrowth");
+    table.getAndSet(existing, "kept");
+
+    int late = -1;
+    for (int i = 0; i < 64; i++) {
+      late = SlotRegistry.slotFor("slotTableTest.late" + i);
+    }
+    table.getAndSet(late, "late");
+
+    assertEquals("kept", table.get(existing));
+    assertEquals("late", table.get(late));
+  }
+
+  @Test
+  void copyConstructor_isIndependentSnapshot() {
+    SlotTable table = new SlotTable();
+    int slot = SlotRegistry.slotFor("slotTableTest.copied");
+    table.getAndSet(slot, "original");
+
+    SlotTable copy = new SlotTable(table);
+    table.getAndSet(slot, "changed");
+
+    assertEquals("original", copy.get(slot));
+  }
+
+  @Test
+  void forEach_visitsOnlyOccupiedSlots() {
+    SlotTable table = new SlotTable();
+    int first = SlotRegistry.slotFor("slotTableTest.first");
+    int second = SlotRegistry.slotFor("slotTableTest.second");
+    table.getAndSet(first, 1);
+    table.getAndSet(second, 2);
+    table.getAndSet(second, null);
+
+    Map<Integer, Object> seen = new HashMap<>();
+    table.forEach((value, slot) -> seen.put(slot, value));
+
+    assertEquals(Map.of(first, 1), seen);
+  }
+
+  @Test
+  void getAndSet_concurrentWritesDuringGrowth_areNotLost() throws Exception {
+    SlotTable table = new SlotTable();
+    int threads = 8;
+    int keysPerThread = 50;
+    List<List<Integer>> slots = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      List<Integer> own = new ArrayList<>();
+      for (int k = 0; k < keysPerThread; k++) {
+        own.add(SlotRegistry.slotFor("slotTableTest.concurrent." + t + "." + k));
+      }
+      slots.add(own);
+    }
+
+    CountDownLatch start = new CountDownLatch(1);
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (List<Integer> own : slots) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  own.forEach(slot -> table.getAndSet(slot, slot));
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    slots.forEach(own -> own.forEach(slot -> assertEquals(slot, table.get(slot))));
+  }
+
+  @Test
+  void stringAccess_withoutTypedWrites_staysOnMap() {
+    TypedKey<Integer> counter = TypedKey.of("slotTableTest.counter", Integer.class);
+    WorkflowContext context = new WorkflowContext();
+
+    context.put("slotTableTest.counter", 1);
+    assertEquals(1, context.get(counter));
+
+    context.put(counter, 2);
+    assertEquals(2, context.get("slotTableTest.counter"));
+
+    context.put("slotTableTest.counter", 3);
+    assertEquals(3, context.get(counter));
+    assertEquals(3, context.remove("slotTableTest.counter"));
+    assertNull(context.get(counter));
+  }
+}
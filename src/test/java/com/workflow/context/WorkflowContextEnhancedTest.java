@@ -521,4 +521,53 @@ class WorkflowContextEnhancedTest {
     assertEquals("value", context.remove("key"));
     assertNull(context.remove("key"));
   }
+
+  // ==== Slot-Backed TypedKey Tests ====
+
+  @Test
+  void typedKeyAndStringAccess_shareTheSameEntry() {
+    TypedKey<Integer> attempts = TypedKey.of("slotAttempts", Integer.class);
+
+    context.put(attempts, 1);
+    assertEquals(1, context.get("slotAttempts"));
+    assertTrue(context.containsKey("slotAttempts"));
+
+    context.put("slotAttempts", 2);
+    assertEquals(2, context.get(attempts));
+
+    assertEquals(2, context.remove("slotAttempts"));
+    assertNull(context.get(attempts));
+    assertFalse(context.containsKey("slotAttempts"));
+  }
+
+  @Test
+  void stringValueStoredBeforeTypedKeyExists_remainsReachable() {
+    context.put("slotRegisteredLate", "before");
+    TypedKey<String> late = TypedKey.of("slotRegisteredLate", String.class);
+
+    assertEquals("before", context.get(late));
+
+    context.put(late, "after");
+    assertEquals("after", context.get("slotRegisteredLate"));
+    assertEquals("after", context.copy().get(late));
+
+    assertEquals("after", context.remove(late));
+    assertNull(context.get("slotRegisteredLate"));
+  }
+
+  @Test
+  void copy_includesTypedValuesAndIsIndependent() {
+    TypedKey<String> status = TypedKey.of("slotStatus", String.class);
+    context.put(status, "running");
+    context.put("plain", "value");
+
+    WorkflowContext copy = context.copy();
+    context.put(status, "done");
+    WorkflowContext filtered = context.copy(key -> key.startsWith("slot"));
+
+    assertEquals("running", copy.get(status));
+    assertEquals("value", copy.get("plain"));
+    assertEquals("done", filtered.get(status));
+    assertFalse(filtered.containsKey("plain"));
+  }
 }
@@ -70,8 +70,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
               new WorkflowStepMetadata("Step1", "First step", "ValidationWorkflow", 1),
               new WorkflowStepMetadata("Step2", "Second step", "ProcessingWorkflow", 2));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("ValidationWorkflow")).thenReturn(Optional.of(mockWorkflow1));
       when(mockRegistry.getWorkflow("ProcessingWorkflow")).thenReturn(Optional.of(mockWorkflow2));
 
@@ -83,8 +83,7 @@ class DatabaseWorkflowProcessorRobustnessTest {
       assertInstanceOf(ParallelWorkflow.class, result);
       assertEquals(workflowName, result.getName());
 
-      verify(mockRepository).getWorkflow(workflowName);
-      verify(mockRepository).getWorkflowSteps(workflowName);
+      verify(mockRepository).getWorkflowTree(workflowName);
       verify(mockRegistry).getWorkflow("ValidationWorkflow");
       verify(mockRegistry).getWorkflow("ProcessingWorkflow");
     }
@@ -100,8 +99,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
       List<WorkflowStepMetadata> steps =
           List.of(new WorkflowStepMetadata("Step1", "First step", "TaskWorkflow1", 1));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("TaskWorkflow1")).thenReturn(Optional.of(mockWorkflow1));
 
       // When
@@ -127,8 +126,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
               new WorkflowStepMetadata("Step3", "Transformation", "TransformWorkflow", 3),
               new WorkflowStepMetadata("Step4", "Notification", "NotificationWorkflow", 4));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("ValidationWorkflow")).thenReturn(Optional.of(mockWorkflow1));
       when(mockRegistry.getWorkflow("ProcessingWorkflow")).thenReturn(Optional.of(mockWorkflow2));
       when(mockRegistry.getWorkflow("TransformWorkflow")).thenReturn(Optional.of(mockWorkflow3));
@@ -163,8 +162,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
               new WorkflowStepMetadata("Step1", "First step", "ValidationWorkflow", 1),
               new WorkflowStepMetadata("Step2", "Second step", "ProcessingWorkflow", 2));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("ValidationWorkflow")).thenReturn(Optional.of(mockWorkflow1));
       when(mockRegistry.getWorkflow("ProcessingWorkflow")).thenReturn(Optional.of(mockWorkflow2));
 
@@ -176,8 +175,7 @@ class DatabaseWorkflowProcessorRobustnessTest {
       assertInstanceOf(SequentialWorkflow.class, result);
       assertEquals(workflowName, result.getName());
 
-      verify(mockRepository).getWorkflow(workflowName);
-      verify(mockRepository).getWorkflowSteps(workflowName);
+      verify(mockRepository).getWorkflowTree(workflowName);
       verify(mockRegistry).getWorkflow("ValidationWorkflow");
       verify(mockRegistry).getWorkflow("ProcessingWorkflow");
     }
@@ -192,8 +190,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
       List<WorkflowStepMetadata> steps =
           List.of(new WorkflowStepMetadata("Step1", "Only step", "SingleTaskWorkflow", 1));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("SingleTaskWorkflow")).thenReturn(Optional.of(mockWorkflow1));
 
       // When
@@ -216,7 +214,7 @@ class DatabaseWorkflowProcessorRobustnessTest {
       // Given
       String workflowName = "NonExistentWorkflow";
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.empty());
+      when(mockRepository.getWorkflowTree(workflowName)).thenReturn(List.of());
 
       // When & Then
       WorkflowBuildException exception =
@@ -225,8 +223,7 @@ class DatabaseWorkflowProcessorRobustnessTest {
       assertEquals("Workflow not found in database: " + workflowName, exception.getMessage());
       assertInstanceOf(IllegalArgumentException.class, exception.getCause());
 
-      verify(mockRepository).getWorkflow(workflowName);
-      verify(mockRepository, never()).getWorkflowSteps(anyString());
+      verify(mockRepository).getWorkflowTree(workflowName);
     }
 
     @Test
@@ -237,8 +234,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
       WorkflowMetadata metadata =
           new WorkflowMetadata(workflowName, "Workflow without steps", false, true, false);
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(List.of());
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, List.of())));
 
       // When & Then
       WorkflowBuildException exception =
@@ -247,8 +244,7 @@ class DatabaseWorkflowProcessorRobustnessTest {
       assertEquals("No workflow steps found for workflow: " + workflowName, exception.getMessage());
       assertInstanceOf(IllegalArgumentException.class, exception.getCause());
 
-      verify(mockRepository).getWorkflow(workflowName);
-      verify(mockRepository).getWorkflowSteps(workflowName);
+      verify(mockRepository).getWorkflowTree(workflowName);
     }
 
     @Test
@@ -261,8 +257,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
       List<WorkflowStepMetadata> steps =
           List.of(new WorkflowStepMetadata("Step1", "First step", "MissingWorkflow", 1));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("MissingWorkflow")).thenReturn(Optional.empty());
 
       // When & Then
@@ -283,7 +279,7 @@ class DatabaseWorkflowProcessorRobustnessTest {
       String workflowName = "TestWorkflow";
       SQLException sqlException = new SQLException("Connection failed");
 
-      when(mockRepository.getWorkflow(workflowName)).thenThrow(sqlException);
+      when(mockRepository.getWorkflowTree(workflowName)).thenThrow(sqlException);
 
       // When & Then
       WorkflowBuildException exception =
@@ -293,7 +289,7 @@ class DatabaseWorkflowProcessorRobustnessTest {
           "Database error while building workflow: " + workflowName, exception.getMessage());
       assertEquals(sqlException, exception.getCause());
 
-      verify(mockRepository).getWorkflow(workflowName);
+      verify(mockRepository).getWorkflowTree(workflowName);
     }
 
     @Test
@@ -301,12 +297,9 @@ class DatabaseWorkflowProcessorRobustnessTest {
     void testWorkflowStepsFetchFailure() throws SQLException {
       // Given
       String workflowName = "TestWorkflow";
-      WorkflowMetadata metadata =
-          new WorkflowMetadata(workflowName, "Test workflow", false, true, false);
       SQLException sqlException = new SQLException("Failed to fetch steps");
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenThrow(sqlException);
+      when(mockRepository.getWorkflowTree(workflowName)).thenThrow(sqlException);
 
       // When & Then
       WorkflowBuildException exception =
@@ -473,8 +466,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
       List<WorkflowStepMetadata> steps =
           List.of(new WorkflowStepMetadata("Step1", stepDesc, "TestWorkflow", 1));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("TestWorkflow")).thenReturn(Optional.of(mockWorkflow1));
 
       // When
@@ -524,8 +517,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
               new WorkflowStepMetadata("Step2", "Second step", "SecondWorkflow", 2),
               new WorkflowStepMetadata("Step3", "Third step", "ThirdWorkflow", 3));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("FirstWorkflow")).thenReturn(Optional.of(mockWorkflow1));
       when(mockRegistry.getWorkflow("SecondWorkflow")).thenReturn(Optional.of(mockWorkflow2));
       when(mockRegistry.getWorkflow("ThirdWorkflow")).thenReturn(Optional.of(mockWorkflow3));
@@ -556,8 +549,8 @@ class DatabaseWorkflowProcessorRobustnessTest {
               new WorkflowStepMetadata("Step1", "First step", "SharedWorkflow", 1),
               new WorkflowStepMetadata("Step2", "Second step", "SharedWorkflow", 2));
 
-      when(mockRepository.getWorkflow(workflowName)).thenReturn(Optional.of(metadata));
-      when(mockRepository.getWorkflowSteps(workflowName)).thenReturn(steps);
+      when(mockRepository.getWorkflowTree(workflowName))
+          .thenReturn(List.of(new WorkflowDefinition(metadata, steps)));
       when(mockRegistry.getWorkflow("SharedWorkflow")).thenReturn(Optional.of(mockWorkflow1));
 
       // When
@@ -3,8 +3,10 @@ package com.workflow.database;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.workflow.ParallelWorkflow;
+import com.workflow.RateLimitedWorkflow;
 import com.workflow.SequentialWorkflow;
 import com.workflow.TaskWorkflow;
+import com.workflow.TimeoutWorkflow;
 import com.workflow.Workflow;
 import com.workflow.WorkflowResult;
 import com.workflow.WorkflowStatus;
@@ -14,6 +16,11 @@ import com.workflow.registry.WorkflowRegistry;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.h2.jdbcx.JdbcDataSource;
@@ -432,4 +439,452 @@ class DatabaseWorkflowProcessorTest {
     assertInstanceOf(ParallelWorkflow.class, workflow);
     assertEquals(WorkflowStatus.SUCCESS, result.getStatus());
   }
+
+  @Test
+  void testCachedProcessorReusesBuiltWorkflow() throws SQLException {
+    // Setup
+    insertWorkflowAndSteps("CachedWorkflow", false, "Step1", "CachedTask");
+    registerTestWorkflow("CachedTask");
+    DatabaseWorkflowProcessor cached =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .cacheTtl(Duration.ofMinutes(5))
+            .build();
+
+    // Execute
+    Workflow first = cached.buildWorkflow("CachedWorkflow");
+    Workflow second = cached.buildWorkflow("CachedWorkflow");
+
+    // Assert
+    assertSame(first, second);
+    assertTrue(cached.workflowExists("CachedWorkflow"));
+  }
+
+  @Test
+  void testCachedProcessorRebuildsAfterRegistryReplace() throws SQLException {
+    // Setup
+    insertWorkflowAndSteps("SwapWorkflow", false, "Step1", "SwapTask");
+    registerTestWorkflow("SwapTask");
+    DatabaseWorkflowProcessor cached =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .cacheTtl(Duration.ofMinutes(5))
+            .build();
+    Workflow first = cached.buildWorkflow("SwapWorkflow");
+
+    // Execute - hot-swap the step instance
+    registry.replace("SwapTask", new TaskWorkflow(context -> context.put("swapped", true)));
+    Workflow rebuilt = cached.buildWorkflow("SwapWorkflow");
+    WorkflowContext context = new WorkflowContext();
+    WorkflowResult result = rebuilt.execute(context);
+
+    // Assert
+    assertNotSame(first, rebuilt);
+    assertSame(rebuilt, cached.buildWorkflow("SwapWorkflow"));
+    assertEquals(WorkflowStatus.SUCCESS, result.getStatus());
+    assertEquals(Boolean.TRUE, context.get("swapped"));
+  }
+
+  @Test
+  void testCachedProcessorInvalidate() throws SQLException {
+    // Setup
+    insertWorkflowAndSteps("InvalidatedWorkflow", false, "Step1", "InvalidatedTask");
+    registerTestWorkflow("InvalidatedTask");
+    DatabaseWorkflowProcessor cached =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .cacheTtl(Duration.ofMinutes(5))
+            .build();
+    Workflow first = cached.buildWorkflow("InvalidatedWorkflow");
+
+    // Execute
+    cached.invalidate("InvalidatedWorkflow");
+    Workflow reloaded = cached.buildWorkflow("InvalidatedWorkflow");
+    cached.invalidateAll();
+
+    // Assert
+    assertNotSame(first, reloaded);
+    assertNotSame(reloaded, cached.buildWorkflow("InvalidatedWorkflow"));
+  }
+
+  @Test
+  void testCachedProcessorReloadsWhenVersionChanges() throws SQLException {
+    // Setup
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("ALTER TABLE workflow ADD COLUMN IF NOT EXISTS version INT DEFAULT 1");
+    }
+    insertWorkflowAndSteps("VersionedWorkflow", false, "Step1", "VersionedTask");
+    registerTestWorkflow("VersionedTask");
+    DatabaseWorkflowProcessor cached =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .versionColumn("version")
+            .versionCheckInterval(Duration.ZERO)
+            .build();
+    Workflow first = cached.buildWorkflow("VersionedWorkflow");
+    assertSame(first, cached.buildWorkflow("VersionedWorkflow"));
+
+    // Execute - make the workflow parallel and bump its version
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute(
+          "UPDATE workflow SET is_parallel = TRUE, version = version + 1 "
+              + "WHERE name = 'VersionedWorkflow'");
+    }
+    Workflow reloaded = cached.buildWorkflow("VersionedWorkflow");
+
+    // Assert
+    assertNotSame(first, reloaded);
+    assertInstanceOf(ParallelWorkflow.class, reloaded);
+    assertSame(reloaded, cached.buildWorkflow("VersionedWorkflow"));
+  }
+
+  @Test
+  void testPreloadAll() throws SQLException {
+    // Setup
+    insertWorkflowAndSteps("Preload1", false, "Step1", "PreloadTask");
+    insertWorkflowAndSteps("Preload2", true, "Step1", "PreloadTask");
+    insertWorkflowAndSteps("Unresolvable", false, "Step1", "MissingTask");
+    registerTestWorkflow("PreloadTask");
+    DatabaseWorkflowProcessor cached =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .cacheTtl(Duration.ofMinutes(5))
+            .build();
+
+    // Execute
+    int loaded = cached.preloadAll();
+
+    // Assert - the unresolvable workflow is skipped and still fails on use
+    assertEquals(2, loaded);
+    assertInstanceOf(ParallelWorkflow.class, cached.buildWorkflow("Preload2"));
+    assertThrows(WorkflowBuildException.class, () -> cached.buildWorkflow("Unresolvable"));
+  }
+
+  @Test
+  void testPreloadAllRequiresCaching() {
+    assertThrows(IllegalStateException.class, () -> processor.preloadAll());
+  }
+
+  @Test
+  void testUncachedProcessorBuildsNewWorkflowEachTime() throws SQLException {
+    // Setup
+    insertWorkflowAndSteps("UncachedWorkflow", false, "Step1", "UncachedTask");
+    registerTestWorkflow("UncachedTask");
+
+    // Execute & Assert
+    assertNotSame(
+        processor.buildWorkflow("UncachedWorkflow"), processor.buildWorkflow("UncachedWorkflow"));
+  }
+
+  @Test
+  void testBuilderValidation() {
+    DatabaseWorkflowProcessor.Builder noRegistry =
+        DatabaseWorkflowProcessor.builder().dataSource(dataSource);
+    DatabaseWorkflowProcessor.Builder zeroTtl =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .cacheTtl(Duration.ZERO);
+    DatabaseWorkflowProcessor.Builder negativeTtl =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .cacheTtl(Duration.ofSeconds(-1));
+    DatabaseWorkflowProcessor.Builder subMillisecondTtl =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .cacheTtl(Duration.ofNanos(500_000));
+    DatabaseWorkflowProcessor.Builder badColumn =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .versionColumn("version; --");
+
+    assertThrows(NullPointerException.class, noRegistry::build);
+    assertThrows(IllegalArgumentException.class, zeroTtl::build);
+    assertThrows(IllegalArgumentException.class, negativeTtl::build);
+    assertDoesNotThrow(subMillisecondTtl::build);
+    assertThrows(IllegalArgumentException.class, badColumn::build);
+  }
+
+  @Test
+  void testNestedDatabaseWorkflow() throws SQLException {
+    // Setup - Outer runs the database workflow Inner, then a registered instance
+    insertWorkflowAndSteps("Inner", false, "InnerStep", "InnerTask");
+    insertWorkflowAndSteps("Outer", false, "RunInner", "Inner");
+    insertWorkflowAndSteps("Outer", false, "Finish", "FinishTask");
+    registerTestWorkflow("InnerTask");
+    registerTestWorkflow("FinishTask");
+
+    // Execute
+    Workflow workflow = processor.buildWorkflow("Outer");
+    WorkflowContext context = new WorkflowContext();
+    WorkflowResult result = workflow.execute(context);
+
+    // Assert
+    assertEquals(WorkflowStatus.SUCCESS, result.getStatus());
+    assertEquals(Boolean.TRUE, context.get("InnerTask_executed"));
+    assertEquals(Boolean.TRUE, context.get("FinishTask_executed"));
+    Workflow inner = ((SequentialWorkflow) workflow).getSubWorkflows().getFirst();
+    assertInstanceOf(SequentialWorkflow.class, inner);
+    assertEquals("Inner", inner.getName());
+  }
+
+  @Test
+  void testNestedWorkflowIsBuiltOnce() throws SQLException {
+    // Setup - Shared is referenced by two steps of Outer
+    insertWorkflowAndSteps("Shared", false, "Step1", "SharedTask");
+    insertWorkflowAndSteps("Outer", false, "First", "Shared");
+    insertWorkflowAndSteps("Outer", false, "Second", "Shared");
+    registerTestWorkflow("SharedTask");
+
+    // Execute
+    SequentialWorkflow workflow = (SequentialWorkflow) processor.buildWorkflow("Outer");
+
+    // Assert
+    assertSame(workflow.getSubWorkflows().get(0), workflow.getSubWorkflows().get(1));
+  }
+
+  @Test
+  void testNestedWorkflowCycleIsDetected() throws SQLException {
+    // Setup - CycleA -> CycleB -> CycleA
+    insertWorkflowAndSteps("CycleA", false, "ToB", "CycleB");
+    insertWorkflowAndSteps("CycleB", false, "ToA", "CycleA");
+
+    // Execute & Assert
+    WorkflowBuildException exception =
+        assertThrows(WorkflowBuildException.class, () -> processor.buildWorkflow("CycleA"));
+    assertEquals(
+        "Cycle detected in workflow definitions: CycleA -> CycleB -> CycleA",
+        exception.getMessage());
+  }
+
+  @Test
+  void testStepTypeControlsResolution() throws SQLException {
+    // Setup - "Inner" exists both in the database and in the registry
+    addOptionalStepColumns();
+    insertWorkflowAndSteps("Inner", true, "InnerStep", "InnerTask");
+    insertWorkflowAndSteps("ByDefault", false, "Step1", "Inner");
+    insertWorkflowAndSteps("ByWorkflow", false, "Step1", "Inner");
+    insertWorkflowAndSteps("ByInstance", false, "Step1", "InnerTask");
+    insertWorkflowAndSteps("MissingInstance", false, "Step1", "Inner");
+    registerTestWorkflow("InnerTask");
+    Workflow registered = new TaskWorkflow(_ -> {});
+    registry.register("Inner", registered);
+    setStepColumn("ByWorkflow", "step_type", "'WORKFLOW'");
+    setStepColumn("ByInstance", "step_type", "'instance'");
+    setStepColumn("MissingInstance", "step_type", "'INSTANCE'");
+    Workflow innerTask = registry.getWorkflow("InnerTask").orElseThrow();
+
+    // Execute & Assert - the registry wins by default, WORKFLOW always builds from the database
+    assertSame(registered, firstStep(processor.buildWorkflow("ByDefault")));
+    assertInstanceOf(ParallelWorkflow.class, firstStep(processor.buildWorkflow("ByWorkflow")));
+    assertSame(innerTask, firstStep(processor.buildWorkflow("ByInstance")));
+
+    // INSTANCE never falls back to the database
+    registry.remove("Inner");
+    assertInstanceOf(ParallelWorkflow.class, firstStep(processor.buildWorkflow("ByDefault")));
+    WorkflowBuildException exception =
+        assertThrows(
+            WorkflowBuildException.class, () -> processor.buildWorkflow("MissingInstance"));
+    assertEquals("Workflow instance not found in registry: Inner", exception.getMessage());
+  }
+
+  @Test
+  void testStepPolicies() throws SQLException {
+    // Setup - a task that fails twice before succeeding
+    addOptionalStepColumns();
+    insertWorkflowAndSteps("PolicyWorkflow", false, "Flaky", "FlakyTask");
+    AtomicInteger attempts = new AtomicInteger();
+    registry.register(
+        "FlakyTask",
+        new TaskWorkflow(
+            _ -> {
+              if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("not yet");
+              }
+            }));
+    setStepColumn("PolicyWorkflow", "max_retries", "2");
+    setStepColumn("PolicyWorkflow", "timeout_ms", "5000");
+    setStepColumn("PolicyWorkflow", "rate_limit_per_second", "100");
+
+    // Execute
+    Workflow workflow = processor.buildWorkflow("PolicyWorkflow");
+    WorkflowResult result = workflow.execute(new WorkflowContext());
+
+    // Assert - rate limit outermost, then timeout, then retries
+    assertEquals(WorkflowStatus.SUCCESS, result.getStatus());
+    assertEquals(3, attempts.get());
+    Workflow step = firstStep(workflow);
+    assertInstanceOf(RateLimitedWorkflow.class, step);
+    Workflow timeout = ((RateLimitedWorkflow) step).getSubWorkflows().getFirst();
+    assertInstanceOf(TimeoutWorkflow.class, timeout);
+    assertInstanceOf(
+        TaskWorkflow.class, ((TimeoutWorkflow) timeout).getSubWorkflows().getFirst());
+  }
+
+  @Test
+  void testStepRetriesExhausted() throws SQLException {
+    // Setup
+    addOptionalStepColumns();
+    insertWorkflowAndSteps("RetryWorkflow", false, "AlwaysFails", "FailingTask");
+    AtomicInteger attempts = new AtomicInteger();
+    registry.register(
+        "FailingTask",
+        new TaskWorkflow(
+            _ -> {
+              attempts.incrementAndGet();
+              throw new IllegalStateException("always");
+            }));
+    setStepColumn("RetryWorkflow", "max_retries", "1");
+
+    // Execute
+    WorkflowResult result = processor.buildWorkflow("RetryWorkflow").execute(new WorkflowContext());
+
+    // Assert
+    assertEquals(WorkflowStatus.FAILED, result.getStatus());
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void testCachedProcessorReloadsWhenNestedVersionChanges() throws SQLException {
+    // Setup
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("ALTER TABLE workflow ADD COLUMN IF NOT EXISTS version INT DEFAULT 1");
+    }
+    insertWorkflowAndSteps("NestedInner", false, "Step1", "NestedTask");
+    insertWorkflowAndSteps("NestedOuter", false, "Step1", "NestedInner");
+    registerTestWorkflow("NestedTask");
+    DatabaseWorkflowProcessor cached =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .versionColumn("version")
+            .versionCheckInterval(Duration.ZERO)
+            .build();
+    Workflow first = cached.buildWorkflow("NestedOuter");
+    assertSame(first, cached.buildWorkflow("NestedOuter"));
+
+    // Execute - change only the nested workflow
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute(
+          "UPDATE workflow SET is_parallel = TRUE, version = version + 1 "
+              + "WHERE name = 'NestedInner'");
+    }
+    Workflow reloaded = cached.buildWorkflow("NestedOuter");
+
+    // Assert
+    assertNotSame(first, reloaded);
+    assertInstanceOf(ParallelWorkflow.class, firstStep(reloaded));
+  }
+
+  private static Workflow firstStep(Workflow workflow) {
+    return ((SequentialWorkflow) workflow).getSubWorkflows().getFirst();
+  }
+
+  private void addOptionalStepColumns() throws SQLException {
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS step_type VARCHAR(16)");
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS max_retries INT");
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS retry_delay_ms BIGINT");
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS timeout_ms BIGINT");
+      stmt.execute(
+          "ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS rate_limit_per_second INT");
+    }
+  }
+
+  private void setStepColumn(String workflowName, String column, String value)
+      throws SQLException {
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute(
+          "UPDATE workflow_steps SET "
+              + column
+              + " = "
+              + value
+              + " WHERE workflow_id = (SELECT id FROM workflow WHERE name = '"
+              + workflowName
+              + "')");
+    }
+  }
+
+  @Test
+  void testCachedProcessorReloadsWhenVersionChangesDuringLoad() throws SQLException {
+    // Setup
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("ALTER TABLE workflow ADD COLUMN IF NOT EXISTS version INT DEFAULT 1");
+    }
+    insertWorkflowAndSteps("RacedWorkflow", false, "Step1", "RacedTask");
+    registerTestWorkflow("RacedTask");
+    AtomicBoolean raced = new AtomicBoolean();
+    AtomicReference<DatabaseWorkflowProcessor> processorRef = new AtomicReference<>();
+    WorkflowConfigRepository repository =
+        new WorkflowConfigRepository(dataSource) {
+          @Override
+          public List<WorkflowDefinition> getWorkflowTree(String workflowName)
+              throws SQLException {
+            List<WorkflowDefinition> tree = super.getWorkflowTree(workflowName);
+            if (raced.compareAndSet(false, true)) {
+              // The workflow changes right after this load, and another caller reads the new
+              // version before this load is cached
+              try (Connection conn = dataSource.getConnection();
+                  Statement stmt = conn.createStatement()) {
+                stmt.execute(
+                    "UPDATE workflow SET is_parallel = TRUE, version = version + 1 "
+                        + "WHERE name = 'RacedWorkflow'");
+              }
+              processorRef.get().buildWorkflow(workflowName);
+            }
+            return tree;
+          }
+        };
+    DatabaseWorkflowProcessor cached =
+        DatabaseWorkflowProcessor.builder()
+            .repository(repository)
+            .registry(registry)
+            .versionColumn("version")
+            .versionCheckInterval(Duration.ZERO)
+            .build();
+    processorRef.set(cached);
+
+    // Execute - the first build caches the stale sequential definition
+    Workflow stale = cached.buildWorkflow("RacedWorkflow");
+    Workflow reloaded = cached.buildWorkflow("RacedWorkflow");
+
+    // Assert - it was tagged with the version read before its load, so it is not served again
+    assertInstanceOf(SequentialWorkflow.class, stale);
+    assertInstanceOf(ParallelWorkflow.class, reloaded);
+  }
+
+  @Test
+  void testCachedProcessorWorkflowExistsAfterDelete() throws SQLException {
+    // Setup
+    insertWorkflowAndSteps("DeletedWorkflow", false, "Step1", "DeletedTask");
+    registerTestWorkflow("DeletedTask");
+    DatabaseWorkflowProcessor cached =
+        DatabaseWorkflowProcessor.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .cacheTtl(Duration.ofMinutes(5))
+            .build();
+    cached.buildWorkflow("DeletedWorkflow");
+
+    // Execute
+    clearDatabase();
+
+    // Assert
+    assertFalse(cached.workflowExists("DeletedWorkflow"));
+  }
 }
@@ -0,0 +1,356 @@
+package com.workflow.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.workflow.ParallelWorkflow;
+import com.workflow.SequentialWorkflow;
+import com.workflow.TaskWorkflow;
+import com.workflow.Workflow;
+import com.workflow.WorkflowResult;
+import com.workflow.WorkflowStatus;
+import com.workflow.context.WorkflowContext;
+import com.workflow.exception.WorkflowBuildException;
+import com.workflow.registry.WorkflowRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link DatabaseWorkflowRefresher}. */
+class DatabaseWorkflowRefresherTest {
+
+  private DataSource dataSource;
+  private WorkflowRegistry registry;
+  private DatabaseWorkflowRefresher refresher;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    JdbcDataSource ds = new JdbcDataSource();
+    ds.setURL("jdbc:h2:mem:refresher;DB_CLOSE_DELAY=-1");
+    ds.setUser("sa");
+    ds.setPassword("");
+    this.dataSource = ds;
+
+    execute(
+        "CREATE TABLE IF NOT EXISTS workflow ("
+            + "id INT PRIMARY KEY AUTO_INCREMENT,"
+            + "name VARCHAR(255) NOT NULL UNIQUE,"
+            + "description VARCHAR(255),"
+            + "is_parallel BOOLEAN DEFAULT FALSE,"
+            + "fail_fast BOOLEAN DEFAULT FALSE,"
+            + "share_context BOOLEAN DEFAULT TRUE,"
+            + "version INT DEFAULT 1"
+            + ")");
+    execute(
+        "CREATE TABLE IF NOT EXISTS workflow_steps ("
+            + "id INT PRIMARY KEY AUTO_INCREMENT,"
+            + "workflow_id INT NOT NULL,"
+            + "name VARCHAR(255) NOT NULL,"
+            + "description VARCHAR(255),"
+            + "instance_name VARCHAR(255) NOT NULL,"
+            + "order_index INT NOT NULL,"
+            + "FOREIGN KEY (workflow_id) REFERENCES workflow(id)"
+            + ")");
+    execute("DELETE FROM workflow_steps");
+    execute("DELETE FROM workflow");
+
+    registry = new WorkflowRegistry();
+    registry.register("TaskA", new TaskWorkflow(context -> context.put("task", "A")));
+    registry.register("TaskB", new TaskWorkflow(context -> context.put("task", "B")));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (refresher != null) {
+      refresher.close();
+    }
+  }
+
+  @Test
+  void testRefreshPublishesAllWorkflows() throws SQLException {
+    // Setup
+    insertWorkflow("Pipeline1", false);
+    insertStep("Pipeline1", "Step1", "TaskA", 1);
+    insertWorkflow("Pipeline2", true);
+    insertStep("Pipeline2", "Step1", "TaskA", 1);
+    insertStep("Pipeline2", "Step2", "TaskB", 2);
+    refresher =
+        DatabaseWorkflowRefresher.builder().dataSource(dataSource).registry(registry).build();
+
+    // Execute
+    int published = refresher.refresh();
+    Workflow pipeline1 = registry.getWorkflow("Pipeline1").orElseThrow();
+
+    // Assert - an unchanged database publishes nothing on the next refresh
+    assertEquals(2, published);
+    assertInstanceOf(SequentialWorkflow.class, pipeline1);
+    assertInstanceOf(ParallelWorkflow.class, registry.getWorkflow("Pipeline2").orElseThrow());
+    assertEquals(0, refresher.refresh());
+    assertSame(pipeline1, registry.getWorkflow("Pipeline1").orElseThrow());
+  }
+
+  @Test
+  void testRefreshSwapsChangedDefinition() throws SQLException {
+    // Setup
+    insertWorkflow("Pipeline", false);
+    insertStep("Pipeline", "Step1", "TaskA", 1);
+    refresher =
+        DatabaseWorkflowRefresher.builder().dataSource(dataSource).registry(registry).build();
+    refresher.refresh();
+    Workflow inFlight = registry.getWorkflow("Pipeline").orElseThrow();
+
+    // Execute - repoint the step at another instance
+    execute("UPDATE workflow_steps SET instance_name = 'TaskB'");
+    int changed = refresher.refresh();
+
+    // Assert - the new instance runs TaskB, the old one still runs TaskA
+    assertEquals(1, changed);
+    Workflow swapped = registry.getWorkflow("Pipeline").orElseThrow();
+    assertNotSame(inFlight, swapped);
+    assertEquals("B", run(swapped).get("task"));
+    assertEquals("A", run(inFlight).get("task"));
+  }
+
+  @Test
+  void testRefreshByVersionColumn() throws SQLException {
+    // Setup
+    insertWorkflow("Pipeline", false);
+    insertStep("Pipeline", "Step1", "TaskA", 1);
+    refresher =
+        DatabaseWorkflowRefresher.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .versionColumn("version")
+            .build();
+    refresher.refresh();
+    Workflow first = registry.getWorkflow("Pipeline").orElseThrow();
+
+    // Execute & Assert - changes are picked up only once the version is bumped
+    execute("UPDATE workflow SET is_parallel = TRUE");
+    assertEquals(0, refresher.refresh());
+    assertSame(first, registry.getWorkflow("Pipeline").orElseThrow());
+
+    execute("UPDATE workflow SET version = version + 1");
+    assertEquals(1, refresher.refresh());
+    assertInstanceOf(ParallelWorkflow.class, registry.getWorkflow("Pipeline").orElseThrow());
+  }
+
+  @Test
+  void testRefreshRemovesDeletedWorkflow() throws SQLException {
+    // Setup
+    insertWorkflow("Pipeline", false);
+    insertStep("Pipeline", "Step1", "TaskA", 1);
+    refresher =
+        DatabaseWorkflowRefresher.builder().dataSource(dataSource).registry(registry).build();
+    refresher.refresh();
+
+    // Execute
+    execute("DELETE FROM workflow_steps");
+    execute("DELETE FROM workflow");
+    int changed = refresher.refresh();
+
+    // Assert - step instances registered by the application are untouched
+    assertEquals(1, changed);
+    assertFalse(registry.isRegistered("Pipeline"));
+    assertTrue(registry.isRegistered("TaskA"));
+  }
+
+  @Test
+  void testRefreshKeepsCurrentInstanceWhenBuildFails() throws SQLException {
+    // Setup
+    insertWorkflow("Pipeline", false);
+    insertStep("Pipeline", "Step1", "TaskA", 1);
+    refresher =
+        DatabaseWorkflowRefresher.builder().dataSource(dataSource).registry(registry).build();
+    refresher.refresh();
+    Workflow current = registry.getWorkflow("Pipeline").orElseThrow();
+
+    // Execute - point the step at an instance that is not registered yet
+    execute("UPDATE workflow_steps SET instance_name = 'TaskC'");
+    assertEquals(0, refresher.refresh());
+    assertSame(current, registry.getWorkflow("Pipeline").orElseThrow());
+
+    registry.register("TaskC", new TaskWorkflow(context -> context.put("task", "C")));
+    assertEquals(1, refresher.refresh());
+
+    // Assert
+    assertEquals("C", run(registry.getWorkflow("Pipeline").orElseThrow()).get("task"));
+  }
+
+  @Test
+  void testTargetRegistry() throws SQLException {
+    // Setup
+    insertWorkflow("Pipeline", false);
+    insertStep("Pipeline", "Step1", "TaskA", 1);
+    WorkflowRegistry target = new WorkflowRegistry();
+    refresher =
+        DatabaseWorkflowRefresher.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .targetRegistry(target)
+            .build();
+
+    // Execute
+    refresher.refresh();
+
+    // Assert
+    assertTrue(target.isRegistered("Pipeline"));
+    assertFalse(registry.isRegistered("Pipeline"));
+  }
+
+  @Test
+  void testStartPollsInBackground() throws Exception {
+    // Setup
+    insertWorkflow("Pipeline", false);
+    insertStep("Pipeline", "Step1", "TaskA", 1);
+    refresher =
+        DatabaseWorkflowRefresher.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .pollInterval(Duration.ofMillis(20))
+            .build();
+
+    // Execute - start publishes synchronously
+    refresher.start();
+    Workflow first = registry.getWorkflow("Pipeline").orElseThrow();
+    execute("UPDATE workflow SET is_parallel = TRUE");
+
+    // Assert
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (registry.getWorkflow("Pipeline").orElseThrow() == first
+        && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertInstanceOf(ParallelWorkflow.class, registry.getWorkflow("Pipeline").orElseThrow());
+    assertThrows(IllegalStateException.class, refresher::start);
+  }
+
+  @Test
+  void testRefreshDatabaseErrorThrows() throws SQLException {
+    refresher =
+        DatabaseWorkflowRefresher.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .versionColumn("missing_column")
+            .build();
+
+    assertThrows(WorkflowBuildException.class, refresher::refresh);
+  }
+
+  @Test
+  void testBuilderValidation() {
+    DatabaseWorkflowRefresher.Builder noRegistry =
+        DatabaseWorkflowRefresher.builder().dataSource(dataSource);
+    DatabaseWorkflowRefresher.Builder zeroInterval =
+        DatabaseWorkflowRefresher.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .pollInterval(Duration.ZERO);
+    DatabaseWorkflowRefresher.Builder badColumn =
+        DatabaseWorkflowRefresher.builder()
+            .dataSource(dataSource)
+            .registry(registry)
+            .versionColumn("1version");
+
+    assertThrows(NullPointerException.class, noRegistry::build);
+    assertThrows(IllegalArgumentException.class, zeroInterval::build);
+    assertThrows(IllegalArgumentException.class, badColumn::build);
+  }
+
+  @Test
+  void testRefreshByVersionLoadsOnlyAffectedTrees() throws SQLException {
+    // Setup - Outer nests Inner; three more workflows are unrelated
+    insertWorkflow("Inner", false);
+    insertStep("Inner", "Step1", "TaskA", 1);
+    insertWorkflow("Outer", false);
+    insertStep("Outer", "Step1", "Inner", 1);
+    for (String name : List.of("Other1", "Other2", "Other3")) {
+      insertWorkflow(name, false);
+      insertStep(name, "Step1", "TaskB", 1);
+    }
+    List<String> treeQueries = new ArrayList<>();
+    AtomicInteger fullLoads = new AtomicInteger();
+    WorkflowConfigRepository repository =
+        new WorkflowConfigRepository(dataSource) {
+          @Override
+          public List<WorkflowDefinition> getWorkflowTree(String workflowName)
+              throws SQLException {
+            treeQueries.add(workflowName);
+            return super.getWorkflowTree(workflowName);
+          }
+
+          @Override
+          public List<WorkflowDefinition> getAllWorkflowDefinitions() throws SQLException {
+            fullLoads.incrementAndGet();
+            return super.getAllWorkflowDefinitions();
+          }
+        };
+    refresher =
+        DatabaseWorkflowRefresher.builder()
+            .repository(repository)
+            .registry(registry)
+            .versionColumn("version")
+            .build();
+    assertEquals(5, refresher.refresh());
+    Workflow other = registry.getWorkflow("Other1").orElseThrow();
+
+    // Execute - change the nested workflow
+    execute("UPDATE workflow SET is_parallel = TRUE, version = version + 1 WHERE name = 'Inner'");
+    int changed = refresher.refresh();
+
+    // Assert - the first refresh loaded everything at once, the second only the affected trees
+    assertEquals(2, changed);
+    assertEquals(1, fullLoads.get());
+    assertFalse(treeQueries.isEmpty());
+    assertTrue(Set.of("Inner", "Outer").containsAll(treeQueries), treeQueries.toString());
+    assertInstanceOf(ParallelWorkflow.class, registry.getWorkflow("Inner").orElseThrow());
+    assertSame(other, registry.getWorkflow("Other1").orElseThrow());
+  }
+
+  private WorkflowContext run(Workflow workflow) {
+    WorkflowContext context = new WorkflowContext();
+    WorkflowResult result = workflow.execute(context);
+    assertEquals(WorkflowStatus.SUCCESS, result.getStatus());
+    return context;
+  }
+
+  private void insertWorkflow(String name, boolean isParallel) throws SQLException {
+    execute(
+        "INSERT INTO workflow (name, description, is_parallel) VALUES ('"
+            + name
+            + "', 'Test workflow', "
+            + isParallel
+            + ")");
+  }
+
+  private void insertStep(String workflowName, String stepName, String instanceName, int order)
+      throws SQLException {
+    execute(
+        "INSERT INTO workflow_steps (workflow_id, name, description, instance_name, order_index) "
+            + "SELECT id, '"
+            + stepName
+            + "', 'Test step', '"
+            + instanceName
+            + "', "
+            + order
+            + " FROM workflow WHERE name = '"
+            + workflowName
+            + "'");
+  }
+
+  private void execute(String sql) throws SQLException {
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute(sql);
+    }
+  }
+}
@@ -2,11 +2,16 @@ package com.workflow.database;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.h2.jdbcx.JdbcDataSource;
@@ -271,4 +276,286 @@ class WorkflowConfigRepositoryTest {
       }
     }
   }
+
+  @Test
+  void testGetWorkflowDefinition() throws SQLException {
+    // Setup - insert steps out of order
+    insertWorkflow("DefinitionWorkflow", "With steps", true);
+    insertWorkflowSteps("DefinitionWorkflow", "Step2", "Second", "Task2", 2);
+    insertWorkflowSteps("DefinitionWorkflow", "Step1", "First", "Task1", 1);
+
+    // Execute
+    Optional<WorkflowDefinition> definition =
+        repository.getWorkflowDefinition("DefinitionWorkflow");
+
+    // Assert
+    assertTrue(definition.isPresent());
+    assertEquals("DefinitionWorkflow", definition.get().name());
+    assertEquals("With steps", definition.get().metadata().description());
+    assertTrue(definition.get().metadata().isParallel());
+    List<WorkflowStepMetadata> steps = definition.get().steps();
+    assertEquals(2, steps.size());
+    assertEquals("Step1", steps.get(0).name());
+    assertEquals("First", steps.get(0).description());
+    assertEquals("Task1", steps.get(0).instanceName());
+    assertEquals("Step2", steps.get(1).name());
+  }
+
+  @Test
+  void testGetWorkflowDefinitionWithoutSteps() throws SQLException {
+    // Setup
+    insertWorkflow("EmptyWorkflow", "Empty", false);
+
+    // Execute
+    Optional<WorkflowDefinition> definition = repository.getWorkflowDefinition("EmptyWorkflow");
+
+    // Assert
+    assertTrue(definition.isPresent());
+    assertTrue(definition.get().steps().isEmpty());
+    assertTrue(repository.getWorkflowDefinition("NonExistent").isEmpty());
+  }
+
+  @Test
+  void testGetAllWorkflowDefinitions() throws SQLException {
+    // Setup
+    insertWorkflow("WF2", "Second", false);
+    insertWorkflow("WF1", "First", false);
+    insertWorkflow("WF3", "No steps", false);
+    insertWorkflowSteps("WF1", "S2", "D2", "T2", 2);
+    insertWorkflowSteps("WF1", "S1", "D1", "T1", 1);
+    insertWorkflowSteps("WF2", "S3", "D3", "T3", 1);
+
+    // Execute
+    List<WorkflowDefinition> definitions = repository.getAllWorkflowDefinitions();
+
+    // Assert - ordered by name, steps ordered by order_index
+    assertEquals(3, definitions.size());
+    assertEquals("WF1", definitions.get(0).name());
+    assertEquals(
+        List.of("S1", "S2"),
+        definitions.get(0).steps().stream().map(WorkflowStepMetadata::name).toList());
+    assertEquals("WF2", definitions.get(1).name());
+    assertEquals(1, definitions.get(1).steps().size());
+    assertEquals("WF3", definitions.get(2).name());
+    assertTrue(definitions.get(2).steps().isEmpty());
+  }
+
+  @Test
+  void testGetWorkflowVersions() throws SQLException {
+    // Setup
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("ALTER TABLE workflow ADD COLUMN IF NOT EXISTS version INT DEFAULT 1");
+    }
+    insertWorkflow("WF1", "First", false);
+    insertWorkflow("WF2", "Second", false);
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("UPDATE workflow SET version = 7 WHERE name = 'WF2'");
+    }
+
+    // Execute
+    Map<String, String> versions = repository.getWorkflowVersions("version");
+
+    // Assert
+    assertEquals(Map.of("WF1", "1", "WF2", "7"), versions);
+  }
+
+  @Test
+  void testGetWorkflowVersionsRejectsInvalidColumn() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> repository.getWorkflowVersions("version; DROP TABLE workflow"));
+    assertThrows(IllegalArgumentException.class, () -> repository.getWorkflowVersions(null));
+  }
+
+  @Test
+  void testGetWorkflowTree() throws SQLException {
+    // Setup - Root -> Middle -> Leaf, with Unrelated left out
+    insertWorkflow("Root", "Root", false);
+    insertWorkflow("Middle", "Middle", true);
+    insertWorkflow("Leaf", "Leaf", false);
+    insertWorkflow("Unrelated", "Unrelated", false);
+    insertWorkflowSteps("Root", "S1", "D", "Middle", 1);
+    insertWorkflowSteps("Root", "S2", "D", "RegisteredTask", 2);
+    insertWorkflowSteps("Middle", "S1", "D", "Leaf", 1);
+    insertWorkflowSteps("Leaf", "S1", "D", "RegisteredTask", 1);
+    insertWorkflowSteps("Unrelated", "S1", "D", "RegisteredTask", 1);
+
+    // Execute
+    List<WorkflowDefinition> tree = repository.getWorkflowTree("Root");
+
+    // Assert
+    assertEquals(
+        List.of("Leaf", "Middle", "Root"), tree.stream().map(WorkflowDefinition::name).toList());
+    assertEquals(2, tree.get(2).steps().size());
+    assertTrue(repository.getWorkflowTree("NonExistent").isEmpty());
+  }
+
+  @Test
+  void testGetWorkflowTreeWithCycle() throws SQLException {
+    // Setup
+    insertWorkflow("CycleA", "A", false);
+    insertWorkflow("CycleB", "B", false);
+    insertWorkflowSteps("CycleA", "S1", "D", "CycleB", 1);
+    insertWorkflowSteps("CycleB", "S1", "D", "CycleA", 1);
+
+    // Execute
+    List<WorkflowDefinition> tree = repository.getWorkflowTree("CycleA");
+
+    // Assert - the query terminates; the cycle is reported when building
+    assertEquals(
+        List.of("CycleA", "CycleB"), tree.stream().map(WorkflowDefinition::name).toList());
+  }
+
+  @Test
+  void testOptionalStepColumns() throws SQLException {
+    // Setup
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS step_type VARCHAR(16)");
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS max_retries INT");
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS retry_delay_ms BIGINT");
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS timeout_ms BIGINT");
+      stmt.execute(
+          "ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS rate_limit_per_second INT");
+    }
+    insertWorkflow("PolicyWorkflow", "Policies", false);
+    insertWorkflowSteps("PolicyWorkflow", "Plain", "D", "Task1", 1);
+    insertWorkflowSteps("PolicyWorkflow", "Tuned", "D", "Nested", 2);
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute(
+          "UPDATE workflow_steps SET step_type = 'workflow', max_retries = 3, "
+              + "retry_delay_ms = 50, timeout_ms = 1000, rate_limit_per_second = 10 "
+              + "WHERE name = 'Tuned'");
+    }
+
+    // Execute
+    List<WorkflowStepMetadata> steps =
+        repository.getWorkflowDefinition("PolicyWorkflow").orElseThrow().steps();
+
+    // Assert
+    assertEquals(WorkflowStepMetadata.StepType.AUTO, steps.get(0).type());
+    assertEquals(WorkflowStepPolicy.NONE, steps.get(0).policy());
+    assertEquals(WorkflowStepMetadata.StepType.WORKFLOW, steps.get(1).type());
+    assertEquals(new WorkflowStepPolicy(3, 50, 1000, 10), steps.get(1).policy());
+  }
+
+  @Test
+  void testGetWorkflowTreeLevelByLevel() throws SQLException {
+    // Setup - Root -> Middle -> Leaf and Root -> Leaf, with a cycle back to Root
+    insertWorkflow("Root", "Root", false);
+    insertWorkflow("Middle", "Middle", true);
+    insertWorkflow("Leaf", "Leaf", false);
+    insertWorkflow("Unrelated", "Unrelated", false);
+    insertWorkflowSteps("Root", "S1", "D", "Middle", 1);
+    insertWorkflowSteps("Root", "S2", "D", "Leaf", 2);
+    insertWorkflowSteps("Middle", "S1", "D", "Leaf", 1);
+    insertWorkflowSteps("Leaf", "S1", "D", "RegisteredTask", 1);
+    insertWorkflowSteps("Leaf", "S2", "D", "Root", 2);
+    WorkflowConfigRepository byLevel = new WorkflowConfigRepository(dataSource, false);
+
+    // Execute
+    List<WorkflowDefinition> tree = byLevel.getWorkflowTree("Middle");
+
+    // Assert - the same result as the recursive query
+    assertEquals(
+        List.of("Leaf", "Middle", "Root"), tree.stream().map(WorkflowDefinition::name).toList());
+    assertEquals(repository.getWorkflowTree("Middle"), tree);
+    assertTrue(byLevel.getWorkflowTree("NonExistent").isEmpty());
+  }
+
+  @Test
+  void testGetWorkflowTreeFallsBackWithoutRecursiveQueries() throws SQLException {
+    // Setup - a database that rejects recursive queries
+    insertWorkflow("Root", "Root", false);
+    insertWorkflow("Child", "Child", false);
+    insertWorkflowSteps("Root", "S1", "D", "Child", 1);
+    insertWorkflowSteps("Child", "S1", "D", "RegisteredTask", 1);
+    AtomicInteger recursiveQueries = new AtomicInteger();
+    DataSource withoutRecursion =
+        failingRecursiveQueries(
+            new SQLException("Syntax error near RECURSIVE", "42000"), recursiveQueries);
+    WorkflowConfigRepository fallback = new WorkflowConfigRepository(withoutRecursion);
+
+    // Execute
+    List<WorkflowDefinition> first = fallback.getWorkflowTree("Root");
+    List<WorkflowDefinition> second = fallback.getWorkflowTree("Root");
+
+    // Assert - the recursive query is only attempted once
+    assertEquals(List.of("Child", "Root"), first.stream().map(WorkflowDefinition::name).toList());
+    assertEquals(first, second);
+    assertEquals(1, recursiveQueries.get());
+  }
+
+  @Test
+  void testGetWorkflowTreeRethrowsOtherRecursiveQueryFailures() throws SQLException {
+    // Setup - a recursive query that fails for a reason unrelated to recursion support
+    insertWorkflow("Root", "Root", false);
+    AtomicInteger recursiveQueries = new AtomicInteger();
+    SQLException lockTimeout = new SQLException("Lock timeout", "HYT00");
+    WorkflowConfigRepository failing =
+        new WorkflowConfigRepository(failingRecursiveQueries(lockTimeout, recursiveQueries));
+
+    // Execute & Assert - the failure surfaces and the recursive query is tried again next time
+    assertSame(
+        lockTimeout, assertThrows(SQLException.class, () -> failing.getWorkflowTree("Root")));
+    assertThrows(SQLException.class, () -> failing.getWorkflowTree("Root"));
+    assertEquals(2, recursiveQueries.get());
+  }
+
+  /** Returns a data source whose recursive queries fail with the given exception. */
+  private DataSource failingRecursiveQueries(SQLException failure, AtomicInteger attempts) {
+    return (DataSource)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {DataSource.class},
+            (_, method, args) -> {
+              if (!method.getName().equals("getConnection")) {
+                return invoke(method, dataSource, args);
+              }
+              Connection conn = dataSource.getConnection();
+              return Proxy.newProxyInstance(
+                  getClass().getClassLoader(),
+                  new Class<?>[] {Connection.class},
+                  (_, connMethod, connArgs) -> {
+                    if (connMethod.getName().equals("prepareStatement")
+                        && ((String) connArgs[0]).startsWith("WITH RECURSIVE")) {
+                      attempts.incrementAndGet();
+                      throw failure;
+                    }
+                    return invoke(connMethod, conn, connArgs);
+                  });
+            });
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Test
+  void testDefinitionSelectsOnlyKnownStepColumns() throws SQLException {
+    // Setup - a step column the repository does not know about
+    try (Connection conn = dataSource.getConnection();
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("ALTER TABLE workflow_steps ADD COLUMN IF NOT EXISTS notes VARCHAR(64)");
+    }
+    insertWorkflow("Labelled", "Workflow description", false);
+    insertWorkflowSteps("Labelled", "Step", "Step description", "Task1", 1);
+
+    // Execute
+    WorkflowDefinition definition = repository.getWorkflowDefinition("Labelled").orElseThrow();
+
+    // Assert - workflow and step columns of the same name are read separately
+    assertEquals("Labelled", definition.metadata().name());
+    assertEquals("Workflow description", definition.metadata().description());
+    assertEquals("Step", definition.steps().getFirst().name());
+    assertEquals("Step description", definition.steps().getFirst().description());
+  }
 }
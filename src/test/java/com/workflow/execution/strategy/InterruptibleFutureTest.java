@@ -0,0 +1,148 @@
+package com.workflow.execution.strategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class InterruptibleFutureTest {
+
+  @Test
+  void run_completesWithCallableResult() throws Exception {
+    InterruptibleFuture<String> future = new InterruptibleFuture<>(() -> "done");
+
+    future.run();
+
+    assertEquals("done", future.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void run_whenCallableThrows_completesExceptionally() {
+    IllegalStateException cause = new IllegalStateException("boom");
+    InterruptibleFuture<String> future =
+        new InterruptibleFuture<>(
+            () -> {
+              throw cause;
+            });
+
+    future.run();
+
+    ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+    assertSame(cause, thrown.getCause());
+  }
+
+  @Test
+  void cancel_beforeRun_callableNeverRuns() {
+    AtomicBoolean ran = new AtomicBoolean();
+    InterruptibleFuture<Void> future =
+        new InterruptibleFuture<>(
+            () -> {
+              ran.set(true);
+              return null;
+            });
+
+    assertTrue(future.cancel(true));
+    future.run();
+
+    assertFalse(ran.get());
+    assertTrue(future.isCancelled());
+  }
+
+  @Test
+  void cancel_whileRunning_interruptsRunningThread() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    InterruptibleFuture<Void> future =
+        new InterruptibleFuture<>(
+            () -> {
+              started.countDown();
+              try {
+                Thread.sleep(10_000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+              }
+              return null;
+            });
+
+    Thread.ofVirtual().start(future);
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+
+    assertTrue(future.cancel(true));
+
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    assertTrue(future.isCancelled());
+  }
+
+  @Test
+  void cancel_withoutInterrupt_letsCallableFinish() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean wasInterrupted = new AtomicBoolean();
+    InterruptibleFuture<Void> future =
+        new InterruptibleFuture<>(
+            () -> {
+              started.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                wasInterrupted.set(true);
+              }
+              return null;
+            });
+
+    Thread runner = Thread.ofVirtual().start(future);
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    assertTrue(future.cancel(false));
+    release.countDown();
+    runner.join(1000);
+
+    assertFalse(wasInterrupted.get());
+    assertTrue(future.isCancelled());
+  }
+
+  @Test
+  void threadPoolStrategy_cancel_interruptsPooledThreadAndClearsFlag() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    try (ThreadPoolExecutionStrategy strategy = new ThreadPoolExecutionStrategy(1)) {
+      CompletableFuture<Void> blocked =
+          strategy.submit(
+              () -> {
+                started.countDown();
+                Thread.sleep(10_000);
+                return null;
+              });
+      assertTrue(started.await(1, TimeUnit.SECONDS));
+      assertTrue(blocked.cancel(true));
+
+      // The single pooled thread must be free again and not carry the interrupt over
+      Boolean interruptedFlag =
+          strategy.submit(() -> Thread.currentThread().isInterrupted()).get(1, TimeUnit.SECONDS);
+      assertFalse(interruptedFlag);
+    }
+  }
+
+  @Test
+  void constructor_withNullTask_throwsException() {
+    assertThrows(NullPointerException.class, () -> new InterruptibleFuture<>(null));
+  }
+
+  @Test
+  void run_whenCallableThrowsError_completesExceptionally() {
+    StackOverflowError cause = new StackOverflowError("deep");
+    InterruptibleFuture<String> future =
+        new InterruptibleFuture<>(
+            () -> {
+              throw cause;
+            });
+
+    future.run();
+
+    ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+    assertSame(cause, thrown.getCause());
+  }
+}
@@ -0,0 +1,176 @@
+package com.workflow.execution.strategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadExecutionStrategyTest {
+
+  @Test
+  void submit_shouldCompleteSuccessfullyOnVirtualThread() throws Exception {
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy()) {
+      CompletableFuture<Boolean> future = strategy.submit(() -> Thread.currentThread().isVirtual());
+
+      assertTrue(future.get(1, TimeUnit.SECONDS));
+      assertEquals(0, strategy.getMaxConcurrency());
+    }
+  }
+
+  @Test
+  void submit_whenCallableThrowsCheckedException_futureCompletesExceptionally() {
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy()) {
+      Exception ex = new Exception("checked");
+      CompletableFuture<String> future =
+          strategy.submit(
+              () -> {
+                throw ex;
+              });
+
+      ExecutionException thrown =
+          assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+      assertSame(ex, thrown.getCause());
+      assertTrue(future.isCompletedExceptionally());
+    }
+  }
+
+  @Test
+  void submit_withConcurrencyCap_neverExceedsCap() throws Exception {
+    int cap = 3;
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy(cap)) {
+      List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 30; i++) {
+        futures.add(
+            strategy.submit(
+                () -> {
+                  int now = running.incrementAndGet();
+                  maxObserved.accumulateAndGet(now, Math::max);
+                  Thread.sleep(10);
+                  running.decrementAndGet();
+                  return now;
+                }));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+          .get(5, TimeUnit.SECONDS);
+    }
+
+    assertTrue(maxObserved.get() <= cap, "observed " + maxObserved.get() + " concurrent tasks");
+  }
+
+  @Test
+  void submit_withCap_doesNotBlockSubmitter() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy(1)) {
+      CompletableFuture<String> first =
+          strategy.submit(
+              () -> {
+                release.await();
+                return "first";
+              });
+      // Submitting while the only permit is held must return immediately
+      CompletableFuture<String> second = strategy.submit(() -> "second");
+      assertFalse(second.isDone());
+
+      release.countDown();
+      assertEquals("first", first.get(1, TimeUnit.SECONDS));
+      assertEquals("second", second.get(1, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void constructor_withNegativeCap_throwsException() {
+    assertThrows(IllegalArgumentException.class, () -> new VirtualThreadExecutionStrategy(-1));
+  }
+
+  @Test
+  void executionStrategies_defaultIsSharedVirtualThreadStrategy() {
+    ExecutionStrategy first = ExecutionStrategies.getDefault();
+    ExecutionStrategy second = ExecutionStrategies.getDefault();
+
+    assertSame(first, second);
+    assertInstanceOf(VirtualThreadExecutionStrategy.class, first);
+  }
+
+  @Test
+  void executionStrategies_setDefault_replacesSharedStrategy() throws Exception {
+    ExecutionStrategy original = ExecutionStrategies.getDefault();
+    try (VirtualThreadExecutionStrategy replacement = new VirtualThreadExecutionStrategy(2)) {
+      ExecutionStrategies.setDefault(replacement);
+      try {
+        assertSame(replacement, ExecutionStrategies.getDefault());
+
+        CountDownLatch ran = new CountDownLatch(1);
+        Executor executor = ExecutionStrategies.defaultExecutor();
+        executor.execute(ran::countDown);
+        assertTrue(ran.await(1, TimeUnit.SECONDS));
+      } finally {
+        // Restore before the replacement is closed, so no other test sees a closed default
+        ExecutionStrategies.setDefault(original);
+      }
+    }
+  }
+
+  @Test
+  void executionStrategies_setDefault_withNull_throwsException() {
+    assertThrows(NullPointerException.class, () -> ExecutionStrategies.setDefault(null));
+  }
+
+  @Test
+  void submit_fromPermitHolder_yieldsPermitToChildren() throws Exception {
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy(1)) {
+      CompletableFuture<String> parent =
+          strategy.submit(() -> strategy.submit(() -> "child").get(1, TimeUnit.SECONDS));
+
+      assertEquals("child", parent.get(2, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void submit_nestedFanOut_boundsLeafConcurrencyByCap() throws Exception {
+    int cap = 2;
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+
+    try (VirtualThreadExecutionStrategy strategy = new VirtualThreadExecutionStrategy(cap)) {
+      List<CompletableFuture<Integer>> parents = new ArrayList<>();
+      for (int p = 0; p < 3; p++) {
+        parents.add(
+            strategy.submit(
+                () -> {
+                  List<CompletableFuture<Integer>> leaves = new ArrayList<>();
+                  for (int i = 0; i < 4; i++) {
+                    leaves.add(
+                        strategy.submit(
+                            () -> {
+                              int now = running.incrementAndGet();
+                              maxObserved.accumulateAndGet(now, Math::max);
+                              Thread.sleep(10);
+                              running.decrementAndGet();
+                              return 1;
+                            }));
+                  }
+                  int done = 0;
+                  for (CompletableFuture<Integer> leaf : leaves) {
+                    done += leaf.get(5, TimeUnit.SECONDS);
+                  }
+                  return done;
+                }));
+      }
+      for (CompletableFuture<Integer> parent : parents) {
+        assertEquals(4, parent.get(5, TimeUnit.SECONDS));
+      }
+    }
+
+    assertTrue(maxObserved.get() <= cap, "observed " + maxObserved.get() + " concurrent leaves");
+  }
+}
@@ -649,4 +649,104 @@ class FutureUtilsTest {
       assertTrue(combined.isDone());
     }
   }
+
+  @Test
+  void anySuccessful_firstSuccessWins_cancelsOthers() throws Exception {
+    CompletableFuture<WorkflowResult> slow = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> fast = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> failing = new CompletableFuture<>();
+
+    CompletableFuture<WorkflowResult> winner =
+        FutureUtils.anySuccessful(List.of(slow, fast, failing));
+
+    failing.complete(WorkflowTestUtils.failureResult(new RuntimeException("lost")));
+    assertFalse(winner.isDone());
+
+    WorkflowResult success = WorkflowTestUtils.successResult();
+    fast.complete(success);
+
+    assertSame(success, winner.get(1, TimeUnit.SECONDS));
+    assertTrue(slow.isCancelled());
+  }
+
+  @Test
+  void anySuccessful_allFail_completesWithFirstErrorInListOrder() {
+    CompletableFuture<WorkflowResult> first = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> second = new CompletableFuture<>();
+    RuntimeException firstError = new RuntimeException("first");
+
+    CompletableFuture<WorkflowResult> winner = FutureUtils.anySuccessful(List.of(first, second));
+
+    second.completeExceptionally(new RuntimeException("second"));
+    first.complete(WorkflowTestUtils.failureResult(firstError));
+
+    ExecutionException ex =
+        assertThrows(ExecutionException.class, () -> winner.get(1, TimeUnit.SECONDS));
+    assertSame(firstError, ex.getCause());
+  }
+
+  @Test
+  void anySuccessful_emptyList_completesWithNull() throws Exception {
+    assertNull(FutureUtils.anySuccessful(Collections.emptyList()).get(1, TimeUnit.SECONDS));
+    assertNull(FutureUtils.anySuccessful(null).get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void propagateCancellation_cancellingDependent_cancelsSources() {
+    CompletableFuture<WorkflowResult> source = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> dependent =
+        FutureUtils.propagateCancellation(source.thenApply(r -> r), List.of(source));
+
+    dependent.cancel(true);
+
+    assertTrue(source.isCancelled());
+  }
+
+  @Test
+  void propagateCancellation_dependentCompletesNormally_leavesSourcesAlone() {
+    CompletableFuture<WorkflowResult> source = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> other = new CompletableFuture<>();
+    FutureUtils.propagateCancellation(source.thenApply(r -> r), List.of(other));
+
+    source.complete(WorkflowTestUtils.successResult());
+
+    assertFalse(other.isDone());
+  }
+
+  @Test
+  void flatten_completesWithInnerStage() throws Exception {
+    CompletableFuture<CompletableFuture<WorkflowResult>> outer = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> inner = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> flat = FutureUtils.flatten(outer);
+    WorkflowResult result = WorkflowTestUtils.successResult();
+
+    outer.complete(inner);
+    assertFalse(flat.isDone());
+    inner.complete(result);
+
+    assertSame(result, flat.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void flatten_innerFails_failsWithUnwrappedError() {
+    IllegalStateException error = new IllegalStateException("boom");
+    CompletableFuture<WorkflowResult> flat =
+        FutureUtils.flatten(
+            CompletableFuture.completedFuture(CompletableFuture.failedFuture(error)));
+
+    ExecutionException ex = assertThrows(ExecutionException.class, flat::get);
+    assertSame(error, ex.getCause());
+  }
+
+  @Test
+  void flatten_cancelled_cancelsInnerStage() {
+    CompletableFuture<CompletableFuture<WorkflowResult>> outer = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> inner = new CompletableFuture<>();
+    CompletableFuture<WorkflowResult> flat = FutureUtils.flatten(outer);
+    outer.complete(inner);
+
+    flat.cancel(true);
+
+    assertTrue(inner.isCancelled());
+  }
 }
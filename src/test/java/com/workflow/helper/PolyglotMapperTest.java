@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Value;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -264,4 +265,59 @@ class PolyglotMapperTest {
 
     assertThrows(RuntimeException.class, () -> PolyglotMapper.toJava(unstableValue));
   }
+
+  @Test
+  @DisplayName("Lazy conversion should expose JS objects and arrays as views")
+  void testToJavaLazy_viewsOverJsValues() {
+    try (Context context = Context.create("js")) {
+      Value jsValue = context.eval("js", "({ name: 'Alice', tags: ['a', 'b'], nested: { n: 1 } })");
+
+      Object lazy = PolyglotMapper.toJavaLazy(jsValue);
+
+      Map<?, ?> map = assertInstanceOf(Map.class, lazy);
+      assertSame(jsValue, PolyglotMapper.unwrap(lazy));
+      assertEquals("Alice", map.get("name"));
+      assertEquals(List.of("a", "b"), map.get("tags"));
+      assertEquals(Set.of("name", "tags", "nested"), map.keySet());
+      assertTrue(map.containsKey("nested"));
+      assertNull(map.get("missing"));
+      assertThrows(UnsupportedOperationException.class, () -> map.remove("name"));
+    }
+  }
+
+  @Test
+  @DisplayName("Lazy conversion should copy typed arrays into primitive arrays")
+  void testToJavaLazy_typedArraysBecomePrimitiveArrays() {
+    try (Context context = Context.create("js")) {
+      assertArrayEquals(
+          new int[] {1, 2, 3},
+          (int[]) PolyglotMapper.toJavaLazy(context.eval("js", "new Int32Array([1, 2, 3])")));
+      assertArrayEquals(
+          new long[] {4_000_000_000L},
+          (long[]) PolyglotMapper.toJavaLazy(context.eval("js", "new Uint32Array([4e9])")));
+      assertArrayEquals(
+          new double[] {0.5, 1.5},
+          (double[]) PolyglotMapper.toJavaLazy(context.eval("js", "new Float64Array([0.5, 1.5])")));
+
+      // Typed arrays keep their eager List mapping in toJava
+      Value int8 = context.eval("js", "new Int8Array([1, 2])");
+      assertEquals(List.of(1, 2), PolyglotMapper.toJava(int8));
+    }
+  }
+
+  @Test
+  @DisplayName("Materialize should detach views into plain collections")
+  void testMaterialize_detachesViews() {
+    Object detached;
+    try (Context context = Context.create("js")) {
+      Value jsValue = context.eval("js", "({ ids: [1, 2], data: new Float64Array(2) })");
+      detached = PolyglotMapper.materialize(PolyglotMapper.toJavaLazy(jsValue));
+    }
+
+    Map<?, ?> map = assertInstanceOf(Map.class, detached);
+    assertNull(PolyglotMapper.unwrap(detached));
+    assertEquals(List.of(1, 2), map.get("ids"));
+    assertArrayEquals(new double[] {0, 0}, (double[]) map.get("data"));
+    assertEquals("plain", PolyglotMapper.materialize("plain"));
+  }
 }
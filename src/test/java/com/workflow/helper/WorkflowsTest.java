@@ -2,9 +2,12 @@ package com.workflow.helper;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.workflow.BulkheadWorkflow.BulkheadWorkflowBuilder;
+import com.workflow.CircuitBreakerWorkflow.CircuitBreakerWorkflowBuilder;
 import com.workflow.ConditionalWorkflow.ConditionalWorkflowBuilder;
 import com.workflow.DynamicBranchingWorkflow.DynamicBranchingWorkflowBuilder;
 import com.workflow.FallbackWorkflow.FallbackWorkflowBuilder;
+import com.workflow.HedgedWorkflow.HedgedWorkflowBuilder;
 import com.workflow.ParallelWorkflow.ParallelWorkflowBuilder;
 import com.workflow.RateLimitedWorkflow.RateLimitedWorkflowBuilder;
 import com.workflow.SequentialWorkflow.SequentialWorkflowBuilder;
@@ -139,4 +142,28 @@ class WorkflowsTest {
     assertNotNull(parallel);
     assertNotNull(conditional);
   }
+
+  @Test
+  void hedged_builderRequiresWorkflows() {
+    HedgedWorkflowBuilder builder = Workflows.hedged("TestHedged");
+
+    assertNotNull(builder);
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  void circuitBreaker_builderRequiresWorkflowAndCircuitBreaker() {
+    CircuitBreakerWorkflowBuilder builder = Workflows.circuitBreaker("TestCircuitBreaker");
+
+    assertNotNull(builder);
+    assertThrows(NullPointerException.class, builder::build);
+  }
+
+  @Test
+  void bulkhead_builderRequiresWorkflowAndBulkhead() {
+    BulkheadWorkflowBuilder builder = Workflows.bulkhead("TestBulkhead");
+
+    assertNotNull(builder);
+    assertThrows(NullPointerException.class, builder::build);
+  }
 }
@@ -0,0 +1,150 @@
+package com.workflow.interpolation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.workflow.context.WorkflowContext;
+import com.workflow.interpolation.exception.InterpolationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FastPathStringInterpolatorTest {
+
+  public enum Status {
+    ACTIVE;
+
+    @Override
+    public String toString() {
+      return "active-status";
+    }
+  }
+
+  public static class Customer {
+    private final String name;
+    private final boolean vip;
+    private final Map<String, Object> address;
+
+    public Customer(String name, boolean vip, Map<String, Object> address) {
+      this.name = name;
+      this.vip = vip;
+      this.address = address;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isVip() {
+      return vip;
+    }
+
+    public Map<String, Object> getAddress() {
+      return address;
+    }
+  }
+
+  private WorkflowContext context;
+  private Map<String, Object> variables;
+  private FastPathStringInterpolator interpolator;
+
+  @BeforeEach
+  void setUp() {
+    context = new WorkflowContext();
+    context.put("orderId", "ORD-1001");
+    context.put("count", 3);
+    context.put("status", Status.ACTIVE);
+    context.put("customer", new Customer("Alice", true, Map.of("city", "Paris")));
+    context.put("order", Map.of("id", 42, "items", List.of("apple", "banana")));
+
+    variables = new HashMap<>();
+    variables.put("prefix", "api");
+    variables.put("nothing", null);
+    interpolator = FastPathStringInterpolator.forContextAndVariables(context, variables);
+  }
+
+  @Test
+  void interpolate_simpleLookups_resolvesDirectly() {
+    assertTrue(interpolator.isFastPath("/${prefix}/orders/${orderId}"));
+    assertEquals("/api/orders/ORD-1001", interpolator.interpolate("/${prefix}/orders/${orderId}"));
+    assertEquals("ORD-1001", interpolator.interpolate("${orderId}"));
+    assertEquals("3 items", interpolator.interpolate("${count} items"));
+  }
+
+  @Test
+  void interpolate_nestedPaths_resolvesMapsAndBeans() {
+    assertEquals("42", interpolator.interpolate("${order.id}"));
+    assertEquals("Alice (true)", interpolator.interpolate("${customer.name} (${customer.vip})"));
+    assertEquals("Paris", interpolator.interpolate("${customer.address.city}"));
+  }
+
+  @Test
+  void interpolate_missingOrNullValues_renderEmpty() {
+    assertEquals("[]", interpolator.interpolate("[${unknown}]"));
+    assertEquals("[]", interpolator.interpolate("[${nothing}]"));
+    assertEquals("[]", interpolator.interpolate("[${nothing.deeper}]"));
+    assertEquals("[]", interpolator.interpolate("[${order.missing}]"));
+  }
+
+  @Test
+  void interpolate_expressions_delegateToJakartaEl() {
+    assertFalse(interpolator.isFastPath("${count * 2}"));
+    assertEquals("6", interpolator.interpolate("${count * 2}"));
+    assertEquals("banana", interpolator.interpolate("${order.items[1]}"));
+    assertEquals("ALICE", interpolator.interpolate("${customer.name.toUpperCase()}"));
+    assertEquals("${literal} ORD-1001", interpolator.interpolate("\\${literal} ${orderId}"));
+  }
+
+  @Test
+  void interpolate_variablesTakePrecedenceOverContext() {
+    context.put("prefix", "context");
+
+    assertEquals("api", interpolator.interpolate("${prefix}"));
+  }
+
+  @Test
+  void interpolate_strictMode_unresolvedNameThrows() {
+    FastPathStringInterpolator strict =
+        FastPathStringInterpolator.builder().workflowContext(context).strict(true).build();
+
+    assertEquals("ORD-1001", strict.interpolate("${orderId}"));
+    assertThrows(InterpolationException.class, () -> strict.interpolate("${unknown}"));
+    assertEquals("${unknown}", strict.interpolate("${unknown}", false));
+  }
+
+  @Test
+  void interpolate_unknownBeanProperty_behavesLikeJakartaEl() {
+    assertEquals("${customer.missing}", interpolator.interpolate("${customer.missing}"));
+  }
+
+  @Test
+  void interpolate_noPlaceholders_returnsInputUnchanged() {
+    String input = "plain text with #{deferred}";
+
+    assertSame(input, interpolator.interpolate(input));
+    assertNull(interpolator.interpolate(null));
+    assertEquals("  ", interpolator.interpolate("  "));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "/${prefix}/orders/${orderId}",
+        "${status}",
+        "Status: ${status}",
+        "${customer.vip}-${count}",
+        "$${order.id} #{x} ${unknown}",
+        "${order.items}",
+        "${count + 1} of ${orderId}",
+        "${customer.address}"
+      })
+  void interpolate_matchesJakartaElInterpolator(String template) {
+    JakartaElStringInterpolator reference =
+        JakartaElStringInterpolator.forContextAndVariables(context, variables);
+
+    assertEquals(reference.interpolate(template), interpolator.interpolate(template));
+  }
+}
@@ -4,10 +4,14 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.workflow.context.WorkflowContext;
 import com.workflow.interpolation.exception.InterpolationException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -3417,4 +3421,90 @@ class JakartaElStringInterpolatorTest {
       assertEquals("true", interp.interpolate("${blank.trim().isEmpty()}"));
     }
   }
+
+  @Nested
+  class CompiledTemplates {
+
+    @Test
+    void shouldReturnCachedTemplateAcrossInterpolators() {
+      JakartaElStringInterpolator other = JakartaElStringInterpolator.forVariables(Map.of());
+
+      CompiledTemplate template = interpolator.compile("Cached ${name}");
+
+      assertSame(template, other.compile("Cached ${name}"));
+      assertTrue(template.hasPlaceholders());
+      assertEquals("Cached ${name}", template.getTemplate());
+    }
+
+    @Test
+    void shouldEvaluateCompiledTemplateAgainstEachInterpolator() {
+      CompiledTemplate template = interpolator.compile("Hi ${name}, ${age + 1}");
+      JakartaElStringInterpolator other =
+          JakartaElStringInterpolator.forVariables(Map.of("name", "Carol", "age", 40));
+
+      assertEquals("Hi Alice, 31", interpolator.render(template));
+      assertEquals("Hi Carol, 41", other.render(template));
+    }
+
+    @Test
+    void shouldNotLeakVariablesBetweenInterpolatorsSharingCachedTemplate() {
+      JakartaElStringInterpolator first =
+          JakartaElStringInterpolator.forVariables(Map.of("id", "A"));
+      JakartaElStringInterpolator second =
+          JakartaElStringInterpolator.forVariables(Map.of("id", "B"));
+      WorkflowContext context = new WorkflowContext();
+      context.put("id", "C");
+      JakartaElStringInterpolator third = JakartaElStringInterpolator.forContext(context);
+
+      assertEquals("/orders/A", first.interpolate("/orders/${id}"));
+      assertEquals("/orders/B", second.interpolate("/orders/${id}"));
+      assertEquals("/orders/C", third.interpolate("/orders/${id}"));
+    }
+
+    @Test
+    void shouldCompileTemplateWithoutPlaceholders() {
+      CompiledTemplate template = interpolator.compile("plain \\${text}");
+
+      assertFalse(template.hasPlaceholders());
+      assertEquals("plain \\${text}", interpolator.render(template));
+    }
+
+    @Test
+    void shouldRejectInvalidTemplateOnCompile() {
+      assertThrows(InterpolationException.class, () -> interpolator.compile("${name +}"));
+      assertEquals("${name +}", interpolator.interpolate("${name +}"));
+    }
+
+    @Test
+    void shouldThrowForUnresolvedCompiledTemplateInStrictMode() {
+      JakartaElStringInterpolator strict =
+          JakartaElStringInterpolator.builder().variable("x", 1).strict(true).build();
+      CompiledTemplate template = strict.compile("Value: ${missing}");
+
+      assertThrows(InterpolationException.class, () -> strict.render(template));
+    }
+
+    @Test
+    void shouldEvaluateConcurrentlyOnOneInterpolator() throws Exception {
+      CompiledTemplate template = interpolator.compile("${name}-${numbers[2] * quantity}");
+      List<Future<Boolean>> results = new ArrayList<>();
+      try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+        for (int i = 0; i < 8; i++) {
+          results.add(
+              executor.submit(
+                  () -> {
+                    for (int j = 0; j < 500; j++) {
+                      if (!"Alice-9".equals(interpolator.render(template))) {
+                        return false;
+                      }
+                    }
+                    return true;
+                  }));
+        }
+        for (Future<Boolean> result : results) {
+          assertTrue(result.get());
+        }
+      }
+    }
+  }
 }
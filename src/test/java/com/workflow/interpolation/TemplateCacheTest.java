@@ -0,0 +1,54 @@
+package com.workflow.interpolation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TemplateCacheTest {
+
+  @Test
+  void shouldParseEachTemplateOnce() {
+    TemplateCache<String> cache = new TemplateCache<>(16);
+    AtomicInteger parses = new AtomicInteger();
+
+    String first = cache.get("a", t -> t + parses.incrementAndGet());
+    String second = cache.get("a", t -> t + parses.incrementAndGet());
+
+    assertEquals("a1", first);
+    assertSame(first, second);
+    assertEquals(1, parses.get());
+  }
+
+  @Test
+  void shouldNotCacheWhenParsingFails() {
+    TemplateCache<String> cache = new TemplateCache<>(16);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            cache.get(
+                "bad",
+                t -> {
+                  throw new IllegalArgumentException(t);
+                }));
+    assertEquals("ok", cache.get("bad", _ -> "ok"));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedTemplatesWhenFull() {
+    TemplateCache<String> cache = new TemplateCache<>(8);
+    AtomicInteger parses = new AtomicInteger();
+    cache.get("hot", t -> t + parses.incrementAndGet());
+
+    for (int i = 0; i < 100; i++) {
+      cache.get("cold" + i, t -> t);
+      cache.get("hot", t -> t + parses.incrementAndGet());
+    }
+
+    assertEquals(1, parses.get(), "recently used template was evicted");
+    AtomicInteger coldParses = new AtomicInteger();
+    cache.get("cold0", t -> t + coldParses.incrementAndGet());
+    assertEquals(1, coldParses.get(), "oldest template was kept");
+  }
+}
@@ -0,0 +1,172 @@
+package com.workflow.policy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.workflow.exception.BulkheadFullException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+  private static Bulkhead bulkhead(int maxWaitingCalls, Duration maxWaitDuration) {
+    return Bulkhead.builder()
+        .name("test")
+        .maxConcurrentCalls(2)
+        .maxWaitingCalls(maxWaitingCalls)
+        .maxWaitDuration(maxWaitDuration)
+        .build();
+  }
+
+  @Test
+  void tryAcquire_capsConcurrentCalls() {
+    Bulkhead bulkhead = bulkhead(0, Duration.ZERO);
+
+    assertTrue(bulkhead.tryAcquire());
+    assertTrue(bulkhead.tryAcquire());
+    assertFalse(bulkhead.tryAcquire());
+    assertEquals(0, bulkhead.getAvailableSlots());
+    assertEquals(1, bulkhead.getRejectedCalls());
+
+    bulkhead.release();
+    assertEquals(1, bulkhead.getAvailableSlots());
+    assertTrue(bulkhead.tryAcquire());
+  }
+
+  @Test
+  void release_neverExceedsMaxConcurrentCalls() {
+    Bulkhead bulkhead = bulkhead(0, Duration.ZERO);
+
+    bulkhead.release();
+
+    assertEquals(2, bulkhead.getAvailableSlots());
+  }
+
+  @Test
+  void acquire_queueFull_rejectsImmediately() throws InterruptedException {
+    Bulkhead bulkhead = bulkhead(0, Duration.ofSeconds(5));
+    bulkhead.acquire();
+    bulkhead.acquire();
+
+    long start = System.nanoTime();
+    assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+    assertEquals(1, bulkhead.getRejectedCalls());
+  }
+
+  @Test
+  void acquire_noSlotFreedInTime_rejects() throws InterruptedException {
+    Bulkhead bulkhead = bulkhead(1, Duration.ofMillis(50));
+    bulkhead.acquire();
+    bulkhead.acquire();
+
+    assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+    assertEquals(0, bulkhead.getWaitingCalls());
+    assertEquals(1, bulkhead.getRejectedCalls());
+  }
+
+  @Test
+  void acquire_slotReleased_handsOverToWaiter() throws Exception {
+    Bulkhead bulkhead = bulkhead(1, Duration.ofSeconds(5));
+    bulkhead.acquire();
+    bulkhead.acquire();
+
+    CompletableFuture<Void> waiter =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                bulkhead.acquire();
+              } catch (InterruptedException e) {
+                throw new CompletionException(e);
+              }
+            });
+    while (bulkhead.getWaitingCalls() == 0) {
+      Thread.sleep(5);
+    }
+
+    bulkhead.release();
+    waiter.get();
+
+    assertEquals(0, bulkhead.getAvailableSlots());
+    assertEquals(0, bulkhead.getWaitingCalls());
+    assertEquals(0, bulkhead.getRejectedCalls());
+  }
+
+  @Test
+  void acquireAsync_waitsWithoutBlocking() {
+    Bulkhead bulkhead = bulkhead(2, Duration.ofSeconds(5));
+    assertTrue(bulkhead.acquireAsync().isDone());
+    assertTrue(bulkhead.acquireAsync().isDone());
+
+    CompletableFuture<Void> first = bulkhead.acquireAsync();
+    CompletableFuture<Void> second = bulkhead.acquireAsync();
+    assertFalse(first.isDone());
+    assertEquals(2, bulkhead.getWaitingCalls());
+
+    bulkhead.release();
+    assertTrue(first.isDone());
+    assertFalse(second.isDone());
+
+    bulkhead.release();
+    assertTrue(second.isDone());
+    assertEquals(0, bulkhead.getAvailableSlots());
+  }
+
+  @Test
+  void acquireAsync_timedOut_failsWithBulkheadFullException() {
+    Bulkhead bulkhead = bulkhead(1, Duration.ofMillis(20));
+    bulkhead.tryAcquire();
+    bulkhead.tryAcquire();
+
+    CompletionException e =
+        assertThrows(CompletionException.class, () -> bulkhead.acquireAsync().join());
+
+    assertInstanceOf(BulkheadFullException.class, e.getCause());
+    assertEquals(1, bulkhead.getRejectedCalls());
+    // A slot released later is not lost to the timed out waiter
+    bulkhead.release();
+    assertEquals(1, bulkhead.getAvailableSlots());
+  }
+
+  @Test
+  void build_invalidSettings_throw() {
+    assertThrows(
+        IllegalArgumentException.class, () -> Bulkhead.builder().maxConcurrentCalls(0).build());
+    assertThrows(
+        IllegalArgumentException.class, () -> Bulkhead.builder().maxWaitingCalls(-1).build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Bulkhead.builder().maxWaitDuration(Duration.ofMillis(-1)).build());
+    assertThrows(NullPointerException.class, () -> Bulkhead.builder().name(null).build());
+  }
+
+  @Test
+  void acquireAsync_cancelledWhileQueued_leavesQueue() {
+    Bulkhead bulkhead = bulkhead(1, Duration.ofSeconds(5));
+    bulkhead.tryAcquire();
+    bulkhead.tryAcquire();
+
+    CompletableFuture<Void> queued = bulkhead.acquireAsync();
+    assertEquals(1, bulkhead.getWaitingCalls());
+    queued.cancel(true);
+
+    assertEquals(0, bulkhead.getWaitingCalls());
+    bulkhead.release();
+    bulkhead.release();
+    assertEquals(2, bulkhead.getAvailableSlots());
+  }
+
+  @Test
+  void acquireAsync_cancelledAfterGrant_keepsSlot() {
+    Bulkhead bulkhead = bulkhead(1, Duration.ofSeconds(5));
+    CompletableFuture<Void> granted = bulkhead.acquireAsync();
+
+    assertFalse(granted.cancel(true));
+    assertEquals(1, bulkhead.getAvailableSlots());
+    bulkhead.release();
+    assertEquals(2, bulkhead.getAvailableSlots());
+  }
+}
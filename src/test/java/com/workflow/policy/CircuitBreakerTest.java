@@ -0,0 +1,213 @@
+package com.workflow.policy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+  private final AtomicLong now = new AtomicLong();
+
+  private CircuitBreaker.CircuitBreakerBuilder builder() {
+    return CircuitBreaker.builder()
+        .name("test")
+        .failureRateThreshold(50)
+        .slidingWindow(Duration.ofSeconds(10))
+        .minimumNumberOfCalls(4)
+        .waitDurationInOpenState(Duration.ofSeconds(1))
+        .permittedCallsInHalfOpenState(2)
+        .nanoTime(now::get);
+  }
+
+  private static void call(CircuitBreaker breaker, boolean fail) {
+    CircuitBreaker.Permission permission = breaker.tryAcquirePermission();
+    assertNotNull(permission);
+    if (fail) {
+      permission.onError(0);
+    } else {
+      permission.onSuccess(0);
+    }
+  }
+
+  private CircuitBreaker openBreaker() {
+    CircuitBreaker breaker = builder().build();
+    for (int i = 0; i < 4; i++) {
+      call(breaker, true);
+    }
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    return breaker;
+  }
+
+  @Test
+  void closed_belowMinimumNumberOfCalls_staysClosed() {
+    CircuitBreaker breaker = builder().build();
+
+    for (int i = 0; i < 3; i++) {
+      call(breaker, true);
+    }
+
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void closed_failureRateReached_opens() {
+    CircuitBreaker breaker = builder().build();
+
+    call(breaker, false);
+    call(breaker, false);
+    call(breaker, true);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    call(breaker, true);
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  void closed_slowCallRateReached_opens() {
+    CircuitBreaker breaker =
+        builder().slowCallRateThreshold(75).slowCallDuration(Duration.ofSeconds(5)).build();
+
+    for (int i = 0; i < 3; i++) {
+      breaker.tryAcquirePermission().onSuccess(SLOW);
+    }
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    breaker.tryAcquirePermission().onSuccess(SLOW);
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  void closed_oldFailuresLeaveWindow_staysClosed() {
+    CircuitBreaker breaker = builder().build();
+    call(breaker, true);
+    call(breaker, true);
+    call(breaker, true);
+
+    now.addAndGet(Duration.ofSeconds(10).toNanos());
+    call(breaker, true);
+
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void open_rejectsCallsUntilWaitDurationElapsed() {
+    CircuitBreaker breaker = openBreaker();
+
+    assertNull(breaker.tryAcquirePermission());
+    assertNull(breaker.tryAcquirePermission());
+    assertEquals(2, breaker.getNotPermittedCalls());
+
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    assertNotNull(breaker.tryAcquirePermission());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+  }
+
+  @Test
+  void halfOpen_permitsOnlyProbeCalls() {
+    CircuitBreaker breaker = openBreaker();
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    CircuitBreaker.Permission first = breaker.tryAcquirePermission();
+    assertNotNull(first);
+    assertNotNull(breaker.tryAcquirePermission());
+    assertNull(breaker.tryAcquirePermission());
+
+    first.release();
+    first.release();
+    assertNotNull(breaker.tryAcquirePermission());
+    assertNull(breaker.tryAcquirePermission());
+  }
+
+  @Test
+  void halfOpen_probesSucceed_closes() {
+    CircuitBreaker breaker = openBreaker();
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    call(breaker, false);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    call(breaker, false);
+
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    // The window starts empty after closing
+    for (int i = 0; i < 3; i++) {
+      call(breaker, true);
+    }
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void halfOpen_probesFail_opensAgain() {
+    CircuitBreaker breaker = openBreaker();
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    call(breaker, false);
+    call(breaker, true);
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertNull(breaker.tryAcquirePermission());
+  }
+
+  @Test
+  void halfOpen_outcomesOfEarlierCalls_areIgnored() {
+    CircuitBreaker breaker = builder().build();
+    CircuitBreaker.Permission slowCall = breaker.tryAcquirePermission();
+    for (int i = 0; i < 4; i++) {
+      call(breaker, true);
+    }
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    CircuitBreaker.Permission probe = breaker.tryAcquirePermission();
+
+    // Admitted while closed, so it must not complete the probes of the half-open phase
+    slowCall.onSuccess(0);
+    probe.onSuccess(0);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+    call(breaker, false);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void halfOpen_probesOverrunMaxWait_opensAgain() {
+    CircuitBreaker breaker = openBreaker();
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    CircuitBreaker.Permission hung = breaker.tryAcquirePermission();
+    assertNotNull(breaker.tryAcquirePermission());
+
+    now.addAndGet(Duration.ofSeconds(59).toNanos());
+    assertNull(breaker.tryAcquirePermission());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertNull(breaker.tryAcquirePermission());
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+    // A late outcome of a hung probe no longer counts
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    hung.onSuccess(0);
+    call(breaker, false);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    call(breaker, false);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void build_invalidSettings_throw() {
+    assertThrows(IllegalArgumentException.class, () -> builder().failureRateThreshold(0).build());
+    assertThrows(
+        IllegalArgumentException.class, () -> builder().slowCallRateThreshold(101).build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder().waitDurationInOpenState(Duration.ZERO).build());
+    assertThrows(
+        IllegalArgumentException.class, () -> builder().permittedCallsInHalfOpenState(0).build());
+    assertThrows(NullPointerException.class, () -> builder().slidingWindow(null).build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder().maxWaitDurationInHalfOpenState(Duration.ZERO).build());
+  }
+}
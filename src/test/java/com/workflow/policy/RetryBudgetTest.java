@@ -0,0 +1,128 @@
+package com.workflow.policy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private SlidingWindowRetryBudget budget(double ratio, int minRetriesPerSecond) {
+    return new SlidingWindowRetryBudget(
+        ratio, minRetriesPerSecond, Duration.ofSeconds(10), now::get);
+  }
+
+  @Test
+  void tryAcquireRetry_withoutSuccesses_usesReserve() {
+    SlidingWindowRetryBudget budget = budget(0.1, 1);
+
+    assertEquals(10, budget.availableRetries());
+    for (int i = 0; i < 10; i++) {
+      assertTrue(budget.tryAcquireRetry());
+    }
+    assertFalse(budget.tryAcquireRetry());
+    assertEquals(0, budget.availableRetries());
+  }
+
+  @Test
+  void tryAcquireRetry_allowsRatioOfSuccesses() {
+    SlidingWindowRetryBudget budget = budget(0.2, 0);
+    for (int i = 0; i < 10; i++) {
+      budget.recordSuccess();
+    }
+
+    assertTrue(budget.tryAcquireRetry());
+    assertTrue(budget.tryAcquireRetry());
+    assertFalse(budget.tryAcquireRetry());
+  }
+
+  @Test
+  void tryAcquireRetry_windowSlides_forgetsOldRetries() {
+    SlidingWindowRetryBudget budget = budget(0, 1);
+    while (budget.tryAcquireRetry()) {
+      now.addAndGet(Duration.ofMillis(100).toNanos());
+    }
+
+    now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    assertEquals(10, budget.availableRetries());
+  }
+
+  @Test
+  void tryAcquireRetry_windowSlides_forgetsOldSuccesses() {
+    SlidingWindowRetryBudget budget = budget(1, 0);
+    budget.recordSuccess();
+
+    now.addAndGet(Duration.ofSeconds(9).toNanos());
+    assertEquals(1, budget.availableRetries());
+
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertEquals(0, budget.availableRetries());
+    assertFalse(budget.tryAcquireRetry());
+  }
+
+  @Test
+  void constructor_invalidArguments_throw() {
+    Duration window = Duration.ofSeconds(1);
+
+    assertThrows(IllegalArgumentException.class, () -> RetryBudget.ratio(-0.1, 0, window));
+    assertThrows(IllegalArgumentException.class, () -> RetryBudget.ratio(0.1, -1, window));
+    assertThrows(IllegalArgumentException.class, () -> RetryBudget.ratio(0.1, 0, Duration.ZERO));
+    assertThrows(NullPointerException.class, () -> RetryBudget.ratio(0.1, 0, null));
+  }
+
+  @Test
+  void unlimited_alwaysAllowsRetries() {
+    RetryBudget.UNLIMITED.recordSuccess();
+
+    assertTrue(RetryBudget.UNLIMITED.tryAcquireRetry());
+    assertEquals(Integer.MAX_VALUE, RetryBudget.UNLIMITED.availableRetries());
+    assertSame(RetryBudget.UNLIMITED, RetryBudgets.unlimited().budgetFor("any"));
+  }
+
+  @Test
+  void retryBudgets_perName_createsOneBudgetPerName() {
+    RetryBudgets budgets = RetryBudgets.perName(() -> budget(0, 1));
+
+    RetryBudget payments = budgets.budgetFor("payments");
+
+    assertSame(payments, budgets.budgetFor("payments"));
+    assertNotSame(payments, budgets.budgetFor("inventory"));
+  }
+
+  @Test
+  void retryBudgets_shared_returnsSameBudgetForEveryName() {
+    RetryBudget budget = budget(0, 1);
+    RetryBudgets budgets = RetryBudgets.shared(budget);
+
+    assertSame(budget, budgets.budgetFor("payments"));
+    assertSame(budget, budgets.budgetFor("inventory"));
+    assertThrows(NullPointerException.class, () -> budgets.budgetFor(null));
+  }
+
+  @Test
+  void recordSuccess_concurrentCallers_countsEverySuccess() throws InterruptedException {
+    SlidingWindowRetryBudget budget = budget(0.1, 0);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      threads.add(
+          Thread.ofVirtual()
+              .start(
+                  () -> {
+                    for (int i = 0; i < 1_000; i++) {
+                      budget.recordSuccess();
+                    }
+                  }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(800, budget.availableRetries());
+  }
+}
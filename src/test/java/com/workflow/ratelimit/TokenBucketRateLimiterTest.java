@@ -116,4 +116,16 @@ class TokenBucketRateLimiterTest {
 
     assertFalse(thread.isAlive(), "Thread should have completed after acquiring token");
   }
+
+  @Test
+  @DisplayName("nanosUntilNextPermit should be zero with tokens and the refill time without")
+  void testNanosUntilNextPermit() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, Duration.ofHours(1));
+
+    assertEquals(0, limiter.nanosUntilNextPermit());
+    assertTrue(limiter.tryAcquire());
+    long wait = limiter.nanosUntilNextPermit();
+    assertTrue(wait > Duration.ofMinutes(59).toNanos(), "Expected about an hour, got " + wait);
+    assertTrue(wait <= Duration.ofHours(1).toNanos());
+  }
 }
@@ -8,7 +8,9 @@ import com.workflow.WorkflowResult;
 import com.workflow.context.WorkflowContext;
 import com.workflow.helper.WorkflowResults;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -256,4 +258,88 @@ class WorkflowRegistryTest {
       assertTrue(registry.isRegistered("duplicate"));
     }
   }
+
+  @Test
+  void registerAll_registersEveryWorkflow() {
+    Workflow other = SequentialWorkflow.builder().name("other").build();
+
+    registry.registerAll(Map.of("first", testWorkflow, "second", other));
+
+    assertEquals(Set.of("first", "second"), registry.getWorkflowNames());
+    assertSame(other, registry.getWorkflow("second").orElseThrow());
+  }
+
+  @Test
+  void registerAll_withDuplicateName_registersNothing() {
+    registry.register("existing", testWorkflow);
+    Map<String, Workflow> batch = Map.of("new", testWorkflow, "existing", testWorkflow);
+
+    assertThrows(IllegalArgumentException.class, () -> registry.registerAll(batch));
+
+    assertFalse(registry.isRegistered("new"));
+    assertEquals(Set.of("existing"), registry.getWorkflowNames());
+  }
+
+  @Test
+  void replace_swapsDefinitionAndReturnsPrevious() {
+    Workflow updated = SequentialWorkflow.builder().name("updated").build();
+    registry.register("workflow1", testWorkflow);
+
+    Optional<Workflow> previous = registry.replace("workflow1", updated);
+
+    assertSame(testWorkflow, previous.orElseThrow());
+    assertSame(updated, registry.getWorkflow("workflow1").orElseThrow());
+    assertTrue(registry.replace("workflow2", updated).isEmpty());
+    assertTrue(registry.isRegistered("workflow2"));
+  }
+
+  @Test
+  void replace_withExpectedInstance_onlySwapsWhenUnchanged() {
+    Workflow first = SequentialWorkflow.builder().name("first").build();
+    Workflow second = SequentialWorkflow.builder().name("second").build();
+    registry.register("workflow1", testWorkflow);
+
+    assertTrue(registry.replace("workflow1", testWorkflow, first));
+    assertFalse(registry.replace("workflow1", testWorkflow, second));
+    assertFalse(registry.replace("missing", null, second));
+
+    assertSame(first, registry.getWorkflow("workflow1").orElseThrow());
+    assertFalse(registry.isRegistered("missing"));
+  }
+
+  @Test
+  void remove_unregistersWorkflow() {
+    registry.register("workflow1", testWorkflow);
+
+    assertSame(testWorkflow, registry.remove("workflow1").orElseThrow());
+    assertFalse(registry.isRegistered("workflow1"));
+    assertTrue(registry.remove("workflow1").isEmpty());
+
+    registry.register("workflow1", testWorkflow);
+    assertTrue(registry.isRegistered("workflow1"));
+  }
+
+  @Test
+  void snapshot_isUnaffectedByLaterChanges() {
+    registry.register("workflow1", testWorkflow);
+
+    Map<String, Workflow> snapshot = registry.snapshot();
+    registry.register("workflow2", testWorkflow);
+    registry.remove("workflow1");
+
+    assertEquals(Map.of("workflow1", testWorkflow), snapshot);
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.put("x", testWorkflow));
+  }
+
+  @Test
+  void remove_withExpectedInstance_onlyRemovesWhenUnchanged() {
+    Workflow other = SequentialWorkflow.builder().name("other").build();
+    registry.register("workflow1", testWorkflow);
+
+    assertFalse(registry.remove("workflow1", other));
+    assertTrue(registry.isRegistered("workflow1"));
+    assertTrue(registry.remove("workflow1", testWorkflow));
+    assertFalse(registry.isRegistered("workflow1"));
+    assertFalse(registry.remove("workflow1", testWorkflow));
+  }
 }
@@ -0,0 +1,185 @@
+package com.workflow.script;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.workflow.exception.ScriptLoadException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingScriptProviderTest {
+
+  @TempDir Path tempDir;
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private ScriptProvider counting(ScriptProvider delegate) {
+    return () -> {
+      loads.incrementAndGet();
+      return delegate.loadScript();
+    };
+  }
+
+  private static void touch(Path file) throws IOException {
+    FileTime modified = Files.getLastModifiedTime(file);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 10_000));
+  }
+
+  @Test
+  void loadScript_unchangedFile_doesNotReadAgain() throws IOException {
+    Path script = tempDir.resolve("script.js");
+    Files.writeString(script, "ctx.put('v', 1);");
+    CachingScriptProvider provider =
+        new CachingScriptProvider(counting(new FileScriptProvider(script)), Duration.ZERO);
+
+    ScriptProvider.ScriptSource first = provider.loadScript();
+    int firstLoadReads = loads.get();
+    ScriptProvider.ScriptSource second = provider.loadScript();
+
+    assertSame(first, second);
+    assertEquals(firstLoadReads, loads.get());
+    assertEquals(1, provider.getVersion());
+    assertEquals(64, provider.getContentHash().length());
+  }
+
+  @Test
+  void loadScript_fileChanged_reloadsAndBumpsVersion() throws IOException {
+    Path script = tempDir.resolve("script.js");
+    Files.writeString(script, "ctx.put('v', 1);");
+    CachingScriptProvider provider =
+        new CachingScriptProvider(new FileScriptProvider(script), Duration.ZERO);
+    provider.loadScript();
+    String firstHash = provider.getContentHash();
+
+    Files.writeString(script, "ctx.put('v', 22);");
+    touch(script);
+
+    assertEquals("ctx.put('v', 22);", provider.loadScript().content());
+    assertEquals(2, provider.getVersion());
+    assertNotEquals(firstHash, provider.getContentHash());
+  }
+
+  @Test
+  void loadScript_touchedWithoutContentChange_keepsVersionAndInstance() throws IOException {
+    Path script = tempDir.resolve("script.js");
+    Files.writeString(script, "ctx.put('v', 1);");
+    CachingScriptProvider provider =
+        new CachingScriptProvider(counting(new FileScriptProvider(script)), Duration.ZERO);
+    ScriptProvider.ScriptSource first = provider.loadScript();
+    int firstLoadReads = loads.get();
+
+    touch(script);
+
+    assertSame(first, provider.loadScript());
+    assertEquals(firstLoadReads + 1, loads.get());
+    assertEquals(1, provider.getVersion());
+  }
+
+  @Test
+  void loadScript_withinCheckInterval_servesCachedContent() throws IOException {
+    Path script = tempDir.resolve("script.js");
+    Files.writeString(script, "ctx.put('v', 1);");
+    CachingScriptProvider provider =
+        new CachingScriptProvider(new FileScriptProvider(script), Duration.ofHours(1));
+    provider.loadScript();
+
+    Files.writeString(script, "ctx.put('v', 22);");
+    touch(script);
+
+    assertEquals("ctx.put('v', 1);", provider.loadScript().content());
+  }
+
+  @Test
+  void loadScript_nonFileSource_cachedUntilInvalidated() {
+    CachingScriptProvider provider =
+        new CachingScriptProvider(counting(new InlineScriptProvider("1 + 1;")), Duration.ZERO);
+
+    provider.loadScript();
+    provider.loadScript();
+    assertEquals(1, loads.get());
+
+    provider.invalidate();
+    provider.loadScript();
+    assertEquals(2, loads.get());
+    assertEquals(1, provider.getVersion());
+  }
+
+  @Test
+  void loadScript_fileDeleted_throwsScriptLoadException() throws IOException {
+    Path script = tempDir.resolve("script.js");
+    Files.writeString(script, "ctx.put('v', 1);");
+    CachingScriptProvider provider =
+        new CachingScriptProvider(new FileScriptProvider(script), Duration.ZERO);
+    provider.loadScript();
+
+    Files.delete(script);
+
+    assertThrows(ScriptLoadException.class, provider::loadScript);
+  }
+
+  @Test
+  void beforeFirstLoad_hasNoVersionOrHash() {
+    CachingScriptProvider provider = new CachingScriptProvider(new InlineScriptProvider("1;"));
+
+    assertEquals(0, provider.getVersion());
+    assertNull(provider.getContentHash());
+  }
+
+  @Test
+  void constructor_invalidArguments_throwException() {
+    ScriptProvider inline = new InlineScriptProvider("1;");
+    Duration negative = Duration.ofSeconds(-1);
+
+    assertThrows(NullPointerException.class, () -> new CachingScriptProvider(null));
+    assertThrows(IllegalArgumentException.class, () -> new CachingScriptProvider(inline, negative));
+  }
+
+  @Test
+  void loadScript_fileWrittenDuringFirstRead_servesNewContent() throws IOException {
+    Path script = tempDir.resolve("script.js");
+    Files.writeString(script, "ctx.put('v', 1);");
+    FileScriptProvider file = new FileScriptProvider(script);
+    ScriptProvider racing =
+        () -> {
+          ScriptProvider.ScriptSource source = file.loadScript();
+          if (loads.incrementAndGet() == 1) {
+            try {
+              Files.writeString(script, "ctx.put('v', 22);");
+              touch(script);
+            } catch (IOException e) {
+              throw new ScriptLoadException("write failed", e);
+            }
+          }
+          return source;
+        };
+    CachingScriptProvider provider = new CachingScriptProvider(racing, Duration.ZERO);
+
+    assertEquals("ctx.put('v', 22);", provider.loadScript().content());
+    assertEquals("ctx.put('v', 22);", provider.loadScript().content());
+  }
+
+  @Test
+  void invalidate_duringReload_forcesAnotherReload() {
+    AtomicReference<CachingScriptProvider> provider = new AtomicReference<>();
+    ScriptProvider invalidating =
+        () -> {
+          if (loads.incrementAndGet() == 1) {
+            provider.get().invalidate();
+          }
+          return new ScriptProvider.ScriptSource("1 + 1;", null);
+        };
+    provider.set(new CachingScriptProvider(invalidating, Duration.ZERO));
+
+    provider.get().loadScript();
+    provider.get().loadScript();
+    provider.get().loadScript();
+
+    assertEquals(2, loads.get());
+  }
+}
@@ -3,6 +3,8 @@ package com.workflow.task;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
@@ -10,12 +12,17 @@ import com.workflow.context.WorkflowContext;
 import com.workflow.exception.TaskExecutionException;
 import com.workflow.helper.ResponseMappers;
 import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 
 /**
  * Tests for GetHttpTask, PostHttpTask, PutHttpTask, DeleteHttpTask using an in-process WireMock
@@ -590,4 +597,43 @@ class HttpTasksTest {
         putRequestedFor(urlPathEqualTo("/test/put-ctx"))
             .withRequestBody(equalToJson("{\"context\":true}")));
   }
+
+  // ---------- ASYNC ----------
+
+  @Test
+  void executeAsync_getTask_storesResponseWithoutBlocking() throws Exception {
+    wm.stubFor(
+        get(urlPathEqualTo("/test/async")).willReturn(aResponse().withStatus(200).withBody("ok")));
+
+    GetHttpTask<String> task =
+        new GetHttpTask.Builder<String>(httpClient).url(baseUrl + "/test/async").build();
+
+    task.executeAsync(context).get(2, TimeUnit.SECONDS);
+
+    assertEquals("ok", context.get(AbstractHttpTask.DEFAULT_HTTP_RESPONSE_KEY));
+  }
+
+  @Test
+  void executeAsync_missingUrl_completesExceptionallyWithTaskExecutionException() {
+    GetHttpTask<String> task = new GetHttpTask.Builder<String>(httpClient).build();
+
+    CompletionException thrown =
+        assertThrows(CompletionException.class, () -> task.executeAsync(context).join());
+    assertInstanceOf(TaskExecutionException.class, thrown.getCause());
+  }
+
+  @Test
+  void executeAsync_cancelled_cancelsTheExchange() {
+    CompletableFuture<HttpResponse<String>> exchange = new CompletableFuture<>();
+    HttpClient pendingClient = mock(HttpClient.class);
+    doReturn(exchange).when(pendingClient).sendAsync(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+    GetHttpTask<String> task =
+        new GetHttpTask.Builder<String>(pendingClient).url(baseUrl + "/test/slow").build();
+
+    CompletableFuture<Void> future = task.executeAsync(context);
+    future.cancel(true);
+
+    assertTrue(exchange.isCancelled(), "the HTTP exchange was not cancelled");
+  }
 }
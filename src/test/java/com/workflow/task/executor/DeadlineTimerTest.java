@@ -0,0 +1,178 @@
+package com.workflow.task.executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class DeadlineTimerTest {
+
+  @Test
+  void callWithTimeout_fastWork_returnsResultOnCallingThread() throws TimeoutException {
+    Thread caller = Thread.currentThread();
+
+    Thread worker =
+        DeadlineTimer.shared().callWithTimeout(Thread::currentThread, 1, TimeUnit.SECONDS);
+
+    assertSame(caller, worker);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void callWithTimeout_slowWork_isInterruptedAndTimesOut() {
+    long start = System.nanoTime();
+
+    TimeoutException e =
+        assertThrows(
+            TimeoutException.class,
+            () ->
+                DeadlineTimer.shared()
+                    .callWithTimeout(
+                        () -> {
+                          try {
+                            Thread.sleep(5_000);
+                            return "late";
+                          } catch (InterruptedException interrupted) {
+                            throw new IllegalStateException(interrupted);
+                          }
+                        },
+                        50,
+                        TimeUnit.MILLISECONDS));
+
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+    assertInstanceOf(IllegalStateException.class, e.getSuppressed()[0]);
+    assertFalse(Thread.currentThread().isInterrupted(), "the deadline's interrupt must not leak");
+  }
+
+  @Test
+  void callWithTimeout_workThrowsInTime_rethrows() {
+    IllegalArgumentException failure = new IllegalArgumentException("bad input");
+
+    IllegalArgumentException thrown =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                DeadlineTimer.shared()
+                    .callWithTimeout(
+                        () -> {
+                          throw failure;
+                        },
+                        1,
+                        TimeUnit.SECONDS));
+
+    assertSame(failure, thrown);
+  }
+
+  @Test
+  void schedule_delayLongerThanOneRevolution_firesAfterDelay() throws InterruptedException {
+    try (DeadlineTimer timer = new DeadlineTimer(Duration.ofMillis(10), 4)) {
+      CountDownLatch fired = new CountDownLatch(1);
+      long start = System.nanoTime();
+
+      timer.schedule(fired::countDown, 150, TimeUnit.MILLISECONDS);
+
+      assertTrue(fired.await(2, TimeUnit.SECONDS));
+      assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 150);
+    }
+  }
+
+  @Test
+  void cancel_beforeExpiry_taskNeverRuns() throws InterruptedException {
+    try (DeadlineTimer timer = new DeadlineTimer(Duration.ofMillis(10), 8)) {
+      AtomicBoolean ran = new AtomicBoolean();
+
+      DeadlineTimer.Deadline deadline =
+          timer.schedule(() -> ran.set(true), 30, TimeUnit.MILLISECONDS);
+
+      assertTrue(deadline.cancel());
+      Thread.sleep(100);
+      assertFalse(ran.get());
+      assertFalse(deadline.isExpired());
+    }
+  }
+
+  @Test
+  void cancel_afterExpiry_returnsFalse() throws InterruptedException {
+    try (DeadlineTimer timer = new DeadlineTimer(Duration.ofMillis(10), 8)) {
+      CountDownLatch fired = new CountDownLatch(1);
+
+      DeadlineTimer.Deadline deadline = timer.schedule(fired::countDown, 10, TimeUnit.MILLISECONDS);
+
+      assertTrue(fired.await(2, TimeUnit.SECONDS));
+      assertFalse(deadline.cancel());
+      assertTrue(deadline.isExpired());
+    }
+  }
+
+  @Test
+  void cancel_fromOwnExpiryTask_returnsFalseWithoutWaiting() throws InterruptedException {
+    try (DeadlineTimer timer = new DeadlineTimer(Duration.ofMillis(10), 8)) {
+      AtomicReference<DeadlineTimer.Deadline> self = new AtomicReference<>();
+      CountDownLatch armed = new CountDownLatch(1);
+      CountDownLatch cancelled = new CountDownLatch(1);
+      AtomicBoolean result = new AtomicBoolean(true);
+
+      self.set(
+          timer.schedule(
+              () -> {
+                try {
+                  armed.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                result.set(self.get().cancel());
+                cancelled.countDown();
+              },
+              10,
+              TimeUnit.MILLISECONDS));
+      armed.countDown();
+
+      assertTrue(cancelled.await(2, TimeUnit.SECONDS), "cancel waited for its own task");
+      assertFalse(result.get());
+    }
+  }
+
+  @Test
+  void schedule_taskThrowsError_laterDeadlinesStillFire() throws InterruptedException {
+    try (DeadlineTimer timer = new DeadlineTimer(Duration.ofMillis(10), 8)) {
+      CountDownLatch failed = new CountDownLatch(1);
+      timer.schedule(
+          () -> {
+            failed.countDown();
+            throw new AssertionError("boom");
+          },
+          10,
+          TimeUnit.MILLISECONDS);
+      assertTrue(failed.await(2, TimeUnit.SECONDS));
+
+      CountDownLatch fired = new CountDownLatch(1);
+      timer.schedule(fired::countDown, 10, TimeUnit.MILLISECONDS);
+
+      assertTrue(fired.await(2, TimeUnit.SECONDS), "the timer thread died");
+    }
+  }
+
+  @Test
+  void schedule_afterClose_rejects() {
+    DeadlineTimer timer = new DeadlineTimer(Duration.ofMillis(10), 8);
+    timer.close();
+
+    assertThrows(
+        RejectedExecutionException.class,
+        () -> timer.schedule(() -> {}, 10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void constructor_invalidSettings_throw() {
+    assertThrows(NullPointerException.class, () -> new DeadlineTimer(null, 8));
+    assertThrows(IllegalArgumentException.class, () -> new DeadlineTimer(Duration.ZERO, 8));
+    assertThrows(
+        IllegalArgumentException.class, () -> new DeadlineTimer(Duration.ofMillis(10), 0));
+  }
+}
@@ -6,14 +6,22 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.workflow.context.WorkflowContext;
+import com.workflow.exception.CircuitBreakerOpenException;
 import com.workflow.exception.TaskExecutionException;
 import com.workflow.exception.TaskTimeoutException;
+import com.workflow.policy.CircuitBreaker;
+import com.workflow.policy.RetryBudget;
+import com.workflow.policy.RetryBudgets;
 import com.workflow.policy.RetryPolicy;
 import com.workflow.policy.TimeoutPolicy;
+import com.workflow.sleeper.CountingSleeper;
+import com.workflow.task.AsyncTask;
 import com.workflow.task.Task;
 import com.workflow.task.TaskDescriptor;
+import java.time.Duration;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 
@@ -485,4 +493,402 @@ class DefaultTaskExecutorTest {
 
     assertDoesNotThrow(() -> testThread.join(2000));
   }
+
+  @Test
+  void executeAsync_asyncTaskExceedsTimeout_completesWithTaskTimeoutException() {
+    CompletableFuture<Void> neverCompletes = new CompletableFuture<>();
+    AsyncTask asyncTask = mock(AsyncTask.class);
+    when(asyncTask.executeAsync(any())).thenReturn(neverCompletes);
+
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder().task(asyncTask).timeoutPolicy(TimeoutPolicy.ofMillis(50)).build();
+
+    CompletableFuture<Void> future =
+        new DefaultTaskExecutor()
+            .executeAsync(descriptor, new WorkflowContext())
+            .toCompletableFuture();
+
+    CompletionException thrown = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(TaskTimeoutException.class, thrown.getCause());
+    assertTrue(neverCompletes.isCancelled());
+    verify(asyncTask, never()).execute(any());
+  }
+
+  @Test
+  void executeAsync_plainTask_runsOnSharedStrategy() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    TaskDescriptor descriptor = TaskDescriptor.builder().task(_ -> calls.incrementAndGet()).build();
+
+    new DefaultTaskExecutor()
+        .executeAsync(descriptor, new WorkflowContext())
+        .toCompletableFuture()
+        .get(1, TimeUnit.SECONDS);
+
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void execute_syncRetry_waitsThroughSleeper() {
+    CountingSleeper sleeper = new CountingSleeper();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    DefaultTaskExecutor exec = new DefaultTaskExecutor(executor, RetryScheduler.shared(), sleeper);
+
+    AtomicInteger attempts = new AtomicInteger();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(
+                _ -> {
+                  if (attempts.incrementAndGet() < 3) {
+                    throw new RuntimeException("fail");
+                  }
+                })
+            .retryPolicy(
+                RetryPolicy.limitedRetriesWithBackoff(
+                    3, RetryPolicy.BackoffStrategy.constant(60_000)))
+            .build();
+
+    assertDoesNotThrow(() -> exec.execute(descriptor, new WorkflowContext()));
+
+    assertEquals(3, attempts.get());
+    assertEquals(2, sleeper.getCalls());
+    assertEquals(Duration.ofMinutes(1), sleeper.getLast());
+    executor.shutdown();
+  }
+
+  @Test
+  void executeAsync_retryBackoff_doesNotHoldExecutorThread() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    DefaultTaskExecutor exec =
+        new DefaultTaskExecutor(executor, RetryScheduler.shared(), new CountingSleeper());
+
+    AtomicInteger attempts = new AtomicInteger();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(
+                _ -> {
+                  if (attempts.incrementAndGet() == 1) {
+                    throw new RuntimeException("fail");
+                  }
+                })
+            .retryPolicy(
+                RetryPolicy.limitedRetriesWithBackoff(1, RetryPolicy.BackoffStrategy.constant(500)))
+            .build();
+
+    CompletableFuture<Void> retried =
+        exec.executeAsync(descriptor, new WorkflowContext()).toCompletableFuture();
+    await().atMost(1, TimeUnit.SECONDS).until(() -> attempts.get() == 1);
+
+    // The only executor thread is free while the retry waits for its backoff
+    Future<?> other = executor.submit(() -> {});
+    other.get(200, TimeUnit.MILLISECONDS);
+    assertFalse(retried.isDone());
+
+    retried.get(2, TimeUnit.SECONDS);
+    assertEquals(2, attempts.get());
+    executor.shutdown();
+  }
+
+  @Test
+  void execute_timeoutStopsFurtherRetries() throws InterruptedException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    DefaultTaskExecutor exec =
+        new DefaultTaskExecutor(executor, RetryScheduler.shared(), new CountingSleeper());
+
+    AtomicInteger attempts = new AtomicInteger();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(
+                _ -> {
+                  attempts.incrementAndGet();
+                  throw new RuntimeException("fail");
+                })
+            .retryPolicy(
+                RetryPolicy.limitedRetriesWithBackoff(5, RetryPolicy.BackoffStrategy.constant(200)))
+            .timeoutPolicy(TimeoutPolicy.ofMillis(100))
+            .build();
+
+    assertThrows(TaskTimeoutException.class, () -> exec.execute(descriptor, new WorkflowContext()));
+    Thread.sleep(300);
+
+    assertEquals(1, attempts.get());
+    executor.shutdown();
+  }
+
+  @Test
+  void executeAsync_asyncTaskWithRetry_retriesNatively() {
+    AtomicInteger attempts = new AtomicInteger();
+    AsyncTask asyncTask = mock(AsyncTask.class);
+    when(asyncTask.executeAsync(any()))
+        .thenAnswer(
+            _ ->
+                attempts.incrementAndGet() < 3
+                    ? CompletableFuture.failedFuture(new RuntimeException("fail"))
+                    : CompletableFuture.completedFuture(null));
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder().task(asyncTask).retryPolicy(RetryPolicy.limitedRetries(3)).build();
+
+    new DefaultTaskExecutor()
+        .executeAsync(descriptor, new WorkflowContext())
+        .toCompletableFuture()
+        .join();
+
+    assertEquals(3, attempts.get());
+    verify(asyncTask, never()).execute(any());
+  }
+
+  @Test
+  void execute_retryBudgetExhausted_failsWithoutFurtherRetries() {
+    RetryBudget budget = RetryBudget.ratio(0, 1, Duration.ofSeconds(2));
+    DefaultTaskExecutor exec = DefaultTaskExecutor.withRetryBudgets(RetryBudgets.shared(budget));
+
+    AtomicInteger attempts = new AtomicInteger();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .name("payments")
+            .task(
+                _ -> {
+                  attempts.incrementAndGet();
+                  throw new RuntimeException("down");
+                })
+            .retryPolicy(RetryPolicy.limitedRetries(5))
+            .build();
+
+    TaskExecutionException thrown =
+        assertThrows(
+            TaskExecutionException.class, () -> exec.execute(descriptor, new WorkflowContext()));
+
+    assertEquals("down", thrown.getCause().getMessage());
+    assertEquals(3, attempts.get());
+    assertEquals(0, budget.availableRetries());
+  }
+
+  @Test
+  void execute_retryBudgets_keyedByTaskName() {
+    RetryBudgets budgets =
+        RetryBudgets.perName(() -> RetryBudget.ratio(0, 1, Duration.ofSeconds(1)));
+    DefaultTaskExecutor exec = DefaultTaskExecutor.withRetryBudgets(budgets);
+    AtomicInteger attempts = new AtomicInteger();
+    Task failing =
+        _ -> {
+          attempts.incrementAndGet();
+          throw new RuntimeException("down");
+        };
+
+    for (String name : new String[] {"payments", "payments", "inventory"}) {
+      TaskDescriptor descriptor =
+          TaskDescriptor.builder()
+              .name(name)
+              .task(failing)
+              .retryPolicy(RetryPolicy.limitedRetries(3))
+              .build();
+      assertThrows(
+          TaskExecutionException.class, () -> exec.execute(descriptor, new WorkflowContext()));
+    }
+
+    // payments: 2 attempts, then 1 without retries; inventory: 2 attempts
+    assertEquals(5, attempts.get());
+    assertEquals(0, budgets.budgetFor("payments").availableRetries());
+    assertEquals(0, budgets.budgetFor("inventory").availableRetries());
+  }
+
+  @Test
+  void execute_successesEarnRetries() {
+    RetryBudget budget = RetryBudget.ratio(0.5, 0, Duration.ofSeconds(10));
+    DefaultTaskExecutor exec = DefaultTaskExecutor.withRetryBudgets(RetryBudgets.shared(budget));
+    TaskDescriptor succeeding = TaskDescriptor.builder().name("api").task(_ -> {}).build();
+
+    exec.execute(succeeding, new WorkflowContext());
+    exec.execute(succeeding, new WorkflowContext());
+
+    assertEquals(1, budget.availableRetries());
+  }
+
+  @Test
+  void executeAsync_retryBudgetExhausted_failsWithLastError() {
+    RetryBudget budget = RetryBudget.ratio(0, 1, Duration.ofSeconds(1));
+    DefaultTaskExecutor exec = DefaultTaskExecutor.withRetryBudgets(RetryBudgets.shared(budget));
+
+    AtomicInteger attempts = new AtomicInteger();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(
+                _ -> {
+                  attempts.incrementAndGet();
+                  throw new RuntimeException("down");
+                })
+            .retryPolicy(RetryPolicy.limitedRetries(5))
+            .build();
+
+    CompletableFuture<Void> result =
+        exec.executeAsync(descriptor, new WorkflowContext()).toCompletableFuture();
+
+    CompletionException thrown = assertThrows(CompletionException.class, result::join);
+    assertInstanceOf(TaskExecutionException.class, thrown.getCause());
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void execute_circuitBreakerOpen_rejectsWithoutRunningTask() {
+    CircuitBreaker breaker =
+        CircuitBreaker.builder()
+            .name("payments")
+            .minimumNumberOfCalls(2)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .build();
+    DefaultTaskExecutor exec = new DefaultTaskExecutor();
+    AtomicInteger attempts = new AtomicInteger();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(
+                _ -> {
+                  attempts.incrementAndGet();
+                  throw new RuntimeException("down");
+                })
+            .retryPolicy(RetryPolicy.limitedRetries(1))
+            .circuitBreaker(breaker)
+            .build();
+
+    for (int i = 0; i < 2; i++) {
+      assertThrows(
+          TaskExecutionException.class, () -> exec.execute(descriptor, new WorkflowContext()));
+    }
+    assertThrows(
+        CircuitBreakerOpenException.class, () -> exec.execute(descriptor, new WorkflowContext()));
+
+    // Two executions of two attempts each; the rejected execution never started
+    assertEquals(4, attempts.get());
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  void executeAsync_circuitBreakerOpen_failsFast() {
+    CircuitBreaker breaker =
+        CircuitBreaker.builder()
+            .minimumNumberOfCalls(1)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .build();
+    DefaultTaskExecutor exec = new DefaultTaskExecutor();
+    AtomicInteger attempts = new AtomicInteger();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(
+                _ -> {
+                  attempts.incrementAndGet();
+                  throw new RuntimeException("down");
+                })
+            .circuitBreaker(breaker)
+            .build();
+
+    CompletableFuture<Void> first =
+        exec.executeAsync(descriptor, new WorkflowContext()).toCompletableFuture();
+    assertThrows(CompletionException.class, first::join);
+    CompletableFuture<Void> rejected =
+        exec.executeAsync(descriptor, new WorkflowContext()).toCompletableFuture();
+
+    assertTrue(rejected.isCompletedExceptionally());
+    CompletionException thrown = assertThrows(CompletionException.class, rejected::join);
+    assertInstanceOf(CircuitBreakerOpenException.class, thrown.getCause());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  void execute_withCallingThreadTimeout_runsTaskOnCallingThread() {
+    AtomicReference<Thread> taskThread = new AtomicReference<>();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(_ -> taskThread.set(Thread.currentThread()))
+            .timeoutPolicy(TimeoutPolicy.onCallingThread(1000))
+            .build();
+
+    new DefaultTaskExecutor().execute(descriptor, new WorkflowContext());
+
+    assertSame(Thread.currentThread(), taskThread.get());
+  }
+
+  @Test
+  void execute_callingThreadTimeoutInterruptsBlockingTask_doesNotLeakInterrupt() {
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(
+                _ -> {
+                  try {
+                    Thread.sleep(5_000);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TaskExecutionException("interrupted", e);
+                  }
+                })
+            .retryPolicy(RetryPolicy.limitedRetries(3))
+            .timeoutPolicy(TimeoutPolicy.onCallingThread(50))
+            .build();
+    long start = System.nanoTime();
+
+    TaskTimeoutException e =
+        assertThrows(
+            TaskTimeoutException.class,
+            () -> new DefaultTaskExecutor().execute(descriptor, new WorkflowContext()));
+
+    assertInstanceOf(TimeoutException.class, e.getCause());
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void execute_withTimeout_runsTaskOffCallingThread() {
+    AtomicReference<Thread> taskThread = new AtomicReference<>();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(_ -> taskThread.set(Thread.currentThread()))
+            .timeoutPolicy(TimeoutPolicy.ofMillis(1000))
+            .build();
+
+    new DefaultTaskExecutor().execute(descriptor, new WorkflowContext());
+
+    assertNotNull(taskThread.get());
+    assertNotSame(Thread.currentThread(), taskThread.get());
+  }
+
+  @Test
+  void execute_taskThrowingError_recordsFailureInCircuitBreaker() {
+    CircuitBreaker breaker =
+        CircuitBreaker.builder()
+            .name("payments")
+            .minimumNumberOfCalls(2)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .build();
+    DefaultTaskExecutor exec = new DefaultTaskExecutor();
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder()
+            .task(
+                _ -> {
+                  throw new StackOverflowError("down");
+                })
+            .circuitBreaker(breaker)
+            .build();
+
+    for (int i = 0; i < 2; i++) {
+      assertThrows(StackOverflowError.class, () -> exec.execute(descriptor, new WorkflowContext()));
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  void execute_unnamedTask_budgetKeyedByQualifiedClassName() {
+    RetryBudgets budgets =
+        RetryBudgets.perName(() -> RetryBudget.ratio(0, 1, Duration.ofSeconds(1)));
+    DefaultTaskExecutor exec = DefaultTaskExecutor.withRetryBudgets(budgets);
+    Task failing =
+        _ -> {
+          throw new RuntimeException("down");
+        };
+    TaskDescriptor descriptor =
+        TaskDescriptor.builder().task(failing).retryPolicy(RetryPolicy.limitedRetries(3)).build();
+
+    assertThrows(
+        TaskExecutionException.class, () -> exec.execute(descriptor, new WorkflowContext()));
+
+    assertEquals(0, budgets.budgetFor(failing.getClass().getName()).availableRetries());
+    assertEquals(1, budgets.budgetFor(failing.getClass().getSimpleName()).availableRetries());
+  }
 }
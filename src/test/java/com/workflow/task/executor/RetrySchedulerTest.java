@@ -0,0 +1,196 @@
+package com.workflow.task.executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.workflow.policy.RetryBudget;
+import com.workflow.policy.RetryPolicy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RetrySchedulerTest {
+
+  private ScheduledExecutorService scheduler;
+  private RetryScheduler retryScheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    retryScheduler = new RetryScheduler(scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  void execute_succeedsAfterRetries() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    CompletableFuture<String> result =
+        retryScheduler.execute(
+            "flaky",
+            () ->
+                attempts.incrementAndGet() < 3
+                    ? CompletableFuture.failedFuture(new IOException("fail"))
+                    : CompletableFuture.completedFuture("ok"),
+            RetryPolicy.limitedRetriesWithBackoff(3, RetryPolicy.BackoffStrategy.constant(10)));
+
+    assertEquals("ok", result.join());
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  void execute_retriesExhausted_failsWithLastError() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    CompletableFuture<Void> result =
+        retryScheduler.execute(
+            "failing",
+            () -> {
+              throw new IllegalStateException("attempt " + attempts.incrementAndGet());
+            },
+            RetryPolicy.limitedRetries(2));
+
+    CompletionException thrown = assertThrows(CompletionException.class, result::join);
+    assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    assertEquals("attempt 3", thrown.getCause().getMessage());
+  }
+
+  @Test
+  void execute_noRetryPolicy_runsSingleAttempt() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    CompletableFuture<Void> result =
+        retryScheduler.execute(
+            "once",
+            () -> {
+              attempts.incrementAndGet();
+              return CompletableFuture.failedFuture(new IOException("fail"));
+            },
+            RetryPolicy.NONE);
+
+    assertThrows(CompletionException.class, result::join);
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  void execute_backoffDoesNotBlockCallingThread() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    long start = System.nanoTime();
+    CompletableFuture<Void> result =
+        retryScheduler.execute(
+            "slowBackoff",
+            () ->
+                attempts.incrementAndGet() == 1
+                    ? CompletableFuture.failedFuture(new IOException("fail"))
+                    : CompletableFuture.completedFuture(null),
+            RetryPolicy.limitedRetriesWithBackoff(1, RetryPolicy.BackoffStrategy.constant(300)));
+    long returnedAfterMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertTrue(returnedAfterMs < 200, "execute waited " + returnedAfterMs + "ms");
+    assertFalse(result.isDone());
+    result.join();
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void execute_completedEarly_startsNoFurtherAttempt() throws InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+
+    CompletableFuture<Void> result =
+        retryScheduler.execute(
+            "timedOut",
+            () -> {
+              attempts.incrementAndGet();
+              return CompletableFuture.failedFuture(new IOException("fail"));
+            },
+            RetryPolicy.limitedRetriesWithBackoff(5, RetryPolicy.BackoffStrategy.constant(100)));
+    result.orTimeout(50, TimeUnit.MILLISECONDS);
+
+    CompletionException thrown = assertThrows(CompletionException.class, result::join);
+    Thread.sleep(250);
+
+    assertInstanceOf(TimeoutException.class, thrown.getCause());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  void execute_schedulerShutDown_failsInsteadOfHanging() {
+    scheduler.shutdownNow();
+
+    CompletableFuture<Void> result =
+        retryScheduler.execute(
+            "noScheduler",
+            () -> CompletableFuture.failedFuture(new IOException("fail")),
+            RetryPolicy.limitedRetries(3));
+
+    CompletionException thrown = assertThrows(CompletionException.class, result::join);
+    assertEquals("fail", thrown.getCause().getSuppressed()[0].getMessage());
+  }
+
+  @Test
+  void constructor_nullScheduler_throws() {
+    assertThrows(NullPointerException.class, () -> new RetryScheduler(null));
+    assertNotNull(RetryScheduler.shared());
+    assertSame(RetryScheduler.shared(), RetryScheduler.shared());
+  }
+
+  @Test
+  void execute_retryBudgetDenies_failsWithLastError() {
+    AtomicInteger attempts = new AtomicInteger();
+    RetryBudget budget = RetryBudget.ratio(0, 1, Duration.ofSeconds(1));
+
+    CompletableFuture<Void> result =
+        retryScheduler.execute(
+            "budgeted",
+            () ->
+                CompletableFuture.failedFuture(
+                    new IOException("fail " + attempts.incrementAndGet())),
+            RetryPolicy.limitedRetries(5),
+            budget);
+
+    CompletionException thrown = assertThrows(CompletionException.class, result::join);
+    assertEquals("fail 2", thrown.getCause().getMessage());
+    assertEquals(0, budget.availableRetries());
+  }
+
+  @Test
+  void execute_throwingRetryPolicy_failsResult() {
+    IllegalStateException policyFailure = new IllegalStateException("policy");
+    RetryPolicy throwingPolicy =
+        new RetryPolicy() {
+          @Override
+          public boolean shouldRetry(int attempt, Exception error) {
+            throw policyFailure;
+          }
+
+          @Override
+          public BackoffStrategy backoff() {
+            return BackoffStrategy.NO_BACKOFF;
+          }
+        };
+
+    CompletableFuture<Void> result =
+        retryScheduler.execute(
+            "throwingPolicy",
+            () -> CompletableFuture.failedFuture(new IOException("fail")),
+            throwingPolicy);
+
+    CompletionException thrown =
+        assertThrows(CompletionException.class, () -> result.orTimeout(1, TimeUnit.SECONDS).join());
+    assertSame(policyFailure, thrown.getCause());
+    assertInstanceOf(IOException.class, thrown.getCause().getSuppressed()[0]);
+  }
+}
@@ -2,6 +2,7 @@ package com.workflow.test;
 
 import static org.mockito.Mockito.*;
 
+import com.workflow.AbstractWorkflow;
 import com.workflow.Workflow;
 import com.workflow.WorkflowResult;
 import com.workflow.WorkflowStatus;
@@ -12,6 +13,7 @@ import com.workflow.task.Task;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import lombok.experimental.UtilityClass;
@@ -443,6 +445,30 @@ public class WorkflowTestUtils {
     };
   }
 
+  /**
+   * Create a workflow that sleeps for a minute and counts down {@code interrupted} if the sleep is
+   * interrupted. Its async path runs on the default execution strategy, so cancelling its stage
+   * interrupts it.
+   *
+   * @param interrupted latch counted down on interruption
+   * @return a workflow that sleeps until interrupted
+   */
+  public static Workflow workflowThatSleepsUntilInterrupted(CountDownLatch interrupted) {
+    return new AbstractWorkflow() {
+      @Override
+      protected WorkflowResult doExecute(WorkflowContext context, ExecutionContext execContext) {
+        try {
+          new ThreadSleepingSleeper().sleep(Duration.ofMinutes(1));
+          return execContext.success();
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+          Thread.currentThread().interrupt();
+          return execContext.failure(e);
+        }
+      }
+    };
+  }
+
   // ==================== Async Testing Helpers ====================
 
   /**